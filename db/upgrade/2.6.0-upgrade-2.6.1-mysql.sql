@@ -0,0 +1,38 @@
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- this file works for MySQL.
+
+/* insert plugin_handle data for plugin cache */
+INSERT INTO `plugin_handle` VALUES ('1529402613204173001', '30', 'singleFlightTimeoutMillis', 'singleFlightTimeoutMillis', 1, 2, 1, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1529402613204173002', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1529402613204173005', '30', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"1048576\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1529402613204173006', '30', 'maximumBytes', 'maximumBytes', 1, 3, 11, '{\"required\":\"0\",\"defaultValue\":\"268435456\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+
+/* insert plugin_handle data for plugin rateLimiter */
+INSERT INTO `plugin_handle` VALUES ('1529402613204173003', '4', 'limitMode', 'limitMode', 3, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"redis\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+
+/* insert shenyu_dict data for plugin_handle limitMode */
+INSERT INTO `shenyu_dict` VALUES ('1529402613204173011', 'limitMode', 'LIMIT_MODE_REDIS', 'redis', 'redis', 'Redis rate limiter mode', 0, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
+INSERT INTO `shenyu_dict` VALUES ('1529402613204173012', 'limitMode', 'LIMIT_MODE_LOCAL', 'local', 'local', 'Local rate limiter mode', 1, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
+INSERT INTO `shenyu_dict` VALUES ('1529402613204173013', 'limitMode', 'LIMIT_MODE_HYBRID', 'hybrid', 'hybrid', 'Hybrid rate limiter mode', 2, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
+
+/* insert plugin_handle data for plugin dubbo */
+INSERT INTO `plugin_handle` VALUES ('1529402613204173004', '6', 'referenceFailFast', 'referenceFailFast', 3, 3, 0, '{\"required\":\"0\",\"defaultValue\":\"false\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+
+/* insert shenyu_dict data for plugin_handle referenceFailFast */
+INSERT INTO `shenyu_dict` VALUES ('1529402613204173014', 'referenceFailFast', 'REFERENCE_FAIL_FAST', 'close', 'false', 'close', 1, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
+INSERT INTO `shenyu_dict` VALUES ('1529402613204173015', 'referenceFailFast', 'REFERENCE_FAIL_FAST', 'open', 'true', 'open', 0, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
@@ -289,22 +289,25 @@ public class DataSyncConfiguration {
         /**
          * Config event listener data changed listener.
          *
+         * @param websocketSyncProperties the websocket sync properties
          * @return the data changed listener
          */
         @Bean
         @ConditionalOnMissingBean(WebsocketDataChangedListener.class)
-        public DataChangedListener websocketDataChangedListener() {
-            return new WebsocketDataChangedListener();
+        public DataChangedListener websocketDataChangedListener(final WebsocketSyncProperties websocketSyncProperties) {
+            return new WebsocketDataChangedListener(websocketSyncProperties);
         }
 
         /**
          * Websocket collector.
          *
+         * @param websocketSyncProperties the websocket sync properties
          * @return the websocket collector
          */
         @Bean
         @ConditionalOnMissingBean(WebsocketCollector.class)
-        public WebsocketCollector websocketCollector() {
+        public WebsocketCollector websocketCollector(final WebsocketSyncProperties websocketSyncProperties) {
+            WebsocketCollector.setSendQueueSize(websocketSyncProperties.getSendQueueSize());
             return new WebsocketCollector();
         }
 
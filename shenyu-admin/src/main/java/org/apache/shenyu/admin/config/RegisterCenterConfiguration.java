@@ -19,6 +19,8 @@ package org.apache.shenyu.admin.config;
 
 import org.apache.shenyu.admin.disruptor.RegisterClientServerDisruptorPublisher;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyType;
 import org.apache.shenyu.register.client.server.api.ShenyuClientServerRegisterRepository;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.apache.shenyu.spi.ExtensionLoader;
@@ -62,7 +64,8 @@ public class RegisterCenterConfiguration {
         ShenyuClientServerRegisterRepository registerRepository = ExtensionLoader.getExtensionLoader(ShenyuClientServerRegisterRepository.class).getJoin(registerType);
         RegisterClientServerDisruptorPublisher publisher = RegisterClientServerDisruptorPublisher.getInstance();
         Map<String, ShenyuClientRegisterService> registerServiceMap = shenyuClientRegisterService.stream().collect(Collectors.toMap(ShenyuClientRegisterService::rpcType, Function.identity()));
-        publisher.start(registerServiceMap);
+        WaitStrategyType waitStrategyType = WaitStrategyType.acquireByName(shenyuRegisterCenterConfig.getProps().getProperty(Constants.WAIT_STRATEGY));
+        publisher.start(registerServiceMap, waitStrategyType);
         registerRepository.init(publisher, shenyuRegisterCenterConfig);
         return registerRepository;
     }
@@ -42,6 +42,11 @@ public class HttpSyncProperties {
      */
     private int notifyBatchSize = 100;
 
+    /**
+     * The number of recent changes kept per config group for the delta sync, default: 1024.
+     */
+    private int changeLogSize = 1024;
+
     /**
      * Gets the value of enabled.
      *
@@ -95,4 +100,22 @@ public class HttpSyncProperties {
     public void setNotifyBatchSize(final int notifyBatchSize) {
         this.notifyBatchSize = notifyBatchSize;
     }
+
+    /**
+     * Gets the value of changeLogSize.
+     *
+     * @return the value of changeLogSize
+     */
+    public int getChangeLogSize() {
+        return changeLogSize;
+    }
+
+    /**
+     * Sets the changeLogSize.
+     *
+     * @param changeLogSize changeLogSize
+     */
+    public void setChangeLogSize(final int changeLogSize) {
+        this.changeLogSize = changeLogSize;
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.shenyu.admin.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * the websocket sync strategy properties.
  */
@@ -40,6 +42,22 @@ public class WebsocketSyncProperties {
      */
     private String allowOrigins;
 
+    /**
+     * The window in which the changes of the same group and event type are pushed as one message,
+     * zero to push every change at once, default: 20ms.
+     */
+    private Duration coalesceWindow = Duration.ofMillis(20);
+
+    /**
+     * The max number of data in one coalesced message, default: 1000.
+     */
+    private int coalesceMaxSize = 1000;
+
+    /**
+     * The max number of messages waiting for one client, a slower client is closed to resync, default: 1024.
+     */
+    private int sendQueueSize = 1024;
+
     /**
      * Gets the value of enabled.
      *
@@ -91,4 +109,58 @@ public class WebsocketSyncProperties {
     public void setAllowOrigins(final String allowOrigins) {
         this.allowOrigins = allowOrigins;
     }
+
+    /**
+     * Gets the value of coalesceWindow.
+     *
+     * @return the value of coalesceWindow
+     */
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    /**
+     * Sets the coalesceWindow.
+     *
+     * @param coalesceWindow coalesceWindow
+     */
+    public void setCoalesceWindow(final Duration coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    /**
+     * Gets the value of coalesceMaxSize.
+     *
+     * @return the value of coalesceMaxSize
+     */
+    public int getCoalesceMaxSize() {
+        return coalesceMaxSize;
+    }
+
+    /**
+     * Sets the coalesceMaxSize.
+     *
+     * @param coalesceMaxSize coalesceMaxSize
+     */
+    public void setCoalesceMaxSize(final int coalesceMaxSize) {
+        this.coalesceMaxSize = coalesceMaxSize;
+    }
+
+    /**
+     * Gets the value of sendQueueSize.
+     *
+     * @return the value of sendQueueSize
+     */
+    public int getSendQueueSize() {
+        return sendQueueSize;
+    }
+
+    /**
+     * Sets the sendQueueSize.
+     *
+     * @param sendQueueSize sendQueueSize
+     */
+    public void setSendQueueSize(final int sendQueueSize) {
+        this.sendQueueSize = sendQueueSize;
+    }
 }
@@ -18,10 +18,13 @@
 package org.apache.shenyu.admin.controller;
 
 import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,6 +35,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.constraints.NotNull;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This Controller only when HttpLongPollingDataChangedListener exist, will take effect.
@@ -62,6 +66,27 @@ public class ConfigController {
         return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
     }
     
+    /**
+     * Fetch the config changes since the client revisions, the request has a {@code revision,md5}
+     * param for each group key.
+     *
+     * @param groupKeys the group keys
+     * @param request   the request
+     * @return the shenyu result
+     */
+    @GetMapping("/delta")
+    public ShenyuAdminResult fetchDelta(@NotNull final String[] groupKeys, final HttpServletRequest request) {
+        Map<String, ConfigDeltaData<?>> result = Maps.newHashMap();
+        for (String groupKey : groupKeys) {
+            // revision,md5
+            String[] params = StringUtils.split(request.getParameter(groupKey), ',');
+            long revision = Objects.nonNull(params) && params.length == 2 ? NumberUtils.toLong(params[0]) : 0L;
+            String md5 = Objects.nonNull(params) && params.length == 2 ? params[1] : null;
+            result.put(groupKey, longPollingListener.fetchDelta(ConfigGroupEnum.valueOf(groupKey), revision, md5));
+        }
+        return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
+    }
+    
     /**
      * Listener.
      *
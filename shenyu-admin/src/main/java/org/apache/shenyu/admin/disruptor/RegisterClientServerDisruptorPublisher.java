@@ -24,6 +24,7 @@ import org.apache.shenyu.admin.disruptor.subscriber.URIRegisterExecutorSubscribe
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyType;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 import org.apache.shenyu.register.client.server.api.ShenyuClientServerRegisterPublisher;
 
@@ -56,11 +57,21 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
      * @param shenyuClientRegisterService the shenyu client register service
      */
     public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService) {
+        start(shenyuClientRegisterService, WaitStrategyType.BLOCKING);
+    }
+    
+    /**
+     * start.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param waitStrategyType            the wait strategy of the register consumer
+     */
+    public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final WaitStrategyType waitStrategyType) {
         RegisterServerExecutorFactory factory = new RegisterServerExecutorFactory();
         factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new MetadataExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new ApiDocExecutorSubscriber(shenyuClientRegisterService));
-        providerManage = new DisruptorProviderManage<>(factory);
+        providerManage = new DisruptorProviderManage<>(factory, waitStrategyType);
         providerManage.startup();
     }
     
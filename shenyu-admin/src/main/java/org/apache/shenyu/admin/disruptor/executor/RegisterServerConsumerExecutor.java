@@ -17,10 +17,9 @@
 
 package org.apache.shenyu.admin.disruptor.executor;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerFactory;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
-import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 import org.apache.shenyu.register.common.dto.URIRegisterDTO;
 import org.apache.shenyu.register.common.subsriber.ExecutorSubscriber;
@@ -28,11 +27,14 @@ import org.apache.shenyu.register.common.subsriber.ExecutorTypeSubscriber;
 import org.apache.shenyu.register.common.type.DataType;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -50,14 +52,15 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
     
     @Override
     public void run() {
-        Collection<DataTypeParent> results = getData()
+        // a merged batch may hold several data types, each subscriber gets its whole part at once
+        Map<DataType, List<DataTypeParent>> results = getData()
                 .stream()
                 .filter(this::isValidData)
-                .collect(Collectors.toList());
-        if (CollectionUtils.isEmpty(results)) {
+                .collect(Collectors.groupingBy(DataTypeParent::getType, LinkedHashMap::new, Collectors.toList()));
+        if (results.isEmpty()) {
             return;
         }
-        selectExecutor(results).executor(results);
+        results.forEach((type, list) -> selectExecutor(type).executor(list));
     }
     
     private boolean isValidData(final Object data) {
@@ -75,12 +78,15 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
         return true;
     }
     
-    private ExecutorSubscriber<DataTypeParent> selectExecutor(final Collection<DataTypeParent> list) {
-        final Optional<DataTypeParent> first = list.stream().findFirst();
-        return subscribers.get(first.orElseThrow(() -> new RuntimeException("the data type is not found")).getType());
+    private ExecutorSubscriber<DataTypeParent> selectExecutor(final DataType type) {
+        final ExecutorSubscriber<DataTypeParent> subscriber = subscribers.get(type);
+        if (Objects.isNull(subscriber)) {
+            throw new RuntimeException("the data type is not found");
+        }
+        return subscriber;
     }
     
-    public static class RegisterServerExecutorFactory implements QueueConsumerFactory<Collection<DataTypeParent>> {
+    public static class RegisterServerExecutorFactory implements BatchQueueConsumerFactory<Collection<DataTypeParent>> {
     
         /**
          * The Subscribers.
@@ -101,6 +107,13 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
             return "shenyu_register_server";
         }
     
+        @Override
+        public Collection<DataTypeParent> merge(final List<Collection<DataTypeParent>> batch) {
+            List<DataTypeParent> merged = new ArrayList<>();
+            batch.forEach(merged::addAll);
+            return merged;
+        }
+    
     
         /**
          * Add subscribers abstract queue consumer factory.
@@ -23,8 +23,11 @@ import org.apache.shenyu.register.common.subsriber.ExecutorTypeSubscriber;
 import org.apache.shenyu.register.common.type.DataType;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * The type Metadata executor subscriber.
@@ -44,13 +47,14 @@ public class MetadataExecutorSubscriber implements ExecutorTypeSubscriber<MetaDa
 
     @Override
     public void executor(final Collection<MetaDataRegisterDTO> metaDataRegisterDTOList) {
-        metaDataRegisterDTOList.forEach(meta -> {
-            Optional.ofNullable(this.shenyuClientRegisterService.get(meta.getRpcType()))
-                    .ifPresent(shenyuClientRegisterService -> {
-                        synchronized (shenyuClientRegisterService) {
-                            shenyuClientRegisterService.register(meta);
-                        }
-                    });
-        });
+        metaDataRegisterDTOList.stream()
+                .filter(meta -> Objects.nonNull(meta.getRpcType()))
+                .collect(Collectors.groupingBy(MetaDataRegisterDTO::getRpcType, LinkedHashMap::new, Collectors.toList()))
+                .forEach((rpcType, metaList) -> Optional.ofNullable(this.shenyuClientRegisterService.get(rpcType))
+                        .ifPresent(shenyuClientRegisterService -> {
+                            synchronized (shenyuClientRegisterService) {
+                                shenyuClientRegisterService.registerBatch(metaList);
+                            }
+                        }));
     }
 }
@@ -70,29 +70,55 @@ public class URIRegisterExecutorSubscriber implements ExecutorTypeSubscriber<URI
                     .ifPresent(service -> {
                         final List<URIRegisterDTO> list = entry.getValue();
                         Map<String, List<URIRegisterDTO>> listMap = buildData(list);
-                        listMap.forEach((selectorName, uriList) -> {
-                            final List<URIRegisterDTO> register = new LinkedList<>();
-                            final List<URIRegisterDTO> offline = new LinkedList<>();
-                            for (URIRegisterDTO d : uriList) {
-                                final EventType eventType = d.getEventType();
-                                if (Objects.isNull(eventType) || EventType.REGISTER.equals(eventType)) {
-                                    // eventType is null, should be old versions
-                                    register.add(d);
-                                } else if (EventType.OFFLINE.equals(eventType)) {
-                                    offline.add(d);
-                                }
-                            }
-                            if (CollectionUtils.isNotEmpty(register)) {
-                                service.registerURI(selectorName, register);
-                            }
-                            if (CollectionUtils.isNotEmpty(offline)) {
-                                service.offline(selectorName, offline);
-                            }
-                        });
+                        listMap.forEach((selectorName, uriList) -> applyInOrder(service, selectorName, uriList));
                     });
         }
     }
     
+    /**
+     * Applies the uris of one selector in arrival order.
+     * A merged batch may hold an offline and a later register of the same instance,
+     * so consecutive uris of the same kind go together and the runs keep their order.
+     *
+     * @param service the register service
+     * @param selectorName the selector name
+     * @param uriList the uris in arrival order
+     */
+    private void applyInOrder(final ShenyuClientRegisterService service, final String selectorName, final List<URIRegisterDTO> uriList) {
+        List<URIRegisterDTO> run = new LinkedList<>();
+        boolean runOffline = false;
+        for (URIRegisterDTO d : uriList) {
+            final EventType eventType = d.getEventType();
+            final boolean offline;
+            if (Objects.isNull(eventType) || EventType.REGISTER.equals(eventType)) {
+                // eventType is null, should be old versions
+                offline = false;
+            } else if (EventType.OFFLINE.equals(eventType)) {
+                offline = true;
+            } else {
+                continue;
+            }
+            if (!run.isEmpty() && offline != runOffline) {
+                apply(service, selectorName, run, runOffline);
+                run = new LinkedList<>();
+            }
+            runOffline = offline;
+            run.add(d);
+        }
+        apply(service, selectorName, run, runOffline);
+    }
+    
+    private void apply(final ShenyuClientRegisterService service, final String selectorName, final List<URIRegisterDTO> run, final boolean offline) {
+        if (CollectionUtils.isEmpty(run)) {
+            return;
+        }
+        if (offline) {
+            service.offline(selectorName, run);
+        } else {
+            service.registerURI(selectorName, run);
+        }
+    }
+    
     private Map<String, List<URIRegisterDTO>> buildData(final Collection<URIRegisterDTO> dataList) {
         Map<String, List<URIRegisterDTO>> resultMap = new HashMap<>(8);
         for (URIRegisterDTO dto : dataList) {
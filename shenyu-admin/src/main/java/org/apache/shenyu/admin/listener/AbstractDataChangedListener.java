@@ -52,6 +52,8 @@ import java.util.concurrent.ConcurrentMap;
  * As we think that the md5 value of the in-memory data is the same as the md5 value of the database,
  * although it may be a little different, but it doesn't matter, we will have thread to periodically
  * pull the data in the database.
+ * A change updates the cache and runs its after hook under the listener lock, so the hooks
+ * see the changes in the same order as the cache.
  *
  * @since 2.0.0
  */
@@ -126,7 +128,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
 
     @Override
-    public void onAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -144,7 +146,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
 
     @Override
-    public void onMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -162,7 +164,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
 
     @Override
-    public void onPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -180,7 +182,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
     
     @Override
-    public void onRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -198,7 +200,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
     
     @Override
-    public void onSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -212,7 +214,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * @param changed   the changed
      * @param eventType the event type
      */
-    public void onProxySelectorChanged(final List<ProxySelectorData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onProxySelectorChanged(final List<ProxySelectorData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -235,7 +237,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * @param changed   the changed
      * @param eventType the event type
      */
-    public void onDiscoveryUpstreamChanged(final List<DiscoverySyncData> changed, final DataEventTypeEnum eventType) {
+    public synchronized void onDiscoveryUpstreamChanged(final List<DiscoverySyncData> changed, final DataEventTypeEnum eventType) {
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConfigChangeData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The recent changes of each config group, so that a client can fetch the changes since
+ * its revision instead of the whole group.
+ *
+ * <p>Each group has a monotonically increasing revision and a bounded ring of the latest
+ * changes, every change keeps the md5 of the group after it. A client revision is only
+ * answered with changes when it is still in the ring and its md5 matches, otherwise it
+ * needs a snapshot. The revisions start at the boot time, so the revisions of a restarted
+ * admin never go back.</p>
+ *
+ * <p>The revisions are local to this admin instance, so a client keeps the revision it last
+ * synced from each admin of the cluster.</p>
+ */
+public final class ConfigChangeLog {
+
+    private final Map<ConfigGroupEnum, GroupLog> logs = new EnumMap<>(ConfigGroupEnum.class);
+
+    /**
+     * Instantiates a new config change log.
+     *
+     * @param capacity the number of changes kept per group
+     */
+    public ConfigChangeLog(final int capacity) {
+        final long revision = System.currentTimeMillis();
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            logs.put(group, new GroupLog(Math.max(1, capacity), revision));
+        }
+    }
+
+    /**
+     * record a change of the group, a refresh drops the changes before it.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param data      the changed data
+     * @param md5       the md5 of the group after the change
+     * @return the revision of the change
+     */
+    public synchronized long record(final ConfigGroupEnum group, final DataEventTypeEnum eventType,
+                                    final List<?> data, final String md5) {
+        final GroupLog log = logs.get(group);
+        if (DataEventTypeEnum.REFRESH == eventType || DataEventTypeEnum.MYSELF == eventType) {
+            return log.rebase(md5);
+        }
+        return log.append(eventType, data, md5);
+    }
+
+    /**
+     * start over from the current data when it changed without a recorded change,
+     * e.g. the data is reloaded from the database.
+     *
+     * @param group the group
+     * @param md5   the md5 of the current data
+     */
+    public synchronized void rebaseIfChanged(final ConfigGroupEnum group, final String md5) {
+        final GroupLog log = logs.get(group);
+        if (!StringUtils.equals(log.md5, md5)) {
+            log.rebase(md5);
+        }
+    }
+
+    /**
+     * get the revision of the group if the md5 is the latest.
+     *
+     * @param group the group
+     * @param md5   the md5 of the data
+     * @return the revision, 0 if the md5 is not the latest
+     */
+    public synchronized long revisionOf(final ConfigGroupEnum group, final String md5) {
+        final GroupLog log = logs.get(group);
+        return StringUtils.equals(log.md5, md5) ? log.revision : 0L;
+    }
+
+    /**
+     * get the changes of the group since the client revision.
+     *
+     * @param group    the group
+     * @param revision the client revision
+     * @param md5      the client md5
+     * @param latestMd5 the md5 of the current data
+     * @return the changes, null if the client needs a snapshot
+     */
+    public synchronized List<ConfigChangeData<Object>> changesSince(final ConfigGroupEnum group, final long revision,
+                                                                    final String md5, final String latestMd5) {
+        final GroupLog log = logs.get(group);
+        // the current data has changes not recorded yet
+        if (!StringUtils.equals(log.md5, latestMd5)) {
+            return null;
+        }
+        final String expected = log.md5At(revision);
+        if (Objects.isNull(expected) || !expected.equals(md5)) {
+            return null;
+        }
+        final List<ConfigChangeData<Object>> changes = new ArrayList<>((int) (log.revision - revision));
+        for (long next = revision + 1; next <= log.revision; next++) {
+            final Change change = log.ring[log.index(next)];
+            changes.add(new ConfigChangeData<>(next, change.eventType.name(), change.data));
+        }
+        return changes;
+    }
+
+    private static final class GroupLog {
+
+        private final Change[] ring;
+
+        private long revision;
+
+        /**
+         * the revision after the latest refresh, the changes before it are dropped.
+         */
+        private long base;
+
+        private String baseMd5;
+
+        private String md5;
+
+        GroupLog(final int capacity, final long revision) {
+            this.ring = new Change[capacity];
+            this.revision = revision;
+            this.base = revision;
+        }
+
+        long append(final DataEventTypeEnum eventType, final List<?> data, final String md5) {
+            revision++;
+            ring[index(revision)] = new Change(revision, eventType, Collections.unmodifiableList(new ArrayList<Object>(data)), md5);
+            this.md5 = md5;
+            return revision;
+        }
+
+        long rebase(final String md5) {
+            revision++;
+            base = revision;
+            baseMd5 = md5;
+            Arrays.fill(ring, null);
+            this.md5 = md5;
+            return revision;
+        }
+
+        /**
+         * the md5 of the group at the revision.
+         *
+         * @param at the revision
+         * @return the md5, null if the revision is unknown
+         */
+        String md5At(final long at) {
+            // the changes after the revision must be still in the ring
+            if (at < base || at > revision || revision - at > ring.length) {
+                return null;
+            }
+            if (at == base) {
+                return baseMd5;
+            }
+            // the entry is overwritten by a later change once the ring is full
+            final Change change = ring[index(at)];
+            return Objects.nonNull(change) && change.revision == at ? change.md5 : null;
+        }
+
+        int index(final long at) {
+            return (int) (at % ring.length);
+        }
+    }
+
+    private static final class Change {
+
+        private final long revision;
+
+        private final DataEventTypeEnum eventType;
+
+        private final List<Object> data;
+
+        private final String md5;
+
+        Change(final long revision, final DataEventTypeEnum eventType, final List<Object> data, final String md5) {
+            this.revision = revision;
+            this.eventType = eventType;
+            this.data = data;
+            this.md5 = md5;
+        }
+    }
+}
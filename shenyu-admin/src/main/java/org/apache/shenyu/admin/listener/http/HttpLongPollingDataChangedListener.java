@@ -18,6 +18,8 @@
 package org.apache.shenyu.admin.listener.http;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import java.util.Objects;
 
@@ -32,6 +34,9 @@ import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.ConfigChangeData;
+import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -41,6 +46,8 @@ import org.apache.shenyu.common.dto.DiscoverySyncData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.timer.TaskEntity;
+import org.apache.shenyu.common.timer.TimerTask;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,13 +58,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -67,11 +69,13 @@ import java.util.concurrent.TimeUnit;
  * and informs the client of group information about data changes
  * when there are data changes. If there is no data change after the specified time,
  * the client will make a listening request again.
+ * The held clients are indexed by {@link LongPollingClientRegistry}, and answered on its notify pool,
+ * the scheduler only refreshes the config data.
  *
  * @since 2.0.0
  */
 @SuppressWarnings("all")
-public class HttpLongPollingDataChangedListener extends AbstractDataChangedListener {
+public class HttpLongPollingDataChangedListener extends AbstractDataChangedListener implements MeterBinder {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpLongPollingDataChangedListener.class);
 
@@ -84,22 +88,25 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
     /**
      * Blocked client.
      */
-    private final BlockingQueue<LongPollingClient> clients;
+    private final LongPollingClientRegistry clients;
 
     private final ScheduledExecutorService scheduler;
 
     private final HttpSyncProperties httpSyncProperties;
 
+    private final ConfigChangeLog changeLog;
+
     /**
      * Instantiates a new Http long polling data changed listener.
      *
      * @param httpSyncProperties the HttpSyncProperties
      */
     public HttpLongPollingDataChangedListener(final HttpSyncProperties httpSyncProperties) {
-        this.clients = new ArrayBlockingQueue<>(1024);
+        this.clients = new LongPollingClientRegistry(Math.max(2, Runtime.getRuntime().availableProcessors()));
         this.scheduler = new ScheduledThreadPoolExecutor(1,
                 ShenyuThreadFactory.create("long-polling", true));
         this.httpSyncProperties = httpSyncProperties;
+        this.changeLog = new ConfigChangeLog(httpSyncProperties.getChangeLogSize());
     }
 
     @Override
@@ -109,7 +116,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         scheduler.scheduleWithFixedDelay(() -> {
             LOG.info("http sync strategy refresh config start.");
             try {
-                super.refreshLocalCache();
+                this.refreshLocalCache();
                 LOG.info("http sync strategy refresh config success.");
             } catch (Exception e) {
                 LOG.error("http sync strategy refresh config error!", e);
@@ -118,6 +125,41 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         LOG.info("http sync strategy refresh interval: {}ms", syncInterval);
     }
 
+    @Override
+    protected synchronized void refreshLocalCache() {
+        super.refreshLocalCache();
+        // the data reloaded from the database may have changes without events, e.g. by another admin.
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            changeLog.rebaseIfChanged(group, CACHE.get(group.name()).getMd5());
+        }
+    }
+
+    /**
+     * fetch the changes of the group since the client revision, or a snapshot of the group
+     * when the changes are no longer known.
+     *
+     * @param group    the group
+     * @param revision the client revision
+     * @param md5      the client md5
+     * @return the delta data
+     */
+    public ConfigDeltaData<Object> fetchDelta(final ConfigGroupEnum group, final long revision, final String md5) {
+        ConfigDataCache cache = CACHE.get(group.name());
+        List<ConfigChangeData<Object>> changes = changeLog.changesSince(group, revision, md5, cache.getMd5());
+        ConfigDeltaData<Object> delta = new ConfigDeltaData<>();
+        if (Objects.nonNull(changes)) {
+            delta.setChanges(changes);
+            delta.setMd5(cache.getMd5()).setLastModifyTime(cache.getLastModifyTime()).setRevision(revision + changes.size());
+            return delta;
+        }
+        ConfigData<?> config = fetchConfig(group);
+        delta.setSnapshot(true);
+        delta.setMd5(config.getMd5()).setLastModifyTime(config.getLastModifyTime())
+                .setRevision(changeLog.revisionOf(group, config.getMd5()))
+                .setData(Collections.unmodifiableList(config.getData()));
+        return delta;
+    }
+
     /**
      * If the configuration data changes, the group information for the change is immediately responded.
      * Otherwise, the client's request thread is blocked until any data changes or the specified timeout is reached.
@@ -140,42 +182,59 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         // AsyncContext.settimeout() does not timeout properly, so you have to control it yourself
         asyncContext.setTimeout(0L);
         // block client's thread.
-        scheduler.execute(new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT));
+        LongPollingClient client = new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT);
+        clients.hold(client);
+        // a change between the compare and the hold has already been fanned out, so check once more.
+        changedGroup = compareChangedGroup(request);
+        if (CollectionUtils.isNotEmpty(changedGroup) && clients.release(client)) {
+            client.sendResponse(changedGroup);
+            LOG.info("send response with the changed group, ip={}, group={}", clientIp, changedGroup);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        clients.bindTo(registry);
     }
 
     @Override
     protected void afterAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.APP_AUTH));
+        this.afterGroupChanged(ConfigGroupEnum.APP_AUTH, changed, eventType);
     }
 
     @Override
     protected void afterMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.META_DATA));
+        this.afterGroupChanged(ConfigGroupEnum.META_DATA, changed, eventType);
     }
 
     @Override
     protected void afterPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.PLUGIN));
+        this.afterGroupChanged(ConfigGroupEnum.PLUGIN, changed, eventType);
     }
 
     @Override
     protected void afterRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.RULE));
+        this.afterGroupChanged(ConfigGroupEnum.RULE, changed, eventType);
     }
 
     @Override
     protected void afterSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.SELECTOR));
+        this.afterGroupChanged(ConfigGroupEnum.SELECTOR, changed, eventType);
     }
 
     @Override
     protected void afterProxySelectorChanged(final List<ProxySelectorData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.PROXY_SELECTOR));
+        this.afterGroupChanged(ConfigGroupEnum.PROXY_SELECTOR, changed, eventType);
     }
 
     @Override
     protected void afterDiscoveryUpstreamDataChanged(final List<DiscoverySyncData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.DISCOVER_UPSTREAM));
+        this.afterGroupChanged(ConfigGroupEnum.DISCOVER_UPSTREAM, changed, eventType);
+    }
+
+    private void afterGroupChanged(final ConfigGroupEnum group, final List<?> changed, final DataEventTypeEnum eventType) {
+        changeLog.record(group, eventType, changed, CACHE.get(group.name()).getMd5());
+        clients.execute(new DataChangeTask(group));
     }
 
     private List<ConfigGroupEnum> compareChangedGroup(final HttpServletRequest request) {
@@ -228,7 +287,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
             if (latest != serverCache) {
                 return !StringUtils.equals(clientMd5, latest.getMd5());
             }
-            super.refreshLocalCache();
+            this.refreshLocalCache();
             latest = CACHE.get(serverCache.getGroup());
             return !StringUtils.equals(clientMd5, latest.getMd5());
         }
@@ -283,6 +342,8 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          */
         private final long changeTime = System.currentTimeMillis();
 
+        private final long changeNanos = System.nanoTime();
+
         /**
          * Instantiates a new Data change task.
          *
@@ -294,21 +355,19 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
         @Override
         public void run() {
-            if (clients.size() > httpSyncProperties.getNotifyBatchSize()) {
-                List<LongPollingClient> targetClients = new ArrayList<>(clients.size());
-                clients.drainTo(targetClients);
+            List<LongPollingClient> targetClients = clients.releaseAll();
+            if (targetClients.size() > httpSyncProperties.getNotifyBatchSize()) {
                 List<List<LongPollingClient>> partitionClients = Lists.partition(targetClients, httpSyncProperties.getNotifyBatchSize());
-                partitionClients.forEach(item -> scheduler.execute(() -> doRun(item)));
+                partitionClients.forEach(item -> clients.execute(() -> doRun(item)));
             } else {
-                doRun(clients);
+                doRun(targetClients);
             }
         }
 
-        private void doRun(final Collection<LongPollingClient> clients) {
-            for (Iterator<LongPollingClient> iter = clients.iterator(); iter.hasNext();) {
-                LongPollingClient client = iter.next();
-                iter.remove();
+        private void doRun(final List<LongPollingClient> targetClients) {
+            for (LongPollingClient client : targetClients) {
                 client.sendResponse(Collections.singletonList(groupKey));
+                clients.recordNotifyLatency(changeNanos);
                 LOG.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
             }
         }
@@ -319,7 +378,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
      * empty data is returned. If the data changes within this time frame, the DataChangeTask
      * cancellations the timed task and responds to the changed group data.
      */
-    class LongPollingClient implements Runnable {
+    class LongPollingClient extends TimerTask {
 
         private final Logger log = LoggerFactory.getLogger(LongPollingClient.class);
 
@@ -333,16 +392,6 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          */
         private final String ip;
 
-        /**
-         * The Timeout time.
-         */
-        private final long timeoutTime;
-
-        /**
-         * The Async timeout future.
-         */
-        private Future<?> asyncTimeoutFuture;
-
         /**
          * Instantiates a new Long polling client.
          *
@@ -351,23 +400,25 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          * @param timeoutTime the timeout time
          */
         LongPollingClient(final AsyncContext ac, final String ip, final long timeoutTime) {
+            super(timeoutTime);
             this.asyncContext = ac;
             this.ip = ip;
-            this.timeoutTime = timeoutTime;
         }
 
         @Override
-        public void run() {
-            try {
-                this.asyncTimeoutFuture = scheduler.schedule(() -> {
-                    clients.remove(LongPollingClient.this);
+        public void run(final TaskEntity taskEntity) {
+            if (!clients.release(this)) {
+                return;
+            }
+            clients.execute(() -> {
+                try {
                     List<ConfigGroupEnum> changedGroups = compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
                     sendResponse(changedGroups);
-                }, timeoutTime, TimeUnit.MILLISECONDS);
-                clients.add(this);
-            } catch (Exception ex) {
-                log.error("add long polling client error", ex);
-            }
+                } catch (Exception ex) {
+                    log.error("answer long polling client error", ex);
+                    sendResponse(Collections.emptyList());
+                }
+            });
         }
 
         /**
@@ -376,10 +427,8 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          * @param changedGroups the changed groups
          */
         void sendResponse(final List<ConfigGroupEnum> changedGroups) {
-            // cancel scheduler
-            if (Objects.nonNull(asyncTimeoutFuture)) {
-                asyncTimeoutFuture.cancel(false);
-            }
+            // cancel the hold timeout
+            cancel();
             generateResponse((HttpServletResponse) asyncContext.getResponse(), changedGroups);
             asyncContext.complete();
         }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener.LongPollingClient;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.timer.WheelTimerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The held long polling clients.
+ * A client is answered exactly once, either by a data change or by its hold timeout on the wheel timer,
+ * whichever removes it from the registry first. The answers are written by a notify pool,
+ * so neither the timer nor the config refresh waits for them.
+ */
+final class LongPollingClientRegistry implements MeterBinder {
+
+    private final Set<LongPollingClient> clients = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService notifyExecutor;
+
+    private volatile Timer notifyLatency;
+
+    /**
+     * Instantiates a new long polling client registry.
+     *
+     * @param notifyThreads the number of threads answering the clients
+     */
+    LongPollingClientRegistry(final int notifyThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(notifyThreads, notifyThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("long-polling-notify", true));
+        executor.allowCoreThreadTimeOut(true);
+        this.notifyExecutor = executor;
+    }
+
+    /**
+     * Hold the client until a data change or its hold timeout.
+     *
+     * @param client the client
+     */
+    void hold(final LongPollingClient client) {
+        clients.add(client);
+        WheelTimerFactory.getSharedTimer().add(client);
+    }
+
+    /**
+     * Release the client, the caller answers it only when this returns true.
+     *
+     * @param client the client
+     * @return true if the client was still held
+     */
+    boolean release(final LongPollingClient client) {
+        return clients.remove(client);
+    }
+
+    /**
+     * Release all the held clients.
+     *
+     * @return the released clients
+     */
+    List<LongPollingClient> releaseAll() {
+        List<LongPollingClient> released = new ArrayList<>(clients.size());
+        for (LongPollingClient client : clients) {
+            if (clients.remove(client)) {
+                released.add(client);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Run the task on the notify pool.
+     *
+     * @param task the task
+     */
+    void execute(final Runnable task) {
+        notifyExecutor.execute(task);
+    }
+
+    /**
+     * Record the time from a data change to a client answered with it.
+     *
+     * @param changeNanos the {@link System#nanoTime()} of the change
+     */
+    void recordNotifyLatency(final long changeNanos) {
+        Timer timer = notifyLatency;
+        if (Objects.nonNull(timer)) {
+            timer.record(System.nanoTime() - changeNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Gets the number of held clients.
+     *
+     * @return the number of held clients
+     */
+    int size() {
+        return clients.size();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("shenyu.admin.http.long.polling.clients", clients, Set::size)
+                .description("the number of held http long polling clients")
+                .register(registry);
+        this.notifyLatency = Timer.builder("shenyu.admin.http.long.polling.notify")
+                .description("the time from a data change to a held client answered with it")
+                .register(registry);
+    }
+}
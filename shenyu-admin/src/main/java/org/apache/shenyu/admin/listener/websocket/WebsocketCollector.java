@@ -32,15 +32,14 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
-import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Websocket data changed listener.
+ * Every session sends through its own {@link WebsocketSessionSender}, so one slow client does not hold up the others.
  *
  * @since 2.0.0
  */
@@ -49,10 +48,14 @@ public class WebsocketCollector {
     
     private static final Logger LOG = LoggerFactory.getLogger(WebsocketCollector.class);
     
-    private static final Set<Session> SESSION_SET = new CopyOnWriteArraySet<>();
+    private static final Map<Session, WebsocketSessionSender> SESSION_MAP = new ConcurrentHashMap<>();
     
     private static final String SESSION_KEY = "sessionKey";
     
+    private static final int DEFAULT_SEND_QUEUE_SIZE = 1024;
+    
+    private static volatile int sendQueueSize = DEFAULT_SEND_QUEUE_SIZE;
+    
     /**
      * On open.
      *
@@ -62,7 +65,16 @@ public class WebsocketCollector {
     public void onOpen(final Session session) {
         LOG.info("websocket on client[{}] open successful,maxTextMessageBufferSize:{}",
                 getClientIp(session), session.getMaxTextMessageBufferSize());
-        SESSION_SET.add(session);
+        SESSION_MAP.put(session, new WebsocketSessionSender(session, getClientIp(session), sendQueueSize));
+    }
+    
+    /**
+     * Sets the max number of messages waiting for one session.
+     *
+     * @param size the size
+     */
+    public static void setSendQueueSize(final int size) {
+        sendQueueSize = size > 0 ? size : DEFAULT_SEND_QUEUE_SIZE;
     }
     
     private static String getClientIp(final Session session) {
@@ -134,24 +146,16 @@ public class WebsocketCollector {
         if (DataEventTypeEnum.MYSELF == type) {
             Session session = (Session) ThreadLocalUtils.get(SESSION_KEY);
             if (Objects.nonNull(session)) {
-                sendMessageBySession(session, message);
+                Optional.ofNullable(SESSION_MAP.get(session)).ifPresent(sender -> sender.send(message));
             }
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            SESSION_MAP.values().forEach(sender -> sender.send(message));
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
-        try {
-            session.getBasicRemote().sendText(message);
-        } catch (IOException e) {
-            LOG.error("websocket send result is exception: ", e);
-        }
-    }
-    
     private void clearSession(final Session session) {
-        SESSION_SET.remove(session);
+        SESSION_MAP.remove(session);
         ThreadLocalUtils.clear();
     }
 }
@@ -17,9 +17,18 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.listener.DataChangedListener;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.DiscoverySyncData;
 import org.apache.shenyu.common.dto.MetaData;
@@ -34,58 +43,112 @@ import org.apache.shenyu.common.utils.GsonUtils;
 
 /**
  * The type Websocket data changed listener.
+ * With a coalesce window, the changes are pushed in order after the window, and the adjacent
+ * changes of the same group and event type are pushed as one message, so a bulk import
+ * is not pushed one data at a time.
  *
  * @since 2.0.0
  */
 public class WebsocketDataChangedListener implements DataChangedListener {
 
+    private static final Set<DataEventTypeEnum> COALESCED_EVENTS = EnumSet.of(DataEventTypeEnum.CREATE, DataEventTypeEnum.UPDATE, DataEventTypeEnum.DELETE);
+
+    private final long coalesceWindow;
+
+    private final int coalesceMaxSize;
+
+    private final ScheduledExecutorService flusher;
+
+    private List<WebsocketData<Object>> pending = new ArrayList<>();
+
+    /**
+     * Instantiates a new websocket data changed listener pushing every change at once.
+     */
+    public WebsocketDataChangedListener() {
+        this.coalesceWindow = 0;
+        this.coalesceMaxSize = 0;
+        this.flusher = null;
+    }
+
+    /**
+     * Instantiates a new websocket data changed listener.
+     *
+     * @param websocketSyncProperties the websocket sync properties
+     */
+    public WebsocketDataChangedListener(final WebsocketSyncProperties websocketSyncProperties) {
+        this.coalesceWindow = Objects.isNull(websocketSyncProperties.getCoalesceWindow()) ? 0 : websocketSyncProperties.getCoalesceWindow().toMillis();
+        this.coalesceMaxSize = websocketSyncProperties.getCoalesceMaxSize();
+        this.flusher = coalesceWindow > 0 ? new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("websocket-coalesce", true)) : null;
+    }
+
     @Override
     public void onPluginChanged(final List<PluginData> pluginDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<PluginData> websocketData =
-                new WebsocketData<>(ConfigGroupEnum.PLUGIN.name(), eventType.name(), pluginDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(websocketData), eventType);
+        this.push(ConfigGroupEnum.PLUGIN, pluginDataList, eventType);
     }
 
     @Override
     public void onSelectorChanged(final List<SelectorData> selectorDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<SelectorData> websocketData =
-                new WebsocketData<>(ConfigGroupEnum.SELECTOR.name(), eventType.name(), selectorDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(websocketData), eventType);
+        this.push(ConfigGroupEnum.SELECTOR, selectorDataList, eventType);
     }
 
     @Override
     public void onRuleChanged(final List<RuleData> ruleDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<RuleData> configData =
-                new WebsocketData<>(ConfigGroupEnum.RULE.name(), eventType.name(), ruleDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
+        this.push(ConfigGroupEnum.RULE, ruleDataList, eventType);
     }
 
     @Override
     public void onAppAuthChanged(final List<AppAuthData> appAuthDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<AppAuthData> configData =
-                new WebsocketData<>(ConfigGroupEnum.APP_AUTH.name(), eventType.name(), appAuthDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
+        this.push(ConfigGroupEnum.APP_AUTH, appAuthDataList, eventType);
     }
 
     @Override
     public void onMetaDataChanged(final List<MetaData> metaDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<MetaData> configData =
-                new WebsocketData<>(ConfigGroupEnum.META_DATA.name(), eventType.name(), metaDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
+        this.push(ConfigGroupEnum.META_DATA, metaDataList, eventType);
     }
 
     @Override
     public void onProxySelectorChanged(final List<ProxySelectorData> proxySelectorDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<ProxySelectorData> configData =
-                new WebsocketData<>(ConfigGroupEnum.PROXY_SELECTOR.name(), eventType.name(), proxySelectorDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
+        this.push(ConfigGroupEnum.PROXY_SELECTOR, proxySelectorDataList, eventType);
     }
 
     @Override
     public void onDiscoveryUpstreamChanged(final List<DiscoverySyncData> discoeryUpstreamList, final DataEventTypeEnum eventType) {
-        WebsocketData<DiscoverySyncData> configData =
-                new WebsocketData<>(ConfigGroupEnum.DISCOVER_UPSTREAM.name(), eventType.name(), discoeryUpstreamList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
+        this.push(ConfigGroupEnum.DISCOVER_UPSTREAM, discoeryUpstreamList, eventType);
+    }
+
+    private void push(final ConfigGroupEnum group, final List<?> dataList, final DataEventTypeEnum eventType) {
+        // the data of myself is sent to the session of the current thread.
+        if (Objects.isNull(flusher) || DataEventTypeEnum.MYSELF == eventType) {
+            WebsocketCollector.send(GsonUtils.getInstance().toJson(new WebsocketData<>(group.name(), eventType.name(), dataList)), eventType);
+            return;
+        }
+        synchronized (this) {
+            WebsocketData<Object> last = pending.isEmpty() ? null : pending.get(pending.size() - 1);
+            if (Objects.nonNull(last) && COALESCED_EVENTS.contains(eventType)
+                    && Objects.equals(last.getGroupType(), group.name()) && Objects.equals(last.getEventType(), eventType.name())
+                    && last.getData().size() + dataList.size() <= coalesceMaxSize) {
+                last.getData().addAll(dataList);
+                return;
+            }
+            if (pending.isEmpty()) {
+                flusher.schedule(this::flush, coalesceWindow, TimeUnit.MILLISECONDS);
+            }
+            pending.add(new WebsocketData<>(group.name(), eventType.name(), new ArrayList<>(dataList)));
+        }
+    }
+
+    /**
+     * Push the pending changes.
+     */
+    void flush() {
+        List<WebsocketData<Object>> flushing;
+        synchronized (this) {
+            flushing = pending;
+            pending = new ArrayList<>();
+        }
+        for (WebsocketData<Object> websocketData : flushing) {
+            WebsocketCollector.send(GsonUtils.getInstance().toJson(websocketData), DataEventTypeEnum.acquireByName(websocketData.getEventType()));
+        }
     }
 
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The outbound queue of one websocket session.
+ * The messages are sent one by one through the async remote, so a slow client only fills its own queue.
+ * A client whose queue overflows is closed, it reconnects and resyncs all the data.
+ */
+final class WebsocketSessionSender {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebsocketSessionSender.class);
+
+    private final Session session;
+
+    private final String clientIp;
+
+    private final BlockingQueue<String> queue;
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    private final AtomicBoolean dropped = new AtomicBoolean();
+
+    /**
+     * Instantiates a new websocket session sender.
+     *
+     * @param session   the session
+     * @param clientIp  the client ip
+     * @param queueSize the max number of waiting messages
+     */
+    WebsocketSessionSender(final Session session, final String clientIp, final int queueSize) {
+        this.session = session;
+        this.clientIp = clientIp;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    /**
+     * Queue the message, and send it when the former ones are sent.
+     *
+     * @param message the message
+     */
+    void send(final String message) {
+        if (dropped.get()) {
+            return;
+        }
+        if (!queue.offer(message)) {
+            drop();
+            return;
+        }
+        flush();
+    }
+
+    private void flush() {
+        while (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+            String message = queue.poll();
+            if (Objects.isNull(message)) {
+                sending.set(false);
+                continue;
+            }
+            try {
+                session.getAsyncRemote().sendText(message, this::onResult);
+            } catch (RuntimeException e) {
+                LOG.error("websocket send to client[{}] is exception: ", clientIp, e);
+                sending.set(false);
+                drop();
+            }
+            return;
+        }
+    }
+
+    private void onResult(final SendResult result) {
+        sending.set(false);
+        if (!result.isOK()) {
+            LOG.error("websocket send to client[{}] is exception: ", clientIp, result.getException());
+            drop();
+            return;
+        }
+        flush();
+    }
+
+    private void drop() {
+        if (!dropped.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        LOG.warn("websocket client[{}] can not keep up with the changes, close it to resync", clientIp);
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "send queue overflow"));
+        } catch (IOException e) {
+            LOG.error("websocket close client[{}] is exception: ", clientIp, e);
+        }
+    }
+}
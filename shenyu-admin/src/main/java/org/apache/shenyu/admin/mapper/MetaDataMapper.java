@@ -72,6 +72,14 @@ public interface MetaDataMapper extends ExistProvider {
      */
     MetaDataDO findByPath(String path);
     
+    /**
+     * Find by a list of paths.
+     *
+     * @param pathList the path list
+     * @return the list of meta data do
+     */
+    List<MetaDataDO> findByPathList(@Param("pathList") List<String> pathList);
+    
     /**
      * Find by service name and method meta data do.
      *
@@ -112,6 +120,14 @@ public interface MetaDataMapper extends ExistProvider {
      */
     int insert(MetaDataDO metaDataDO);
     
+    /**
+     * batch insert meta data.
+     *
+     * @param metaDataDOList the meta data do list
+     * @return the int
+     */
+    int insertBatch(@Param("metaDataDOList") List<MetaDataDO> metaDataDOList);
+    
     /**
      * Update int.
      *
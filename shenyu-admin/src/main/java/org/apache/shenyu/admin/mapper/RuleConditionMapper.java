@@ -78,6 +78,14 @@ public interface RuleConditionMapper {
      */
     int insert(RuleConditionDO ruleConditionDO);
     
+    /**
+     * batch insert rule conditions.
+     *
+     * @param ruleConditionDOList list of {@linkplain RuleConditionDO}
+     * @return rows
+     */
+    int insertBatch(@Param("ruleConditionDOList") List<RuleConditionDO> ruleConditionDOList);
+    
     /**
      * insert selective rule condition.
      *
@@ -108,6 +108,14 @@ public interface RuleMapper extends ExistProvider {
      */
     int insert(RuleDO ruleDO);
     
+    /**
+     * batch insert rules.
+     *
+     * @param ruleDOList list of {@linkplain RuleDO}
+     * @return rows int
+     */
+    int insertBatch(@Param("ruleDOList") List<RuleDO> ruleDOList);
+    
     /**
      * insert selective rule.
      *
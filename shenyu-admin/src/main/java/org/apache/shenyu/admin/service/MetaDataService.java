@@ -42,6 +42,14 @@ public interface MetaDataService {
      */
     void saveOrUpdateMetaData(MetaDataDO exist, MetaDataRegisterDTO metaDataDTO);
     
+    /**
+     * save or update a batch of mate data, the exist meta data is found by path.
+     * {@link org.apache.shenyu.admin.service.register.AbstractShenyuClientRegisterServiceImpl}
+     *
+     * @param metaDataDTOList meta data dto list {@link MetaDataRegisterDTO}
+     */
+    void saveOrUpdateMetaDataBatch(List<MetaDataRegisterDTO> metaDataDTOList);
+    
     /**
      * Create or update int.
      *
@@ -45,6 +45,13 @@ public interface RuleService extends PageService<RuleQueryCondition, RuleVO> {
      * @return the string
      */
     String registerDefault(RuleDTO ruleDTO);
+    
+    /**
+     * Register a batch of default rules, the rules already exist in their selector are skipped.
+     *
+     * @param ruleDTOList the rule dto list
+     */
+    void registerDefaultBatch(List<RuleDTO> ruleDTOList);
 
     /**
      * create or update rule.
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service.impl;
 
+import com.google.common.collect.Lists;
 import java.util.LinkedList;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -44,13 +45,18 @@ import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 import org.springframework.beans.BeanUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +65,8 @@ import java.util.stream.Collectors;
 @Service
 public class MetaDataServiceImpl implements MetaDataService {
     
+    private static final int BATCH_SIZE = 500;
+    
     private final MetaDataMapper metaDataMapper;
     
     private final ApplicationEventPublisher eventPublisher;
@@ -94,6 +102,49 @@ public class MetaDataServiceImpl implements MetaDataService {
                 Collections.singletonList(MetaDataTransfer.INSTANCE.mapToData(metaDataDO))));
     }
     
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void saveOrUpdateMetaDataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        if (CollectionUtils.isEmpty(metaDataDTOList)) {
+            return;
+        }
+        // the last registration of a path wins, as it does when they are registered one by one
+        Map<String, MetaDataRegisterDTO> pathMap = metaDataDTOList.stream()
+                .filter(dto -> StringUtils.isNotBlank(dto.getPath()))
+                .collect(Collectors.toMap(MetaDataRegisterDTO::getPath, Function.identity(), (dto1, dto2) -> dto2, LinkedHashMap::new));
+        Map<String, MetaDataDO> existMap = new HashMap<>(pathMap.size());
+        for (List<String> paths : Lists.partition(new ArrayList<>(pathMap.keySet()), BATCH_SIZE)) {
+            metaDataMapper.findByPathList(paths).forEach(exist -> existMap.putIfAbsent(exist.getPath(), exist));
+        }
+        Timestamp currentTime = new Timestamp(System.currentTimeMillis());
+        List<MetaDataDO> createList = new ArrayList<>();
+        List<MetaDataDO> updateList = new ArrayList<>();
+        pathMap.forEach((path, metaDataDTO) -> {
+            MetaDataDO metaDataDO = MetaDataTransfer.INSTANCE.mapRegisterDTOToEntity(metaDataDTO);
+            MetaDataDO exist = existMap.get(path);
+            if (Objects.isNull(exist)) {
+                metaDataDO.setId(UUIDUtils.getInstance().generateShortUuid());
+                metaDataDO.setDateCreated(currentTime);
+                metaDataDO.setDateUpdated(currentTime);
+                createList.add(metaDataDO);
+            } else {
+                metaDataDO.setId(exist.getId());
+                updateList.add(metaDataDO);
+            }
+        });
+        Lists.partition(createList, BATCH_SIZE).forEach(metaDataMapper::insertBatch);
+        updateList.forEach(metaDataMapper::update);
+        // publish one MetaData's event per event type
+        if (CollectionUtils.isNotEmpty(createList)) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.CREATE,
+                    ListUtil.map(createList, MetaDataTransfer.INSTANCE::mapToData)));
+        }
+        if (CollectionUtils.isNotEmpty(updateList)) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.UPDATE,
+                    ListUtil.map(updateList, MetaDataTransfer.INSTANCE::mapToData)));
+        }
+    }
+    
     @Override
     public String createOrUpdate(final MetaDataDTO metaDataDTO) {
         return StringUtils.isBlank(metaDataDTO.getId()) ? this.create(metaDataDTO) : this.update(metaDataDTO);
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service.impl;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.aspect.annotation.DataPermission;
@@ -55,11 +56,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -71,6 +74,8 @@ import static org.apache.shenyu.common.utils.ListUtil.map;
 @Service
 public class RuleServiceImpl implements RuleService {
     
+    private static final int BATCH_SIZE = 500;
+    
     private final RuleMapper ruleMapper;
     
     private final RuleConditionMapper ruleConditionMapper;
@@ -124,6 +129,39 @@ public class RuleServiceImpl implements RuleService {
         return ruleDO.getId();
     }
     
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void registerDefaultBatch(final List<RuleDTO> ruleDTOList) {
+        if (CollectionUtils.isEmpty(ruleDTOList)) {
+            return;
+        }
+        final List<String> selectorIds = ruleDTOList.stream().map(RuleDTO::getSelectorId).distinct().collect(Collectors.toList());
+        final Set<String> registered = ruleMapper.findBySelectorIds(selectorIds).stream()
+                .map(ruleDO -> String.join(":", ruleDO.getSelectorId(), ruleDO.getName()))
+                .collect(Collectors.toSet());
+        final List<RuleDO> ruleDOList = new ArrayList<>();
+        final List<RuleConditionDO> ruleConditionDOList = new ArrayList<>();
+        final Map<String, List<RuleConditionDTO>> conditionsRuleGroup = new HashMap<>();
+        for (RuleDTO ruleDTO : ruleDTOList) {
+            if (!registered.add(String.join(":", ruleDTO.getSelectorId(), ruleDTO.getName()))) {
+                continue;
+            }
+            RuleDO ruleDO = RuleDO.buildRuleDO(ruleDTO);
+            ruleDOList.add(ruleDO);
+            for (RuleConditionDTO ruleCondition : ruleDTO.getRuleConditions()) {
+                ruleCondition.setRuleId(ruleDO.getId());
+                ruleConditionDOList.add(RuleConditionDO.buildRuleConditionDO(ruleCondition));
+            }
+            conditionsRuleGroup.put(ruleDO.getId(), ruleDTO.getRuleConditions());
+        }
+        if (ruleDOList.isEmpty()) {
+            return;
+        }
+        Lists.partition(ruleDOList, BATCH_SIZE).forEach(ruleMapper::insertBatch);
+        Lists.partition(ruleConditionDOList, BATCH_SIZE).forEach(ruleConditionMapper::insertBatch);
+        ruleEventPublisher.onRegister(ruleDOList, conditionsRuleGroup);
+    }
+    
     /**
      * create or update rule.
      *
@@ -71,6 +71,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -89,6 +90,10 @@ public class UpstreamCheckService {
 
     private static final String REGISTER_TYPE_HTTP = "http";
 
+    private static final int CHECK_TIMEOUT = 3000;
+
+    private static final int MAX_CHECK_JITTER = 1000;
+
     private static int zombieRemovalTimes;
 
     private final int zombieCheckTimes;
@@ -97,6 +102,8 @@ public class UpstreamCheckService {
 
     private final String registerType;
 
+    private final String healthCheckPath;
+
     private final boolean checked;
 
     private final Integer scheduledThreads;
@@ -117,7 +124,7 @@ public class UpstreamCheckService {
 
     private ScheduledThreadPoolExecutor invokeExecutor;
 
-    private final List<CompletableFuture<Void>> futures = Lists.newArrayList();
+    private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
     /**
      * Instantiates a new Upstream check service.
@@ -146,6 +153,7 @@ public class UpstreamCheckService {
         this.zombieCheckTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_TIMES, Constants.ZOMBIE_CHECK_TIMES_VALUE));
         this.scheduledTime = Integer.parseInt(props.getProperty(Constants.SCHEDULED_TIME, Constants.SCHEDULED_TIME_VALUE));
         this.registerType = shenyuRegisterCenterConfig.getRegisterType();
+        this.healthCheckPath = props.getProperty(Constants.HEALTH_CHECK_PATH);
         zombieRemovalTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_REMOVAL_TIMES, Constants.ZOMBIE_REMOVAL_TIMES_VALUE));
         if (REGISTER_TYPE_HTTP.equalsIgnoreCase(registerType)) {
             setup();
@@ -254,42 +262,53 @@ public class UpstreamCheckService {
     }
 
     private void scheduled() {
+        // skip this time if the last round is still in flight, rounds must not overlap
+        if (!checkStarted.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            doCheck();
-            waitFinish();
+            final List<CompletableFuture<Void>> futures = doCheck();
+            // the probes are non-blocking, the scheduled thread only starts the round and never waits for it
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .whenComplete((v, throwable) -> {
+                        if (Objects.nonNull(throwable)) {
+                            LOG.error("upstream scheduled check error -------- ", throwable);
+                        }
+                        checkStarted.set(false);
+                    });
         } catch (Exception e) {
             LOG.error("upstream scheduled check error -------- ", e);
+            checkStarted.set(false);
         }
     }
 
-    private void doCheck() {
+    private List<CompletableFuture<Void>> doCheck() {
+        final List<CompletableFuture<Void>> futures = Lists.newArrayList();
+        final int jitter = Math.min(MAX_CHECK_JITTER, (int) TimeUnit.SECONDS.toMillis(scheduledTime) / 2);
         // check zombie
         if (!ZOMBIE_SET.isEmpty()) {
-            ZOMBIE_SET.forEach(this::checkZombie);
+            ZOMBIE_SET.forEach(zombieUpstream -> futures.add(checkZombie(zombieUpstream, jitter)));
         }
         // check up
         if (!UPSTREAM_MAP.isEmpty()) {
-            UPSTREAM_MAP.forEach(this::check);
+            UPSTREAM_MAP.forEach((selectorId, upstreamList) -> futures.add(check(selectorId, upstreamList, jitter)));
         }
+        return futures;
     }
 
-    private void waitFinish() {
-        // wait all check success
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-        // clear, for next time
-        futures.clear();
-    }
-
-    private void checkZombie(final ZombieUpstream zombieUpstream) {
-        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> checkZombie0(zombieUpstream), invokeExecutor);
-        futures.add(future);
+    private CompletableFuture<Void> checkZombie(final ZombieUpstream zombieUpstream, final int jitter) {
+        return UpstreamCheckUtils.checkUrlAsync(zombieUpstream.getCommonUpstream().getUpstreamUrl(), healthCheckPath, CHECK_TIMEOUT, jitter)
+                .thenAcceptAsync(pass -> checkZombie0(zombieUpstream, pass), invokeExecutor)
+                .exceptionally(ex -> {
+                    LOG.error("An exception occurred during the check of zombie {}: {}", zombieUpstream.getCommonUpstream().getUpstreamUrl(), ex);
+                    return null;
+                });
     }
 
-    private void checkZombie0(final ZombieUpstream zombieUpstream) {
+    private void checkZombie0(final ZombieUpstream zombieUpstream, final boolean pass) {
         ZOMBIE_SET.remove(zombieUpstream);
         String selectorId = zombieUpstream.getSelectorId();
         CommonUpstream commonUpstream = zombieUpstream.getCommonUpstream();
-        final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
         if (pass) {
             commonUpstream.setTimestamp(System.currentTimeMillis());
             commonUpstream.setStatus(true);
@@ -306,11 +325,10 @@ public class UpstreamCheckService {
         }
     }
 
-    private void check(final String selectorId, final List<CommonUpstream> upstreamList) {
+    private CompletableFuture<Void> check(final String selectorId, final List<CommonUpstream> upstreamList, final int jitter) {
         final List<CompletableFuture<CommonUpstream>> checkFutures = new ArrayList<>(upstreamList.size());
         for (CommonUpstream commonUpstream : upstreamList) {
-            checkFutures.add(CompletableFuture.supplyAsync(() -> {
-                final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
+            checkFutures.add(UpstreamCheckUtils.checkUrlAsync(commonUpstream.getUpstreamUrl(), healthCheckPath, CHECK_TIMEOUT, jitter).thenApply(pass -> {
                 if (pass) {
                     if (!commonUpstream.isStatus()) {
                         commonUpstream.setTimestamp(System.currentTimeMillis());
@@ -325,19 +343,20 @@ public class UpstreamCheckService {
                     LOG.error("check the url={} is fail ", commonUpstream.getUpstreamUrl());
                 }
                 return null;
-            }, invokeExecutor).exceptionally(ex -> {
+            }).exceptionally(ex -> {
                 LOG.error("An exception occurred during the check of url {}: {}", commonUpstream.getUpstreamUrl(), ex);
                 return null;
             }));
         }
 
-        this.futures.add(CompletableFuture.runAsync(() -> {
+        // selector updates touch the database, so they run on the invoke executor instead of the probe event loop
+        return CompletableFuture.allOf(checkFutures.toArray(new CompletableFuture[0])).thenRunAsync(() -> {
             List<CommonUpstream> successList = checkFutures.stream()
                     .map(CompletableFuture::join)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
             updateHandler(selectorId, upstreamList, successList);
-        }));
+        }, invokeExecutor);
     }
 
     private void updateHandler(final String selectorId, final List<CommonUpstream> upstreamList, final List<CommonUpstream> successList) {
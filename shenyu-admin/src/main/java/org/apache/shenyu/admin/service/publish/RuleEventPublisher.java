@@ -42,6 +42,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Collections;
@@ -177,6 +178,21 @@ public class RuleEventPublisher implements AdminDataModelChangedEventPublisher<R
         publishEvent(rule, condition, Collections.emptyList());
     }
     
+    /**
+     * register a batch of rules, one change event is published per selector.
+     *
+     * @param rules               rules
+     * @param conditionsRuleGroup the conditions grouped by rule id
+     */
+    public void onRegister(final List<RuleDO> rules, final Map<String, List<RuleConditionDTO>> conditionsRuleGroup) {
+        final Map<String, String> pluginNames = new HashMap<>();
+        final List<RuleData> ruleData = map(rules, r -> RuleDO.transFrom(r,
+                pluginNames.computeIfAbsent(r.getSelectorId(), ruleMapper::getPluginNameBySelectorId),
+                map(conditionsRuleGroup.get(r.getId()), ConditionTransfer.INSTANCE::mapToRuleDTO)));
+        groupBy(ruleData, RuleData::getSelectorId).values()
+                .forEach(list -> publisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, list)));
+    }
+    
     /**
      * event.
      *
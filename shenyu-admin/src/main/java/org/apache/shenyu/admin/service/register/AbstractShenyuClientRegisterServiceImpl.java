@@ -39,6 +39,7 @@ import org.apache.shenyu.common.enums.MatchModeEnum;
 import org.apache.shenyu.common.enums.OperatorEnum;
 import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.ContextPathUtils;
 import org.apache.shenyu.common.utils.PathUtils;
 import org.apache.shenyu.common.utils.PluginNameAdapter;
 import org.apache.shenyu.register.common.dto.ApiDocRegisterDTO;
@@ -47,9 +48,14 @@ import org.apache.shenyu.register.common.dto.URIRegisterDTO;
 import org.springframework.context.ApplicationEventPublisher;
 
 import javax.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -106,6 +112,15 @@ public abstract class AbstractShenyuClientRegisterServiceImpl extends FallbackSh
      */
     protected abstract void registerMetadata(MetaDataRegisterDTO metaDataDTO);
 
+    /**
+     * Register a batch of metadata.
+     *
+     * @param metaDataDTOList the meta data dto list
+     */
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        metaDataDTOList.forEach(this::registerMetadata);
+    }
+
     /**
      * Build handle string.
      *
@@ -140,6 +155,40 @@ public abstract class AbstractShenyuClientRegisterServiceImpl extends FallbackSh
         return ShenyuResultMessage.SUCCESS;
     }
 
+    /**
+     * Register a batch of meta data.
+     * The selector is registered once per context path, the rules and the metadata are upserted in bulk.
+     *
+     * @param dtoList meta data register dto list.
+     * @return the string
+     */
+    @Override
+    public String registerBatch(final List<MetaDataRegisterDTO> dtoList) {
+        if (CollectionUtils.isEmpty(dtoList)) {
+            return ShenyuResultMessage.SUCCESS;
+        }
+        final String pluginName = PluginNameAdapter.rpcTypeAdapter(rpcType());
+        final Map<String, String> selectorIds = new HashMap<>();
+        final List<RuleDTO> ruleDTOList = new ArrayList<>(dtoList.size());
+        for (MetaDataRegisterDTO dto : dtoList) {
+            //handler plugin selector
+            String selectorName = ContextPathUtils.buildContextPath(dto.getContextPath(), dto.getAppName());
+            String selectorId = selectorIds.computeIfAbsent(selectorName, name -> selectorService.registerDefault(dto, pluginName, selectorHandler(dto)));
+            ruleDTOList.add(buildRpcDefaultRuleDTO(selectorId, dto, ruleHandler()));
+        }
+        //handler selector rule
+        ruleService.registerDefaultBatch(ruleDTOList);
+        //handler register metadata
+        registerMetadataBatch(dtoList);
+        //handler context path, only the first registration of a context path takes effect
+        dtoList.stream()
+                .filter(dto -> StringUtils.isNotEmpty(dto.getContextPath()))
+                .collect(Collectors.toMap(MetaDataRegisterDTO::getContextPath, Function.identity(), (dto1, dto2) -> dto1, LinkedHashMap::new))
+                .values()
+                .forEach(this::registerContextPath);
+        return ShenyuResultMessage.SUCCESS;
+    }
+
     @Override
     public String registerApiDoc(final ApiDocRegisterDTO apiDocRegisterDTO) {
         registerApiDocService.registerApiDocument(apiDocRegisterDTO);
@@ -55,6 +55,11 @@ public class ShenyuClientRegisterBrpcServiceImpl extends AbstractShenyuClientReg
         metaDataService.saveOrUpdateMetaData(exist, metaDataDTO);
     }
     
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList);
+    }
+    
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         return "";
@@ -80,6 +80,13 @@ public class ShenyuClientRegisterDivideServiceImpl extends AbstractContextPathRe
         }
     }
 
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList.stream()
+                .filter(MetaDataRegisterDTO::isRegisterMetaData)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         List<DivideUpstream> addList = buildDivideUpstreamList(uriList);
@@ -68,6 +68,11 @@ public class ShenyuClientRegisterDubboServiceImpl extends AbstractShenyuClientRe
         metaDataService.saveOrUpdateMetaData(exist, metaDataDTO);
     }
 
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList);
+    }
+
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         List<DubboUpstream> addList = buildDubboUpstreamList(uriList);
@@ -67,6 +67,11 @@ public class ShenyuClientRegisterGrpcServiceImpl extends AbstractShenyuClientReg
         metaDataService.saveOrUpdateMetaData(exist, metaDataDTO);
     }
 
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList);
+    }
+
     /**
      * Build handle string.
      *
@@ -55,6 +55,11 @@ public class ShenyuClientRegisterMotanServiceImpl extends AbstractShenyuClientRe
         metaDataService.saveOrUpdateMetaData(exist, metaDataDTO);
     }
     
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList);
+    }
+    
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         return "";
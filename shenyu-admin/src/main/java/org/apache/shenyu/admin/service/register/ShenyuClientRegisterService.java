@@ -43,6 +43,17 @@ public interface ShenyuClientRegisterService {
      * @return the string
      */
     String register(MetaDataRegisterDTO metaDataRegisterDTO);
+    
+    /**
+     * Register a batch of meta data.
+     *
+     * @param metaDataRegisterDTOList meta data register dto list.
+     * @return the string
+     */
+    default String registerBatch(final List<MetaDataRegisterDTO> metaDataRegisterDTOList) {
+        metaDataRegisterDTOList.forEach(this::register);
+        return Constants.SUCCESS;
+    }
 
     /**
      * registerApiDoc.
@@ -69,6 +69,11 @@ public class ShenyuClientRegisterSpringCloudServiceImpl extends AbstractContextP
         metaDataService.saveOrUpdateMetaData(metaDataDO, metaDataDTO);
     }
 
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList);
+    }
+
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         List<DivideUpstream> addList = buildDivideUpstreamList(uriList);
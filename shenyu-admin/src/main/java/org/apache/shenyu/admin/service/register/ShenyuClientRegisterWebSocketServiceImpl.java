@@ -63,6 +63,13 @@ public class ShenyuClientRegisterWebSocketServiceImpl extends AbstractContextPat
         }
     }
 
+    @Override
+    protected void registerMetadataBatch(final List<MetaDataRegisterDTO> metaDataDTOList) {
+        getMetaDataService().saveOrUpdateMetaDataBatch(metaDataDTOList.stream()
+                .filter(MetaDataRegisterDTO::isRegisterMetaData)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     protected String buildHandle(final List<URIRegisterDTO> uriList, final SelectorDO selectorDO) {
         String handleAdd;
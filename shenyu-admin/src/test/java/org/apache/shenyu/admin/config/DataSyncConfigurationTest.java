@@ -29,6 +29,7 @@ import org.apache.shenyu.admin.config.properties.ConsulProperties;
 import org.apache.shenyu.admin.config.properties.HttpSyncProperties;
 import org.apache.shenyu.admin.config.properties.NacosProperties;
 import org.apache.shenyu.admin.config.properties.PolarisProperties;
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.config.properties.ZookeeperProperties;
 import org.apache.shenyu.admin.listener.etcd.EtcdClient;
 import org.apache.shenyu.admin.service.DiscoveryService;
@@ -145,13 +146,13 @@ public final class DataSyncConfigurationTest extends AbstractConfigurationTest {
     @Test
     public void testWebsocketDataChangedListener() {
         DataSyncConfiguration.WebsocketListener websocketListener = new DataSyncConfiguration.WebsocketListener();
-        assertNotNull(websocketListener.websocketDataChangedListener());
+        assertNotNull(websocketListener.websocketDataChangedListener(new WebsocketSyncProperties()));
     }
 
     @Test
     public void testWebsocketCollector() {
         DataSyncConfiguration.WebsocketListener websocketListener = new DataSyncConfiguration.WebsocketListener();
-        assertNotNull(websocketListener.websocketCollector());
+        assertNotNull(websocketListener.websocketCollector(new WebsocketSyncProperties()));
     }
 
     @Test
@@ -20,6 +20,7 @@ package org.apache.shenyu.admin.controller;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -86,6 +87,26 @@ public final class ConfigControllerTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @Test
+    public void testFetchDelta() throws Exception {
+        final ConfigDeltaData<Object> deltaData = new ConfigDeltaData<>();
+        deltaData.setChanges(Collections.emptyList());
+        deltaData.setMd5("md5-value1").setRevision(2L);
+        doReturn(deltaData).when(mockLongPollingListener).fetchDelta(ConfigGroupEnum.RULE, 2L, "md5-value1");
+
+        final MockHttpServletResponse response = mockMvc.perform(get("/configs/delta")
+                .param("groupKeys", new String[]{ConfigGroupEnum.RULE.toString()})
+                .param(ConfigGroupEnum.RULE.name(), "2,md5-value1")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is(ShenyuResultMessage.SUCCESS)))
+                .andExpect(jsonPath("$.data['RULE'].revision", is(2)))
+                .andExpect(jsonPath("$.data['RULE'].snapshot", is(false)))
+                .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
     @Test
     public void testListener() throws Exception {
         // Run the test
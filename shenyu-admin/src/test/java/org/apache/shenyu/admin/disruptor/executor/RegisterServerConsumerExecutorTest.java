@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.disruptor.executor;
+
+import org.apache.shenyu.admin.disruptor.executor.RegisterServerConsumerExecutor.RegisterServerExecutorFactory;
+import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
+import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
+import org.apache.shenyu.register.common.subsriber.ExecutorTypeSubscriber;
+import org.apache.shenyu.register.common.type.DataType;
+import org.apache.shenyu.register.common.type.DataTypeParent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for {@link RegisterServerConsumerExecutor}.
+ */
+public final class RegisterServerConsumerExecutorTest {
+
+    private ExecutorTypeSubscriber<DataTypeParent> uriSubscriber;
+
+    private ExecutorTypeSubscriber<DataTypeParent> metadataSubscriber;
+
+    private RegisterServerExecutorFactory factory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        uriSubscriber = mock(ExecutorTypeSubscriber.class);
+        when(uriSubscriber.getType()).thenReturn(DataType.URI);
+        metadataSubscriber = mock(ExecutorTypeSubscriber.class);
+        when(metadataSubscriber.getType()).thenReturn(DataType.META_DATA);
+        factory = new RegisterServerExecutorFactory();
+        factory.addSubscribers(uriSubscriber).addSubscribers(metadataSubscriber);
+    }
+
+    @Test
+    public void testRunGroupsMixedBatchByType() {
+        URIRegisterDTO uri1 = URIRegisterDTO.builder().contextPath("/a").rpcType("http").build();
+        URIRegisterDTO uri2 = URIRegisterDTO.builder().contextPath("/b").rpcType("http").build();
+        MetaDataRegisterDTO metadata = MetaDataRegisterDTO.builder().appName("app").path("/a/test")
+                .ruleName("/a/test").rpcType("http").build();
+        URIRegisterDTO invalid = URIRegisterDTO.builder().rpcType("http").build();
+        Collection<DataTypeParent> merged = factory.merge(Arrays.asList(
+                Collections.singletonList(uri1),
+                Arrays.asList(metadata, invalid),
+                Collections.singletonList(uri2)));
+        assertEquals(4, merged.size());
+
+        QueueConsumerExecutor<Collection<DataTypeParent>> executor = factory.create();
+        executor.setData(merged);
+        executor.run();
+        // each subscriber receives its whole part of the batch in one call, invalid data is dropped
+        verify(uriSubscriber).executor(Arrays.asList(uri1, uri2));
+        verify(metadataSubscriber).executor(Collections.singletonList(metadata));
+    }
+
+    @Test
+    public void testRunSkipsWhenNothingValid() {
+        List<DataTypeParent> data = Collections.singletonList(URIRegisterDTO.builder().build());
+        QueueConsumerExecutor<Collection<DataTypeParent>> executor = factory.create();
+        executor.setData(data);
+        executor.run();
+        verify(uriSubscriber, never()).executor(any());
+        verify(metadataSubscriber, never()).executor(any());
+    }
+}
@@ -62,10 +62,11 @@ public class MetadataExecutorSubscriberTest {
         List<MetaDataRegisterDTO> list = new ArrayList<>();
         metadataExecutorSubscriber.executor(list);
         assertTrue(list.isEmpty());
-        list.add(MetaDataRegisterDTO.builder().appName("test").build());
+        list.add(MetaDataRegisterDTO.builder().appName("test").rpcType("http").build());
+        list.add(MetaDataRegisterDTO.builder().appName("test2").rpcType("http").build());
         ShenyuClientRegisterService service = mock(ShenyuClientRegisterService.class);
         when(shenyuClientRegisterService.get(any())).thenReturn(service);
         metadataExecutorSubscriber.executor(list);
-        verify(service).register(any());
+        verify(service).registerBatch(list);
     }
 }
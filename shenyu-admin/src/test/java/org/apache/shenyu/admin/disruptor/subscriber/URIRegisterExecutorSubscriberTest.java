@@ -21,9 +21,11 @@ import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.register.common.dto.URIRegisterDTO;
+import org.apache.shenyu.register.common.enums.EventType;
 import org.apache.shenyu.register.common.type.DataType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,13 +34,17 @@ import org.mockito.quality.Strictness;
     
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
     
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -74,6 +80,21 @@ public class URIRegisterExecutorSubscriberTest {
         verify(service).registerURI(any(), any());
     }
     
+    @Test
+    public void testExecutorKeepsArrivalOrder() {
+        URIRegisterDTO offline = URIRegisterDTO.builder().rpcType(RpcTypeEnum.HTTP.getName())
+                .appName("test").contextPath("/test").host("127.0.0.1").port(8080).eventType(EventType.OFFLINE).build();
+        URIRegisterDTO register = URIRegisterDTO.builder().rpcType(RpcTypeEnum.HTTP.getName())
+                .appName("test").contextPath("/test").host("127.0.0.1").port(8080).eventType(EventType.REGISTER).build();
+        ShenyuClientRegisterService service = mock(ShenyuClientRegisterService.class);
+        when(shenyuClientRegisterService.get(any())).thenReturn(service);
+        uriRegisterExecutorSubscriber.executor(Arrays.asList(offline, register));
+        InOrder inOrder = inOrder(service);
+        inOrder.verify(service).offline(eq("/test"), eq(Collections.singletonList(offline)));
+        inOrder.verify(service).registerURI(eq("/test"), eq(Collections.singletonList(register)));
+        inOrder.verifyNoMoreInteractions();
+    }
+    
     @Test
     public void testBuildData() {
         try {
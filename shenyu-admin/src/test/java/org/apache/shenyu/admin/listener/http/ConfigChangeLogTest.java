@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import org.apache.shenyu.common.dto.ConfigChangeData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The TestCase for {@link ConfigChangeLog}.
+ */
+public final class ConfigChangeLogTest {
+
+    private ConfigChangeLog changeLog;
+
+    private long base;
+
+    @BeforeEach
+    public void setUp() {
+        changeLog = new ConfigChangeLog(4);
+        changeLog.rebaseIfChanged(ConfigGroupEnum.RULE, "md5-0");
+        base = changeLog.revisionOf(ConfigGroupEnum.RULE, "md5-0");
+    }
+
+    @Test
+    public void testChangesSince() {
+        changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList("rule-1"), "md5-1");
+        changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.DELETE, Collections.singletonList("rule-2"), "md5-2");
+        List<ConfigChangeData<Object>> changes = changeLog.changesSince(ConfigGroupEnum.RULE, base, "md5-0", "md5-2");
+        assertEquals(2, changes.size());
+        assertEquals(base + 1, changes.get(0).getRevision());
+        assertEquals(DataEventTypeEnum.DELETE.name(), changes.get(1).getEventType());
+        assertEquals(Collections.singletonList("rule-2"), changes.get(1).getData());
+        assertEquals(1, changeLog.changesSince(ConfigGroupEnum.RULE, base + 1, "md5-1", "md5-2").size());
+        assertEquals(0, changeLog.changesSince(ConfigGroupEnum.RULE, base + 2, "md5-2", "md5-2").size());
+        assertEquals(base + 2, changeLog.revisionOf(ConfigGroupEnum.RULE, "md5-2"));
+    }
+
+    @Test
+    public void testSnapshotRequired() {
+        changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList("rule-1"), "md5-1");
+        // unknown md5, unknown revision and not recorded data
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, base, "other", "md5-1"));
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, 0L, null, "md5-1"));
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, base, "md5-0", "md5-9"));
+        assertEquals(0L, changeLog.revisionOf(ConfigGroupEnum.RULE, "md5-0"));
+    }
+
+    @Test
+    public void testOverrun() {
+        for (int i = 1; i <= 5; i++) {
+            changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList("rule-" + i), "md5-" + i);
+        }
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, base, "md5-0", "md5-5"));
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, base + 1, "md5-1", "md5-5"));
+        assertEquals(3, changeLog.changesSince(ConfigGroupEnum.RULE, base + 2, "md5-2", "md5-5").size());
+    }
+
+    @Test
+    public void testRefresh() {
+        changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList("rule-1"), "md5-1");
+        changeLog.record(ConfigGroupEnum.RULE, DataEventTypeEnum.REFRESH, Collections.singletonList("rule-1"), "md5-2");
+        assertNull(changeLog.changesSince(ConfigGroupEnum.RULE, base + 1, "md5-1", "md5-2"));
+        changeLog.rebaseIfChanged(ConfigGroupEnum.RULE, "md5-3");
+        assertEquals(base + 3, changeLog.revisionOf(ConfigGroupEnum.RULE, "md5-3"));
+        assertEquals(0, changeLog.changesSince(ConfigGroupEnum.RULE, base + 3, "md5-3", "md5-3").size());
+        changeLog.rebaseIfChanged(ConfigGroupEnum.RULE, "md5-3");
+        assertEquals(base + 3, changeLog.revisionOf(ConfigGroupEnum.RULE, "md5-3"));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener.LongPollingClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test case for {@link LongPollingClientRegistry}.
+ */
+public final class LongPollingClientRegistryTest {
+
+    @Test
+    public void testReleaseOnce() {
+        LongPollingClientRegistry registry = new LongPollingClientRegistry(1);
+        LongPollingClient client = mock(LongPollingClient.class);
+        registry.hold(client);
+        assertEquals(1, registry.size());
+        assertTrue(registry.release(client));
+        assertFalse(registry.release(client));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testReleaseAll() {
+        LongPollingClientRegistry registry = new LongPollingClientRegistry(1);
+        LongPollingClient first = mock(LongPollingClient.class);
+        LongPollingClient second = mock(LongPollingClient.class);
+        registry.hold(first);
+        registry.hold(second);
+        List<LongPollingClient> released = registry.releaseAll();
+        assertEquals(2, released.size());
+        assertFalse(registry.release(first));
+        assertTrue(registry.releaseAll().isEmpty());
+    }
+
+    @Test
+    public void testMetrics() {
+        LongPollingClientRegistry registry = new LongPollingClientRegistry(1);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+        registry.hold(mock(LongPollingClient.class));
+        assertEquals(1, meterRegistry.get("shenyu.admin.http.long.polling.clients").gauge().value());
+        registry.recordNotifyLatency(System.nanoTime());
+        assertEquals(1, meterRegistry.get("shenyu.admin.http.long.polling.notify").timer().count());
+    }
+}
@@ -37,14 +37,18 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
-import java.io.IOException;
-import java.util.Set;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -134,26 +138,30 @@ public final class WebsocketCollectorTest {
     }
 
     @Test
-    public void testSend() throws IOException {
-        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
-        when(session.getBasicRemote()).thenReturn(basic);
+    public void testSend() {
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(session.getAsyncRemote()).thenReturn(async);
+        doAnswer(invocation -> {
+            invocation.<SendHandler>getArgument(1).onResult(new SendResult());
+            return null;
+        }).when(async).sendText(anyString(), any(SendHandler.class));
         websocketCollector.onOpen(session);
         assertEquals(1L, getSessionSetSize());
         WebsocketCollector.send(null, DataEventTypeEnum.MYSELF);
-        verify(basic, times(0)).sendText(null);
+        verify(async, times(0)).sendText(eq(null), any(SendHandler.class));
         ThreadLocalUtils.put("sessionKey", session);
         WebsocketCollector.send("test_message_1", DataEventTypeEnum.MYSELF);
-        verify(basic, times(1)).sendText("test_message_1");
+        verify(async, times(1)).sendText(eq("test_message_1"), any(SendHandler.class));
         WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
-        verify(basic, times(1)).sendText("test_message_2");
+        verify(async, times(1)).sendText(eq("test_message_2"), any(SendHandler.class));
         doNothing().when(loggerSpy).warn(anyString(), anyString());
         websocketCollector.onClose(session);
         ThreadLocalUtils.remove("sessionKey");
     }
 
     private long getSessionSetSize() {
-        Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
-        return sessionSet == null ? -1 : sessionSet.size();
+        Map sessionMap = (Map) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_MAP");
+        return sessionMap == null ? -1 : sessionMap.size();
     }
 
     private Session getSession() {
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.AuthPathData;
 import org.apache.shenyu.common.dto.AuthParamData;
@@ -25,7 +26,10 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.WebsocketData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +37,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -156,6 +161,31 @@ public final class WebsocketDataChangedListenerTest {
         }
     }
 
+    /**
+     * test the adjacent changes of the same group and event type are coalesced.
+     */
+    @Test
+    public void testCoalesce() {
+        WebsocketSyncProperties websocketSyncProperties = new WebsocketSyncProperties();
+        websocketSyncProperties.setCoalesceWindow(Duration.ofMinutes(1));
+        WebsocketDataChangedListener listener = new WebsocketDataChangedListener(websocketSyncProperties);
+        List<PluginData> plugins = new ArrayList<>(pluginDataList);
+        plugins.addAll(pluginDataList);
+        String pluginMessage = GsonUtils.getInstance().toJson(new WebsocketData<>(ConfigGroupEnum.PLUGIN.name(), DataEventTypeEnum.UPDATE.name(), plugins));
+        String ruleMessage = GsonUtils.getInstance().toJson(new WebsocketData<>(ConfigGroupEnum.RULE.name(), DataEventTypeEnum.DELETE.name(), ruleDataList));
+        MockedStatic.Verification pluginVerification = () -> WebsocketCollector.send(pluginMessage, DataEventTypeEnum.UPDATE);
+        MockedStatic.Verification ruleVerification = () -> WebsocketCollector.send(ruleMessage, DataEventTypeEnum.DELETE);
+        try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
+            listener.onPluginChanged(pluginDataList, DataEventTypeEnum.UPDATE);
+            listener.onPluginChanged(pluginDataList, DataEventTypeEnum.UPDATE);
+            listener.onRuleChanged(ruleDataList, DataEventTypeEnum.DELETE);
+            mockedStatic.verifyNoInteractions();
+            listener.flush();
+            mockedStatic.verify(pluginVerification);
+            mockedStatic.verify(ruleVerification);
+        }
+    }
+
     private void initMetaDataList() {
         MetaData metaData = new MetaData();
         metaData.setAppName("axiba");
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import javax.annotation.Resource;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -103,6 +104,20 @@ public final class MetaDataMapperTest extends AbstractSpringIntegrationTest {
         assertThat(result.getId(), comparesEqualTo(metaDataDO.getId()));
     }
 
+    @Test
+    public void findByPathList() {
+        MetaDataDO metaDataDO = getMetaDataDO();
+        MetaDataDO metaDataDO2 = getMetaDataDO();
+        metaDataDO2.setId(UUIDUtils.getInstance().generateShortUuid());
+        metaDataDO2.setPath("testPath2");
+        int count = metaDataMapper.insertBatch(Arrays.asList(metaDataDO, metaDataDO2));
+        assertThat(count, comparesEqualTo(2));
+
+        List<MetaDataDO> resultList = metaDataMapper.findByPathList(Arrays.asList(metaDataDO.getPath(), metaDataDO2.getPath(), "notExist"));
+        assertThat(resultList, hasItems(metaDataDO2, metaDataDO));
+        assertThat(resultList.size(), comparesEqualTo(2));
+    }
+
     @Test
     public void findByServiceNameAndMethod() {
         MetaDataDO metaDataDO = getMetaDataDO();
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import javax.annotation.Resource;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -92,6 +93,15 @@ public final class RuleConditionMapperTest extends AbstractSpringIntegrationTest
         assertEquals(1, count);
     }
 
+    @Test
+    public void insertBatch() {
+        RuleConditionDO newRecord1 = buildRuleConditionDo();
+        RuleConditionDO newRecord2 = buildRuleConditionDo();
+        int count = ruleConditionMapper.insertBatch(Arrays.asList(newRecord1, newRecord2));
+        assertEquals(2, count);
+        assertNotNull(ruleConditionMapper.selectById(newRecord2.getId()));
+    }
+
     @Test
     public void insertSelective() {
         RuleConditionDO newRecord = buildRuleConditionDo();
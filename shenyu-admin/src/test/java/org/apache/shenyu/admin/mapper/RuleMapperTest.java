@@ -24,6 +24,7 @@ import org.apache.shenyu.common.utils.UUIDUtils;
 import org.junit.jupiter.api.Test;
 import javax.annotation.Resource;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import static org.hamcrest.Matchers.equalTo;
@@ -118,6 +119,19 @@ public final class RuleMapperTest extends AbstractSpringIntegrationTest {
         assertThat(delete, equalTo(1));
     }
 
+    @Test
+    public void insertBatch() {
+        RuleDO ruleDO = buildRuleDO();
+        RuleDO ruleDO2 = buildRuleDO();
+        ruleDO2.setId(UUIDUtils.getInstance().generateShortUuid());
+        int insert = ruleMapper.insertBatch(Arrays.asList(ruleDO, ruleDO2));
+        assertThat(insert, equalTo(2));
+        assertThat(ruleMapper.selectById(ruleDO2.getId()), equalTo(ruleDO2));
+
+        int delete = ruleMapper.deleteByIds(Arrays.asList(ruleDO.getId(), ruleDO2.getId()));
+        assertThat(delete, equalTo(2));
+    }
+
     @Test
     public void insertSelective() {
         RuleDO ruleDO = buildRuleDO();
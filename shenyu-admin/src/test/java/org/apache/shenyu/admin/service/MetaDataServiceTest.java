@@ -19,6 +19,7 @@ package org.apache.shenyu.admin.service;
 
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.listener.DataChangedEvent;
 import org.apache.shenyu.admin.mapper.MetaDataMapper;
 import org.apache.shenyu.admin.model.dto.MetaDataDTO;
 import org.apache.shenyu.admin.model.entity.MetaDataDO;
@@ -53,6 +54,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
@@ -109,6 +111,20 @@ public final class MetaDataServiceTest {
         testSaveOrUpdateMetaDataForUpdate();
     }
 
+    /**
+     * Test case for saveOrUpdateMetaDataBatch().
+     */
+    @Test
+    public void testSaveOrUpdateMetaDataBatch() {
+        MetaDataRegisterDTO exist = MetaDataRegisterDTO.builder().path("/exist").build();
+        MetaDataRegisterDTO created = MetaDataRegisterDTO.builder().path("/created").build();
+        when(metaDataMapper.findByPathList(any())).thenReturn(Collections.singletonList(MetaDataDO.builder().id("1").path("/exist").build()));
+        metaDataService.saveOrUpdateMetaDataBatch(Arrays.asList(exist, created, created));
+        verify(metaDataMapper).insertBatch(argThat(list -> list.size() == 1 && "/created".equals(list.get(0).getPath())));
+        verify(metaDataMapper).update(argThat(metaDataDO -> "1".equals(metaDataDO.getId())));
+        verify(eventPublisher, times(2)).publishEvent(any(DataChangedEvent.class));
+    }
+
     /**
      * Test case for createOrUpdate.<br>
      * Note that the following methods have dependencies before and after.
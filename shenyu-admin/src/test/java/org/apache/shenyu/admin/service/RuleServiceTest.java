@@ -68,8 +68,12 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -113,6 +117,20 @@ public final class RuleServiceTest {
         testRegisterUpdate();
     }
 
+    @Test
+    public void testRegisterDefaultBatch() {
+        RuleDTO exist = buildRuleDTO("");
+        exist.setName("exist");
+        RuleDTO created = buildRuleDTO("");
+        created.setName("created");
+        given(this.ruleMapper.findBySelectorIds(Collections.singletonList("456")))
+                .willReturn(Collections.singletonList(RuleDO.buildRuleDO(exist)));
+        this.ruleService.registerDefaultBatch(Arrays.asList(exist, created, created));
+        verify(this.ruleMapper).insertBatch(argThat(list -> list.size() == 1 && "created".equals(list.get(0).getName())));
+        verify(this.ruleConditionMapper).insertBatch(argThat(list -> list.size() == created.getRuleConditions().size()));
+        verify(this.ruleEventPublisher).onRegister(anyList(), anyMap());
+    }
+
     @Test
     public void testCreateOrUpdate() {
         publishEvent();
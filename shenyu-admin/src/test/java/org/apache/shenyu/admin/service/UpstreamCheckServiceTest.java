@@ -56,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 import static org.hamcrest.Matchers.is;
@@ -63,8 +64,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -154,10 +158,12 @@ public final class UpstreamCheckServiceTest {
                 .handle("[{\"upstreamHost\":\"localhost\",\"protocol\":\"http://\",\"localhost\":\"divide-upstream-60\",\"weight\":60}]")
                 .build();
         try (MockedStatic<UpstreamCheckUtils> mocked = mockStatic(UpstreamCheckUtils.class)) {
-            mocked.when(() -> UpstreamCheckUtils.checkUrl("ReachableUrl"))
-                    .thenReturn(true);
-            mocked.when(() -> UpstreamCheckUtils.checkUrl("ErrorUrl"))
-                    .thenReturn(false);
+            mocked.when(() -> UpstreamCheckUtils.checkUrlAsync(any(), any(), anyInt(), anyInt()))
+                    .thenReturn(CompletableFuture.completedFuture(false));
+            mocked.when(() -> UpstreamCheckUtils.checkUrlAsync(eq("ReachableUrl"), any(), anyInt(), anyInt()))
+                    .thenReturn(CompletableFuture.completedFuture(true));
+            mocked.when(() -> UpstreamCheckUtils.checkUrlAsync(eq("ErrorUrl"), any(), anyInt(), anyInt()))
+                    .thenReturn(CompletableFuture.completedFuture(false));
 
             zombieSet.clear();
             setupZombieSet();
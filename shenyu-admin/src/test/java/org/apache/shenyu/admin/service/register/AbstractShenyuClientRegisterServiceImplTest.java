@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -51,8 +52,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Test cases for AbstractShenyuClientRegisterServiceImpl.
@@ -105,6 +109,16 @@ public final class AbstractShenyuClientRegisterServiceImplTest {
         assertEquals(ShenyuResultMessage.SUCCESS, abstractShenyuClientRegisterService.register(dto));
     }
 
+    @Test
+    public void testRegisterBatch() {
+        MetaDataRegisterDTO dto1 = MetaDataRegisterDTO.builder().contextPath("/Context_Path").path("/Context_Path/a").ruleName("a").build();
+        MetaDataRegisterDTO dto2 = MetaDataRegisterDTO.builder().contextPath("/Context_Path").path("/Context_Path/b").ruleName("b").build();
+        when(selectorService.registerDefault(any(), any(), any())).thenReturn("SELECTOR_ID");
+        assertEquals(ShenyuResultMessage.SUCCESS, abstractShenyuClientRegisterService.registerBatch(Arrays.asList(dto1, dto2)));
+        verify(selectorService, times(1)).registerDefault(any(), any(), any());
+        verify(ruleService).registerDefaultBatch(argThat(list -> list.size() == 2));
+    }
+
     @Test
     public void testRegisterApiDoc() {
         ApiDocRegisterDTO apiDocRegisterDTO = ApiDocRegisterDTO.builder().build();
@@ -25,6 +25,7 @@ import java.io.Serializable;
 import java.util.AbstractMap;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * this cache is provided by caffeine, the cache has two implements including weak-key cache and strong-key cache.<br>
@@ -127,6 +128,18 @@ public class WindowTinyLFUMap<K, V> extends AbstractMap<K, V> implements Seriali
         return value;
     }
     
+    /**
+     * atomic compute, the mapping function is called at most once per absent key.
+     *
+     * @param key key
+     * @param mappingFunction the function to compute a value
+     * @return the current or the computed value
+     */
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        return cache.asMap().computeIfAbsent(key, mappingFunction);
+    }
+    
     @Override
     public void clear() {
         this.cache.invalidateAll();
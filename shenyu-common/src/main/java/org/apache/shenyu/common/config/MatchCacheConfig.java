@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * rule cache config.
+ */
+public class MatchCacheConfig {
+    
+    private Boolean enabled = Boolean.TRUE;
+
+    private int initialCapacity = 10000;
+    
+    private long maximumSize = 10000L;
+    
+    /**
+     * get rule cache enabled.
+     *
+     * @return rule cache enabled
+     */
+    public Boolean getEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * set rule cache enabled.
+     *
+     * @param enabled rule cache enabled
+     */
+    public void setEnabled(final Boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * get initial capacity.
+     *
+     * @return initial capacity
+     */
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+    
+    /**
+     * set initial capacity.
+     *
+     * @param initialCapacity initialCapacity
+     */
+    public void setInitialCapacity(final int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * get maximum size.
+     *
+     * @return rule cache maximumSize
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * set rule cache maximumSize.
+     *
+     * @param maximumSize rule cache maximumSize
+     */
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
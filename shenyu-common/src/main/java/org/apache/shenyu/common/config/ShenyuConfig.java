@@ -49,6 +49,8 @@ public class ShenyuConfig {
     private Scheduler scheduler = new Scheduler();
     
     private UpstreamCheck upstreamCheck = new UpstreamCheck();
+    
+    private LoadBalanceConfig loadBalance = new LoadBalanceConfig();
 
     private CrossFilterConfig cross = new CrossFilterConfig();
 
@@ -284,6 +286,24 @@ public class ShenyuConfig {
         this.upstreamCheck = upstreamCheck;
     }
     
+    /**
+     * Gets load balance.
+     *
+     * @return the load balance
+     */
+    public LoadBalanceConfig getLoadBalance() {
+        return loadBalance;
+    }
+    
+    /**
+     * Sets load balance.
+     *
+     * @param loadBalance the load balance
+     */
+    public void setLoadBalance(final LoadBalanceConfig loadBalance) {
+        this.loadBalance = loadBalance;
+    }
+    
     /**
      * Gets cross.
      *
@@ -559,6 +579,9 @@ public class ShenyuConfig {
          */
         private ShenyuTrieConfig trie = new ShenyuTrieConfig();
         
+        /** compile the selectors of each owner into an immutable decision table, used when the L1 cache misses. */
+        private Boolean compiled = Boolean.FALSE;
+        
 /**
          * get selector cache config.
          *
@@ -594,6 +617,24 @@ public class ShenyuConfig {
         public void setTrie(final ShenyuTrieConfig trie) {
             this.trie = trie;
         }
+        
+        /**
+         * get compiled matcher enabled.
+         *
+         * @return compiled matcher enabled
+         */
+        public Boolean getCompiled() {
+            return compiled;
+        }
+        
+        /**
+         * set compiled matcher enabled.
+         *
+         * @param compiled compiled matcher enabled
+         */
+        public void setCompiled(final Boolean compiled) {
+            this.compiled = compiled;
+        }
     }
     
     public static class RuleMatchCache {
@@ -608,6 +649,9 @@ public class ShenyuConfig {
          */
         private ShenyuTrieConfig trie = new ShenyuTrieConfig();
         
+        /** compile the rules of each owner into an immutable decision table, used when the L1 cache misses. */
+        private Boolean compiled = Boolean.FALSE;
+        
         /**
          * get selector cache config.
          *
@@ -643,71 +687,23 @@ public class ShenyuConfig {
         public void setTrie(final ShenyuTrieConfig trie) {
             this.trie = trie;
         }
-    }
-    
-    /**
-     * rule cache config.
-     */
-    public static class MatchCacheConfig {
-        
-        private Boolean enabled = Boolean.TRUE;
-
-        private int initialCapacity = 10000;
-        
-        private long maximumSize = 10000L;
-        
-        /**
-         * get rule cache enabled.
-         *
-         * @return rule cache enabled
-         */
-        public Boolean getEnabled() {
-            return enabled;
-        }
-        
-        /**
-         * set rule cache enabled.
-         *
-         * @param enabled rule cache enabled
-         */
-        public void setEnabled(final Boolean enabled) {
-            this.enabled = enabled;
-        }
         
         /**
-         * get initial capacity.
+         * get compiled matcher enabled.
          *
-         * @return initial capacity
+         * @return compiled matcher enabled
          */
-        public int getInitialCapacity() {
-            return initialCapacity;
+        public Boolean getCompiled() {
+            return compiled;
         }
         
         /**
-         * set initial capacity.
-         *
-         * @param initialCapacity initialCapacity
-         */
-        public void setInitialCapacity(final int initialCapacity) {
-            this.initialCapacity = initialCapacity;
-        }
-    
-        /**
-         * get maximum size.
+         * set compiled matcher enabled.
          *
-         * @return rule cache maximumSize
+         * @param compiled compiled matcher enabled
          */
-        public long getMaximumSize() {
-            return maximumSize;
-        }
-    
-        /**
-         * set rule cache maximumSize.
-         *
-         * @param maximumSize rule cache maximumSize
-         */
-        public void setMaximumSize(final long maximumSize) {
-            this.maximumSize = maximumSize;
+        public void setCompiled(final Boolean compiled) {
+            this.compiled = compiled;
         }
     }
     
@@ -941,172 +937,6 @@ public class ShenyuConfig {
         }
     }
     
-    /**
-     * The type Upstream check.
-     */
-    public static class UpstreamCheck {
-    
-        private boolean enabled;
-
-        private Integer poolSize = 10;
-        
-        private Integer timeout = 3000;
-        
-        private Integer healthyThreshold = 1;
-    
-        private Integer unhealthyThreshold = 1;
-        
-        private Integer interval = 5000;
-        
-        private boolean printEnabled;
-        
-        private Integer printInterval = 60000;
-    
-        /**
-         * Gets enabled.
-         *
-         * @return the enabled
-         */
-        public boolean getEnabled() {
-            return enabled;
-        }
-    
-        /**
-         * Sets enabled.
-         *
-         * @param enabled the enabled
-         */
-        public void setEnabled(final boolean enabled) {
-            this.enabled = enabled;
-        }
-
-        /**
-         * get checkThreadPoolSize.
-         *
-         * @return checkThreadPoolSize
-         */
-        public Integer getPoolSize() {
-            return poolSize;
-        }
-
-        /**
-         * set checkThreadPoolSize.
-         *
-         * @param poolSize checkThreadPoolSize
-         */
-        public void setPoolSize(final Integer poolSize) {
-            this.poolSize = poolSize;
-        }
-
-        /**
-         * Gets timeout.
-         *
-         * @return the timeout
-         */
-        public Integer getTimeout() {
-            return timeout;
-        }
-    
-        /**
-         * Sets timeout.
-         *
-         * @param timeout the timeout
-         */
-        public void setTimeout(final Integer timeout) {
-            this.timeout = timeout;
-        }
-    
-        /**
-         * Gets healthy threshold.
-         *
-         * @return the healthy threshold
-         */
-        public Integer getHealthyThreshold() {
-            return healthyThreshold;
-        }
-    
-        /**
-         * Sets healthy threshold.
-         *
-         * @param healthyThreshold the healthy threshold
-         */
-        public void setHealthyThreshold(final Integer healthyThreshold) {
-            this.healthyThreshold = healthyThreshold;
-        }
-    
-        /**
-         * Gets unhealthy threshold.
-         *
-         * @return the unhealthy threshold
-         */
-        public Integer getUnhealthyThreshold() {
-            return unhealthyThreshold;
-        }
-    
-        /**
-         * Sets unhealthy threshold.
-         *
-         * @param unhealthyThreshold the unhealthy threshold
-         */
-        public void setUnhealthyThreshold(final Integer unhealthyThreshold) {
-            this.unhealthyThreshold = unhealthyThreshold;
-        }
-    
-        /**
-         * Gets interval.
-         *
-         * @return the interval
-         */
-        public Integer getInterval() {
-            return interval;
-        }
-    
-        /**
-         * Sets interval.
-         *
-         * @param interval the interval
-         */
-        public void setInterval(final Integer interval) {
-            this.interval = interval;
-        }
-    
-        /**
-         * Gets print enabled.
-         *
-         * @return the print enabled
-         */
-        public boolean getPrintEnabled() {
-            return printEnabled;
-        }
-    
-        /**
-         * Sets print enabled.
-         *
-         * @param printEnabled the print enabled
-         */
-        public void setPrintEnabled(final boolean printEnabled) {
-            this.printEnabled = printEnabled;
-        }
-    
-        /**
-         * Gets print interval.
-         *
-         * @return the print interval
-         */
-        public Integer getPrintInterval() {
-            return printInterval;
-        }
-    
-        /**
-         * Sets print interval.
-         *
-         * @param printInterval the print interval
-         */
-        public void setPrintInterval(final Integer printInterval) {
-            this.printInterval = printInterval;
-        }
-    }
-    
     /**
      * The Cross Filter Config.
      */
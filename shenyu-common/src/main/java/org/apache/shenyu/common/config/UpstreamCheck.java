@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * The type Upstream check.
+ */
+public class UpstreamCheck {
+
+    private boolean enabled;
+
+    private Integer poolSize = 10;
+    
+    private Integer timeout = 3000;
+    
+    private Integer healthyThreshold = 1;
+
+    private Integer unhealthyThreshold = 1;
+    
+    private Integer interval = 5000;
+    
+    private boolean printEnabled;
+    
+    private Integer printInterval = 60000;
+
+    private String healthCheckPath;
+
+    /**
+     * Gets enabled.
+     *
+     * @return the enabled
+     */
+    public boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets enabled.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * get checkThreadPoolSize.
+     *
+     * @return checkThreadPoolSize
+     */
+    public Integer getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * set checkThreadPoolSize.
+     *
+     * @param poolSize checkThreadPoolSize
+     */
+    public void setPoolSize(final Integer poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets timeout.
+     *
+     * @return the timeout
+     */
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets timeout.
+     *
+     * @param timeout the timeout
+     */
+    public void setTimeout(final Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets healthy threshold.
+     *
+     * @return the healthy threshold
+     */
+    public Integer getHealthyThreshold() {
+        return healthyThreshold;
+    }
+
+    /**
+     * Sets healthy threshold.
+     *
+     * @param healthyThreshold the healthy threshold
+     */
+    public void setHealthyThreshold(final Integer healthyThreshold) {
+        this.healthyThreshold = healthyThreshold;
+    }
+
+    /**
+     * Gets unhealthy threshold.
+     *
+     * @return the unhealthy threshold
+     */
+    public Integer getUnhealthyThreshold() {
+        return unhealthyThreshold;
+    }
+
+    /**
+     * Sets unhealthy threshold.
+     *
+     * @param unhealthyThreshold the unhealthy threshold
+     */
+    public void setUnhealthyThreshold(final Integer unhealthyThreshold) {
+        this.unhealthyThreshold = unhealthyThreshold;
+    }
+
+    /**
+     * Gets interval.
+     *
+     * @return the interval
+     */
+    public Integer getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets interval.
+     *
+     * @param interval the interval
+     */
+    public void setInterval(final Integer interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Gets print enabled.
+     *
+     * @return the print enabled
+     */
+    public boolean getPrintEnabled() {
+        return printEnabled;
+    }
+
+    /**
+     * Sets print enabled.
+     *
+     * @param printEnabled the print enabled
+     */
+    public void setPrintEnabled(final boolean printEnabled) {
+        this.printEnabled = printEnabled;
+    }
+
+    /**
+     * Gets print interval.
+     *
+     * @return the print interval
+     */
+    public Integer getPrintInterval() {
+        return printInterval;
+    }
+
+    /**
+     * Sets print interval.
+     *
+     * @param printInterval the print interval
+     */
+    public void setPrintInterval(final Integer printInterval) {
+        this.printInterval = printInterval;
+    }
+
+    /**
+     * Gets the path of the http health check, blank for a tcp connect.
+     *
+     * @return the health check path
+     */
+    public String getHealthCheckPath() {
+        return healthCheckPath;
+    }
+
+    /**
+     * Sets the path of the http health check, blank for a tcp connect.
+     *
+     * @param healthCheckPath the health check path
+     */
+    public void setHealthCheckPath(final String healthCheckPath) {
+        this.healthCheckPath = healthCheckPath;
+    }
+}
@@ -47,6 +47,16 @@ public interface Constants {
      */
     String META_DATA = "metaData";
     
+    /**
+     * The constant PARAMETER_DATA_CONTEXT.
+     */
+    String PARAMETER_DATA_CONTEXT = "parameterDataContext";
+    
+    /**
+     * The constant MATCH_ROUTE.
+     */
+    String MATCH_ROUTE = "matchRoute";
+    
     /**
      * The constant CLIENT_RESPONSE_ATTR.
      */
@@ -652,6 +662,11 @@ public interface Constants {
      */
     String SHENYU_ADMIN_PATH_CONFIGS_FETCH = "/configs/fetch";
     
+    /**
+     * shenyu admin path configs delta.
+     */
+    String SHENYU_ADMIN_PATH_CONFIGS_DELTA = "/configs/delta";
+    
     /**
      * shenyu admin path configs listener.
      */
@@ -667,6 +682,16 @@ public interface Constants {
      */
     String ZOMBIE_REMOVAL_TIMES_VALUE = "60";
     
+    /**
+     * the path of the http upstream health check, a tcp connect is used when it is blank.
+     */
+    String HEALTH_CHECK_PATH = "healthCheckPath";
+    
+    /**
+     * the wait strategy of the register consumer: blocking, yielding, busy-spin or timeout-blocking.
+     */
+    String WAIT_STRATEGY = "waitStrategy";
+    
     /**
      * shared thread pool type.
      */
@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.Objects;
 
 /**
@@ -46,6 +48,11 @@ public class ConditionData {
      */
     private String paramValue;
 
+    /**
+     * param value compiled by the predicate judge, never serialized and reset when the condition changes.
+     */
+    private transient volatile Object compiledParamValue;
+
     /**
      * get paramType.
      *
@@ -62,6 +69,7 @@ public class ConditionData {
      */
     public void setParamType(final String paramType) {
         this.paramType = paramType;
+        this.compiledParamValue = null;
     }
 
     /**
@@ -80,6 +88,7 @@ public class ConditionData {
      */
     public void setOperator(final String operator) {
         this.operator = operator;
+        this.compiledParamValue = null;
     }
 
     /**
@@ -116,6 +125,26 @@ public class ConditionData {
      */
     public void setParamValue(final String paramValue) {
         this.paramValue = paramValue;
+        this.compiledParamValue = null;
+    }
+
+    /**
+     * get compiledParamValue.
+     *
+     * @return compiledParamValue
+     */
+    @JsonIgnore
+    public Object getCompiledParamValue() {
+        return compiledParamValue;
+    }
+
+    /**
+     * set compiledParamValue.
+     *
+     * @param compiledParamValue compiledParamValue
+     */
+    public void setCompiledParamValue(final Object compiledParamValue) {
+        this.compiledParamValue = compiledParamValue;
     }
 
     @Override
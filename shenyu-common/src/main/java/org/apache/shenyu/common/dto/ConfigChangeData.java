@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto;
+
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One change of a config group, the data of a create, update or delete event.
+ */
+public class ConfigChangeData<T> {
+
+    private long revision;
+
+    private String eventType;
+
+    private List<T> data;
+
+    /**
+     * no args constructor.
+     */
+    public ConfigChangeData() {
+    }
+
+    /**
+     * all args constructor.
+     *
+     * @param revision  revision
+     * @param eventType eventType
+     * @param data      data
+     */
+    public ConfigChangeData(final long revision, final String eventType, final List<T> data) {
+        this.revision = revision;
+        this.eventType = eventType;
+        this.data = data;
+    }
+
+    /**
+     * get revision.
+     *
+     * @return revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * set revision.
+     *
+     * @param revision revision
+     */
+    public void setRevision(final long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * get eventType.
+     *
+     * @return eventType
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * set eventType.
+     *
+     * @param eventType eventType
+     */
+    public void setEventType(final String eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * get data.
+     *
+     * @return data
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    /**
+     * set data.
+     *
+     * @param data data
+     */
+    public void setData(final List<T> data) {
+        this.data = data;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConfigChangeData<?> that = (ConfigChangeData<?>) o;
+        return revision == that.revision && Objects.equals(eventType, that.eventType) && Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(revision, eventType, data);
+    }
+
+    @Override
+    public String toString() {
+        return GsonUtils.getInstance().toJson(this);
+    }
+}
@@ -33,6 +33,8 @@ public class ConfigData<T> {
 
     private long lastModifyTime;
 
+    private long revision;
+
     private List<T> data;
 
     /**
@@ -94,6 +96,26 @@ public class ConfigData<T> {
         return this;
     }
 
+    /**
+     * get revision.
+     *
+     * @return revision, 0 if the version is unknown
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * set revision.
+     *
+     * @param revision revision
+     * @return this
+     */
+    public ConfigData<T> setRevision(final long revision) {
+        this.revision = revision;
+        return this;
+    }
+
     /**
      * get data.
      *
@@ -123,12 +145,13 @@ public class ConfigData<T> {
             return false;
         }
         ConfigData<?> that = (ConfigData<?>) o;
-        return lastModifyTime == that.lastModifyTime && Objects.equals(md5, that.md5) && Objects.equals(data, that.data);
+        return lastModifyTime == that.lastModifyTime && revision == that.revision
+                && Objects.equals(md5, that.md5) && Objects.equals(data, that.data);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(md5, lastModifyTime, data);
+        return Objects.hash(md5, lastModifyTime, revision, data);
     }
 
     @Override
@@ -41,6 +41,8 @@ public class DubboRegisterConfig implements Serializable {
 
     private Integer queues;
 
+    private Boolean referenceFailFast;
+
     /**
      * get register.
      *
@@ -167,6 +169,24 @@ public class DubboRegisterConfig implements Serializable {
         this.queues = queues;
     }
 
+    /**
+     * get reference fail fast, whether a request fails at once instead of waiting for its reference to warm up.
+     *
+     * @return reference fail fast
+     */
+    public Boolean getReferenceFailFast() {
+        return referenceFailFast;
+    }
+
+    /**
+     * set reference fail fast.
+     *
+     * @param referenceFailFast reference fail fast
+     */
+    public void setReferenceFailFast(final Boolean referenceFailFast) {
+        this.referenceFailFast = referenceFailFast;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -178,12 +198,12 @@ public class DubboRegisterConfig implements Serializable {
         DubboRegisterConfig that = (DubboRegisterConfig) o;
         return Objects.equals(register, that.register) && Objects.equals(group, that.group) && Objects.equals(protocol, that.protocol)
                 && Objects.equals(threadpool, that.threadpool) && Objects.equals(corethreads, that.corethreads) && Objects.equals(threads, that.threads)
-                && Objects.equals(queues, that.queues);
+                && Objects.equals(queues, that.queues) && Objects.equals(referenceFailFast, that.referenceFailFast);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(register, group, protocol, threadpool, corethreads, threads, queues);
+        return Objects.hash(register, group, protocol, threadpool, corethreads, threads, queues, referenceFailFast);
     }
 
     @Override
@@ -210,6 +230,9 @@ public class DubboRegisterConfig implements Serializable {
                 + ", queues='"
                 + queues
                 + '\''
+                + ", referenceFailFast='"
+                + referenceFailFast
+                + '\''
                 + '}';
     }
 }
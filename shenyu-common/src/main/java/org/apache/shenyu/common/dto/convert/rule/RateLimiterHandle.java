@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.common.dto.convert.rule;
 
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
+
 import java.util.Objects;
 
 /**
@@ -53,6 +55,16 @@ public class RateLimiterHandle {
      * key resolver name.
      */
     private String keyResolverName;
+
+    /**
+     * limit mode, redis, local or hybrid.
+     */
+    private String limitMode = RateLimiterModeEnum.REDIS.getName();
+
+    /**
+     * the resolved limit mode, not serialized.
+     */
+    private transient RateLimiterModeEnum limitModeEnum;
     
     /**
      * New default instance rate limiter handle.
@@ -177,6 +189,39 @@ public class RateLimiterHandle {
         this.keyResolverName = keyResolverName;
     }
 
+    /**
+     * get limitMode.
+     *
+     * @return limitMode limit mode
+     */
+    public String getLimitMode() {
+        return limitMode;
+    }
+    
+    /**
+     * set limitMode.
+     *
+     * @param limitMode limitMode
+     */
+    public void setLimitMode(final String limitMode) {
+        this.limitMode = limitMode;
+        this.limitModeEnum = null;
+    }
+
+    /**
+     * resolve the limit mode, once per handle.
+     *
+     * @return the limit mode enum
+     */
+    public RateLimiterModeEnum resolveLimitMode() {
+        RateLimiterModeEnum mode = limitModeEnum;
+        if (Objects.isNull(mode)) {
+            mode = RateLimiterModeEnum.acquireByName(limitMode);
+            limitModeEnum = mode;
+        }
+        return mode;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -188,12 +233,13 @@ public class RateLimiterHandle {
         RateLimiterHandle that = (RateLimiterHandle) o;
         return Double.compare(that.replenishRate, replenishRate) == 0 && Double.compare(that.burstCapacity, burstCapacity) == 0
                 && Double.compare(that.requestCount, requestCount) == 0 && loged == that.loged
-                && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName);
+                && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName)
+                && Objects.equals(limitMode, that.limitMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName);
+        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName, limitMode);
     }
 
     @Override
@@ -213,6 +259,9 @@ public class RateLimiterHandle {
                 + ", keyResolverName='"
                 + keyResolverName
                 + '\''
+                + ", limitMode='"
+                + limitMode
+                + '\''
                 + '}';
     }
 }
@@ -24,10 +24,30 @@ import org.apache.shenyu.common.dto.convert.rule.RuleHandle;
  */
 public class CacheRuleHandle implements RuleHandle {
 
+    /**
+     * the default max body bytes of a cached response, 1MB.
+     */
+    public static final long DEFAULT_MAX_BODY_BYTES = 1024L * 1024;
+
     /**
      * the cache timeout seconds.
      */
     private Long timeoutSeconds = 60L;
+
+    /**
+     * how long the concurrent misses of the same key wait for the single upstream call, 0 disables single flight.
+     */
+    private Long singleFlightTimeoutMillis = 0L;
+
+    /**
+     * how long an expired response can still be served while it is refreshed, 0 disables stale while revalidate.
+     */
+    private Long staleSeconds = 0L;
+
+    /**
+     * the max body bytes of a cached response, larger responses pass through uncached, 0 disables the limit.
+     */
+    private Long maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
     
     /**
      * Get the timeout seconds.
@@ -47,6 +67,60 @@ public class CacheRuleHandle implements RuleHandle {
         this.timeoutSeconds = timeoutSeconds;
     }
     
+    /**
+     * Get the single flight timeout millis.
+     *
+     * @return the single flight timeout millis
+     */
+    public Long getSingleFlightTimeoutMillis() {
+        return singleFlightTimeoutMillis;
+    }
+    
+    /**
+     * Set the single flight timeout millis.
+     *
+     * @param singleFlightTimeoutMillis the single flight timeout millis
+     */
+    public void setSingleFlightTimeoutMillis(final Long singleFlightTimeoutMillis) {
+        this.singleFlightTimeoutMillis = singleFlightTimeoutMillis;
+    }
+    
+    /**
+     * Get the stale seconds.
+     *
+     * @return the stale seconds
+     */
+    public Long getStaleSeconds() {
+        return staleSeconds;
+    }
+    
+    /**
+     * Set the stale seconds.
+     *
+     * @param staleSeconds the stale seconds
+     */
+    public void setStaleSeconds(final Long staleSeconds) {
+        this.staleSeconds = staleSeconds;
+    }
+    
+    /**
+     * Get the max body bytes.
+     *
+     * @return the max body bytes
+     */
+    public Long getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+    
+    /**
+     * Set the max body bytes.
+     *
+     * @param maxBodyBytes the max body bytes
+     */
+    public void setMaxBodyBytes(final Long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+    
     /**
      * New instance cache rule handle.
      *
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.enums;
+
+import java.util.Arrays;
+
+/**
+ * The enum Rate limiter mode enum.
+ */
+public enum RateLimiterModeEnum {
+
+    /**
+     * every request is judged by the redis script.
+     */
+    REDIS("redis"),
+
+    /**
+     * every request is judged in the gateway node, the limit is per node.
+     */
+    LOCAL("local"),
+
+    /**
+     * the gateway node leases batches of tokens from redis and spends them locally.
+     */
+    HYBRID("hybrid");
+
+    /**
+     * Rate limiter mode name.
+     */
+    private final String name;
+
+    /**
+     * all args constructor.
+     *
+     * @param name name
+     */
+    RateLimiterModeEnum(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * get name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Acquire by name rate limiter mode enum.
+     *
+     * @param name rate limiter mode name
+     * @return RateLimiterModeEnum
+     */
+    public static RateLimiterModeEnum acquireByName(final String name) {
+        return Arrays.stream(RateLimiterModeEnum.values())
+                .filter(e -> e.getName().equals(name)).findFirst()
+                .orElse(RateLimiterModeEnum.REDIS);
+    }
+}
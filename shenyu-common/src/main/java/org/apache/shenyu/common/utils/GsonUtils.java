@@ -159,6 +159,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
 
+    /**
+     * From json array, like {@link #fromList(String, Class)} without serializing the parsed json array again.
+     *
+     * @param <T>   the type parameter
+     * @param jsonArray the json array
+     * @param clazz the clazz
+     * @return the list
+     */
+    public <T> List<T> fromJsonArray(final JsonArray jsonArray, final Class<T> clazz) {
+        return GSON.fromJson(jsonArray, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+
     /**
      * From current list.
      *
@@ -273,9 +285,22 @@ public class GsonUtils {
      * @return the map
      */
     public Map<String, Object> convertToMap(final String json) {
-        Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
-        }.getType());
+        return convertValues(GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
+        }.getType()));
+    }
 
+    /**
+     * Convert json object to map, like {@link #convertToMap(String)} without serializing the parsed json object again.
+     *
+     * @param jsonObject the json object
+     * @return the map
+     */
+    public Map<String, Object> convertJsonObjectToMap(final JsonObject jsonObject) {
+        return convertValues(GSON_MAP.fromJson(jsonObject, new TypeToken<Map<String, Object>>() {
+        }.getType()));
+    }
+
+    private Map<String, Object> convertValues(final Map<String, Object> map) {
         if (MapUtils.isEmpty(map)) {
             return map;
         }
@@ -290,7 +315,7 @@ public class GsonUtils {
                     map.put(key, mv);
                 }
             } else if (value instanceof JsonObject) {
-                map.put(key, convertToMap(value.toString()));
+                map.put(key, convertJsonObjectToMap((JsonObject) value));
             } else if (value instanceof JsonArray) {
                 JsonArray jsonArray = (JsonArray) value;
                 map.put(key, jsonArrayToListInConvertToMap(jsonArray));
@@ -315,13 +340,11 @@ public class GsonUtils {
                 list.add(null);
                 continue;
             }
-            String objStr;
             if (jsonElement instanceof JsonObject) {
-                JsonObject asJsonObject = jsonElement.getAsJsonObject();
-                objStr = toJson(asJsonObject);
-            } else {
-                objStr = jsonElement.getAsString();
+                list.add(convertJsonObjectToMap(jsonElement.getAsJsonObject()));
+                continue;
             }
+            String objStr = jsonElement.getAsString();
             if (objStr.startsWith(LEFT_ANGLE_BRACKETS) && objStr.endsWith(RIGHT_ANGLE_BRACKETS)) {
                 list.add(convertToMap(jsonElement.toString()));
             } else {
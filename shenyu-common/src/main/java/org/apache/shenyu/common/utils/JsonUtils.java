@@ -37,6 +37,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -92,6 +94,32 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * To utf-8 encoded json bytes, without an intermediate string.
+     *
+     * @param object the object
+     * @return the json bytes
+     */
+    public static byte[] toJsonBytes(final Object object) {
+        try {
+            return MAPPER.writeValueAsBytes(object);
+        } catch (IOException e) {
+            LOG.warn("write to json bytes error: " + object, e);
+            return Constants.EMPTY_JSON.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Write the object as utf-8 encoded json straight into the output stream.
+     *
+     * @param outputStream the output stream
+     * @param object the object
+     * @throws IOException if the object can not be serialized or written
+     */
+    public static void writeJson(final OutputStream outputStream, final Object object) throws IOException {
+        MAPPER.writeValue(outputStream, object);
+    }
+
     /**
      * Object to Map.
      *
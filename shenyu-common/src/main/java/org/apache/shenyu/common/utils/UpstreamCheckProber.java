@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking upstream prober backed by a shared netty event loop.
+ * A probe is a plain TCP connect, or a {@code GET} of the given path when one is present.
+ */
+final class UpstreamCheckProber {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamCheckProber.class);
+
+    private static final int EVENT_LOOP_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final EventLoopGroup EVENT_LOOP_GROUP = new NioEventLoopGroup(EVENT_LOOP_THREADS,
+            ShenyuThreadFactory.create("upstream-check-probe", true));
+
+    /**
+     * resolve host names on the event loop as well, {@link java.net.InetAddress} lookups would block it.
+     */
+    private static final AddressResolverGroup<InetSocketAddress> RESOLVER_GROUP = new DnsAddressResolverGroup(
+            NioDatagramChannel.class, DnsServerAddressStreamProviders.platformDefault());
+
+    private UpstreamCheckProber() {
+    }
+
+    /**
+     * Probe the upstream after a random delay in {@code [0, jitter)} milliseconds.
+     *
+     * @param host    the host
+     * @param port    the port
+     * @param path    the http path to request, or null for a tcp connect check
+     * @param https   whether to request the path over tls
+     * @param timeout the timeout of the whole probe in milliseconds
+     * @param jitter  the upper bound of the random start delay in milliseconds
+     * @return future completed with true when the upstream is reachable, it never completes exceptionally
+     */
+    static CompletableFuture<Boolean> probe(final String host, final int port, final String path,
+                                            final boolean https, final int timeout, final int jitter) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final EventLoop eventLoop = EVENT_LOOP_GROUP.next();
+        final long delay = jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0L;
+        eventLoop.schedule(() -> connect(eventLoop, host, port, path, https, timeout, result), delay, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    private static void connect(final EventLoop eventLoop, final String host, final int port, final String path,
+                                final boolean https, final int timeout, final CompletableFuture<Boolean> result) {
+        final boolean httpCheck = Objects.nonNull(path);
+        final ChannelFuture connectFuture;
+        try {
+            connectFuture = new Bootstrap()
+                    .group(eventLoop)
+                    .channel(NioSocketChannel.class)
+                    .resolver(RESOLVER_GROUP)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
+                    .handler(httpCheck ? new HttpCheckInitializer(host, port, https, result) : new ChannelInboundHandlerAdapter())
+                    .connect(host, port);
+        } catch (Exception e) {
+            LOG.error("upstream probe is error. host:{} port:{} timeout:{}", host, port, timeout, e);
+            result.complete(false);
+            return;
+        }
+        final Channel channel = connectFuture.channel();
+        final ScheduledFuture<?> deadline = eventLoop.schedule(() -> {
+            if (result.complete(false)) {
+                LOG.error("upstream probe is timeout. host:{} port:{} timeout:{}", host, port, timeout);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        result.whenComplete((pass, throwable) -> {
+            deadline.cancel(false);
+            channel.close();
+        });
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                if (!result.isDone()) {
+                    LOG.error("upstream probe connect is error. host:{} port:{} timeout:{}", host, port, timeout, future.cause());
+                }
+                result.complete(false);
+            } else if (!httpCheck) {
+                result.complete(true);
+            } else {
+                channel.writeAndFlush(buildRequest(host, port, path)).addListener(write -> {
+                    if (!write.isSuccess()) {
+                        result.complete(false);
+                    }
+                });
+            }
+        });
+    }
+
+    private static FullHttpRequest buildRequest(final String host, final int port, final String path) {
+        final FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, path);
+        request.headers().set(HttpHeaderNames.HOST, host + ":" + port);
+        request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        return request;
+    }
+
+    private static final class HttpCheckInitializer extends ChannelInitializer<SocketChannel> {
+
+        private final String host;
+
+        private final int port;
+
+        private final boolean https;
+
+        private final CompletableFuture<Boolean> result;
+
+        HttpCheckInitializer(final String host, final int port, final boolean https, final CompletableFuture<Boolean> result) {
+            this.host = host;
+            this.port = port;
+            this.https = https;
+            this.result = result;
+        }
+
+        @Override
+        protected void initChannel(final SocketChannel channel) {
+            if (https) {
+                channel.pipeline().addLast(SslContextHolder.SSL_CONTEXT.newHandler(channel.alloc(), host, port));
+            }
+            channel.pipeline().addLast(new HttpClientCodec(), new HttpCheckHandler(result));
+        }
+    }
+
+    private static final class HttpCheckHandler extends SimpleChannelInboundHandler<HttpObject> {
+
+        private final CompletableFuture<Boolean> result;
+
+        HttpCheckHandler(final CompletableFuture<Boolean> result) {
+            this.result = result;
+        }
+
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final HttpObject msg) {
+            if (msg instanceof HttpResponse) {
+                // 2xx and 3xx mean the upstream is serving, anything else is treated as unhealthy
+                final int code = ((HttpResponse) msg).status().code();
+                result.complete(code >= 200 && code < 400);
+            }
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) {
+            result.complete(false);
+        }
+
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            if (result.complete(false)) {
+                LOG.error("upstream probe request is error. channel:{}", ctx.channel(), cause);
+            }
+            ctx.close();
+        }
+    }
+
+    /**
+     * health probes only care whether the upstream answers, so the certificate is not verified.
+     */
+    private static final class SslContextHolder {
+
+        private static final SslContext SSL_CONTEXT = build();
+
+        private static SslContext build() {
+            try {
+                return SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+            } catch (SSLException e) {
+                throw new ShenyuException(e);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The type Uri utils.
@@ -74,6 +75,62 @@ public class UpstreamCheckUtils {
         return isHostConnector(hostPort[0].trim(), port, timeout);
     }
 
+    /**
+     * Check url without blocking the caller.
+     *
+     * @param url     the url
+     * @param timeout timeout
+     * @return the future of check result
+     * @see #checkUrlAsync(String, int, int)
+     */
+    public static CompletableFuture<Boolean> checkUrlAsync(final String url, final int timeout) {
+        return checkUrlAsync(url, timeout, 0);
+    }
+
+    /**
+     * Check url without blocking the caller by a tcp connect, the probe runs on a shared netty event loop.
+     *
+     * @param url     the url
+     * @param timeout timeout of the probe in milliseconds
+     * @param jitter  the upper bound of a random start delay in milliseconds, which staggers probes of one round
+     * @return the future of check result, it never completes exceptionally
+     * @see #checkUrlAsync(String, String, int, int)
+     */
+    public static CompletableFuture<Boolean> checkUrlAsync(final String url, final int timeout, final int jitter) {
+        return checkUrlAsync(url, null, timeout, jitter);
+    }
+
+    /**
+     * Check url without blocking the caller, the probe runs on a shared netty event loop.
+     * Without a health check path the upstream is checked by a tcp connect. With a health check path
+     * it is checked by a {@code GET} of that path on the upstream host, which passes on a 2xx or 3xx status.
+     * The path of the url itself is never requested, it is where the requests are forwarded to.
+     *
+     * @param url             the url
+     * @param healthCheckPath the path of the http health check, blank for a tcp connect
+     * @param timeout         timeout of the probe in milliseconds
+     * @param jitter          the upper bound of a random start delay in milliseconds, which staggers probes of one round
+     * @return the future of check result, it never completes exceptionally
+     */
+    public static CompletableFuture<Boolean> checkUrlAsync(final String url, final String healthCheckPath, final int timeout, final int jitter) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final boolean isHttps = url.startsWith(HTTPS);
+        final boolean isHttp = isHttps || url.startsWith(HTTP);
+        final String address = isHttp ? url.substring(isHttps ? HTTPS.length() : HTTP.length()) : url;
+        final int pathIndex = address.indexOf('/');
+        final String path = StringUtils.isBlank(healthCheckPath) ? null : StringUtils.prependIfMissing(healthCheckPath.trim(), "/");
+        final String[] hostPort = StringUtils.split(pathIndex >= 0 ? address.substring(0, pathIndex) : address, Constants.COLONS);
+        try {
+            final int port = hostPort.length > 1 ? Integer.parseInt(hostPort[1].trim()) : isHttps ? 443 : 80;
+            return UpstreamCheckProber.probe(hostPort[0].trim(), port, path, isHttps, timeout, jitter);
+        } catch (Exception e) {
+            LOG.error("upstream check is error. url:{}", url, e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
     private static boolean isHostConnector(final String host, final int port, final int timeout) {
         try (Socket socket = new Socket()) {
             socket.connect(new InetSocketAddress(host, port), timeout);
@@ -21,6 +21,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * WindowTinyLFUMapTest.
@@ -51,4 +55,33 @@ public class WindowTinyLFUMapTest {
         Assert.assertEquals(map.get(key1), map.get(key2));
         Assert.assertEquals(1, map.size());
     }
+    
+    @Test
+    public void computeIfAbsentOnce() throws InterruptedException {
+        Map<String, Object> map = new WindowTinyLFUMap<>(100, 100, Boolean.FALSE);
+        AtomicInteger computed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Object> values = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                values.add(map.computeIfAbsent("abc", key -> {
+                    computed.incrementAndGet();
+                    return new Object();
+                }));
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1, computed.get());
+        Assert.assertEquals(1, values.size());
+    }
 }
@@ -60,7 +60,7 @@ public class ShenyuConfigTest {
         ShenyuConfig.Scheduler scheduler = config.getScheduler();
         ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
         ShenyuConfig.WebsocketConfig websocket = config.getWebsocket();
-        ShenyuConfig.UpstreamCheck upstreamCheck = config.getUpstreamCheck();
+        UpstreamCheck upstreamCheck = config.getUpstreamCheck();
 
         notEmptyElements(cross, switchConfig, exclude, fallback, file,
                 extPlugin, local, ribbon, metrics, scheduler, sharedPool, websocket, upstreamCheck);
@@ -78,7 +78,7 @@ public class ShenyuConfigTest {
 
     @Test
     public void testUpstreamCheck() {
-        ShenyuConfig.UpstreamCheck upstreamCheck = config.getUpstreamCheck();
+        UpstreamCheck upstreamCheck = config.getUpstreamCheck();
         upstreamCheck.setEnabled(false);
         upstreamCheck.setPoolSize(10);
         upstreamCheck.setHealthyThreshold(4);
@@ -92,6 +92,14 @@ public class ShenyuConfigTest {
                 upstreamCheck.getInterval(), upstreamCheck.getUnhealthyThreshold(), upstreamCheck.getPrintInterval(), upstreamCheck.getPrintEnabled());
     }
 
+    @Test
+    public void testLoadBalance() {
+        LoadBalanceConfig loadBalance = config.getLoadBalance();
+        assertEquals(5, loadBalance.getHashVirtualNodes());
+        loadBalance.setHashVirtualNodes(160);
+        assertEquals(160, loadBalance.getHashVirtualNodes());
+    }
+
     @Test
     public void testWebsocketConfig() {
         ShenyuConfig.WebsocketConfig websocket = config.getWebsocket();
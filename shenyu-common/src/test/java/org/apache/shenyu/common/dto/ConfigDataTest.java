@@ -52,6 +52,8 @@ public class ConfigDataTest {
         assertEquals(configData.getData(), Collections.emptyList());
         assertEquals(configData.getMd5(), MD5);
         assertEquals(configData.getLastModifyTime(), LAST_MODIFY_TIME);
+        configData.setRevision(1L);
+        assertEquals(configData.getRevision(), 1L);
     }
 
 }
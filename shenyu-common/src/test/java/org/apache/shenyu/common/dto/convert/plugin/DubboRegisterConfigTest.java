@@ -39,6 +39,7 @@ public class DubboRegisterConfigTest {
         config.setCorethreads(10);
         config.setThreads(10);
         config.setQueues(2);
+        config.setReferenceFailFast(true);
         
         assertThat(config.getRegister(), is("reg"));
         assertThat(config.getGroup(), is("group"));
@@ -47,6 +48,7 @@ public class DubboRegisterConfigTest {
         assertThat(config.getCorethreads(), is(10));
         assertThat(config.getThreads(), is(10));
         assertThat(config.getQueues(), is(2));
+        assertThat(config.getReferenceFailFast(), is(true));
     }
     
     @Test
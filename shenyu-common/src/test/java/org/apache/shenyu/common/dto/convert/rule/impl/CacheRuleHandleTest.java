@@ -32,8 +32,10 @@ public class CacheRuleHandleTest {
         CacheRuleHandle handle = new CacheRuleHandle();
         
         handle.setTimeoutSeconds(120L);
+        handle.setMaxBodyBytes(2048L);
         
         assertThat(handle.getTimeoutSeconds(), is(120L));
+        assertThat(handle.getMaxBodyBytes(), is(2048L));
     }
     
 }
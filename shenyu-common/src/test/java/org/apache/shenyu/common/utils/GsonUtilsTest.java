@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -271,6 +272,26 @@ public class GsonUtilsTest {
         assertNull(GsonUtils.getInstance().convertToMap(null));
     }
 
+    /**
+     * test method {@link GsonUtils#convertJsonObjectToMap(JsonObject)}.
+     */
+    @Test
+    public void testConvertJsonObjectToMap() {
+        String testJson = "{\"code\":200,\"data\":{\"id\":123,\"list\":[{\"name\":\"shenyu\"},1]},\"json\":\"{\\\"a\\\":1}\"}";
+        JsonObject jsonObject = JsonParser.parseString(testJson).getAsJsonObject();
+        assertEquals(GsonUtils.getInstance().convertToMap(testJson), GsonUtils.getInstance().convertJsonObjectToMap(jsonObject));
+    }
+
+    /**
+     * test method {@link GsonUtils#fromJsonArray(JsonArray, Class)}.
+     */
+    @Test
+    public void testFromJsonArray() {
+        String testJson = "[1,\"shenyu\",{\"id\":123}]";
+        JsonArray jsonArray = JsonParser.parseString(testJson).getAsJsonArray();
+        assertEquals(GsonUtils.getInstance().fromList(testJson, Object.class), GsonUtils.getInstance().fromJsonArray(jsonArray, Object.class));
+    }
+
     @Test
     public void testPairGson() {
         Pair<String, String> testPair = Pair.of("1", "2");
@@ -22,7 +22,11 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +87,25 @@ public final class JsonUtilsTest {
         assertEquals(Constants.EMPTY_JSON, JsonUtils.toJson(o));
     }
 
+    @Test
+    public void toJsonBytes() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "测试");
+        map.put("id", 1);
+        assertEquals(JsonUtils.toJson(map), new String(JsonUtils.toJsonBytes(map), StandardCharsets.UTF_8));
+        assertEquals(Constants.EMPTY_JSON, new String(JsonUtils.toJsonBytes(new Object()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeJson() throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "测试");
+        map.put("id", 1);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonUtils.writeJson(outputStream, map);
+        assertEquals(JsonUtils.toJson(map), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void testJsonToMap() {
         Map<String, Object> stringObjectMap = JsonUtils.jsonToMap(EXPECTED_JSON);
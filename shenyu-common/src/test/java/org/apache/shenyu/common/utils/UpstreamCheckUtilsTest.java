@@ -17,14 +17,17 @@
 
 package org.apache.shenyu.common.utils;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,6 +44,55 @@ public final class UpstreamCheckUtilsTest {
     @Test
     public void testBlank() {
         assertFalse(UpstreamCheckUtils.checkUrl(""));
+        assertFalse(UpstreamCheckUtils.checkUrlAsync("", 1000).join());
+    }
+
+    @Test
+    public void testCheckUrlAsync() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final int localPort = serverSocket.getLocalPort();
+            assertTrue(UpstreamCheckUtils.checkUrlAsync("127.0.0.1:" + localPort, 1000, 100).get(3, TimeUnit.SECONDS));
+            assertTrue(UpstreamCheckUtils.checkUrlAsync("http://localhost:" + localPort, 1000).get(3, TimeUnit.SECONDS));
+        }
+        final int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        assertFalse(UpstreamCheckUtils.checkUrlAsync("http://127.0.0.1:" + closedPort, 1000).get(3, TimeUnit.SECONDS));
+        assertFalse(UpstreamCheckUtils.checkUrlAsync("127.0.0.1:port", 1000).get(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCheckUrlAsyncWithPath() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/health", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/down", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            final String address = "http://127.0.0.1:" + server.getAddress().getPort();
+            assertTrue(UpstreamCheckUtils.checkUrlAsync(address, "/health", 1000, 0).get(3, TimeUnit.SECONDS));
+            assertTrue(UpstreamCheckUtils.checkUrlAsync("127.0.0.1:" + server.getAddress().getPort(), "health", 1000, 0).get(3, TimeUnit.SECONDS));
+            assertFalse(UpstreamCheckUtils.checkUrlAsync(address, "/down", 1000, 0).get(3, TimeUnit.SECONDS));
+            // the path of the url is where requests are forwarded to, it is checked by a tcp connect.
+            assertTrue(UpstreamCheckUtils.checkUrlAsync(address + "/down", 1000).get(3, TimeUnit.SECONDS));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testCheckUrlAsyncTimeout() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            // the connection is accepted by the backlog but the request is never answered
+            final String url = "http://127.0.0.1:" + serverSocket.getLocalPort();
+            assertFalse(UpstreamCheckUtils.checkUrlAsync(url, "/health", 200, 0).get(3, TimeUnit.SECONDS));
+        }
     }
 
     @Test
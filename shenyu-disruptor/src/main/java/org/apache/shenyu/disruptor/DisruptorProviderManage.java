@@ -17,21 +17,24 @@
 
 package org.apache.shenyu.disruptor;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.IgnoreExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumer;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumerFactory;
 import org.apache.shenyu.disruptor.consumer.QueueConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.disruptor.event.DataEvent;
 import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
 import org.apache.shenyu.disruptor.event.OrderlyDisruptorEventFactory;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyType;
 import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
 import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +57,8 @@ public class DisruptorProviderManage<T> {
     
     private final QueueConsumerFactory<T> consumerFactory;
     
+    private final WaitStrategyType waitStrategyType;
+    
     private DisruptorProvider<T> provider;
     
     /**
@@ -77,6 +82,16 @@ public class DisruptorProviderManage<T> {
         this(consumerFactory, DEFAULT_CONSUMER_SIZE, DEFAULT_SIZE);
     }
     
+    /**
+     * Instantiates a new Disruptor provider manage.
+     *
+     * @param consumerFactory  the consumer factory
+     * @param waitStrategyType the wait strategy of the consumers
+     */
+    public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory, final WaitStrategyType waitStrategyType) {
+        this(consumerFactory, DEFAULT_CONSUMER_SIZE, DEFAULT_SIZE, waitStrategyType);
+    }
+    
     /**
      * Instantiates a new Disruptor provider manage.
      *
@@ -87,9 +102,25 @@ public class DisruptorProviderManage<T> {
     public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory,
                                    final int consumerSize,
                                    final int ringBufferSize) {
+        this(consumerFactory, consumerSize, ringBufferSize, WaitStrategyType.BLOCKING);
+    }
+    
+    /**
+     * Instantiates a new Disruptor provider manage.
+     *
+     * @param consumerFactory  the consumer factory
+     * @param consumerSize     the consumer size
+     * @param ringBufferSize   the ringBuffer size
+     * @param waitStrategyType the wait strategy of the consumers
+     */
+    public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory,
+                                   final int consumerSize,
+                                   final int ringBufferSize,
+                                   final WaitStrategyType waitStrategyType) {
         this.consumerFactory = consumerFactory;
         this.size = ringBufferSize;
         this.consumerSize = consumerSize;
+        this.waitStrategyType = waitStrategyType;
     }
     
     /**
@@ -101,10 +132,16 @@ public class DisruptorProviderManage<T> {
     
     /**
      * start disruptor..
+     * When the consumer factory is a {@link BatchQueueConsumerFactory} and the events are not orderly,
+     * the events of one ring buffer batch are handed to a single executor through a bounded queue.
      *
      * @param isOrderly the orderly Whether to execute sequentially.
      */
     public void startup(final boolean isOrderly) {
+        if (!isOrderly && consumerFactory instanceof BatchQueueConsumerFactory) {
+            startupBatch((BatchQueueConsumerFactory<T>) consumerFactory);
+            return;
+        }
         OrderlyExecutor executor = new OrderlyExecutor(isOrderly, consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>(),
                 DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.AbortPolicy());
@@ -120,7 +157,7 @@ public class DisruptorProviderManage<T> {
                 size,
                 DisruptorThreadFactory.create("shenyu_disruptor_provider_" + consumerFactory.fixName(), false),
                 ProducerType.MULTI,
-                new BlockingWaitStrategy());
+                waitStrategyType.create());
         @SuppressWarnings("all")
         QueueConsumer<T>[] consumers = new QueueConsumer[newConsumerSize];
         for (int i = 0; i < newConsumerSize; i++) {
@@ -133,6 +170,23 @@ public class DisruptorProviderManage<T> {
         provider = new DisruptorProvider<>(ringBuffer, disruptor, isOrderly);
     }
     
+    private void startupBatch(final BatchQueueConsumerFactory<T> batchFactory) {
+        // the bounded queue and the caller runs policy stall the event handler when the executor is saturated,
+        // then the ring buffer fills up and the producers are held back.
+        OrderlyExecutor executor = new OrderlyExecutor(false, consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(consumerSize),
+                DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.CallerRunsPolicy());
+        Disruptor<DataEvent<T>> disruptor = new Disruptor<>(new DisruptorEventFactory<>(),
+                size,
+                DisruptorThreadFactory.create("shenyu_disruptor_provider_" + consumerFactory.fixName(), false),
+                ProducerType.MULTI,
+                waitStrategyType.create());
+        disruptor.handleEventsWith(new BatchQueueConsumer<>(executor, batchFactory));
+        disruptor.setDefaultExceptionHandler(new IgnoreExceptionHandler());
+        disruptor.start();
+        provider = new DisruptorProvider<>(disruptor.getRingBuffer(), disruptor, false);
+    }
+    
     /**
      * Gets provider.
      *
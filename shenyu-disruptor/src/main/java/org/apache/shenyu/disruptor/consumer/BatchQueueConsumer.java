@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import com.lmax.disruptor.EventHandler;
+import org.apache.shenyu.disruptor.event.DataEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * The type Batch queue consumer.
+ * It collects the events until the end of the ring buffer batch (or the max batch size),
+ * then hands them to one executor.
+ *
+ * @param <T> the type parameter
+ */
+public class BatchQueueConsumer<T> implements EventHandler<DataEvent<T>> {
+    
+    private final ThreadPoolExecutor executor;
+    
+    private final BatchQueueConsumerFactory<T> factory;
+    
+    private final int maxBatchSize;
+    
+    private List<T> batch;
+    
+    /**
+     * Instantiates a new Batch queue consumer.
+     *
+     * @param executor the executor
+     * @param factory  the factory
+     */
+    public BatchQueueConsumer(final ThreadPoolExecutor executor, final BatchQueueConsumerFactory<T> factory) {
+        this.executor = executor;
+        this.factory = factory;
+        this.maxBatchSize = Math.max(1, factory.maxBatchSize());
+        this.batch = new ArrayList<>();
+    }
+    
+    @Override
+    public void onEvent(final DataEvent<T> t, final long sequence, final boolean endOfBatch) {
+        if (Objects.nonNull(t) && Objects.nonNull(t.getData())) {
+            batch.add(t.getData());
+            // help gc
+            t.setData(null);
+        }
+        if (!batch.isEmpty() && (endOfBatch || batch.size() >= maxBatchSize)) {
+            QueueConsumerExecutor<T> queueConsumerExecutor = factory.create();
+            queueConsumerExecutor.setData(batch.size() == 1 ? batch.get(0) : factory.merge(batch));
+            batch = new ArrayList<>();
+            executor.execute(queueConsumerExecutor);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import java.util.List;
+
+/**
+ * The queue consumer factory of the batch mode.
+ * The events of one ring buffer batch are merged and handed to a single executor.
+ *
+ * @param <T> the type parameter
+ */
+public interface BatchQueueConsumerFactory<T> extends QueueConsumerFactory<T> {
+    
+    /**
+     * Merge the data of a batch into one data.
+     *
+     * @param batch the data of the batch, never empty
+     * @return the merged data
+     */
+    T merge(List<T> batch);
+    
+    /**
+     * The max events merged into one executor.
+     *
+     * @return the max batch size
+     */
+    default int maxBatchSize() {
+        return 256;
+    }
+}
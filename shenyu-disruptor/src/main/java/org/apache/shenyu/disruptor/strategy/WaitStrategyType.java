@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.strategy;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The wait strategy used by the disruptor consumers.
+ */
+public enum WaitStrategyType {
+    
+    /**
+     * Lock and condition, the lowest cpu usage and the highest latency.
+     */
+    BLOCKING("blocking", BlockingWaitStrategy::new),
+    
+    /**
+     * Spin then yield, low latency at the cost of a busy consumer thread.
+     */
+    YIELDING("yielding", YieldingWaitStrategy::new),
+    
+    /**
+     * Pure spin, the lowest latency, only for dedicated cores.
+     */
+    BUSY_SPIN("busy-spin", BusySpinWaitStrategy::new),
+    
+    /**
+     * Like blocking, but wakes up the consumer periodically.
+     */
+    TIMEOUT_BLOCKING("timeout-blocking", () -> new TimeoutBlockingWaitStrategy(10, TimeUnit.MILLISECONDS));
+    
+    private final String name;
+    
+    private final Supplier<WaitStrategy> supplier;
+    
+    WaitStrategyType(final String name, final Supplier<WaitStrategy> supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+    
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Create a new wait strategy instance.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy create() {
+        return supplier.get();
+    }
+    
+    /**
+     * Acquire by name, {@link #BLOCKING} when the name is unknown.
+     *
+     * @param name the name, such as blocking, yielding, busy-spin or timeout-blocking
+     * @return the wait strategy type
+     */
+    public static WaitStrategyType acquireByName(final String name) {
+        return Arrays.stream(WaitStrategyType.values())
+                .filter(e -> e.getName().equalsIgnoreCase(name)).findFirst()
+                .orElse(BLOCKING);
+    }
+}
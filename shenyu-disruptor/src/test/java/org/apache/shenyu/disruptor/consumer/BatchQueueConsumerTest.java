@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link BatchQueueConsumer}.
+ */
+public final class BatchQueueConsumerTest {
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = mock(ThreadPoolExecutor.class);
+    }
+
+    @Test
+    public void testFlushOnEndOfBatch() {
+        BatchQueueConsumer<List<String>> consumer = new BatchQueueConsumer<>(executor, new ListFactory(256, null));
+        DataEvent<List<String>> first = event(Collections.singletonList("a"));
+        consumer.onEvent(first, 0, false);
+        consumer.onEvent(event(Arrays.asList("b", "c")), 1, false);
+        verify(executor, never()).execute(any());
+        assertNull(first.getData());
+
+        consumer.onEvent(event(Collections.singletonList("d")), 2, true);
+        List<ListExecutor> executed = captureExecuted(1);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), executed.get(0).getData());
+    }
+
+    @Test
+    public void testFlushOnMaxBatchSize() {
+        BatchQueueConsumer<List<String>> consumer = new BatchQueueConsumer<>(executor, new ListFactory(2, null));
+        for (int i = 0; i < 5; i++) {
+            consumer.onEvent(event(Collections.singletonList(String.valueOf(i))), i, false);
+        }
+        consumer.onEvent(event(null), 5, true);
+        List<ListExecutor> executed = captureExecuted(3);
+        assertEquals(Arrays.asList("0", "1"), executed.get(0).getData());
+        assertEquals(Arrays.asList("2", "3"), executed.get(1).getData());
+        assertEquals(Collections.singletonList("4"), executed.get(2).getData());
+    }
+
+    @Test
+    public void testSingleEventIsNotMerged() {
+        List<String> data = Collections.singletonList("a");
+        BatchQueueConsumer<List<String>> consumer = new BatchQueueConsumer<>(executor, new ListFactory(256, null));
+        consumer.onEvent(event(data), 0, true);
+        assertSame(data, captureExecuted(1).get(0).getData());
+    }
+
+    @Test
+    public void testCallerRunsWhenExecutorSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor bounded = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            // occupy the only worker and the only queue slot
+            CountDownLatch started = new CountDownLatch(1);
+            bounded.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            bounded.execute(() -> { });
+
+            AtomicReference<Thread> runner = new AtomicReference<>();
+            BatchQueueConsumer<List<String>> consumer = new BatchQueueConsumer<>(bounded, new ListFactory(256, runner));
+            consumer.onEvent(event(Collections.singletonList("a")), 0, true);
+            // the handler thread runs the batch itself instead of queueing it, which holds the ring buffer back
+            assertSame(Thread.currentThread(), runner.get());
+        } finally {
+            release.countDown();
+            bounded.shutdownNow();
+        }
+    }
+
+    private List<ListExecutor> captureExecuted(final int times) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(times)).execute(captor.capture());
+        List<ListExecutor> executed = new ArrayList<>();
+        captor.getAllValues().forEach(runnable -> executed.add((ListExecutor) runnable));
+        return executed;
+    }
+
+    private static DataEvent<List<String>> event(final List<String> data) {
+        DataEvent<List<String>> event = new DataEvent<>();
+        event.setData(data);
+        return event;
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class ListExecutor extends QueueConsumerExecutor<List<String>> {
+
+        private final AtomicReference<Thread> runner;
+
+        ListExecutor(final AtomicReference<Thread> runner) {
+            this.runner = runner;
+        }
+
+        @Override
+        public void run() {
+            if (Objects.nonNull(runner)) {
+                runner.set(Thread.currentThread());
+            }
+        }
+    }
+
+    private static final class ListFactory implements BatchQueueConsumerFactory<List<String>> {
+
+        private final int maxBatchSize;
+
+        private final AtomicReference<Thread> runner;
+
+        ListFactory(final int maxBatchSize, final AtomicReference<Thread> runner) {
+            this.maxBatchSize = maxBatchSize;
+            this.runner = runner;
+        }
+
+        @Override
+        public QueueConsumerExecutor<List<String>> create() {
+            return new ListExecutor(runner);
+        }
+
+        @Override
+        public String fixName() {
+            return "batch_test";
+        }
+
+        @Override
+        public List<String> merge(final List<List<String>> batch) {
+            List<String> merged = new ArrayList<>();
+            batch.forEach(merged::addAll);
+            return merged;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return maxBatchSize;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.strategy;
+
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link WaitStrategyType}.
+ */
+public final class WaitStrategyTypeTest {
+
+    @Test
+    public void testAcquireByName() {
+        assertEquals(WaitStrategyType.YIELDING, WaitStrategyType.acquireByName("yielding"));
+        assertEquals(WaitStrategyType.BUSY_SPIN, WaitStrategyType.acquireByName("Busy-Spin"));
+        assertTrue(WaitStrategyType.acquireByName("timeout-blocking").create() instanceof TimeoutBlockingWaitStrategy);
+        assertTrue(WaitStrategyType.BUSY_SPIN.create() instanceof BusySpinWaitStrategy);
+    }
+
+    @Test
+    public void testAcquireByNameDefault() {
+        assertEquals(WaitStrategyType.BLOCKING, WaitStrategyType.acquireByName(null));
+        assertEquals(WaitStrategyType.BLOCKING, WaitStrategyType.acquireByName("unknown"));
+    }
+}
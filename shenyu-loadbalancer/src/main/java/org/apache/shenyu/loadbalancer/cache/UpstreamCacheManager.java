@@ -21,7 +21,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.config.ShenyuConfig;
-import org.apache.shenyu.common.config.ShenyuConfig.UpstreamCheck;
+import org.apache.shenyu.common.config.UpstreamCheck;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
@@ -60,6 +60,8 @@ public final class UpstreamCacheManager {
 
     private int unhealthyThreshold;
 
+    private String healthCheckPath;
+
     /**
      * healthy upstream print parameters.
      */
@@ -79,6 +81,7 @@ public final class UpstreamCacheManager {
         checkTimeout = upstreamCheck.getTimeout();
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
+        healthCheckPath = upstreamCheck.getHealthCheckPath();
         checkInterval = upstreamCheck.getInterval();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
@@ -92,6 +95,7 @@ public final class UpstreamCacheManager {
         task.setCheckTimeout(checkTimeout);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
+        task.setHealthCheckPath(healthCheckPath);
     }
 
     private void scheduleHealthCheck() {
@@ -32,8 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +48,11 @@ public final class UpstreamCheckTask implements Runnable {
      */
     private static final Logger LOG = LoggerFactory.getLogger(UpstreamCheckTask.class);
 
+    /**
+     * the upper bound of the random delay which staggers the probes of one round.
+     */
+    private static final int MAX_CHECK_JITTER = 1000;
+
     private final Map<String, List<Upstream>> healthyUpstream = Maps.newConcurrentMap();
 
     private final Map<String, List<Upstream>> unhealthyUpstream = Maps.newConcurrentMap();
@@ -58,11 +61,9 @@ public final class UpstreamCheckTask implements Runnable {
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
-
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private final ScheduledThreadPoolExecutor executor;
 
     private int poolSize;
 
@@ -71,6 +72,8 @@ public final class UpstreamCheckTask implements Runnable {
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
+
+    private String healthCheckPath;
     
     /**
      * Instantiates a new Upstream check task.
@@ -79,6 +82,9 @@ public final class UpstreamCheckTask implements Runnable {
      */
     public UpstreamCheckTask(final int checkInterval) {
         this.checkInterval = checkInterval;
+        // executor for health check
+        ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
+        this.executor = new ScheduledThreadPoolExecutor(1, healthCheckFactory);
     }
     
     /**
@@ -94,14 +100,7 @@ public final class UpstreamCheckTask implements Runnable {
      * Schedule health check task.
      */
     public void schedule() {
-        // executor for health check
-        ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
-        new ScheduledThreadPoolExecutor(1, healthCheckFactory)
-                .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
+        executor.scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -115,6 +114,8 @@ public final class UpstreamCheckTask implements Runnable {
 
     /**
      * get checkThreadPoolSize.
+     * Probes run on the non-blocking event loop of {@link UpstreamCheckUtils#checkUrlAsync(String, String, int, int)},
+     * so the pool size is only kept for configuration compatibility.
      *
      * @return checkThreadPoolSize
      */
@@ -149,48 +150,65 @@ public final class UpstreamCheckTask implements Runnable {
         this.unhealthyThreshold = unhealthyThreshold;
     }
 
+    /**
+     * Set the path of the http health check, blank for a tcp connect.
+     *
+     * @param healthCheckPath health check path
+     */
+    public void setHealthCheckPath(final String healthCheckPath) {
+        this.healthCheckPath = healthCheckPath;
+    }
+
     @Override
     public void run() {
         healthCheck();
     }
 
     private void healthCheck() {
+        if (!tryStartHealthCheck()) {
+            return;
+        }
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
+            final List<CompletableFuture<UpstreamWithSelectorId>> futures;
             synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
-                }
+                futures = doHealthCheck();
             }
+            // the scheduling thread never waits for the round, the result is applied back on it so the probe event loop never takes the lock
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenCompleteAsync((v, throwable) -> {
+                try {
+                    applyCheckResult(futures);
+                } catch (Exception e) {
+                    LOG.error("[Health Check] Meet problem: ", e);
+                } finally {
+                    finishHealthCheck();
+                }
+            }, executor);
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
-        } finally {
             finishHealthCheck();
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
+    private List<CompletableFuture<UpstreamWithSelectorId>> doHealthCheck() {
+        final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
+        check(healthyUpstream, futures);
+        check(unhealthyUpstream, futures);
+        return futures;
     }
 
-    private void check(final Map<String, List<Upstream>> map) {
+    private void check(final Map<String, List<Upstream>> map, final List<CompletableFuture<UpstreamWithSelectorId>> futures) {
+        final int jitter = Math.min(MAX_CHECK_JITTER, checkInterval / 2);
         for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
             String key = entry.getKey();
             List<Upstream> value = entry.getValue();
             for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
+                futures.add(UpstreamCheckUtils.checkUrlAsync(upstream.getUrl(), healthCheckPath, checkTimeout, jitter)
+                        .thenApply(pass -> check(key, upstream, pass)));
             }
         }
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream, final boolean pass) {
         if (pass) {
             if (upstream.isHealthy()) {
                 upstream.setLastHealthTimestamp(System.currentTimeMillis());
@@ -225,13 +243,31 @@ public final class UpstreamCheckTask implements Runnable {
         return checkStarted.compareAndSet(false, true);
     }
 
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
+    private void applyCheckResult(final List<CompletableFuture<UpstreamWithSelectorId>> futures) {
+        /*
+         * If there is no synchronized. when check is done and all upstream check result is in the futures list.
+         * In the same time, triggerRemoveAll() called before applyCheckResult(), there will be dirty data stay in map.
+         */
+        synchronized (lock) {
+            for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
+                if (future.isCompletedExceptionally()) {
+                    continue;
+                }
+                UpstreamWithSelectorId entity = future.join();
+                if (isTracked(entity)) {
+                    putEntityToMap(entity);
+                }
+            }
         }
+    }
+
+    private boolean isTracked(final UpstreamWithSelectorId entity) {
+        return contains(healthyUpstream, entity) || contains(unhealthyUpstream, entity);
+    }
 
-        futures.clear();
+    private boolean contains(final Map<String, List<Upstream>> map, final UpstreamWithSelectorId entity) {
+        List<Upstream> list = map.get(entity.getSelectorId());
+        return Objects.nonNull(list) && list.contains(entity.getUpstream());
     }
 
     private void putEntityToMap(final UpstreamWithSelectorId entity) {
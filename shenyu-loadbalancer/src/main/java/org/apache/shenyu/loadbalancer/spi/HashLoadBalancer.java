@@ -17,13 +17,18 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
@@ -34,12 +39,28 @@ import org.apache.shenyu.spi.Join;
 public class HashLoadBalancer extends AbstractLoadBalancer {
 
     /**
-     * virtual node used to solve unbalanced load.
+     * upper bound of cached rings, the least used ring is evicted once it is exceeded.
      */
-    private static final int VIRTUAL_NODE_NUM = 5;
+    private static final int MAX_RING_CACHE_SIZE = 1024;
+
+    private final Cache<List<String>, HashRing> ringCache = Caffeine.newBuilder()
+            .maximumSize(MAX_RING_CACHE_SIZE)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    private final Integer virtualNodeNum;
+
+    public HashLoadBalancer() {
+        this.virtualNodeNum = null;
+    }
+
+    public HashLoadBalancer(final int virtualNodeNum) {
+        this.virtualNodeNum = Math.max(1, virtualNodeNum);
+    }
 
     /**
      * consistent hash with virtual node to select upstream.
+     * the ring is built once per distinct upstream url list and reused until the list changes.
      *
      * @param upstreamList the upstream list
      * @param ip           the ip
@@ -47,37 +68,67 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
+        HashRing ring = ringCache.get(urls(upstreamList), urls -> new HashRing(urls, virtualNodeNum()));
+        return upstreamList.get(ring.locate(hash(ip)));
+    }
+
+    private int virtualNodeNum() {
+        if (Objects.nonNull(virtualNodeNum)) {
+            return virtualNodeNum;
+        }
+        ShenyuConfig shenyuConfig = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElseGet(ShenyuConfig::new);
+        return Math.max(1, shenyuConfig.getLoadBalance().getHashVirtualNodes());
+    }
+
+    private static List<String> urls(final List<Upstream> upstreamList) {
+        List<String> urls = new ArrayList<>(upstreamList.size());
+        for (Upstream upstream : upstreamList) {
+            urls.add(upstream.getUrl());
         }
-        return treeMap.firstEntry().getValue();
+        return urls;
     }
 
     private static long hash(final String key) {
-        // md5 byte
-        MessageDigest md5;
-        try {
-            md5 = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 not supported", e);
+        return Hashing.murmur3_128().hashString(String.valueOf(key), StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * immutable consistent hash ring, the virtual node hashes are kept sorted for binary search.
+     */
+    private static final class HashRing {
+
+        private final long[] hashes;
+
+        private final int[] indexes;
+
+        HashRing(final List<String> urls, final int virtualNodeNum) {
+            int size = urls.size();
+            long[][] nodes = new long[size * virtualNodeNum][];
+            int n = 0;
+            for (int index = 0; index < size; index++) {
+                String url = urls.get(index);
+                for (int i = 0; i < virtualNodeNum; i++) {
+                    nodes[n++] = new long[]{hash("SHENYU-" + url + "-HASH-" + i), index};
+                }
+            }
+            Arrays.sort(nodes, (left, right) -> Long.compare(left[0], right[0]));
+            this.hashes = new long[nodes.length];
+            this.indexes = new int[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                hashes[i] = nodes[i][0];
+                indexes[i] = (int) nodes[i][1];
+            }
+        }
+
+        int locate(final long hash) {
+            int pos = Arrays.binarySearch(hashes, hash);
+            if (pos < 0) {
+                pos = -pos - 1;
+                if (pos == hashes.length) {
+                    pos = 0;
+                }
+            }
+            return indexes[pos];
         }
-        md5.reset();
-        byte[] keyBytes;
-        keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        md5.update(keyBytes);
-        byte[] digest = md5.digest();
-        // hash code, Truncate to 32-bits
-        long hashCode = (long) (digest[3] & 0xFF) << 24
-                | ((long) (digest[2] & 0xFF) << 16)
-                | ((long) (digest[1] & 0xFF) << 8)
-                | (digest[0] & 0xFF);
-        return hashCode & 0xffffffffL;
     }
 }
@@ -17,141 +17,155 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import org.apache.shenyu.common.utils.MapUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Round-robin load balance impl.
+ * smooth weighted round robin, the current weights are kept per upstream url list, the url list and the weights are
+ * computed once per upstream list instance and only the weights are read again while an upstream is warming up.
  */
 @Join
 public class RoundRobinLoadBalancer extends AbstractLoadBalancer {
 
-    private final int recyclePeriod = 60000;
+    /**
+     * upper bound of cached states, the least used state is evicted once it is exceeded.
+     */
+    private static final int MAX_STATE_CACHE_SIZE = 1024;
 
-    private final ConcurrentMap<String, ConcurrentMap<String, WeightedRoundRobin>> methodWeightMap = new ConcurrentHashMap<>(16);
+    private final Cache<List<String>, WeightedRoundRobin> stateCache = Caffeine.newBuilder()
+            .maximumSize(MAX_STATE_CACHE_SIZE)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
 
-    private final AtomicBoolean updateLock = new AtomicBoolean();
+    /**
+     * the snapshots keyed by the identity of the upstream list, released with the list itself.
+     */
+    private final Cache<List<Upstream>, Snapshot> snapshotCache = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(MAX_STATE_CACHE_SIZE)
+            .build();
 
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        String key = upstreamList.get(0).getUrl();
-        ConcurrentMap<String, WeightedRoundRobin> map = MapUtils.computeIfAbsent(methodWeightMap, key, k -> new ConcurrentHashMap<>(16));
-        int totalWeight = 0;
-        long maxCurrent = Long.MIN_VALUE;
-        long now = System.currentTimeMillis();
-        Upstream selectedInvoker = null;
-        WeightedRoundRobin selectedWeightedRoundRobin = null;
-        for (Upstream upstream : upstreamList) {
-            String rKey = upstream.getUrl();
-            int weight = getWeight(upstream);
-            WeightedRoundRobin weightedRoundRobin = MapUtils.computeIfAbsent(map, rKey, k -> {
-                WeightedRoundRobin roundRobin = new WeightedRoundRobin();
-                roundRobin.setWeight(weight);
-                return roundRobin;
-            });
-            if (weight != weightedRoundRobin.getWeight()) {
-                // weight changed.
-                weightedRoundRobin.setWeight(weight);
-            }
-            long cur = weightedRoundRobin.increaseCurrent();
-            weightedRoundRobin.setLastUpdate(now);
-            if (cur > maxCurrent) {
-                maxCurrent = cur;
-                selectedInvoker = upstream;
-                selectedWeightedRoundRobin = weightedRoundRobin;
-            }
-            totalWeight += weight;
-        }
-        if (!updateLock.get() && upstreamList.size() != map.size() && updateLock.compareAndSet(false, true)) {
-            try {
-                // copy -> modify -> update reference.
-                ConcurrentMap<String, WeightedRoundRobin> newMap = new ConcurrentHashMap<>(map);
-                newMap.entrySet().removeIf(item -> now - item.getValue().getLastUpdate() > recyclePeriod);
-                methodWeightMap.put(key, newMap);
-            } finally {
-                updateLock.set(false);
-            }
+        Snapshot snapshot = snapshotCache.getIfPresent(upstreamList);
+        if (snapshot == null || !snapshot.matches(upstreamList)) {
+            snapshot = snapshot(upstreamList);
+            snapshotCache.put(upstreamList, snapshot);
         }
-        if (Objects.nonNull(selectedInvoker)) {
-            selectedWeightedRoundRobin.sel(totalWeight);
-            return selectedInvoker;
+        return snapshot.members[snapshot.state.select(snapshot.weights())];
+    }
+
+    private Snapshot snapshot(final List<Upstream> upstreamList) {
+        Upstream[] members = upstreamList.toArray(new Upstream[0]);
+        List<String> urls = new ArrayList<>(members.length);
+        for (Upstream upstream : members) {
+            urls.add(upstream.getUrl());
         }
-        // should not happen here.
-        return upstreamList.get(0);
+        return new Snapshot(members, stateCache.get(urls, key -> new WeightedRoundRobin(key.size())));
     }
 
     /**
-     * The type Weighted round-robin.
+     * The upstreams of one list instance, with the weights computed when it was taken.
      */
-    protected static class WeightedRoundRobin {
+    private final class Snapshot {
 
-        private int weight;
+        private final Upstream[] members;
 
-        private final AtomicLong current = new AtomicLong(0);
+        private final boolean[] statuses;
 
-        private long lastUpdate;
+        private final int[] weights;
 
-        /**
-         * Gets weight.
-         *
-         * @return the weight
-         */
-        int getWeight() {
-            return weight;
-        }
+        private final long warmupEnd;
 
-        /**
-         * Sets weight.
-         *
-         * @param weight the weight
-         */
-        void setWeight(final int weight) {
-            this.weight = weight;
-            current.set(0);
+        private final WeightedRoundRobin state;
+
+        Snapshot(final Upstream[] members, final WeightedRoundRobin state) {
+            this.members = members;
+            this.state = state;
+            this.statuses = new boolean[members.length];
+            this.weights = new int[members.length];
+            long end = 0;
+            for (int i = 0; i < members.length; i++) {
+                Upstream upstream = members[i];
+                statuses[i] = upstream.isStatus();
+                weights[i] = getWeight(upstream);
+                if (upstream.getWeight() > 0 && upstream.getTimestamp() > 0) {
+                    end = Math.max(end, upstream.getTimestamp() + upstream.getWarmup());
+                }
+            }
+            this.warmupEnd = end;
         }
 
         /**
-         * Increase current long.
+         * Whether the list still holds the same upstreams with the same status, the list may be changed in place.
          *
-         * @return the long
+         * @param upstreamList the upstream list
+         * @return true if the snapshot is still valid
          */
-        long increaseCurrent() {
-            return current.addAndGet(weight);
+        boolean matches(final List<Upstream> upstreamList) {
+            if (upstreamList.size() != members.length) {
+                return false;
+            }
+            for (int i = 0; i < members.length; i++) {
+                Upstream upstream = upstreamList.get(i);
+                if (upstream != members[i] || upstream.isStatus() != statuses[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        /**
-         * Sel.
-         *
-         * @param total the total
-         */
-        void sel(final int total) {
-            current.addAndGet(-1 * total);
+        int[] weights() {
+            if (System.currentTimeMillis() >= warmupEnd) {
+                return weights;
+            }
+            int[] current = new int[members.length];
+            for (int i = 0; i < members.length; i++) {
+                current[i] = getWeight(members[i]);
+            }
+            return current;
         }
+    }
 
-        /**
-         * Gets last update.
-         *
-         * @return the last update
-         */
-        long getLastUpdate() {
-            return lastUpdate;
+    /**
+     * The type Weighted round-robin, the current weights of one upstream url list.
+     */
+    protected static final class WeightedRoundRobin {
+
+        private final AtomicLongArray currents;
+
+        WeightedRoundRobin(final int size) {
+            this.currents = new AtomicLongArray(size);
         }
 
         /**
-         * Sets last update.
+         * Select the index of the upstream with the max current weight.
          *
-         * @param lastUpdate the last update
+         * @param weights the current weight of each upstream
+         * @return the index
          */
-        void setLastUpdate(final long lastUpdate) {
-            this.lastUpdate = lastUpdate;
+        int select(final int[] weights) {
+            long totalWeight = 0;
+            long maxCurrent = Long.MIN_VALUE;
+            int selected = 0;
+            for (int i = 0; i < weights.length; i++) {
+                totalWeight += weights[i];
+                long cur = currents.addAndGet(i, weights[i]);
+                if (cur > maxCurrent) {
+                    maxCurrent = cur;
+                    selected = i;
+                }
+            }
+            currents.addAndGet(selected, -totalWeight);
+            return selected;
         }
     }
 }
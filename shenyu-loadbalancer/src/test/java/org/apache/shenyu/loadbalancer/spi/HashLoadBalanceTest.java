@@ -17,25 +17,23 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mockStatic;
 
 /**
  * The type Hash balance test.
@@ -166,7 +164,7 @@ public final class HashLoadBalanceTest {
 
     @Test
     public void selectTest() {
-        final String ip = "SHENYU-upstream-2-HASH-100";
+        final String ip = "SHENYU-upstream-2-HASH-81";
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
         Assertions.assertNull(hashLoadBalance.select(null, ip));
         final Upstream upstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
@@ -174,12 +172,32 @@ public final class HashLoadBalanceTest {
     }
 
     @Test
-    public void hashErrorTest() throws NoSuchAlgorithmException {
+    public void ringRebuildTest() {
         final String ip = "127.0.0.1";
-        MockedStatic<MessageDigest> messageDigestMockedStatic = mockStatic(MessageDigest.class);
-        messageDigestMockedStatic.when((MockedStatic.Verification) MessageDigest.getInstance("MD5")).thenThrow(NoSuchAlgorithmException.class);
-        assertThrows(InvocationTargetException.class, () -> hash.invoke(null, ip));
-        messageDigestMockedStatic.close();
+        final HashLoadBalancer hashLoadBalance = new HashLoadBalancer(1);
+        final List<Upstream> upstreamList = new ArrayList<>(hashLoadBalancesOrdered);
+        final Upstream first = hashLoadBalance.select(upstreamList, ip);
+        assertEquals(first.getUrl(), hashLoadBalance.select(upstreamList, ip).getUrl());
+        upstreamList.remove(first);
+        final Upstream second = hashLoadBalance.select(upstreamList, ip);
+        Assertions.assertNotEquals(first.getUrl(), second.getUrl());
+        upstreamList.add(first);
+        assertEquals(first.getUrl(), hashLoadBalance.select(upstreamList, ip).getUrl());
+    }
+
+    @Test
+    public void virtualNodesFromConfigTest() {
+        final ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getLoadBalance().setHashVirtualNodes(1);
+        Singleton.INST.single(ShenyuConfig.class, shenyuConfig);
+        try {
+            final HashLoadBalancer configured = new HashLoadBalancer();
+            final HashLoadBalancer explicit = new HashLoadBalancer(1);
+            IntStream.range(0, 100).mapToObj(i -> "10.0.0." + i).forEach(ip ->
+                    assertEquals(explicit.select(hashLoadBalancesOrdered, ip).getUrl(), configured.select(hashLoadBalancesOrdered, ip).getUrl()));
+        } finally {
+            Singleton.INST.single(ShenyuConfig.class, new ShenyuConfig());
+        }
     }
 
     @Test
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of {@link HashLoadBalancer} selecting from a stable upstream list.
+ * run {@link #main(String[])} to execute it, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashLoadBalancerBenchmark {
+
+    @Param({"3", "20", "100"})
+    private int upstreamSize;
+
+    @Param({"5", "160"})
+    private int virtualNodeNum;
+
+    private HashLoadBalancer hashLoadBalancer;
+
+    private List<Upstream> upstreamList;
+
+    private String[] ips;
+
+    private int index;
+
+    /**
+     * Init the upstream list and the client ips.
+     */
+    @Setup
+    public void setUp() {
+        hashLoadBalancer = new HashLoadBalancer(virtualNodeNum);
+        upstreamList = IntStream.range(0, upstreamSize)
+                .mapToObj(i -> Upstream.builder().url("10.0." + (i / 256) + "." + (i % 256) + ":8080").build())
+                .collect(Collectors.toList());
+        ips = IntStream.range(0, 1024).mapToObj(i -> "192.168." + (i / 256) + "." + (i % 256)).toArray(String[]::new);
+    }
+
+    /**
+     * Select an upstream by the client ip.
+     *
+     * @return the selected upstream
+     */
+    @Benchmark
+    public Upstream select() {
+        index = (index + 1) & (ips.length - 1);
+        return hashLoadBalancer.select(upstreamList, ips[index]);
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HashLoadBalancerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
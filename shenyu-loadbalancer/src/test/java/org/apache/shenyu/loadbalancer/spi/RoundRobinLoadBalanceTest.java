@@ -118,4 +118,73 @@ public final class RoundRobinLoadBalanceTest {
         roundRobinLoadBalancer.select(upstreamList, "");
         roundRobinLoadBalancer.select(upstreamList2, "");
     }
+
+    @Test
+    public void roundRobinLoadBalanceSameFirstUpstreamTest() {
+        List<Upstream> upstreamList =
+                Stream.of("upstream-a", "upstream-b")
+                        .map(url -> Upstream.builder()
+                                .url(url)
+                                .weight(1)
+                                .build())
+                        .collect(Collectors.toList());
+        List<Upstream> upstreamList2 =
+                Stream.of("upstream-a", "upstream-c")
+                        .map(url -> Upstream.builder()
+                                .url(url)
+                                .weight(1)
+                                .build())
+                        .collect(Collectors.toList());
+
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        Map<String, Integer> countMap = new HashMap<>();
+        IntStream.range(0, 10).forEach(i -> {
+            countMap.merge(roundRobinLoadBalancer.select(upstreamList, "").getUrl(), 1, Integer::sum);
+            countMap.merge(roundRobinLoadBalancer.select(upstreamList2, "").getUrl(), 1, Integer::sum);
+        });
+        assertEquals(10, countMap.get("upstream-a").intValue());
+        assertEquals(5, countMap.get("upstream-b").intValue());
+        assertEquals(5, countMap.get("upstream-c").intValue());
+    }
+
+    @Test
+    public void roundRobinLoadBalanceWeightChangedTest() {
+        List<Upstream> upstreamList =
+                Stream.of(50, 30, 20)
+                        .map(weight -> Upstream.builder()
+                                .url("upstream-" + weight)
+                                .weight(weight)
+                                .build())
+                        .collect(Collectors.toList());
+
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        IntStream.range(0, 10).forEach(i -> roundRobinLoadBalancer.select(upstreamList, ""));
+        upstreamList.get(0).setStatus(false);
+        Map<String, Integer> countMap = new HashMap<>();
+        IntStream.range(0, 100).forEach(i -> {
+            Upstream result = roundRobinLoadBalancer.select(upstreamList, "");
+            countMap.merge(result.getUrl(), 1, Integer::sum);
+        });
+        assertEquals(60, countMap.get("upstream-30").intValue());
+        assertEquals(40, countMap.get("upstream-20").intValue());
+    }
+
+    @Test
+    public void roundRobinLoadBalanceWarmupTest() {
+        List<Upstream> upstreamList =
+                Stream.of("upstream-a", "upstream-b")
+                        .map(url -> Upstream.builder()
+                                .url(url)
+                                .weight(100)
+                                .timestamp(System.currentTimeMillis() - 1000)
+                                .warmup(10 * 60 * 1000)
+                                .build())
+                        .collect(Collectors.toList());
+
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        Map<String, Integer> countMap = new HashMap<>();
+        IntStream.range(0, 100).forEach(i -> countMap.merge(roundRobinLoadBalancer.select(upstreamList, "").getUrl(), 1, Integer::sum));
+        assertEquals(50, countMap.get("upstream-a").intValue());
+        assertEquals(50, countMap.get("upstream-b").intValue());
+    }
 }
@@ -66,10 +66,11 @@ public interface ShenyuPlugin {
      * if return true this plugin can not execute.
      *
      * @param exchange the current server exchange
-     * @return default false.
+     * @return default false, or current rpcType is not one of {@link #acceptRpcTypes()}.
      */
     default boolean skip(ServerWebExchange exchange) {
-        return false;
+        RpcTypeEnum[] acceptRpcTypes = acceptRpcTypes();
+        return Objects.nonNull(acceptRpcTypes) && skipExcept(exchange, acceptRpcTypes);
     }
 
     /**
@@ -97,6 +98,18 @@ public interface ShenyuPlugin {
         return Arrays.stream(rpcTypes).anyMatch(type -> Objects.equals(shenyuContext.getRpcType(), type.getName()));
     }
 
+    /**
+     * the rpc types this plugin is executed for, null means the plugin decides by {@link #skip(ServerWebExchange)}.
+     * the plugin chain precomputes them and skips the plugin for any other known rpc type,
+     * for an accepted rpc type it still asks {@link #skip(ServerWebExchange)}.
+     * the array is shared by every call, so it is read only.
+     *
+     * @return the accept rpc types, default null.
+     */
+    default RpcTypeEnum[] acceptRpcTypes() {
+        return null;
+    }
+
     /**
      * the plugin execute skip except some rpc types.
      * if return true this plugin can not execute.
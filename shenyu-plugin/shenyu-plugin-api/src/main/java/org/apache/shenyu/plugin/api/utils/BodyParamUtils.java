@@ -23,14 +23,16 @@ import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ReflectUtils;
 import org.springframework.util.LinkedMultiValueMap;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +42,13 @@ import java.util.regex.Pattern;
 public final class BodyParamUtils {
 
     private static final Pattern QUERY_PARAM_PATTERN = Pattern.compile("([^&=]+)(=?)([^&]+)?");
+
+    /**
+     * upper bound of the resolved parameter types, they come from the requests so the least used ones are evicted.
+     */
+    private static final int MAX_PARAMETER_TYPES = 1024;
+
+    private static final Map<String, ParameterTypes> PARAMETER_TYPES = new WindowTinyLFUMap<>(MAX_PARAMETER_TYPES);
     
     private BodyParamUtils() {
     }
@@ -70,57 +79,40 @@ public final class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildSingleParameter(final String body, final String parameterTypes) {
-        final Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        for (String key : paramMap.keySet()) {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                paramMap.put(key, GsonUtils.getInstance().convertToMap(obj.toString()));
-            } else if (obj instanceof JsonArray) {
-                paramMap.put(key, GsonUtils.getInstance().fromList(obj.toString(), Object.class));
-            } else {
-                paramMap.put(key, obj);
-            }
-        }
+        return buildSingleParameter(GsonUtils.getInstance().toObjectMap(body), parameterTypes);
+    }
+
+    private static Pair<String[], Object[]> buildSingleParameter(final Map<String, Object> paramMap, final String parameterTypes) {
+        paramMap.replaceAll((key, value) -> convert(value));
         return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
     }
 
     /**
      * build multi parameters.
+     * the body is parsed once, and the parameter types are resolved once per distinct value.
      *
      * @param body           the parameter body.
      * @param parameterTypes the parameter types.
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        List<String> paramNameList = new ArrayList<>();
-        List<String> paramTypeList = new ArrayList<>();
-
-        if (isNameMapping(parameterTypes)) {
-            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
-            paramNameList.addAll(paramNameMap.keySet());
-            paramTypeList.addAll(paramNameMap.values());
-        } else {
-            Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-            paramNameList.addAll(paramMap.keySet());
-            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
+        final ParameterTypes types = PARAMETER_TYPES.computeIfAbsent(parameterTypes, ParameterTypes::new);
+        final Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
+        if (types.single) {
+            return buildSingleParameter(paramMap, parameterTypes);
         }
+        final Collection<String> paramNames = Objects.isNull(types.names) ? paramMap.keySet() : types.names;
+        Object[] objects = paramNames.stream().map(key -> convert(paramMap.get(key))).toArray();
+        return new ImmutablePair<>(types.types.clone(), objects);
+    }
 
-        if (paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0))) {
-            return buildSingleParameter(body, parameterTypes);
+    private static Object convert(final Object obj) {
+        if (obj instanceof JsonObject) {
+            return GsonUtils.getInstance().convertJsonObjectToMap((JsonObject) obj);
+        } else if (obj instanceof JsonArray) {
+            return GsonUtils.getInstance().fromJsonArray((JsonArray) obj, Object.class);
         }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                return GsonUtils.getInstance().convertToMap(obj.toString());
-            } else if (obj instanceof JsonArray) {
-                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
-            } else {
-                return obj;
-            }
-        }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
+        return obj;
     }
 
     private static boolean isNameMapping(final String parameterTypes) {
@@ -140,4 +132,28 @@ public final class BodyParamUtils {
             return false;
         }
     }
+
+    /**
+     * The parsed parameter types of a meta data.
+     */
+    private static final class ParameterTypes {
+
+        private final List<String> names;
+
+        private final String[] types;
+
+        private final boolean single;
+
+        ParameterTypes(final String parameterTypes) {
+            if (isNameMapping(parameterTypes)) {
+                Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+                this.names = new ArrayList<>(paramNameMap.keySet());
+                this.types = paramNameMap.values().toArray(new String[0]);
+            } else {
+                this.names = null;
+                this.types = StringUtils.split(parameterTypes, ",");
+            }
+            this.single = types.length == 1 && !isBaseType(types[0]);
+        }
+    }
 }
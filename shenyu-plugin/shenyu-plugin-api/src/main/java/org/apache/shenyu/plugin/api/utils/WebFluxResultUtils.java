@@ -17,19 +17,29 @@
 
 package org.apache.shenyu.plugin.api.utils;
 
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.common.utils.ObjectTypeUtils;
 import org.apache.shenyu.plugin.api.exception.ResponsiveException;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Shenyu result utils.
@@ -41,6 +51,16 @@ public final class WebFluxResultUtils {
      */
     private static final Logger LOG = LoggerFactory.getLogger(WebFluxResultUtils.class);
 
+    /**
+     * the pre-encoded no selector bodies of the default result, keyed by plugin name.
+     */
+    private static final Map<String, byte[]> NO_SELECTOR_BODIES = new ConcurrentHashMap<>();
+
+    /**
+     * the pre-encoded no rule bodies of the default result, keyed by plugin name.
+     */
+    private static final Map<String, byte[]> NO_RULE_BODIES = new ConcurrentHashMap<>();
+
     private WebFluxResultUtils() {
     }
 
@@ -56,6 +76,11 @@ public final class WebFluxResultUtils {
             return Mono.empty();
         }
         final ShenyuResult<?> shenyuResult = ShenyuResultWrap.shenyuResult();
+        if (isDefault(shenyuResult) && !ObjectTypeUtils.isBasicType(result) && !(result instanceof byte[])) {
+            // the default result is json, serialize it straight into the response buffer.
+            exchange.getResponse().getHeaders().setContentType(shenyuResult.contentType(exchange, result));
+            return writeJson(exchange.getResponse(), result);
+        }
         Object resultData = shenyuResult.format(exchange, result);
         // basic data use text/plain
         MediaType mediaType = MediaType.TEXT_PLAIN;
@@ -81,8 +106,7 @@ public final class WebFluxResultUtils {
      */
     public static Mono<Void> noSelectorResult(final String pluginName, final ServerWebExchange exchange) {
         LOG.error("can not match selector data: {} , path is {}", pluginName, exchange.getRequest().getURI().getPath());
-        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.SELECTOR_NOT_FOUND.getCode(), pluginName + ":" + ShenyuResultEnum.SELECTOR_NOT_FOUND.getMsg(), null);
-        return WebFluxResultUtils.result(exchange, error);
+        return errorResult(exchange, NO_SELECTOR_BODIES, pluginName, ShenyuResultEnum.SELECTOR_NOT_FOUND);
     }
 
     /**
@@ -94,8 +118,7 @@ public final class WebFluxResultUtils {
      */
     public static Mono<Void> noRuleResult(final String pluginName, final ServerWebExchange exchange) {
         LOG.error("can not match rule data: {} , path is {}", pluginName, exchange.getRequest().getURI().getPath());
-        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.RULE_NOT_FOUND.getCode(), pluginName + ":" + ShenyuResultEnum.RULE_NOT_FOUND.getMsg(), null);
-        return WebFluxResultUtils.result(exchange, error);
+        return errorResult(exchange, NO_RULE_BODIES, pluginName, ShenyuResultEnum.RULE_NOT_FOUND);
     }
 
     /**
@@ -123,4 +146,39 @@ public final class WebFluxResultUtils {
         return WebFluxResultUtils.result(exchange, error);
     }
 
+    private static Mono<Void> errorResult(final ServerWebExchange exchange, final Map<String, byte[]> bodies,
+                                          final String pluginName, final ShenyuResultEnum resultEnum) {
+        final ShenyuResult<?> shenyuResult = ShenyuResultWrap.shenyuResult();
+        if (!isDefault(shenyuResult)) {
+            Object error = ShenyuResultWrap.error(exchange, resultEnum.getCode(), pluginName + ":" + resultEnum.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        // the default error body only depends on the plugin name, encode it once.
+        byte[] body = bodies.computeIfAbsent(pluginName,
+            name -> JsonUtils.toJsonBytes(shenyuResult.error(resultEnum.getCode(), name + ":" + resultEnum.getMsg(), null)));
+        exchange.getResponse().getHeaders().setContentType(shenyuResult.contentType(exchange, body));
+        return write(exchange.getResponse(), exchange.getResponse().bufferFactory().wrap(body));
+    }
+
+    private static Mono<Void> writeJson(final ServerHttpResponse response, final Object result) {
+        DataBuffer buffer = response.bufferFactory().allocateBuffer();
+        try (OutputStream outputStream = buffer.asOutputStream()) {
+            JsonUtils.writeJson(outputStream, result);
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            LOG.warn("write to json error: " + result, e);
+            buffer = response.bufferFactory().wrap(Constants.EMPTY_JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        return write(response, buffer);
+    }
+
+    private static Mono<Void> write(final ServerHttpResponse response, final DataBuffer buffer) {
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private static boolean isDefault(final ShenyuResult<?> shenyuResult) {
+        // a subclass may override the formatting, only the default class is known to write plain json.
+        return shenyuResult.getClass() == DefaultShenyuResult.class;
+    }
 }
@@ -36,6 +36,9 @@ import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.cache.MatchRoute;
+import org.apache.shenyu.plugin.base.cache.MatchRouteCache;
+import org.apache.shenyu.plugin.base.condition.compiled.CompiledMatcher;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
@@ -91,18 +94,38 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         initCacheConfig();
-        final String pluginName = named();
-        PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(pluginName);
+        PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(named());
         // early exit
         if (Objects.isNull(pluginData) || !pluginData.getEnabled()) {
             return chain.execute(exchange);
         }
+        return executePrepared(exchange, chain);
+    }
+
+    /**
+     * Prepare the match cache config and the tries of this plugin.
+     * the plugin pipeline calls it once when it is built, instead of on every request.
+     */
+    public void prepare() {
+        initCacheConfig();
+    }
+
+    /**
+     * Execute the plugin without looking up its config and plugin data again,
+     * the caller has called {@link #prepare()} and checked that the plugin is enabled.
+     *
+     * @param exchange the current server exchange
+     * @param chain    provides a way to delegate to the next plugin
+     * @return {@code Mono<Void>} to indicate when request processing is complete
+     */
+    public Mono<Void> executePrepared(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        final String pluginName = named();
         final String path = exchange.getRequest().getURI().getPath();
         List<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(pluginName);
         if (CollectionUtils.isEmpty(selectors)) {
             return handleSelectorIfNull(pluginName, exchange, chain);
         }
-        SelectorData selectorData = obtainSelectorDataCacheIfEnabled(path);
+        SelectorData selectorData = obtainSelectorDataCacheIfEnabled(exchange, path);
         // handle Selector
         if (Objects.nonNull(selectorData) && StringUtils.isBlank(selectorData.getId())) {
             return handleSelectorIfNull(pluginName, exchange, chain);
@@ -134,7 +157,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         // lru map as L1 cache,the cache is enabled by default.
         // if the L1 cache fails to hit, using L2 cache based on trie cache.
         // if the L2 cache fails to hit, execute default strategy.
-        RuleData ruleData = obtainRuleDataCacheIfEnabled(path);
+        RuleData ruleData = obtainRuleDataCacheIfEnabled(exchange, path);
         if (Objects.nonNull(ruleData) && Objects.isNull(ruleData.getId())) {
             return handleRuleIfNull(pluginName, exchange, chain);
         }
@@ -143,7 +166,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             ruleData = trieMatchRule(exchange, selectorData, path);
             // trie cache fails to hit, execute default strategy
             if (Objects.isNull(ruleData)) {
-                ruleData = defaultMatchRule(exchange, rules, path);
+                ruleData = defaultMatchRule(exchange, selectorData, rules, path);
                 if (Objects.isNull(ruleData)) {
                     return handleRuleIfNull(pluginName, exchange, chain);
                 }
@@ -165,12 +188,24 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         }
     }
     
-    private SelectorData obtainSelectorDataCacheIfEnabled(final String path) {
-        return selectorMatchConfig.getCache().getEnabled() ? MatchDataCache.getInstance().obtainSelectorData(named(), path) : null;
+    private SelectorData obtainSelectorDataCacheIfEnabled(final ServerWebExchange exchange, final String path) {
+        return selectorMatchConfig.getCache().getEnabled() ? obtainMatchRoute(exchange, path).obtainSelectorData(named()) : null;
     }
     
-    private RuleData obtainRuleDataCacheIfEnabled(final String path) {
-        return ruleMatchConfig.getCache().getEnabled() ? MatchDataCache.getInstance().obtainRuleData(named(), path) : null;
+    private RuleData obtainRuleDataCacheIfEnabled(final ServerWebExchange exchange, final String path) {
+        return ruleMatchConfig.getCache().getEnabled() ? obtainMatchRoute(exchange, path).obtainRuleData(named()) : null;
+    }
+    
+    /**
+     * the route is probed once per request and shared by the following plugins, until a plugin changes the path.
+     */
+    private MatchRoute obtainMatchRoute(final ServerWebExchange exchange, final String path) {
+        MatchRoute matchRoute = exchange.getAttribute(Constants.MATCH_ROUTE);
+        if (Objects.isNull(matchRoute) || !path.equals(matchRoute.getPath())) {
+            matchRoute = MatchRouteCache.getInstance().obtainRoute(path);
+            exchange.getAttributes().put(Constants.MATCH_ROUTE, matchRoute);
+        }
+        return matchRoute;
     }
 
     private void cacheSelectorData(final String path, final SelectorData selectorData) {
@@ -373,8 +408,27 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return ruleData;
     }
     
+    private Pair<Boolean, SelectorData> compiledMatchSelector(final ServerWebExchange exchange) {
+        if (!Boolean.TRUE.equals(selectorMatchConfig.getCompiled())) {
+            return null;
+        }
+        CompiledMatcher<SelectorData> matcher = BaseDataCache.getInstance().obtainCompiledSelectorMatcher(named());
+        return Objects.isNull(matcher) ? null : matcher.match(exchange);
+    }
+    
+    private Pair<Boolean, RuleData> compiledMatchRule(final ServerWebExchange exchange, final SelectorData selectorData) {
+        if (!Boolean.TRUE.equals(ruleMatchConfig.getCompiled())) {
+            return null;
+        }
+        CompiledMatcher<RuleData> matcher = BaseDataCache.getInstance().obtainCompiledRuleMatcher(selectorData.getId());
+        return Objects.isNull(matcher) ? null : matcher.match(exchange);
+    }
+    
     private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors, final String path) {
-        Pair<Boolean, SelectorData> matchSelectorPair = matchSelector(exchange, selectors);
+        Pair<Boolean, SelectorData> matchSelectorPair = compiledMatchSelector(exchange);
+        if (Objects.isNull(matchSelectorPair)) {
+            matchSelectorPair = matchSelector(exchange, selectors);
+        }
         SelectorData selectorData = matchSelectorPair.getRight();
         if (Objects.nonNull(selectorData)) {
             LogUtils.info(LOG, "{} selector match success from default strategy", named());
@@ -393,8 +447,11 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         }
     }
     
-    private RuleData defaultMatchRule(final ServerWebExchange exchange, final List<RuleData> rules, final String path) {
-        Pair<Boolean, RuleData> matchRulePair = matchRule(exchange, rules);
+    private RuleData defaultMatchRule(final ServerWebExchange exchange, final SelectorData selectorData, final List<RuleData> rules, final String path) {
+        Pair<Boolean, RuleData> matchRulePair = compiledMatchRule(exchange, selectorData);
+        if (Objects.isNull(matchRulePair)) {
+            matchRulePair = matchRule(exchange, rules);
+        }
         RuleData ruleData = matchRulePair.getRight();
         if (Objects.nonNull(ruleData)) {
             LOG.info("{} rule match path from default strategy", named());
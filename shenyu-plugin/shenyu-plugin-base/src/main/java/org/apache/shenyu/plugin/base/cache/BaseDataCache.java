@@ -19,14 +19,23 @@ package org.apache.shenyu.plugin.base.cache;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.compiled.CompiledMatcher;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +60,16 @@ public final class BaseDataCache {
      */
     private static final ConcurrentMap<String, List<RuleData>> RULE_MAP = Maps.newConcurrentMap();
 
+    /**
+     * pluginName -> compiled selector matcher, compiled lazily and dropped on every selector change.
+     */
+    private static final ConcurrentMap<String, CompiledMatcher<SelectorData>> COMPILED_SELECTOR_MAP = Maps.newConcurrentMap();
+
+    /**
+     * selectorId -> compiled rule matcher, compiled lazily and dropped on every rule change.
+     */
+    private static final ConcurrentMap<String, CompiledMatcher<RuleData>> COMPILED_RULE_MAP = Maps.newConcurrentMap();
+
     private BaseDataCache() {
     }
     
@@ -125,6 +144,22 @@ public final class BaseDataCache {
         Optional.ofNullable(selectorData).ifPresent(this::selectorAccept);
     }
     
+    /**
+     * Cache the selector data in bulk, the selectors of each plugin are merged and sorted once.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void cacheSelectDataList(final List<SelectorData> selectorDataList) {
+        Map<String, List<SelectorData>> grouped = groupBy(selectorDataList, SelectorData::getPluginName);
+        synchronized (SELECTOR_MAP) {
+            Map<String, List<SelectorData>> merged = new LinkedHashMap<>(grouped.size());
+            grouped.forEach((pluginName, changed) -> merged.put(pluginName,
+                    merge(SELECTOR_MAP.get(pluginName), changed, SelectorData::getId, Comparator.comparing(SelectorData::getSort))));
+            SELECTOR_MAP.putAll(merged);
+            merged.keySet().forEach(COMPILED_SELECTOR_MAP::remove);
+        }
+    }
+    
     /**
      * Remove select data.
      *
@@ -136,6 +171,7 @@ public final class BaseDataCache {
             synchronized (SELECTOR_MAP) {
                 Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
             }
+            COMPILED_SELECTOR_MAP.remove(data.getPluginName());
         });
     }
     
@@ -146,6 +182,7 @@ public final class BaseDataCache {
      */
     public void removeSelectDataByPluginName(final String pluginName) {
         SELECTOR_MAP.remove(pluginName);
+        COMPILED_SELECTOR_MAP.remove(pluginName);
     }
     
     /**
@@ -153,6 +190,7 @@ public final class BaseDataCache {
      */
     public void cleanSelectorData() {
         SELECTOR_MAP.clear();
+        COMPILED_SELECTOR_MAP.clear();
     }
     
     /**
@@ -161,7 +199,12 @@ public final class BaseDataCache {
      * @param selectorDataList the selector data list
      */
     public void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
-        selectorDataList.forEach(this::removeSelectData);
+        Map<String, List<SelectorData>> grouped = groupBy(selectorDataList, SelectorData::getPluginName);
+        synchronized (SELECTOR_MAP) {
+            grouped.forEach((pluginName, removed) -> Optional.ofNullable(SELECTOR_MAP.get(pluginName))
+                    .ifPresent(exist -> SELECTOR_MAP.put(pluginName, exclude(exist, removed, SelectorData::getId))));
+            grouped.keySet().forEach(COMPILED_SELECTOR_MAP::remove);
+        }
     }
     
     /**
@@ -174,6 +217,23 @@ public final class BaseDataCache {
         return SELECTOR_MAP.get(pluginName);
     }
     
+    /**
+     * Obtain the compiled selector matcher, compile it if absent.
+     *
+     * @param pluginName the plugin name
+     * @return the compiled matcher, null if the plugin has no selector
+     */
+    public CompiledMatcher<SelectorData> obtainCompiledSelectorMatcher(final String pluginName) {
+        CompiledMatcher<SelectorData> matcher = COMPILED_SELECTOR_MAP.get(pluginName);
+        if (Objects.nonNull(matcher)) {
+            return matcher;
+        }
+        return COMPILED_SELECTOR_MAP.computeIfAbsent(pluginName, key -> {
+            List<SelectorData> selectors = SELECTOR_MAP.get(key);
+            return Objects.isNull(selectors) ? null : CompiledMatcher.compileSelectors(selectors);
+        });
+    }
+    
     /**
      * Cache rule data.
      *
@@ -183,6 +243,22 @@ public final class BaseDataCache {
         Optional.ofNullable(ruleData).ifPresent(this::ruleAccept);
     }
     
+    /**
+     * Cache the rule data in bulk, the rules of each selector are merged and sorted once.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void cacheRuleDataList(final List<RuleData> ruleDataList) {
+        Map<String, List<RuleData>> grouped = groupBy(ruleDataList, RuleData::getSelectorId);
+        synchronized (RULE_MAP) {
+            Map<String, List<RuleData>> merged = new LinkedHashMap<>(grouped.size());
+            grouped.forEach((selectorId, changed) -> merged.put(selectorId,
+                    merge(RULE_MAP.get(selectorId), changed, RuleData::getId, Comparator.comparing(RuleData::getSort))));
+            RULE_MAP.putAll(merged);
+            merged.keySet().forEach(COMPILED_RULE_MAP::remove);
+        }
+    }
+    
     /**
      * Remove rule data.
      *
@@ -194,6 +270,7 @@ public final class BaseDataCache {
             synchronized (RULE_MAP) {
                 Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
             }
+            COMPILED_RULE_MAP.remove(data.getSelectorId());
         });
     }
     
@@ -204,6 +281,7 @@ public final class BaseDataCache {
      */
     public void removeRuleDataBySelectorId(final String selectorId) {
         RULE_MAP.remove(selectorId);
+        COMPILED_RULE_MAP.remove(selectorId);
     }
     
     /**
@@ -211,6 +289,7 @@ public final class BaseDataCache {
      */
     public void cleanRuleData() {
         RULE_MAP.clear();
+        COMPILED_RULE_MAP.clear();
     }
     
     /**
@@ -219,7 +298,12 @@ public final class BaseDataCache {
      * @param ruleDataList the rule data list
      */
     public void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
-        ruleDataList.forEach(this::removeRuleData);
+        Map<String, List<RuleData>> grouped = groupBy(ruleDataList, RuleData::getSelectorId);
+        synchronized (RULE_MAP) {
+            grouped.forEach((selectorId, removed) -> Optional.ofNullable(RULE_MAP.get(selectorId))
+                    .ifPresent(exist -> RULE_MAP.put(selectorId, exclude(exist, removed, RuleData::getId))));
+            grouped.keySet().forEach(COMPILED_RULE_MAP::remove);
+        }
     }
     
     /**
@@ -232,6 +316,23 @@ public final class BaseDataCache {
         return RULE_MAP.get(selectorId);
     }
     
+    /**
+     * Obtain the compiled rule matcher, compile it if absent.
+     *
+     * @param selectorId the selector id
+     * @return the compiled matcher, null if the selector has no rule
+     */
+    public CompiledMatcher<RuleData> obtainCompiledRuleMatcher(final String selectorId) {
+        CompiledMatcher<RuleData> matcher = COMPILED_RULE_MAP.get(selectorId);
+        if (Objects.nonNull(matcher)) {
+            return matcher;
+        }
+        return COMPILED_RULE_MAP.computeIfAbsent(selectorId, key -> {
+            List<RuleData> rules = RULE_MAP.get(key);
+            return Objects.isNull(rules) ? null : CompiledMatcher.compileRules(rules);
+        });
+    }
+    
     /**
      * Gets plugin map.
      *
@@ -277,6 +378,7 @@ public final class BaseDataCache {
             } else {
                 RULE_MAP.put(selectorId, Lists.newArrayList(data));
             }
+            COMPILED_RULE_MAP.remove(selectorId);
         }
     }
 
@@ -297,6 +399,35 @@ public final class BaseDataCache {
             } else {
                 SELECTOR_MAP.put(key, Lists.newArrayList(data));
             }
+            COMPILED_SELECTOR_MAP.remove(key);
         }
     }
+
+    private static <T> Map<String, List<T>> groupBy(final List<T> dataList, final Function<T, String> owner) {
+        if (CollectionUtils.isEmpty(dataList)) {
+            return Collections.emptyMap();
+        }
+        return dataList.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(owner, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * merge the changed data into the exist list, a changed data replaces the one with the same id
+     * and goes after the exist ones with the same sort, as caching them one by one does.
+     */
+    private static <T> List<T> merge(final List<T> exist, final List<T> changed, final Function<T, String> id, final Comparator<T> comparator) {
+        Map<String, T> merged = new LinkedHashMap<>();
+        Optional.ofNullable(exist).ifPresent(list -> list.forEach(data -> merged.put(id.apply(data), data)));
+        for (T data : changed) {
+            merged.remove(id.apply(data));
+            merged.put(id.apply(data), data);
+        }
+        List<T> result = new ArrayList<>(merged.values());
+        result.sort(comparator);
+        return result;
+    }
+
+    private static <T> List<T> exclude(final List<T> exist, final List<T> removed, final Function<T, String> id) {
+        Set<String> removedIds = removed.stream().map(id).collect(Collectors.toSet());
+        return exist.stream().filter(data -> !removedIds.contains(id.apply(data))).collect(Collectors.toList());
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.base.cache;
 
 import org.apache.shenyu.plugin.api.HandleCache;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
@@ -35,7 +36,8 @@ public class CommonHandleCache<K, V> implements HandleCache<K, V> {
     
     @Override
     public V obtainHandle(final K key, final Supplier<V> supplier) {
-        return cached.getOrDefault(key, supplier.get());
+        V value = cached.get(key);
+        return Objects.nonNull(value) ? value : supplier.get();
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.base.cache;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.config.ShenyuConfig.RuleMatchCache;
 import org.apache.shenyu.common.config.ShenyuConfig.SelectorMatchCache;
+import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -29,6 +30,7 @@ import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
 import org.apache.shenyu.common.enums.TrieEventEnum;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
 import org.apache.shenyu.plugin.base.event.TrieEvent;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
@@ -38,10 +40,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -142,6 +150,34 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(selectorData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onSelectorBatchSubscribe(final List<SelectorData> selectorDataList) {
+        List<SelectorData> selectors = Optional.ofNullable(selectorDataList).orElse(Collections.emptyList())
+                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (selectors.isEmpty()) {
+            return;
+        }
+        LOG.info("subscribe {} select data in batch", selectors.size());
+        selectors.forEach(selectorData -> {
+            compileConditions(selectorData.getConditionList());
+            TypedHandleCache.getInstance().removeSelectorHandle(selectorData.getId());
+        });
+        BaseDataCache.getInstance().cacheSelectDataList(selectors);
+        selectors.forEach(selectorData -> Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
+                .ifPresent(handler -> handler.handlerSelector(selectorData)));
+        // remove the match cache once per plugin
+        Set<String> pluginNames = selectors.stream().map(SelectorData::getPluginName).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (selectorMatchConfig.getCache().getEnabled()) {
+            pluginNames.forEach(MatchDataCache.getInstance()::removeSelectorData);
+        }
+        if (ruleMatchCacheConfig.getCache().getEnabled()) {
+            pluginNames.forEach(MatchDataCache.getInstance()::removeRuleData);
+        }
+        if (selectorMatchConfig.getTrie().getEnabled()) {
+            publishTrieEvents(TrieCacheTypeEnum.SELECTOR, selectors, SelectorData::getEnabled, SelectorData::getBeforeConditionList);
+        }
+    }
+    
     @Override
     public void unSelectorSubscribe(final SelectorData selectorData) {
         LOG.info("unSubscribe select data for selector: [id: {}, name: {}]", selectorData.getId(), selectorData.getName());
@@ -153,6 +189,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         LOG.info("start refresh all selector data");
         BaseDataCache.getInstance().cleanSelectorData();
         MatchDataCache.getInstance().cleanSelectorData();
+        TypedHandleCache.getInstance().cleanSelectorHandle();
         ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
         selectorTrie.clear();
     }
@@ -163,6 +200,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
+        selectorDataList.forEach(selectorData -> TypedHandleCache.getInstance().removeSelectorHandle(selectorData.getId()));
     }
     
     @Override
@@ -171,6 +209,30 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(ruleData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onRuleBatchSubscribe(final List<RuleData> ruleDataList) {
+        List<RuleData> rules = Optional.ofNullable(ruleDataList).orElse(Collections.emptyList())
+                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (rules.isEmpty()) {
+            return;
+        }
+        LOG.info("subscribe {} rule data in batch", rules.size());
+        rules.forEach(ruleData -> {
+            compileConditions(ruleData.getConditionDataList());
+            TypedHandleCache.getInstance().removeRuleHandle(ruleData.getId());
+        });
+        BaseDataCache.getInstance().cacheRuleDataList(rules);
+        rules.forEach(ruleData -> Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
+                .ifPresent(handler -> handler.handlerRule(ruleData)));
+        // remove the match cache once per plugin
+        if (ruleMatchCacheConfig.getCache().getEnabled()) {
+            rules.stream().map(RuleData::getPluginName).distinct().forEach(MatchDataCache.getInstance()::removeRuleData);
+        }
+        if (ruleMatchCacheConfig.getTrie().getEnabled()) {
+            publishTrieEvents(TrieCacheTypeEnum.RULE, rules, RuleData::getEnabled, RuleData::getBeforeConditionDataList);
+        }
+    }
+    
     @Override
     public void unRuleSubscribe(final RuleData ruleData) {
         LOG.info("unSubscribe rule data for rule[id: {}, name: {}]", ruleData.getId(), ruleData.getName());
@@ -182,6 +244,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         LOG.info("start refresh all rule data");
         BaseDataCache.getInstance().cleanRuleData();
         MatchDataCache.getInstance().cleanRuleDataData();
+        TypedHandleCache.getInstance().cleanRuleHandle();
         ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
         ruleTrie.clear();
     }
@@ -192,6 +255,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanRuleDataSelf(ruleDataList);
+        ruleDataList.forEach(ruleData -> TypedHandleCache.getInstance().removeRuleHandle(ruleData.getId()));
     }
     
     private <T> void subscribeDataHandler(final T classData, final DataEventTypeEnum dataType) {
@@ -235,6 +299,8 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             }
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
+            compileConditions(selectorData.getConditionList());
+            TypedHandleCache.getInstance().removeSelectorHandle(selectorData.getId());
             BaseDataCache.getInstance().cacheSelectData(selectorData);
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.handlerSelector(selectorData));
@@ -250,6 +316,8 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             updateSelectorTrieCache(selectorData);
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
+            compileConditions(ruleData.getConditionDataList());
+            TypedHandleCache.getInstance().removeRuleHandle(ruleData.getId());
             BaseDataCache.getInstance().cacheRuleData(ruleData);
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.handlerRule(ruleData));
@@ -261,6 +329,24 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         }
     }
 
+    /**
+     * compile the param value of conditions, the compiled value is dropped once the condition changes.
+     *
+     * @param conditionDataList condition data list
+     */
+    private void compileConditions(final List<ConditionData> conditionDataList) {
+        if (CollectionUtils.isEmpty(conditionDataList)) {
+            return;
+        }
+        for (ConditionData conditionData : conditionDataList) {
+            try {
+                PredicateJudgeFactory.compile(conditionData);
+            } catch (RuntimeException e) {
+                LOG.error("compile condition failed, condition: {}", conditionData, e);
+            }
+        }
+    }
+
     /**
      * judge need update plugin order.
      *
@@ -293,6 +379,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().removeSelectData(selectorData);
+            TypedHandleCache.getInstance().removeSelectorHandle(selectorData.getId());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.removeSelector(selectorData));
             // remove selector match cache
@@ -307,6 +394,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().removeRuleData(ruleData);
+            TypedHandleCache.getInstance().removeRuleHandle(ruleData.getId());
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.removeRule(ruleData));
             if (ruleMatchCacheConfig.getCache().getEnabled()) {
@@ -335,6 +423,26 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         }
     }
     
+    /**
+     * publish one trie event per event type for the batch, as updateSelectorTrieCache and updateRuleTrieCache do for one data.
+     */
+    private <T> void publishTrieEvents(final TrieCacheTypeEnum cacheType, final List<T> dataList,
+                                       final Function<T, Boolean> enabled, final Function<T, List<ConditionData>> beforeConditions) {
+        Map<TrieEventEnum, List<T>> events = new EnumMap<>(TrieEventEnum.class);
+        for (T data : dataList) {
+            TrieEventEnum event;
+            if (!Boolean.TRUE.equals(enabled.apply(data))) {
+                event = TrieEventEnum.REMOVE;
+            } else if (CollectionUtils.isEmpty(beforeConditions.apply(data))) {
+                event = TrieEventEnum.INSERT;
+            } else {
+                event = TrieEventEnum.UPDATE;
+            }
+            events.computeIfAbsent(event, key -> new ArrayList<>()).add(data);
+        }
+        events.forEach((event, batch) -> eventPublisher.publishEvent(new TrieEvent(event, cacheType, batch)));
+    }
+    
     private void updateRuleTrieCache(final RuleData ruleData) {
         if (!ruleMatchCacheConfig.getTrie().getEnabled()) {
             return;
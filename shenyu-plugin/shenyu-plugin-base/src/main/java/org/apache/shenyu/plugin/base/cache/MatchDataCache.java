@@ -25,7 +25,6 @@ import org.apache.shenyu.common.utils.MapUtils;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
 
 
@@ -66,6 +65,7 @@ public final class MatchDataCache {
      */
     public void removeSelectorData(final String pluginName) {
         SELECTOR_DATA_MAP.remove(pluginName);
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -80,6 +80,7 @@ public final class MatchDataCache {
             return;
         }
         pathSelectorCache.entrySet().removeIf(entry -> selectorId.equals(entry.getValue().getId()));
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -93,6 +94,7 @@ public final class MatchDataCache {
             return;
         }
         pathSelectorCache.entrySet().removeIf(entry -> Objects.isNull(entry.getValue().getId()));
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
 
     /**
@@ -100,6 +102,7 @@ public final class MatchDataCache {
      */
     public void cleanSelectorData() {
         SELECTOR_DATA_MAP.clear();
+        MatchRouteCache.getInstance().clean();
     }
 
     /**
@@ -113,6 +116,7 @@ public final class MatchDataCache {
     public void cacheSelectorData(final String path, final SelectorData selectorData, final int initialCapacity, final long maximumSize) {
         MapUtils.computeIfAbsent(SELECTOR_DATA_MAP, selectorData.getPluginName(), map ->
                 new WindowTinyLFUMap<>(initialCapacity, maximumSize, Boolean.FALSE)).put(path, selectorData);
+        MatchRouteCache.getInstance().cacheSelectorData(path, selectorData, initialCapacity, maximumSize);
     }
 
     /**
@@ -124,7 +128,7 @@ public final class MatchDataCache {
      */
     public SelectorData obtainSelectorData(final String pluginName, final String path) {
         final Map<String, SelectorData> lruMap = SELECTOR_DATA_MAP.get(pluginName);
-        return Optional.ofNullable(lruMap).orElse(Maps.newHashMap()).get(path);
+        return Objects.isNull(lruMap) ? null : lruMap.get(path);
     }
     
     /**
@@ -138,6 +142,7 @@ public final class MatchDataCache {
     public void cacheRuleData(final String path, final RuleData ruleData, final int initialCapacity, final long maximumSize) {
         MapUtils.computeIfAbsent(RULE_DATA_MAP, ruleData.getPluginName(), map ->
                 new WindowTinyLFUMap<>(initialCapacity, maximumSize, Boolean.FALSE)).put(path, ruleData);
+        MatchRouteCache.getInstance().cacheRuleData(path, ruleData, initialCapacity, maximumSize);
     }
     
     /**
@@ -147,6 +152,7 @@ public final class MatchDataCache {
      */
     public void removeRuleData(final String pluginName) {
         RULE_DATA_MAP.remove(pluginName);
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -161,6 +167,7 @@ public final class MatchDataCache {
             return;
         }
         pathRuleDataCache.entrySet().removeIf(entry -> ruleId.equals(entry.getValue().getId()));
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -175,6 +182,7 @@ public final class MatchDataCache {
             return;
         }
         pathRuleDataCache.entrySet().removeIf(entry -> selectorId.equals(entry.getValue().getSelectorId()));
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -188,6 +196,7 @@ public final class MatchDataCache {
             return;
         }
         pathRuleDataCache.entrySet().removeIf(entry -> Objects.isNull(entry.getValue().getId()));
+        MatchRouteCache.getInstance().invalidate(pluginName);
     }
     
     /**
@@ -195,6 +204,7 @@ public final class MatchDataCache {
      */
     public void cleanRuleDataData() {
         RULE_DATA_MAP.clear();
+        MatchRouteCache.getInstance().clean();
     }
     
     /**
@@ -206,7 +216,7 @@ public final class MatchDataCache {
      */
     public RuleData obtainRuleData(final String pluginName, final String path) {
         final Map<String, RuleData> lruMap = RULE_DATA_MAP.get(pluginName);
-        return Optional.ofNullable(lruMap).orElse(Maps.newHashMap()).get(path);
+        return Objects.isNull(lruMap) ? null : lruMap.get(path);
     }
     
     /**
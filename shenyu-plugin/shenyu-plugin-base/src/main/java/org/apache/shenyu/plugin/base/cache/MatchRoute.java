@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The match route of one path, it holds the cached selector and rule of every plugin,
+ * so the plugins of one request share one route instead of probing the match cache one by one.
+ * A route which is not stored keeps nothing, its plugins probe the match cache directly.
+ * Every entry carries the generation of its plugin it was cached at, and is probed again once the plugin's generation moves on.
+ */
+public final class MatchRoute {
+
+    private final String path;
+
+    /**
+     * pluginName -> selector data, null when the route is not stored.
+     */
+    private final Map<String, Cached<SelectorData>> selectors;
+
+    /**
+     * pluginName -> rule data, null when the route is not stored.
+     */
+    private final Map<String, Cached<RuleData>> rules;
+
+    MatchRoute(final String path, final boolean stored) {
+        this.path = path;
+        this.selectors = stored ? new ConcurrentHashMap<>() : null;
+        this.rules = stored ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Gets path.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Obtain the cached selector data of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return the selector data, null if it is not cached
+     */
+    public SelectorData obtainSelectorData(final String pluginName) {
+        if (Objects.isNull(selectors)) {
+            return MatchDataCache.getInstance().obtainSelectorData(pluginName, path);
+        }
+        Cached<SelectorData> cached = selectors.get(pluginName);
+        if (Objects.nonNull(cached) && cached.isCurrent()) {
+            return cached.data;
+        }
+        // the generation is read before the probe, so a removal meanwhile leaves the entry outdated
+        AtomicLong generation = MatchRouteCache.getInstance().generation(pluginName);
+        Cached<SelectorData> probed = new Cached<>(MatchDataCache.getInstance().obtainSelectorData(pluginName, path), generation);
+        // a concurrent write through is never replaced by the probe
+        if (Objects.isNull(cached)) {
+            selectors.putIfAbsent(pluginName, probed);
+        } else {
+            selectors.replace(pluginName, cached, probed);
+        }
+        return probed.data;
+    }
+
+    /**
+     * Obtain the cached rule data of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return the rule data, null if it is not cached
+     */
+    public RuleData obtainRuleData(final String pluginName) {
+        if (Objects.isNull(rules)) {
+            return MatchDataCache.getInstance().obtainRuleData(pluginName, path);
+        }
+        Cached<RuleData> cached = rules.get(pluginName);
+        if (Objects.nonNull(cached) && cached.isCurrent()) {
+            return cached.data;
+        }
+        AtomicLong generation = MatchRouteCache.getInstance().generation(pluginName);
+        Cached<RuleData> probed = new Cached<>(MatchDataCache.getInstance().obtainRuleData(pluginName, path), generation);
+        if (Objects.isNull(cached)) {
+            rules.putIfAbsent(pluginName, probed);
+        } else {
+            rules.replace(pluginName, cached, probed);
+        }
+        return probed.data;
+    }
+
+    void cacheSelectorData(final SelectorData selectorData, final AtomicLong generation) {
+        selectors.put(selectorData.getPluginName(), new Cached<>(selectorData, generation));
+    }
+
+    void cacheRuleData(final RuleData ruleData, final AtomicLong generation) {
+        rules.put(ruleData.getPluginName(), new Cached<>(ruleData, generation));
+    }
+
+    /**
+     * The data of one plugin and the plugin generation it was cached at, the data is null for a miss.
+     */
+    private static final class Cached<T> {
+
+        private final T data;
+
+        private final AtomicLong generation;
+
+        private final long cachedGeneration;
+
+        Cached(final T data, final AtomicLong generation) {
+            this.data = data;
+            this.generation = generation;
+            this.cachedGeneration = generation.get();
+        }
+
+        boolean isCurrent() {
+            return generation.get() == cachedGeneration;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.MapUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The match route cache, path -> {@link MatchRoute}.
+ * The routes are written through by {@link MatchDataCache}. A change of the match cache of one plugin moves its generation on,
+ * which outdates the entries of that plugin only.
+ */
+public final class MatchRouteCache {
+
+    private static final MatchRouteCache INSTANCE = new MatchRouteCache();
+
+    /**
+     * pluginName -> generation.
+     */
+    private final ConcurrentMap<String, AtomicLong> generations = Maps.newConcurrentMap();
+
+    private volatile Map<String, MatchRoute> routes;
+
+    private MatchRouteCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static MatchRouteCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the route of the path.
+     * A path is only stored once a plugin caches a selector or rule of it, until then a transient route is returned.
+     *
+     * @param path the path
+     * @return the route
+     */
+    public MatchRoute obtainRoute(final String path) {
+        MatchRoute route = obtainExistRoute(path);
+        return Objects.isNull(route) ? new MatchRoute(path, false) : route;
+    }
+
+    /**
+     * Outdate the cached selectors and rules of the plugin on every route.
+     *
+     * @param pluginName the plugin name
+     */
+    public void invalidate(final String pluginName) {
+        generation(pluginName).incrementAndGet();
+    }
+
+    /**
+     * Clean all routes.
+     */
+    public void clean() {
+        Map<String, MatchRoute> current = routes;
+        if (Objects.nonNull(current)) {
+            current.clear();
+        }
+    }
+
+    void cacheSelectorData(final String path, final SelectorData selectorData, final int initialCapacity, final long maximumSize) {
+        obtainStoredRoute(path, initialCapacity, maximumSize).cacheSelectorData(selectorData, generation(selectorData.getPluginName()));
+    }
+
+    void cacheRuleData(final String path, final RuleData ruleData, final int initialCapacity, final long maximumSize) {
+        obtainStoredRoute(path, initialCapacity, maximumSize).cacheRuleData(ruleData, generation(ruleData.getPluginName()));
+    }
+
+    AtomicLong generation(final String pluginName) {
+        return MapUtils.computeIfAbsent(generations, pluginName, key -> new AtomicLong());
+    }
+
+    private MatchRoute obtainStoredRoute(final String path, final int initialCapacity, final long maximumSize) {
+        Map<String, MatchRoute> current = routes;
+        if (Objects.isNull(current)) {
+            synchronized (this) {
+                if (Objects.isNull(routes)) {
+                    routes = new WindowTinyLFUMap<>(initialCapacity, maximumSize, Boolean.FALSE);
+                }
+                current = routes;
+            }
+        }
+        // atomic on the underlying cache, concurrent writers share one route
+        return current.computeIfAbsent(path, key -> new MatchRoute(key, true));
+    }
+
+    private MatchRoute obtainExistRoute(final String path) {
+        Map<String, MatchRoute> current = routes;
+        return Objects.isNull(current) ? null : current.get(path);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * The decoded handle cache shared by all plugins.
+ * The selector handle, rule handle and meta data rpcExt json are decoded once per sync event
+ * instead of once per request. The decoded values are shared, so callers must treat them as read-only.
+ */
+public final class TypedHandleCache {
+
+    private static final TypedHandleCache INSTANCE = new TypedHandleCache();
+
+    /**
+     * selectorId -> (handle type -> decoded handle).
+     */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Decoded>> selectorHandles = Maps.newConcurrentMap();
+
+    /**
+     * ruleId -> (handle type -> decoded handle).
+     */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Decoded>> ruleHandles = Maps.newConcurrentMap();
+
+    /**
+     * meta data path -> (ext type -> decoded rpcExt).
+     */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Decoded>> rpcExts = Maps.newConcurrentMap();
+
+    private TypedHandleCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static TypedHandleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the decoded selector handle.
+     *
+     * @param selectorData the selector data
+     * @param type the handle type
+     * @param <T> the handle type
+     * @return the decoded handle, null if the handle is blank
+     */
+    public <T> T obtainSelectorHandle(final SelectorData selectorData, final Class<T> type) {
+        return obtain(selectorHandles, selectorData.getId(), selectorData.getHandle(), type, null);
+    }
+
+    /**
+     * Obtain the decoded rule handle.
+     *
+     * @param ruleData the rule data
+     * @param type the handle type
+     * @param <T> the handle type
+     * @return the decoded handle, null if the handle is blank
+     */
+    public <T> T obtainRuleHandle(final RuleData ruleData, final Class<T> type) {
+        return obtain(ruleHandles, ruleData.getId(), ruleData.getHandle(), type, null);
+    }
+
+    /**
+     * Obtain the decoded rule handle, normalized once when it is decoded.
+     * The normalizer runs before the handle is shared, so callers never have to write into it.
+     *
+     * @param ruleData the rule data
+     * @param type the handle type
+     * @param normalizer the normalizer applied to a freshly decoded handle
+     * @param <T> the handle type
+     * @return the decoded handle, null if the handle is blank
+     */
+    public <T> T obtainRuleHandle(final RuleData ruleData, final Class<T> type, final Consumer<T> normalizer) {
+        return obtain(ruleHandles, ruleData.getId(), ruleData.getHandle(), type, normalizer);
+    }
+
+    /**
+     * Obtain the decoded meta data rpcExt.
+     *
+     * @param metaData the meta data
+     * @param type the rpcExt type
+     * @param <T> the rpcExt type
+     * @return the decoded rpcExt, null if the rpcExt is blank
+     */
+    public <T> T obtainRpcExt(final MetaData metaData, final Class<T> type) {
+        return obtain(rpcExts, metaData.getPath(), metaData.getRpcExt(), type, null);
+    }
+
+    /**
+     * Remove the decoded handles of the selector.
+     *
+     * @param selectorId the selector id
+     */
+    public void removeSelectorHandle(final String selectorId) {
+        remove(selectorHandles, selectorId);
+    }
+
+    /**
+     * Remove the decoded handles of the rule.
+     *
+     * @param ruleId the rule id
+     */
+    public void removeRuleHandle(final String ruleId) {
+        remove(ruleHandles, ruleId);
+    }
+
+    /**
+     * Remove the decoded rpcExt of the meta data.
+     *
+     * @param path the meta data path
+     */
+    public void removeRpcExt(final String path) {
+        remove(rpcExts, path);
+    }
+
+    /**
+     * Clean all decoded selector handles.
+     */
+    public void cleanSelectorHandle() {
+        selectorHandles.clear();
+    }
+
+    /**
+     * Clean all decoded rule handles.
+     */
+    public void cleanRuleHandle() {
+        ruleHandles.clear();
+    }
+
+    /**
+     * Clean all decoded rpcExts.
+     */
+    public void cleanRpcExt() {
+        rpcExts.clear();
+    }
+
+    private static void remove(final ConcurrentMap<String, ConcurrentMap<Class<?>, Decoded>> cache, final String key) {
+        if (Objects.nonNull(key)) {
+            cache.remove(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T obtain(final ConcurrentMap<String, ConcurrentMap<Class<?>, Decoded>> cache,
+                                final String key, final String json, final Class<T> type, final Consumer<T> normalizer) {
+        if (StringUtils.isBlank(json)) {
+            return null;
+        }
+        if (Objects.isNull(key)) {
+            return decode(json, type, normalizer);
+        }
+        ConcurrentMap<Class<?>, Decoded> decodedMap = cache.computeIfAbsent(key, k -> Maps.newConcurrentMap());
+        Decoded decoded = decodedMap.get(type);
+        // the json is compared as well, so a handle updated in place is never served stale
+        if (Objects.isNull(decoded) || !decoded.matches(json)) {
+            decoded = new Decoded(json, decode(json, type, normalizer));
+            decodedMap.put(type, decoded);
+        }
+        return (T) decoded.value;
+    }
+
+    private static <T> T decode(final String json, final Class<T> type, final Consumer<T> normalizer) {
+        T value = GsonUtils.getInstance().fromJson(json, type);
+        if (Objects.nonNull(normalizer) && Objects.nonNull(value)) {
+            normalizer.accept(value);
+        }
+        return value;
+    }
+
+    private static final class Decoded {
+
+        private final String json;
+
+        private final Object value;
+
+        Decoded(final String json, final Object value) {
+            this.json = json;
+            this.value = value;
+        }
+
+        boolean matches(final String source) {
+            return json == source || json.equals(source);
+        }
+    }
+}
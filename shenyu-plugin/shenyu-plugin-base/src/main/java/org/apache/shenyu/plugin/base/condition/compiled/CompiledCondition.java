@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.compiled;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataContext;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * A condition whose {@linkplain ParameterData} and {@linkplain PredicateJudge} are resolved once,
+ * so that evaluating it does not go through the SPI lookup again.
+ */
+public final class CompiledCondition {
+
+    private final ConditionData conditionData;
+
+    private final ParameterData parameterData;
+
+    private final PredicateJudge predicateJudge;
+
+    private CompiledCondition(final ConditionData conditionData, final ParameterData parameterData, final PredicateJudge predicateJudge) {
+        this.conditionData = conditionData;
+        this.parameterData = parameterData;
+        this.predicateJudge = predicateJudge;
+    }
+
+    /**
+     * Compile the condition data.
+     *
+     * @param conditionData the condition data
+     * @return the compiled condition
+     */
+    public static CompiledCondition compile(final ConditionData conditionData) {
+        Objects.requireNonNull(conditionData, "condition data is null");
+        return new CompiledCondition(conditionData,
+                ParameterDataFactory.newInstance(conditionData.getParamType()),
+                PredicateJudgeFactory.newInstance(conditionData.getOperator()));
+    }
+
+    /**
+     * Test the condition against the exchange.
+     *
+     * @param exchange the exchange
+     * @return true is pass, false is not pass
+     */
+    public boolean test(final ServerWebExchange exchange) {
+        String realData = ParameterDataContext.obtain(parameterData, conditionData.getParamType(), conditionData.getParamName(), exchange);
+        if (StringUtils.isBlank(realData)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(predicateJudge.judge(conditionData, realData));
+    }
+
+    /**
+     * Gets condition data.
+     *
+     * @return the condition data
+     */
+    public ConditionData getConditionData() {
+        return conditionData;
+    }
+}
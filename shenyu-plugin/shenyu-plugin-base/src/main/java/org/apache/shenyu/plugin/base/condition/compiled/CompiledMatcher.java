@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.compiled;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.AndMatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.OrMatchStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable decision table of the selectors of one plugin, or the rules of one selector.
+ *
+ * <p>The entries are pre-sorted by the number of AND conditions (descending) and then by sort,
+ * so the first matched entry is the one the default strategy would choose, and the scan stops
+ * as soon as a second entry matches. Matching allocates nothing.
+ *
+ * @param <T> {@linkplain SelectorData} or {@linkplain RuleData}
+ */
+public final class CompiledMatcher<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledMatcher.class);
+
+    private final Entry<T>[] entries;
+
+    private final Pair<Boolean, T> noMatch = Pair.of(Boolean.TRUE, null);
+
+    private CompiledMatcher(final Entry<T>[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Compile the selectors of one plugin.
+     *
+     * @param selectors the selectors
+     * @return the compiled matcher
+     */
+    public static CompiledMatcher<SelectorData> compileSelectors(final List<SelectorData> selectors) {
+        List<Entry<SelectorData>> entries = new ArrayList<>();
+        for (SelectorData selector : distinct(selectors)) {
+            if (!Boolean.TRUE.equals(selector.getEnabled())) {
+                continue;
+            }
+            if (!Objects.equals(selector.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode())) {
+                entries.add(new Entry<>(selector, selector.getMatchMode(), selector.getConditionList(), selector.getSort(), true));
+                continue;
+            }
+            if (CollectionUtils.isEmpty(selector.getConditionList())) {
+                continue;
+            }
+            entries.add(new Entry<>(selector, selector.getMatchMode(), selector.getConditionList(), selector.getSort(), false));
+        }
+        return build(entries);
+    }
+
+    /**
+     * Compile the rules of one selector.
+     *
+     * @param rules the rules
+     * @return the compiled matcher
+     */
+    public static CompiledMatcher<RuleData> compileRules(final List<RuleData> rules) {
+        List<Entry<RuleData>> entries = new ArrayList<>();
+        for (RuleData rule : distinct(rules)) {
+            if (!Boolean.TRUE.equals(rule.getEnabled())) {
+                continue;
+            }
+            entries.add(new Entry<>(rule, rule.getMatchMode(), rule.getConditionDataList(), rule.getSort(), false));
+        }
+        return build(entries);
+    }
+
+    /**
+     * Match the exchange.
+     *
+     * <p>The left of the result is whether at most one entry matched, which means the result
+     * may be cached, the right is the matched data or null.
+     *
+     * @param exchange the exchange
+     * @return the match result
+     */
+    public Pair<Boolean, T> match(final ServerWebExchange exchange) {
+        Entry<T> matched = null;
+        for (Entry<T> entry : entries) {
+            if (!entry.matches(exchange)) {
+                continue;
+            }
+            if (Objects.nonNull(matched)) {
+                return matched.ambiguous;
+            }
+            matched = entry;
+        }
+        return Objects.isNull(matched) ? noMatch : matched.unique;
+    }
+
+    /**
+     * Size of the compiled entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    private static <T> List<T> distinct(final List<T> list) {
+        if (CollectionUtils.isEmpty(list)) {
+            return Collections.emptyList();
+        }
+        return list.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompiledMatcher<T> build(final List<Entry<T>> entries) {
+        // stable sort, the same sort keeps the original order as the default strategy does.
+        entries.sort(Comparator.<Entry<T>>comparingInt(entry -> entry.weight).reversed().thenComparingInt(entry -> entry.sort));
+        return new CompiledMatcher<>(entries.toArray(new Entry[0]));
+    }
+
+    private static final class Entry<T> {
+
+        private final Pair<Boolean, T> unique;
+
+        private final Pair<Boolean, T> ambiguous;
+
+        private final int weight;
+
+        private final int sort;
+
+        private final boolean matchAll;
+
+        private final boolean andMode;
+
+        private final CompiledCondition[] conditions;
+
+        private final Integer matchMode;
+
+        private final List<ConditionData> conditionList;
+
+        private final boolean fallback;
+
+        Entry(final T data, final Integer matchMode, final List<ConditionData> conditionList, final Integer sort, final boolean matchAll) {
+            this.unique = Pair.of(Boolean.TRUE, data);
+            this.ambiguous = Pair.of(Boolean.FALSE, data);
+            this.weight = MatchModeEnum.match(matchMode, MatchModeEnum.AND) ? CollectionUtils.size(conditionList) : 0;
+            this.sort = Objects.isNull(sort) ? Integer.MAX_VALUE : sort;
+            this.matchAll = matchAll;
+            this.matchMode = matchMode;
+            this.conditionList = conditionList;
+            CompiledCondition[] compiled = new CompiledCondition[0];
+            boolean and = true;
+            boolean compileFailed = false;
+            if (!matchAll) {
+                try {
+                    MatchStrategy strategy = MatchStrategyFactory.newInstance(matchMode);
+                    and = strategy.getClass() == AndMatchStrategy.class;
+                    // extended match strategies keep being evaluated by themselves.
+                    compileFailed = !and && strategy.getClass() != OrMatchStrategy.class;
+                    if (!compileFailed) {
+                        List<ConditionData> list = Objects.isNull(conditionList) ? Collections.emptyList() : conditionList;
+                        compiled = new CompiledCondition[list.size()];
+                        for (int i = 0; i < compiled.length; i++) {
+                            compiled[i] = CompiledCondition.compile(list.get(i));
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    LOG.warn("compile conditions failed, use the match strategy instead, match mode: {}", matchMode, e);
+                    compileFailed = true;
+                }
+            }
+            this.andMode = and;
+            this.conditions = compiled;
+            this.fallback = compileFailed;
+        }
+
+        boolean matches(final ServerWebExchange exchange) {
+            if (matchAll) {
+                return true;
+            }
+            if (fallback) {
+                return MatchStrategyFactory.match(matchMode, conditionList, exchange);
+            }
+            if (andMode) {
+                for (CompiledCondition condition : conditions) {
+                    if (!condition.test(exchange)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            for (CompiledCondition condition : conditions) {
+                if (condition.test(exchange)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -38,4 +38,9 @@ public class CookieParameterData implements ParameterData {
         }
         return cookies.get(0).getValue();
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
@@ -30,4 +30,9 @@ public class DomainParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return exchange.getRequest().getURI().getHost();
     }
+
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
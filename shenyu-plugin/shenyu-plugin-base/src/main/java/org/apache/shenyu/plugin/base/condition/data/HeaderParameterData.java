@@ -37,4 +37,9 @@ public class HeaderParameterData implements ParameterData {
         } 
         return headers.get(0);
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
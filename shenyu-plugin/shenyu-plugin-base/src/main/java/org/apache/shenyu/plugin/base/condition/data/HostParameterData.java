@@ -31,4 +31,9 @@ public class HostParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return HostAddressUtils.acquireHost(exchange);
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
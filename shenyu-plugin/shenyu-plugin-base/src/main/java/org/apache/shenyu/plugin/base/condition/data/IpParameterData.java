@@ -31,4 +31,9 @@ public class IpParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return HostAddressUtils.acquireIp(exchange);
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
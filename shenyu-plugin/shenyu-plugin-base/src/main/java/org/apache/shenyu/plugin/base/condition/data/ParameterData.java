@@ -36,4 +36,13 @@ public interface ParameterData {
     default String builder(final String paramName, final ServerWebExchange exchange) {
         return "";
     }
+    
+    /**
+     * Whether the value only depends on the request, so it can be extracted once per request.
+     *
+     * @return true if the value can be cached
+     */
+    default boolean cacheable() {
+        return false;
+    }
 }
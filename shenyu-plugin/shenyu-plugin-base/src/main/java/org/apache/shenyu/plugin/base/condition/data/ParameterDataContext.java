@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.data;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The request scoped parameter data, each (paramType, paramName) is extracted once per request.
+ * The values are bound to the request they are read from, a mutated request starts over.
+ */
+public final class ParameterDataContext {
+    
+    private static final String ABSENT = new String();
+    
+    private final ServerHttpRequest request;
+    
+    private final Map<String, Map<String, String>> values = new HashMap<>(8);
+    
+    private ParameterDataContext(final ServerHttpRequest request) {
+        this.request = request;
+    }
+    
+    /**
+     * Obtain the parameter data of the exchange, extracting it only on the first access.
+     *
+     * @param parameterData the parameter data
+     * @param paramType the param type
+     * @param paramName the param name
+     * @param exchange the exchange
+     * @return the string
+     */
+    public static String obtain(final ParameterData parameterData, final String paramType, final String paramName, final ServerWebExchange exchange) {
+        if (!parameterData.cacheable()) {
+            return parameterData.builder(paramName, exchange);
+        }
+        ParameterDataContext context = exchange.getAttribute(Constants.PARAMETER_DATA_CONTEXT);
+        if (Objects.isNull(context) || context.request != exchange.getRequest()) {
+            context = new ParameterDataContext(exchange.getRequest());
+            exchange.getAttributes().put(Constants.PARAMETER_DATA_CONTEXT, context);
+        }
+        Map<String, String> names = context.values.computeIfAbsent(paramType, type -> new HashMap<>(4));
+        String value = names.get(paramName);
+        if (Objects.isNull(value)) {
+            final String extracted = parameterData.builder(paramName, exchange);
+            value = Objects.isNull(extracted) ? ABSENT : extracted;
+            names.put(paramName, value);
+        }
+        return value == ABSENT ? null : value;
+    }
+}
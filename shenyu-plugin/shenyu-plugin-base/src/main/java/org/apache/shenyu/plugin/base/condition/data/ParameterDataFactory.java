@@ -39,7 +39,7 @@ public final class ParameterDataFactory {
     }
     
     /**
-     * Builder data string.
+     * Builder data string, the value is extracted once per request if the parameter data is cacheable.
      *
      * @param paramType the param type
      * @param paramName the param name
@@ -47,6 +47,6 @@ public final class ParameterDataFactory {
      * @return the string
      */
     public static String builderData(final String paramType, final String paramName, final ServerWebExchange exchange) {
-        return newInstance(paramType).builder(paramName, exchange);
+        return ParameterDataContext.obtain(newInstance(paramType), paramType, paramName, exchange);
     }
 }
@@ -18,20 +18,44 @@
 package org.apache.shenyu.plugin.base.condition.data;
 
 import org.apache.shenyu.common.constant.Constants;
-import org.apache.shenyu.common.utils.ReflectUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.spi.Join;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * The type Post parameter data.
  */
 @Join
 public class PostParameterData implements ParameterData {
     
+    private static final Map<String, Function<ShenyuContext, String>> ACCESSORS = new HashMap<>(16);
+    
+    static {
+        ACCESSORS.put("module", ShenyuContext::getModule);
+        ACCESSORS.put("method", ShenyuContext::getMethod);
+        ACCESSORS.put("rpcType", ShenyuContext::getRpcType);
+        ACCESSORS.put("httpMethod", ShenyuContext::getHttpMethod);
+        ACCESSORS.put("sign", ShenyuContext::getSign);
+        ACCESSORS.put("timestamp", ShenyuContext::getTimestamp);
+        ACCESSORS.put("appKey", ShenyuContext::getAppKey);
+        ACCESSORS.put("path", ShenyuContext::getPath);
+        ACCESSORS.put("contextPath", ShenyuContext::getContextPath);
+        ACCESSORS.put("realUrl", ShenyuContext::getRealUrl);
+        ACCESSORS.put("startDateTime", context -> Objects.toString(context.getStartDateTime(), null));
+    }
+    
     @Override
     public String builder(final String paramName, final ServerWebExchange exchange) {
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
-        return (String) ReflectUtils.getFieldValue(shenyuContext, paramName);
+        Function<ShenyuContext, String> accessor = ACCESSORS.get(paramName);
+        if (Objects.isNull(shenyuContext) || Objects.isNull(accessor)) {
+            return null;
+        }
+        return accessor.apply(shenyuContext);
     }
 }
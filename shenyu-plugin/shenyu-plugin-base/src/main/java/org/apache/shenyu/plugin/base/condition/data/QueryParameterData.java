@@ -30,4 +30,9 @@ public class QueryParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return exchange.getRequest().getQueryParams().getFirst(paramName);
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
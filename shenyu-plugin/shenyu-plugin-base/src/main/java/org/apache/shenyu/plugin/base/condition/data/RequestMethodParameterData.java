@@ -30,4 +30,9 @@ public class RequestMethodParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return exchange.getRequest().getMethodValue();
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
@@ -30,4 +30,9 @@ public class URIParameterData implements ParameterData {
     public String builder(final String paramName, final ServerWebExchange exchange) {
         return exchange.getRequest().getURI().getPath();
     }
+    
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
 }
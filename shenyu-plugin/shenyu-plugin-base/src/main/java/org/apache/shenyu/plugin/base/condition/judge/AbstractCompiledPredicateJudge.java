@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.shenyu.common.dto.ConditionData;
+
+/**
+ * Predicate judge which compiles the param value once and keeps it on the {@linkplain ConditionData}.
+ *
+ * @param <T> the compiled param value type
+ */
+public abstract class AbstractCompiledPredicateJudge<T> implements PredicateJudge {
+
+    @Override
+    public Boolean judge(final ConditionData conditionData, final String realData) {
+        return judge(conditionData, obtainCompiledParamValue(conditionData), realData);
+    }
+
+    /**
+     * judge the compiled param value and realData is match.
+     *
+     * @param conditionData {@linkplain ConditionData}
+     * @param compiledParamValue the compiled param value
+     * @param realData realData
+     * @return true is pass  false is not pass.
+     */
+    protected abstract Boolean judge(ConditionData conditionData, T compiledParamValue, String realData);
+
+    /**
+     * compile the param value of the condition data.
+     *
+     * @param conditionData {@linkplain ConditionData}
+     * @return the compiled param value
+     */
+    protected abstract T compileParamValue(ConditionData conditionData);
+
+    @Override
+    public void compile(final ConditionData conditionData) {
+        obtainCompiledParamValue(conditionData);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T obtainCompiledParamValue(final ConditionData conditionData) {
+        Object compiled = conditionData.getCompiledParamValue();
+        if (compiled instanceof CompiledParamValue && ((CompiledParamValue) compiled).judgeClass == getClass()) {
+            return (T) ((CompiledParamValue) compiled).value;
+        }
+        T value = compileParamValue(conditionData);
+        conditionData.setCompiledParamValue(new CompiledParamValue(getClass(), value));
+        return value;
+    }
+
+    private static final class CompiledParamValue {
+
+        private final Class<?> judgeClass;
+
+        private final Object value;
+
+        CompiledParamValue(final Class<?> judgeClass, final Object value) {
+            this.judgeClass = judgeClass;
+            this.value = value;
+        }
+    }
+}
@@ -19,8 +19,10 @@ package org.apache.shenyu.plugin.base.condition.judge;
 
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.enums.ParamTypeEnum;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.spi.Join;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.util.Objects;
 
@@ -31,12 +33,20 @@ import java.util.Objects;
  * Path pattern predicate judge.
  */
 @Join
-public class PathPatternPredicateJudge implements PredicateJudge {
+public class PathPatternPredicateJudge extends AbstractCompiledPredicateJudge<PathPattern> {
 
     @Override
-    public Boolean judge(final ConditionData conditionData, final String realData) {
+    protected PathPattern compileParamValue(final ConditionData conditionData) {
         if (Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
-            return PathMatchUtils.pathPattern(conditionData.getParamValue().trim(), realData);
+            return PathPatternParser.defaultInstance.parse(conditionData.getParamValue().trim());
+        }
+        return null;
+    }
+
+    @Override
+    protected Boolean judge(final ConditionData conditionData, final PathPattern pathPattern, final String realData) {
+        if (Objects.nonNull(pathPattern)) {
+            return pathPattern.matches(PathContainer.parsePath(realData));
         }
         return realData.contains(conditionData.getParamValue().trim());
     }
@@ -35,4 +35,12 @@ public interface PredicateJudge {
      * @return true is pass  false is not pass.
      */
     Boolean judge(ConditionData conditionData, String realData);
+
+    /**
+     * compile the param value of conditionData ahead of the first judge.
+     *
+     * @param conditionData {@linkplain ConditionData}
+     */
+    default void compile(ConditionData conditionData) {
+    }
 }
@@ -56,6 +56,19 @@ public final class PredicateJudgeFactory {
         return newInstance(conditionData.getOperator()).judge(conditionData, realData);
     }
 
+    /**
+     * compile the param value of conditionData, so the judge does not parse it on every request.
+     *
+     * @param conditionData condition data
+     */
+    public static void compile(final ConditionData conditionData) {
+        if (Objects.isNull(conditionData) || StringUtils.isBlank(conditionData.getOperator())
+                || Objects.isNull(conditionData.getParamValue())) {
+            return;
+        }
+        newInstance(conditionData.getOperator()).compile(conditionData);
+    }
+
     /**
      * process special operator, like = need to change to equals.
      *
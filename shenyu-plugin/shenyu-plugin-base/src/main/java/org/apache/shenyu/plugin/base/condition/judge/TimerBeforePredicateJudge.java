@@ -28,14 +28,19 @@ import java.time.LocalDateTime;
  * Timer before predicate judge.
  */
 @Join
-public class TimerBeforePredicateJudge implements PredicateJudge {
+public class TimerBeforePredicateJudge extends AbstractCompiledPredicateJudge<LocalDateTime> {
 
     @Override
-    public Boolean judge(final ConditionData conditionData, final String realData) {
+    protected LocalDateTime compileParamValue(final ConditionData conditionData) {
+        return DateUtils.parseLocalDateTime(conditionData.getParamValue().trim());
+    }
+
+    @Override
+    protected Boolean judge(final ConditionData conditionData, final LocalDateTime paramTime, final String realData) {
         String paramName = conditionData.getParamName();
         if (!StringUtils.hasLength(paramName)) {
-            return LocalDateTime.now().isBefore(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+            return LocalDateTime.now().isBefore(paramTime);
         }
-        return DateUtils.parseLocalDateTime(realData).isBefore(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+        return DateUtils.parseLocalDateTime(realData).isBefore(paramTime);
     }
 }
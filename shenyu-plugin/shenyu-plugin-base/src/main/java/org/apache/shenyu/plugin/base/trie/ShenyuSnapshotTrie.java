@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The snapshot trie, an alternative engine of {@link ShenyuTrie}.
+ * <p>The paths of each key are compiled into an immutable radix tree, whose children are kept in sorted arrays
+ * with interned segments. The tree is compiled by the thread that changes the paths, once per put or remove call,
+ * or once per changed key for a {@link #batch(Runnable)}, and published atomically, so matching only reads
+ * the published tree and never waits for a compile.</p>
+ * <p>Matching walks the raw uri path by index, it neither splits the path nor allocates, and the priority of
+ * a segment is the same as {@link ShenyuTrie}: path, wildcard, match-all, path variable.</p>
+ */
+public class ShenyuSnapshotTrie extends ShenyuTrie {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShenyuSnapshotTrie.class);
+
+    private static final String WILDCARD = "*";
+
+    private static final String MATCH_ALL = "**";
+
+    private static final String[] EMPTY_SEGMENTS = new String[0];
+
+    private static final Node[] EMPTY_NODES = new Node[0];
+
+    /**
+     * when the trie is selector trie, the key is pluginName, when the trie is rule trie, the key is selectorId.
+     */
+    private final Map<String, Registry> keyRegistryMap;
+
+    private final TrieMatchModeEnum matchMode;
+
+    /**
+     * the registries changed by the batch running on this thread, published when the batch ends.
+     */
+    private final ThreadLocal<Set<Registry>> batchRegistries = new ThreadLocal<>();
+
+    public ShenyuSnapshotTrie(final Long cacheSize, final String matchMode) {
+        super(cacheSize, matchMode);
+        this.matchMode = TrieMatchModeEnum.acquireTrieMatch(matchMode);
+        this.keyRegistryMap = new WindowTinyLFUMap<>(cacheSize);
+    }
+
+    @Override
+    public void clear() {
+        keyRegistryMap.clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keyRegistryMap.isEmpty();
+    }
+
+    @Override
+    public void batch(final Runnable changes) {
+        if (Objects.nonNull(batchRegistries.get())) {
+            changes.run();
+            return;
+        }
+        Set<Registry> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        batchRegistries.set(changed);
+        try {
+            changes.run();
+        } finally {
+            batchRegistries.remove();
+            changed.forEach(Registry::publish);
+        }
+    }
+
+    @Override
+    public <T> void putNode(final List<String> uriPaths, final T source, final TrieCacheTypeEnum cacheType) {
+        if (CollectionUtils.isEmpty(uriPaths)) {
+            return;
+        }
+        Registry registry = keyRegistryMap.computeIfAbsent(bizInfo(source, cacheType), Registry::new);
+        try {
+            uriPaths.forEach(uriPath -> put(registry, uriPath, source, cacheType));
+        } finally {
+            publish(registry);
+        }
+    }
+
+    @Override
+    public <T> void putNode(final String uriPath, final T source, final TrieCacheTypeEnum cacheType) {
+        putNode(Collections.singletonList(uriPath), source, cacheType);
+    }
+
+    @Override
+    public <T> void remove(final List<String> paths, final T source, final TrieCacheTypeEnum cacheType) {
+        if (CollectionUtils.isEmpty(paths)) {
+            return;
+        }
+        Registry registry = keyRegistryMap.get(bizInfo(source, cacheType));
+        if (Objects.isNull(registry)) {
+            return;
+        }
+        paths.stream().map(ShenyuSnapshotTrie::normalize).filter(Objects::nonNull)
+                .forEach(path -> registry.remove(path, source, cacheType));
+        publish(registry);
+    }
+
+    @Override
+    public <T> void remove(final String path, final T source, final TrieCacheTypeEnum cacheType) {
+        remove(Collections.singletonList(path), source, cacheType);
+    }
+
+    @Override
+    public void removeByKey(final String key) {
+        keyRegistryMap.remove(key);
+    }
+
+    @Override
+    public ShenyuTrieNode match(final String uriPath, final String bizInfo) {
+        if (Objects.isNull(uriPath)) {
+            return null;
+        }
+        Registry registry = keyRegistryMap.get(bizInfo);
+        if (Objects.isNull(registry)) {
+            return null;
+        }
+        return matchNode(registry.snapshot(), uriPath, 0);
+    }
+
+    @Override
+    public ShenyuTrieNode getNode(final String uriPath, final String bizInfo) {
+        String path = normalize(uriPath);
+        Registry registry = keyRegistryMap.get(bizInfo);
+        if (Objects.isNull(path) || Objects.isNull(registry)) {
+            return null;
+        }
+        return registry.getNode(path);
+    }
+
+    @Override
+    public Set<String> getKeyRootKeys() {
+        return keyRegistryMap.keySet();
+    }
+
+    private void publish(final Registry registry) {
+        Set<Registry> changed = batchRegistries.get();
+        if (Objects.nonNull(changed)) {
+            changed.add(registry);
+            return;
+        }
+        registry.publish();
+    }
+
+    private <T> void put(final Registry registry, final String uriPath, final T source, final TrieCacheTypeEnum cacheType) {
+        String path = normalize(uriPath);
+        if (Objects.isNull(path)) {
+            return;
+        }
+        if (TrieMatchModeEnum.PATH_PATTERN.equals(matchMode)) {
+            checkLegalPath(uriPath, path);
+        }
+        registry.put(path, uriPath, source, cacheType);
+    }
+
+    /**
+     * match the path from the index, the first matched node in priority order wins.
+     *
+     * @param node current node
+     * @param path raw uri path
+     * @param from start index of the remaining path
+     * @return the matched end node
+     */
+    private static ShenyuTrieNode matchNode(final Node node, final String path, final int from) {
+        int start = from;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == path.length()) {
+            if (Objects.nonNull(node.endNode)) {
+                return node.endNode;
+            }
+            // /a/** also matches /a
+            return Objects.nonNull(node.matchAll) ? node.matchAll.endNode : null;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        ShenyuTrieNode matched;
+        int index = search(node.segments, path, start, end);
+        if (index >= 0 && Objects.nonNull(matched = matchNode(node.children[index], path, end))) {
+            return matched;
+        }
+        for (int i = 0; i < node.wildcards.length; i++) {
+            if (isMatchWildcardPattern(path, start, end, node.wildcards[i])
+                    && Objects.nonNull(matched = matchNode(node.wildcardChildren[i], path, end))) {
+                return matched;
+            }
+        }
+        if (Objects.nonNull(node.matchAll) && Objects.nonNull(matched = matchAll(node.matchAll, path, start))) {
+            return matched;
+        }
+        for (Node variable : node.variables) {
+            if (Objects.nonNull(matched = matchNode(variable, path, end))) {
+                return matched;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * match-all consumes zero or more segments, the shortest consumption is tried first.
+     */
+    private static ShenyuTrieNode matchAll(final Node matchAll, final String path, final int from) {
+        int start = from;
+        while (true) {
+            ShenyuTrieNode matched = matchNode(matchAll, path, start);
+            if (Objects.nonNull(matched) || start >= path.length()) {
+                return matched;
+            }
+            int next = path.indexOf('/', start + 1);
+            start = next < 0 ? path.length() : next;
+        }
+    }
+
+    /**
+     * binary search the segment in sorted segments without creating a substring.
+     */
+    private static int search(final String[] segments, final String path, final int start, final int end) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(segments[mid], path, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(final String segment, final String path, final int start, final int end) {
+        int length = end - start;
+        int limit = Math.min(segment.length(), length);
+        for (int i = 0; i < limit; i++) {
+            char c1 = segment.charAt(i);
+            char c2 = path.charAt(start + i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return segment.length() - length;
+    }
+
+    private static boolean isMatchWildcardPattern(final String path, final int start, final int end, final String pattern) {
+        int sRight = end;
+        int pRight = pattern.length();
+        while (sRight > start && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
+            if (path.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
+                --sRight;
+                --pRight;
+            } else {
+                return false;
+            }
+        }
+        if (pRight == 0) {
+            return sRight == start;
+        }
+        int sIndex = start;
+        int pIndex = 0;
+        int sRecord = -1;
+        int pRecord = -1;
+        while (sIndex < sRight && pIndex < pRight) {
+            if (pattern.charAt(pIndex) == '*') {
+                ++pIndex;
+                sRecord = sIndex;
+                pRecord = pIndex;
+            } else if (path.charAt(sIndex) == pattern.charAt(pIndex)) {
+                ++sIndex;
+                ++pIndex;
+            } else if (sRecord != -1 && sRecord + 1 < sRight) {
+                ++sRecord;
+                sIndex = sRecord;
+                pIndex = pRecord;
+            } else {
+                return false;
+            }
+        }
+        for (int i = pIndex; i < pRight; ++i) {
+            if (pattern.charAt(i) != '*') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(final String uriPath) {
+        if (StringUtils.isBlank(uriPath)) {
+            return null;
+        }
+        String[] pathParts = StringUtils.split(uriPath, "/");
+        return pathParts.length == 0 ? null : String.join("/", pathParts);
+    }
+
+    private static void checkLegalPath(final String uriPath, final String path) {
+        String[] pathParts = StringUtils.split(path, "/");
+        for (int i = 0; i < pathParts.length - 1; i++) {
+            if (isMatchAll(pathParts[i])) {
+                LOG.error("error path:{}, error position:{}", uriPath, i);
+                throw new ShenyuException("No more pattern data allowed after ** pattern element");
+            }
+        }
+    }
+
+    private static <T> String bizInfo(final T source, final TrieCacheTypeEnum cacheType) {
+        return TrieCacheTypeEnum.RULE.equals(cacheType) ? ((RuleData) source).getSelectorId() : ((SelectorData) source).getPluginName();
+    }
+
+    private static <T> String id(final T source, final TrieCacheTypeEnum cacheType) {
+        return TrieCacheTypeEnum.RULE.equals(cacheType) ? ((RuleData) source).getId() : ((SelectorData) source).getId();
+    }
+
+    private static Integer sort(final Object source) {
+        return source instanceof RuleData ? ((RuleData) source).getSort() : ((SelectorData) source).getSort();
+    }
+
+    private static boolean isMatchAll(final String segment) {
+        return MATCH_ALL.equals(segment);
+    }
+
+    private static boolean isPathVariable(final String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static boolean isMatchWildcard(final String segment) {
+        return !isPathVariable(segment) && !isMatchAll(segment) && segment.contains(WILDCARD);
+    }
+
+    /**
+     * the paths of one key, the end nodes are replaced instead of modified, so a published snapshot never changes.
+     * Changes are only visible to matching after {@link #publish()}.
+     */
+    private static final class Registry {
+
+        private final String key;
+
+        /**
+         * normalized path -> end node.
+         */
+        private final Map<String, ShenyuTrieNode> endNodes = new HashMap<>();
+
+        /**
+         * the published snapshot, replaced as a whole by {@link #publish()}.
+         */
+        private volatile Node snapshot = new NodeBuilder().build();
+
+        Registry(final String key) {
+            this.key = key;
+        }
+
+        synchronized <T> void put(final String path, final String uriPath, final T source, final TrieCacheTypeEnum cacheType) {
+            String id = id(source, cacheType);
+            List<Object> dataList = new ArrayList<>();
+            dataList.add(source);
+            ShenyuTrieNode endNode = endNodes.get(path);
+            if (Objects.nonNull(endNode)) {
+                endNode.getPathCache().get(key).stream().filter(data -> !Objects.equals(id, id(data, cacheType))).forEach(dataList::add);
+            }
+            dataList.sort(Comparator.comparing(ShenyuSnapshotTrie::sort, Comparator.nullsLast(Comparator.naturalOrder())));
+            endNodes.put(path, newEndNode(path, uriPath, dataList));
+        }
+
+        synchronized <T> void remove(final String path, final T source, final TrieCacheTypeEnum cacheType) {
+            ShenyuTrieNode endNode = endNodes.get(path);
+            if (Objects.isNull(endNode)) {
+                return;
+            }
+            String id = id(source, cacheType);
+            List<Object> dataList = new ArrayList<>();
+            endNode.getPathCache().get(key).stream().filter(data -> !Objects.equals(id, id(data, cacheType))).forEach(dataList::add);
+            if (dataList.isEmpty()) {
+                endNodes.remove(path);
+            } else {
+                endNodes.put(path, newEndNode(path, endNode.getFullPath(), dataList));
+            }
+        }
+
+        synchronized ShenyuTrieNode getNode(final String path) {
+            return endNodes.get(path);
+        }
+
+        synchronized void publish() {
+            snapshot = compile();
+        }
+
+        Node snapshot() {
+            return snapshot;
+        }
+
+        private ShenyuTrieNode newEndNode(final String path, final String uriPath, final List<Object> dataList) {
+            ShenyuTrieNode endNode = new ShenyuTrieNode();
+            endNode.setMatchStr(StringUtils.substringAfterLast("/" + path, "/"));
+            endNode.setFullPath(uriPath);
+            endNode.setEndOfPath(true);
+            endNode.setBizInfo(key);
+            endNode.setPathRuleCache(Collections.singletonMap(key, Collections.unmodifiableList(dataList)));
+            return endNode;
+        }
+
+        private Node compile() {
+            Map<String, String> internTable = new HashMap<>();
+            NodeBuilder root = new NodeBuilder();
+            endNodes.forEach((path, endNode) -> {
+                NodeBuilder builder = root;
+                for (String segment : StringUtils.split(path, "/")) {
+                    builder = builder.child(internTable.computeIfAbsent(segment, s -> s));
+                }
+                builder.endNode = endNode;
+            });
+            return root.build();
+        }
+    }
+
+    /**
+     * the mutable node used while compiling.
+     */
+    private static final class NodeBuilder {
+
+        private final Map<String, NodeBuilder> segments = new TreeMap<>();
+
+        private final Map<String, NodeBuilder> wildcards = new TreeMap<>();
+
+        private final Map<String, NodeBuilder> variables = new LinkedHashMap<>();
+
+        private NodeBuilder matchAll;
+
+        private ShenyuTrieNode endNode;
+
+        NodeBuilder child(final String segment) {
+            if (isMatchAll(segment)) {
+                if (Objects.isNull(matchAll)) {
+                    matchAll = new NodeBuilder();
+                }
+                return matchAll;
+            }
+            if (isPathVariable(segment)) {
+                return variables.computeIfAbsent(segment, s -> new NodeBuilder());
+            }
+            if (isMatchWildcard(segment)) {
+                return wildcards.computeIfAbsent(segment, s -> new NodeBuilder());
+            }
+            return segments.computeIfAbsent(segment, s -> new NodeBuilder());
+        }
+
+        Node build() {
+            return new Node(keys(segments), buildAll(segments), keys(wildcards), buildAll(wildcards), buildAll(variables),
+                    Objects.isNull(matchAll) ? null : matchAll.build(), endNode);
+        }
+
+        private static String[] keys(final Map<String, NodeBuilder> builders) {
+            return builders.isEmpty() ? EMPTY_SEGMENTS : builders.keySet().toArray(EMPTY_SEGMENTS);
+        }
+
+        private static Node[] buildAll(final Map<String, NodeBuilder> builders) {
+            return builders.isEmpty() ? EMPTY_NODES : builders.values().stream().map(NodeBuilder::build).toArray(Node[]::new);
+        }
+    }
+
+    /**
+     * the immutable compiled node, children are kept in arrays and looked up by binary search.
+     */
+    private static final class Node {
+
+        private final String[] segments;
+
+        private final Node[] children;
+
+        private final String[] wildcards;
+
+        private final Node[] wildcardChildren;
+
+        private final Node[] variables;
+
+        private final Node matchAll;
+
+        private final ShenyuTrieNode endNode;
+
+        Node(final String[] segments, final Node[] children, final String[] wildcards, final Node[] wildcardChildren,
+             final Node[] variables, final Node matchAll, final ShenyuTrieNode endNode) {
+            this.segments = segments;
+            this.children = children;
+            this.wildcards = wildcards;
+            this.wildcardChildren = wildcardChildren;
+            this.variables = variables;
+            this.matchAll = matchAll;
+            this.endNode = endNode;
+        }
+    }
+}
@@ -86,6 +86,17 @@ public class ShenyuTrie {
         return this.keyRootMap.isEmpty();
     }
 
+    /**
+     * apply a batch of puts and removes.
+     * The changes of this trie are applied at once, engines that compile their paths compile each changed key once
+     * after the batch instead of once per change.
+     *
+     * @param changes the puts and removes of the batch
+     */
+    public void batch(final Runnable changes) {
+        changes.run();
+    }
+
     /**
      * put node to trie.
      *
@@ -28,6 +28,7 @@ import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.event.TrieEvent;
 import org.springframework.context.ApplicationListener;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
 
 /**
  * shenyu trie rule change listener.
+ * The source of an event is one selector or rule, or a collection of them applied under one lock as one trie batch.
  */
 public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
     
@@ -42,24 +44,25 @@ public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
 
     @Override
     public void onApplicationEvent(final TrieEvent event) {
-        TrieEventEnum eventEnum = event.getTrieEventEnum();
-        TrieCacheTypeEnum cacheTypeEnum = event.getTrieCacheTypeEnum();
         Object source = event.getSource();
-        
-        ShenyuTrie shenyuTrie;
-        RuleData ruleData;
-        SelectorData selectorData;
+        if (source instanceof Collection) {
+            ShenyuTrie shenyuTrie = getTrie(event.getTrieCacheTypeEnum());
+            synchronized (LOCK) {
+                shenyuTrie.batch(() -> ((Collection<?>) source)
+                        .forEach(data -> onTrieData(event.getTrieEventEnum(), event.getTrieCacheTypeEnum(), data)));
+            }
+            return;
+        }
+        onTrieData(event.getTrieEventEnum(), event.getTrieCacheTypeEnum(), source);
+    }
+    
+    private void onTrieData(final TrieEventEnum eventEnum, final TrieCacheTypeEnum cacheTypeEnum, final Object source) {
+        ShenyuTrie shenyuTrie = getTrie(cacheTypeEnum);
         List<ConditionData> conditionDataList;
         if (TrieCacheTypeEnum.RULE.equals(cacheTypeEnum)) {
-            ruleData = (RuleData) source;
-            conditionDataList = ruleData.getConditionDataList();
-            shenyuTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
-        } else if (TrieCacheTypeEnum.SELECTOR.equals(cacheTypeEnum)) {
-            shenyuTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
-            selectorData = (SelectorData) source;
-            conditionDataList = selectorData.getConditionList();
+            conditionDataList = ((RuleData) source).getConditionDataList();
         } else {
-            throw new IllegalStateException("Unexpected value: " + event.getTrieEventEnum());
+            conditionDataList = ((SelectorData) source).getConditionList();
         }
         
         List<ConditionData> filterConditions = Optional.ofNullable(conditionDataList).orElse(Collections.emptyList())
@@ -79,15 +82,24 @@ public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
                     removeTrieNode(uriPaths, source, cacheTypeEnum, shenyuTrie);
                     break;
                 default:
-                    throw new IllegalStateException("Unexpected value: " + event.getTrieEventEnum());
+                    throw new IllegalStateException("Unexpected value: " + eventEnum);
             }
         }
     }
     
+    private ShenyuTrie getTrie(final TrieCacheTypeEnum cacheTypeEnum) {
+        if (TrieCacheTypeEnum.RULE.equals(cacheTypeEnum) || TrieCacheTypeEnum.SELECTOR.equals(cacheTypeEnum)) {
+            return SpringBeanUtils.getInstance().getBean(cacheTypeEnum.getTrieType());
+        }
+        throw new IllegalStateException("Unexpected value: " + cacheTypeEnum);
+    }
+    
     private <T> void insertTrieNode(final List<String> uriPaths, final T data, final TrieCacheTypeEnum cacheTypeEnum, final ShenyuTrie trie) {
         synchronized (LOCK) {
-            trie.remove(uriPaths, data, cacheTypeEnum);
-            trie.putNode(uriPaths, data, cacheTypeEnum);
+            trie.batch(() -> {
+                trie.remove(uriPaths, data, cacheTypeEnum);
+                trie.putNode(uriPaths, data, cacheTypeEnum);
+            });
         }
     }
     
@@ -108,8 +120,10 @@ public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
         
         // old condition remove
         synchronized (LOCK) {
-            trie.remove(beforeUriPaths, data, cacheTypeEnum);
-            trie.putNode(uriPaths, data, cacheTypeEnum);
+            trie.batch(() -> {
+                trie.remove(beforeUriPaths, data, cacheTypeEnum);
+                trie.putNode(uriPaths, data, cacheTypeEnum);
+            });
         }
     }
     
@@ -135,6 +135,22 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), selectorMap.get(mockPluginName1));
     }
 
+    @Test
+    public void testCacheSelectDataList() throws NoSuchFieldException, IllegalAccessException {
+        BaseDataCache.getInstance().cleanSelectorData();
+        SelectorData firstSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(2).build();
+        BaseDataCache.getInstance().cacheSelectData(firstSelectorData);
+        SelectorData secondSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(1).build();
+        SelectorData updatedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(3).build();
+        SelectorData thirdSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+
+        BaseDataCache.getInstance().cacheSelectDataList(Lists.newArrayList(secondSelectorData, updatedSelectorData, thirdSelectorData));
+        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        assertEquals(Lists.newArrayList(secondSelectorData, updatedSelectorData), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(thirdSelectorData), selectorMap.get(mockPluginName2));
+        BaseDataCache.getInstance().cleanSelectorData();
+    }
+
     @Test
     public void testRemoveSelectData() throws NoSuchFieldException, IllegalAccessException {
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
@@ -193,6 +209,21 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
     }
 
+    @Test
+    public void testCacheRuleDataList() throws NoSuchFieldException, IllegalAccessException {
+        BaseDataCache.getInstance().cleanRuleData();
+        RuleData firstRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleData(firstRuleData);
+        RuleData secondRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(1).build();
+        RuleData thirdRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).sort(1).build();
+
+        BaseDataCache.getInstance().cacheRuleDataList(Lists.newArrayList(secondRuleData, thirdRuleData));
+        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        assertEquals(Lists.newArrayList(firstRuleData, secondRuleData), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(thirdRuleData), ruleMap.get(mockSelectorId2));
+        BaseDataCache.getInstance().cleanRuleData();
+    }
+
     @Test
     public void testRemoveRuleData() throws NoSuchFieldException, IllegalAccessException {
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
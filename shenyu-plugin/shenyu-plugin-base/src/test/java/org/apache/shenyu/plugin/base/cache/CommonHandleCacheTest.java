@@ -53,6 +53,15 @@ public final class CommonHandleCacheTest {
         assert MOCK_VALUE.equals(commonHandleCache.obtainHandle(MOCK_KEY));
     }
 
+    @Test
+    public void obtainHandleWithSupplier() {
+        assert MOCK_VALUE.equals(commonHandleCache.obtainHandle(MOCK_KEY, () -> MOCK_VALUE));
+        cachedMockMap.put(MOCK_KEY, MOCK_VALUE);
+        assert MOCK_VALUE.equals(commonHandleCache.obtainHandle(MOCK_KEY, () -> {
+            throw new AssertionError("the supplier should not be called on a cache hit");
+        }));
+    }
+
     @Test
     public void cachedHandle() {
         commonHandleCache.cachedHandle(null, MOCK_VALUE);
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test cases for MatchRouteCache.
+ */
+public final class MatchRouteCacheTest {
+
+    private static final String PLUGIN_NAME = "MOCK_PLUGIN_NAME";
+
+    private static final String OTHER_PLUGIN_NAME = "OTHER_PLUGIN_NAME";
+
+    private static final String PATH = "/http/route";
+
+    @AfterEach
+    public void tearDown() {
+        MatchDataCache.getInstance().cleanSelectorData();
+        MatchDataCache.getInstance().cleanRuleDataData();
+    }
+
+    @Test
+    public void testObtainRoute() {
+        MatchRoute route = MatchRouteCache.getInstance().obtainRoute(PATH);
+        assertEquals(PATH, route.getPath());
+        // nothing is cached for the path yet, so the route is not stored
+        assertNotSame(route, MatchRouteCache.getInstance().obtainRoute(PATH));
+        MatchDataCache.getInstance().cacheSelectorData(PATH, SelectorData.builder().id("1").pluginName(PLUGIN_NAME).build(), 16, 100);
+        MatchRoute stored = MatchRouteCache.getInstance().obtainRoute(PATH);
+        assertSame(stored, MatchRouteCache.getInstance().obtainRoute(PATH));
+        MatchRouteCache.getInstance().clean();
+        assertNotSame(stored, MatchRouteCache.getInstance().obtainRoute(PATH));
+    }
+
+    @Test
+    public void testWriteThrough() {
+        MatchRoute route = MatchRouteCache.getInstance().obtainRoute(PATH);
+        assertNull(route.obtainSelectorData(PLUGIN_NAME));
+        assertNull(route.obtainRuleData(PLUGIN_NAME));
+        SelectorData selectorData = SelectorData.builder().id("1").pluginName(PLUGIN_NAME).build();
+        RuleData ruleData = RuleData.builder().id("1").selectorId("1").pluginName(PLUGIN_NAME).build();
+        MatchDataCache.getInstance().cacheSelectorData(PATH, selectorData, 16, 100);
+        MatchDataCache.getInstance().cacheRuleData(PATH, ruleData, 16, 100);
+        assertSame(selectorData, route.obtainSelectorData(PLUGIN_NAME));
+        assertSame(ruleData, route.obtainRuleData(PLUGIN_NAME));
+        MatchRoute stored = MatchRouteCache.getInstance().obtainRoute(PATH);
+        assertSame(selectorData, stored.obtainSelectorData(PLUGIN_NAME));
+        assertSame(ruleData, stored.obtainRuleData(PLUGIN_NAME));
+    }
+
+    @Test
+    public void testInvalidateOnRemove() {
+        SelectorData selectorData = SelectorData.builder().id("1").pluginName(PLUGIN_NAME).build();
+        SelectorData otherSelectorData = SelectorData.builder().id("2").pluginName(OTHER_PLUGIN_NAME).build();
+        MatchDataCache.getInstance().cacheSelectorData(PATH, selectorData, 16, 100);
+        MatchDataCache.getInstance().cacheSelectorData(PATH, otherSelectorData, 16, 100);
+        MatchRoute route = MatchRouteCache.getInstance().obtainRoute(PATH);
+        assertSame(selectorData, route.obtainSelectorData(PLUGIN_NAME));
+        MatchDataCache.getInstance().removeSelectorData(PLUGIN_NAME, "1");
+        // only the entries of the changed plugin are outdated, the route is kept
+        assertSame(route, MatchRouteCache.getInstance().obtainRoute(PATH));
+        assertNull(route.obtainSelectorData(PLUGIN_NAME));
+        assertSame(otherSelectorData, route.obtainSelectorData(OTHER_PLUGIN_NAME));
+        MatchDataCache.getInstance().cacheSelectorData(PATH, selectorData, 16, 100);
+        assertSame(selectorData, route.obtainSelectorData(PLUGIN_NAME));
+    }
+}
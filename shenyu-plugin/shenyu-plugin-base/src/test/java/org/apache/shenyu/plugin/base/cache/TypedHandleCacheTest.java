@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test cases for TypedHandleCache.
+ */
+public final class TypedHandleCacheTest {
+
+    private static final String HANDLE = "{\"name\":\"shenyu\",\"timeout\":3000}";
+
+    @AfterEach
+    public void tearDown() {
+        TypedHandleCache.getInstance().cleanSelectorHandle();
+        TypedHandleCache.getInstance().cleanRuleHandle();
+        TypedHandleCache.getInstance().cleanRpcExt();
+    }
+
+    @Test
+    public void testObtainSelectorHandle() {
+        SelectorData selectorData = SelectorData.builder().id("1").handle(HANDLE).build();
+        MockHandle handle = TypedHandleCache.getInstance().obtainSelectorHandle(selectorData, MockHandle.class);
+        assertEquals("shenyu", handle.name);
+        assertEquals(3000, handle.timeout);
+        assertSame(handle, TypedHandleCache.getInstance().obtainSelectorHandle(selectorData, MockHandle.class));
+        TypedHandleCache.getInstance().removeSelectorHandle("1");
+        assertNotSame(handle, TypedHandleCache.getInstance().obtainSelectorHandle(selectorData, MockHandle.class));
+    }
+
+    @Test
+    public void testObtainRuleHandle() {
+        RuleData ruleData = RuleData.builder().id("1").handle(HANDLE).build();
+        MockHandle handle = TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class);
+        assertSame(handle, TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class));
+        // the handle changed without a sync event must not be served stale
+        ruleData.setHandle("{\"name\":\"shenyu\",\"timeout\":1000}");
+        assertEquals(1000, TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class).timeout);
+        ruleData.setHandle(null);
+        assertNull(TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class));
+    }
+
+    @Test
+    public void testObtainRuleHandleNormalized() {
+        RuleData ruleData = RuleData.builder().id("1").handle("{\"name\":\"shenyu\",\"timeout\":-1}").build();
+        AtomicInteger normalized = new AtomicInteger();
+        Consumer<MockHandle> normalizer = handle -> {
+            normalized.incrementAndGet();
+            handle.timeout = handle.timeout < 0 ? 3000 : handle.timeout;
+        };
+        MockHandle handle = TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class, normalizer);
+        assertEquals(3000, handle.timeout);
+        assertSame(handle, TypedHandleCache.getInstance().obtainRuleHandle(ruleData, MockHandle.class, normalizer));
+        // the normalizer only runs when the handle is decoded
+        assertEquals(1, normalized.get());
+    }
+
+    @Test
+    public void testObtainRpcExt() {
+        MetaData metaData = MetaData.builder().path("/grpc/echo").rpcExt(HANDLE).build();
+        MockHandle ext = TypedHandleCache.getInstance().obtainRpcExt(metaData, MockHandle.class);
+        assertSame(ext, TypedHandleCache.getInstance().obtainRpcExt(metaData, MockHandle.class));
+        TypedHandleCache.getInstance().cleanRpcExt();
+        assertNotSame(ext, TypedHandleCache.getInstance().obtainRpcExt(metaData, MockHandle.class));
+    }
+
+    static class MockHandle {
+
+        private String name;
+
+        private int timeout;
+    }
+}
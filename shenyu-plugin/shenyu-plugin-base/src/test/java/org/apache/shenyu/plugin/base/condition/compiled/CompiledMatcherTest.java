@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.compiled;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for CompiledMatcher.
+ */
+public final class CompiledMatcherTest {
+
+    private ServerWebExchange exchange;
+
+    @BeforeEach
+    public void setUp() {
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/test")
+                .header("shenyu", "shenyu")
+                .build());
+    }
+
+    @Test
+    public void testCompileSelectors() {
+        SelectorData disabled = selector("1", 1, false, condition("uri", "match", "/http/**"));
+        SelectorData emptyCondition = SelectorData.builder().id("2").sort(1).enabled(true)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).matchMode(MatchModeEnum.AND.getCode())
+                .conditionList(Collections.emptyList()).build();
+        SelectorData matched = selector("3", 3, true, condition("uri", "match", "/http/**"));
+        CompiledMatcher<SelectorData> matcher = CompiledMatcher.compileSelectors(Lists.newArrayList(disabled, emptyCondition, matched));
+        assertEquals(1, matcher.size());
+        Pair<Boolean, SelectorData> result = matcher.match(exchange);
+        assertTrue(result.getLeft());
+        assertSame(matched, result.getRight());
+        assertSame(result, matcher.match(exchange));
+    }
+
+    @Test
+    public void testFullFlowSelectorAlwaysMatch() {
+        SelectorData fullFlow = SelectorData.builder().id("1").sort(1).enabled(true)
+                .type(SelectorTypeEnum.FULL_FLOW.getCode()).build();
+        Pair<Boolean, SelectorData> result = CompiledMatcher.compileSelectors(Collections.singletonList(fullFlow)).match(exchange);
+        assertTrue(result.getLeft());
+        assertSame(fullFlow, result.getRight());
+    }
+
+    @Test
+    public void testManyMatchPreferMoreAndConditions() {
+        SelectorData oneCondition = selector("1", 1, true, condition("uri", "match", "/http/**"));
+        SelectorData twoConditions = selector("2", 2, true, condition("uri", "match", "/http/**"), condition("header", "=", "shenyu"));
+        SelectorData sameConditions = selector("3", 3, true, condition("uri", "=", "/http/test"), condition("header", "=", "shenyu"));
+        Pair<Boolean, SelectorData> result = CompiledMatcher.compileSelectors(Lists.newArrayList(oneCondition, sameConditions, twoConditions))
+                .match(exchange);
+        assertFalse(result.getLeft());
+        assertSame(twoConditions, result.getRight());
+    }
+
+    @Test
+    public void testCompileRules() {
+        RuleData orRule = RuleData.builder().id("1").sort(1).enabled(true).matchMode(MatchModeEnum.OR.getCode())
+                .conditionDataList(Lists.newArrayList(condition("uri", "=", "/http/other"), condition("header", "=", "shenyu"))).build();
+        RuleData notMatched = RuleData.builder().id("2").sort(2).enabled(true).matchMode(MatchModeEnum.AND.getCode())
+                .conditionDataList(Collections.singletonList(condition("uri", "=", "/http/other"))).build();
+        CompiledMatcher<RuleData> matcher = CompiledMatcher.compileRules(Lists.newArrayList(orRule, notMatched));
+        Pair<Boolean, RuleData> result = matcher.match(exchange);
+        assertTrue(result.getLeft());
+        assertSame(orRule, result.getRight());
+        ServerWebExchange other = MockServerWebExchange.from(MockServerHttpRequest.get("/http/none").build());
+        result = matcher.match(other);
+        assertTrue(result.getLeft());
+        assertNull(result.getRight());
+    }
+
+    private SelectorData selector(final String id, final int sort, final boolean enabled, final ConditionData... conditions) {
+        return SelectorData.builder().id(id).sort(sort).enabled(enabled)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).matchMode(MatchModeEnum.AND.getCode())
+                .conditionList(Lists.newArrayList(conditions)).build();
+    }
+
+    private ConditionData condition(final String paramType, final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setOperator(operator);
+        conditionData.setParamName("shenyu");
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test cases for {@link ParameterDataContext}.
+ */
+public final class ParameterDataContextTest {
+
+    private ServerWebExchange exchange;
+
+    private AtomicInteger extractCount;
+
+    @BeforeEach
+    public void setUp() {
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/uri/path")
+                .header("shenyu", "shenyuHeader")
+                .build());
+        this.extractCount = new AtomicInteger();
+    }
+
+    @Test
+    public void testObtainOnce() {
+        ParameterData parameterData = new CountingParameterData(true);
+        assertEquals("shenyuHeader", ParameterDataContext.obtain(parameterData, "header", "shenyu", exchange));
+        assertEquals("shenyuHeader", ParameterDataContext.obtain(parameterData, "header", "shenyu", exchange));
+        assertNull(ParameterDataContext.obtain(parameterData, "header", "missing", exchange));
+        assertNull(ParameterDataContext.obtain(parameterData, "header", "missing", exchange));
+        assertEquals(2, extractCount.get());
+    }
+
+    @Test
+    public void testObtainAfterMutate() {
+        ParameterData parameterData = new CountingParameterData(true);
+        assertEquals("shenyuHeader", ParameterDataContext.obtain(parameterData, "header", "shenyu", exchange));
+        ServerWebExchange mutated = exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.set("shenyu", "mutatedHeader")))
+                .build();
+        assertEquals("mutatedHeader", ParameterDataContext.obtain(parameterData, "header", "shenyu", mutated));
+        assertEquals(2, extractCount.get());
+    }
+
+    @Test
+    public void testObtainNotCacheable() {
+        ParameterData parameterData = new CountingParameterData(false);
+        ParameterDataContext.obtain(parameterData, "post", "shenyu", exchange);
+        ParameterDataContext.obtain(parameterData, "post", "shenyu", exchange);
+        assertEquals(2, extractCount.get());
+    }
+
+    private final class CountingParameterData extends HeaderParameterData {
+
+        private final boolean cacheable;
+
+        CountingParameterData(final boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public String builder(final String paramName, final ServerWebExchange exchange) {
+            extractCount.incrementAndGet();
+            String value = super.builder(paramName, exchange);
+            return "".equals(value) ? null : value;
+        }
+
+        @Override
+        public boolean cacheable() {
+            return cacheable;
+        }
+    }
+}
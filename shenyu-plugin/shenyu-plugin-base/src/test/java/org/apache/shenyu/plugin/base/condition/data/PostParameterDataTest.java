@@ -27,9 +27,12 @@ import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.InetSocketAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * Test cases for {@link PostParameterData}.
@@ -48,6 +51,9 @@ public final class PostParameterDataTest {
         ShenyuContext context = new ShenyuContext();
         context.setRpcType(RpcTypeEnum.HTTP.getName());
         context.setHttpMethod(HttpMethodEnum.POST.getName());
+        context.setSign("sign");
+        context.setTimestamp("1700000000000");
+        context.setAppKey("appKey");
         this.exchange.getAttributes().put(Constants.CONTEXT, context);
         this.postParameterData = new PostParameterData();
     }
@@ -56,5 +62,40 @@ public final class PostParameterDataTest {
     public void testBuilder() {
         assertEquals("post", this.postParameterData.builder("httpMethod", this.exchange));
         assertEquals("http", this.postParameterData.builder("rpcType", this.exchange));
+        assertNull(this.postParameterData.builder("unknown", this.exchange));
+    }
+
+    @Test
+    public void testBuilderSign() {
+        assertEquals("sign", this.postParameterData.builder("sign", this.exchange));
+    }
+
+    @Test
+    public void testBuilderTimestamp() {
+        assertEquals("1700000000000", this.postParameterData.builder("timestamp", this.exchange));
+    }
+
+    @Test
+    public void testBuilderAppKey() {
+        assertEquals("appKey", this.postParameterData.builder("appKey", this.exchange));
+    }
+
+    @Test
+    public void testBuilderCoversEveryStringField() throws IllegalAccessException {
+        ShenyuContext context = new ShenyuContext();
+        for (Field field : ShenyuContext.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            field.setAccessible(true);
+            field.set(context, field.getName() + "-value");
+        }
+        this.exchange.getAttributes().put(Constants.CONTEXT, context);
+        for (Field field : ShenyuContext.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            assertEquals(field.getName() + "-value", this.postParameterData.builder(field.getName(), this.exchange), field.getName());
+        }
     }
 }
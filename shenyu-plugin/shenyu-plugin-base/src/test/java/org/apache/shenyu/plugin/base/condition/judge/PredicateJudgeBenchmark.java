@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark of the predicate judges, compares judging with the param value parsed per call
+ * and judging with the compiled param value.
+ * run {@link #main(String[])} to execute it, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateJudgeBenchmark {
+
+    private static final String REAL_PATH = "/http/order/findById/1024";
+
+    private static final String REAL_HEADER = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) shenyu-gateway/2.6.1";
+
+    private ConditionData regexCondition;
+
+    private ConditionData pathPatternCondition;
+
+    private RegexPredicateJudge regexPredicateJudge;
+
+    private PathPatternPredicateJudge pathPatternPredicateJudge;
+
+    /**
+     * Init the conditions and compile them as the data subscriber does.
+     */
+    @Setup
+    public void setUp() {
+        regexCondition = new ConditionData();
+        regexCondition.setParamType(ParamTypeEnum.HEADER.getName());
+        regexCondition.setOperator(OperatorEnum.REGEX.getAlias());
+        regexCondition.setParamName("User-Agent");
+        regexCondition.setParamValue("^Mozilla/[0-9.]+ \\(.*\\) shenyu-gateway/[0-9.]+$");
+        pathPatternCondition = new ConditionData();
+        pathPatternCondition.setParamType(ParamTypeEnum.URI.getName());
+        pathPatternCondition.setOperator(OperatorEnum.PATH_PATTERN.getAlias());
+        pathPatternCondition.setParamValue("/http/order/{method}/**");
+        regexPredicateJudge = new RegexPredicateJudge();
+        pathPatternPredicateJudge = new PathPatternPredicateJudge();
+        PredicateJudgeFactory.compile(regexCondition);
+        PredicateJudgeFactory.compile(pathPatternCondition);
+    }
+
+    /**
+     * Regex judge which compiles the pattern per call.
+     *
+     * @return the judge result
+     */
+    @Benchmark
+    public boolean regexParsePerCall() {
+        return Pattern.matches(regexCondition.getParamValue().trim(), REAL_HEADER);
+    }
+
+    /**
+     * Regex judge with the compiled pattern.
+     *
+     * @return the judge result
+     */
+    @Benchmark
+    public boolean regexCompiled() {
+        return regexPredicateJudge.judge(regexCondition, REAL_HEADER);
+    }
+
+    /**
+     * Path pattern judge which parses the pattern per call.
+     *
+     * @return the judge result
+     */
+    @Benchmark
+    public boolean pathPatternParsePerCall() {
+        return PathMatchUtils.pathPattern(pathPatternCondition.getParamValue().trim(), REAL_PATH);
+    }
+
+    /**
+     * Path pattern judge with the compiled pattern.
+     *
+     * @return the judge result
+     */
+    @Benchmark
+    public boolean pathPatternCompiled() {
+        return pathPatternPredicateJudge.judge(pathPatternCondition, REAL_PATH);
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PredicateJudgeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
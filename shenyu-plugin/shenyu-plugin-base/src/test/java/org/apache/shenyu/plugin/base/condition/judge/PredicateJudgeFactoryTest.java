@@ -24,6 +24,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -95,6 +97,22 @@ public final class PredicateJudgeFactoryTest {
         assertFalse(PredicateJudgeFactory.judge(conditionData, "/http?/test"));
     }
 
+    @Test
+    public void testCompileJudge() {
+        conditionData.setOperator(OperatorEnum.REGEX.getAlias());
+        conditionData.setParamValue("[/a-zA-Z0-9]+");
+        PredicateJudgeFactory.compile(conditionData);
+        assertNotNull(conditionData.getCompiledParamValue());
+        assertTrue(PredicateJudgeFactory.judge(conditionData, "/http/test"));
+        conditionData.setParamValue("/http/[0-9]+");
+        assertNull(conditionData.getCompiledParamValue());
+        assertFalse(PredicateJudgeFactory.judge(conditionData, "/http/test"));
+        assertTrue(PredicateJudgeFactory.judge(conditionData, "/http/1"));
+        conditionData.setOperator(OperatorEnum.PATH_PATTERN.getAlias());
+        conditionData.setParamValue("/http/**");
+        assertTrue(PredicateJudgeFactory.judge(conditionData, "/http/test"));
+    }
+
     @Test
     public void testTimerBeforeJudge() {
         conditionData.setOperator(OperatorEnum.TIME_BEFORE.getAlias());
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ShenyuSnapshotTrieTest {
+
+    private ShenyuSnapshotTrie shenyuSnapshotTrie;
+
+    @BeforeEach
+    public void setUp() {
+        shenyuSnapshotTrie = new ShenyuSnapshotTrie(100L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode());
+        List<String> paths = Arrays.asList("/a/b/c", "/a/b/*", "/a/**", "/a/x*y/e", "/b/**/e", "/c/{x}/{y}", "/c/{x}/d");
+        for (int i = 0; i < paths.size(); i++) {
+            SelectorData selectorData = SelectorData.builder().id(String.valueOf(i)).pluginName("test").sort(i).build();
+            shenyuSnapshotTrie.putNode(paths.get(i), selectorData, TrieCacheTypeEnum.SELECTOR);
+        }
+    }
+
+    @Test
+    public void clear() {
+        Assertions.assertFalse(shenyuSnapshotTrie.isEmpty());
+        shenyuSnapshotTrie.clear();
+        Assertions.assertTrue(shenyuSnapshotTrie.isEmpty());
+    }
+
+    @Test
+    public void match() {
+        Assertions.assertEquals("/a/b/c", shenyuSnapshotTrie.match("/a/b/c", "test").getFullPath());
+        Assertions.assertEquals("/a/b/c", shenyuSnapshotTrie.match("//a//b/c/", "test").getFullPath());
+        Assertions.assertEquals("/a/b/*", shenyuSnapshotTrie.match("/a/b/z", "test").getFullPath());
+        Assertions.assertEquals("/a/x*y/e", shenyuSnapshotTrie.match("/a/xzy/e", "test").getFullPath());
+        Assertions.assertEquals("/a/**", shenyuSnapshotTrie.match("/a/1/2/3", "test").getFullPath());
+        Assertions.assertEquals("/a/**", shenyuSnapshotTrie.match("/a", "test").getFullPath());
+        Assertions.assertEquals("/b/**/e", shenyuSnapshotTrie.match("/b/e", "test").getFullPath());
+        Assertions.assertEquals("/b/**/e", shenyuSnapshotTrie.match("/b/1/2/e", "test").getFullPath());
+        Assertions.assertEquals("/c/{x}/{y}", shenyuSnapshotTrie.match("/c/1/2", "test").getFullPath());
+        Assertions.assertEquals("/c/{x}/d", shenyuSnapshotTrie.match("/c/1/d", "test").getFullPath());
+        Assertions.assertNull(shenyuSnapshotTrie.match("/c/1", "test"));
+        Assertions.assertNull(shenyuSnapshotTrie.match("/d", "test"));
+        Assertions.assertNull(shenyuSnapshotTrie.match("/", "test"));
+        Assertions.assertNull(shenyuSnapshotTrie.match("/a/b/c", "other"));
+    }
+
+    @Test
+    public void putNode() {
+        RuleData ruleData = RuleData.builder().id("1").selectorId("1").sort(2).build();
+        RuleData ruleData2 = RuleData.builder().id("2").selectorId("1").sort(1).build();
+        Assertions.assertNull(shenyuSnapshotTrie.match("/http/order/1", "1"));
+        shenyuSnapshotTrie.putNode("/http/order/{id}", ruleData, TrieCacheTypeEnum.RULE);
+        shenyuSnapshotTrie.putNode("/http/order/{id}", ruleData2, TrieCacheTypeEnum.RULE);
+        // put the same rule again replaces it
+        shenyuSnapshotTrie.putNode("/http/order/{id}", ruleData, TrieCacheTypeEnum.RULE);
+        ShenyuTrieNode node = shenyuSnapshotTrie.match("/http/order/1", "1");
+        Assertions.assertEquals(Arrays.asList(ruleData2, ruleData), node.getPathCache().get("1"));
+        Assertions.assertSame(node, shenyuSnapshotTrie.getNode("/http/order/{id}", "1"));
+    }
+
+    @Test
+    public void putNodeBatch() {
+        SelectorData selectorData = SelectorData.builder().id("10").pluginName("batch").build();
+        shenyuSnapshotTrie.putNode(Arrays.asList("/x/1", "/x/{id}/y"), selectorData, TrieCacheTypeEnum.SELECTOR);
+        Assertions.assertEquals("/x/1", shenyuSnapshotTrie.match("/x/1", "batch").getFullPath());
+        Assertions.assertEquals("/x/{id}/y", shenyuSnapshotTrie.match("/x/2/y", "batch").getFullPath());
+        shenyuSnapshotTrie.remove(Arrays.asList("/x/1", "/x/{id}/y"), selectorData, TrieCacheTypeEnum.SELECTOR);
+        Assertions.assertNull(shenyuSnapshotTrie.match("/x/1", "batch"));
+        Assertions.assertNull(shenyuSnapshotTrie.match("/x/2/y", "batch"));
+    }
+
+    @Test
+    public void putNodeBatchPublishesOnError() {
+        ShenyuSnapshotTrie pathPatternTrie = new ShenyuSnapshotTrie(100L, TrieMatchModeEnum.PATH_PATTERN.getMatchMode());
+        SelectorData selectorData = SelectorData.builder().id("1").pluginName("test").build();
+        List<String> paths = Arrays.asList("/a/b", "/a/**/b");
+        Assertions.assertThrows(ShenyuException.class, () -> pathPatternTrie.putNode(paths, selectorData, TrieCacheTypeEnum.SELECTOR));
+        // the paths put before the illegal one are published as the base trie keeps them
+        Assertions.assertEquals("/a/b", pathPatternTrie.match("/a/b", "test").getFullPath());
+    }
+
+    @Test
+    public void batch() {
+        RuleData ruleData = RuleData.builder().id("1").selectorId("1").sort(1).build();
+        RuleData ruleData2 = RuleData.builder().id("2").selectorId("1").sort(2).build();
+        shenyuSnapshotTrie.batch(() -> {
+            shenyuSnapshotTrie.putNode("/http/order/{id}", ruleData, TrieCacheTypeEnum.RULE);
+            shenyuSnapshotTrie.batch(() -> shenyuSnapshotTrie.putNode("/http/user/{id}", ruleData2, TrieCacheTypeEnum.RULE));
+            // the changes are kept but not published before the batch ends
+            Assertions.assertNotNull(shenyuSnapshotTrie.getNode("/http/order/{id}", "1"));
+            Assertions.assertNull(shenyuSnapshotTrie.match("/http/order/1", "1"));
+        });
+        Assertions.assertEquals("/http/order/{id}", shenyuSnapshotTrie.match("/http/order/1", "1").getFullPath());
+        Assertions.assertEquals("/http/user/{id}", shenyuSnapshotTrie.match("/http/user/1", "1").getFullPath());
+    }
+
+    @Test
+    public void remove() {
+        SelectorData selectorData = SelectorData.builder().id("0").pluginName("test").build();
+        final ShenyuTrieNode node = shenyuSnapshotTrie.match("/a/b/c", "test");
+        shenyuSnapshotTrie.remove("/a/b/c", selectorData, TrieCacheTypeEnum.SELECTOR);
+        Assertions.assertNull(shenyuSnapshotTrie.getNode("/a/b/c", "test"));
+        Assertions.assertEquals("/a/b/*", shenyuSnapshotTrie.match("/a/b/c", "test").getFullPath());
+        // the published node is never modified
+        Assertions.assertEquals(1, node.getPathCache().get("test").size());
+        shenyuSnapshotTrie.removeByKey("test");
+        Assertions.assertNull(shenyuSnapshotTrie.match("/a/b/z", "test"));
+    }
+
+    @Test
+    public void checkLegalPath() {
+        ShenyuSnapshotTrie pathPatternTrie = new ShenyuSnapshotTrie(100L, TrieMatchModeEnum.PATH_PATTERN.getMatchMode());
+        SelectorData selectorData = SelectorData.builder().id("1").pluginName("test").build();
+        Assertions.assertThrows(ShenyuException.class, () -> pathPatternTrie.putNode("/a/**/b", selectorData, TrieCacheTypeEnum.SELECTOR));
+    }
+}
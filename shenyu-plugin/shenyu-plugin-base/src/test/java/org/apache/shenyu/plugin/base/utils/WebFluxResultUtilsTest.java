@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.shenyu.common.utils.ObjectTypeUtils;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuEntity;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The WebFlux result utils test, every response is compared with the one of the format/contentType/result pipeline.
+ */
+public final class WebFluxResultUtilsTest {
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+    }
+
+    /**
+     * The default result is written straight into the response buffer.
+     */
+    @Test
+    public void resultTest() {
+        final DefaultShenyuEntity entity = new DefaultShenyuEntity(200, "success", Collections.singletonMap("name", "shenyu"));
+        assertSameResponse(exchange -> WebFluxResultUtils.result(exchange, entity), exchange -> pipelineResult(exchange, entity));
+        assertSameResponse(exchange -> WebFluxResultUtils.result(exchange, "shenyu"), exchange -> pipelineResult(exchange, "shenyu"));
+        final byte[] bytes = "{\"name\":\"shenyu\"}".getBytes(StandardCharsets.UTF_8);
+        assertSameResponse(exchange -> WebFluxResultUtils.result(exchange, bytes), exchange -> pipelineResult(exchange, bytes));
+    }
+
+    /**
+     * The pre-encoded no selector body.
+     */
+    @Test
+    public void noSelectorResultTest() {
+        // the second response is served from the encoded body.
+        for (int i = 0; i < 2; i++) {
+            assertSameResponse(exchange -> WebFluxResultUtils.noSelectorResult("divide", exchange),
+                exchange -> pipelineError(exchange, "divide", ShenyuResultEnum.SELECTOR_NOT_FOUND));
+        }
+    }
+
+    /**
+     * The pre-encoded no rule body.
+     */
+    @Test
+    public void noRuleResultTest() {
+        for (int i = 0; i < 2; i++) {
+            assertSameResponse(exchange -> WebFluxResultUtils.noRuleResult("divide", exchange),
+                exchange -> pipelineError(exchange, "divide", ShenyuResultEnum.RULE_NOT_FOUND));
+        }
+    }
+
+    /**
+     * A subclass of the default result keeps the format/contentType/result pipeline.
+     */
+    @Test
+    public void customResultTest() {
+        when(context.getBean(ShenyuResult.class)).thenReturn(new WrappedShenyuResult());
+        final DefaultShenyuEntity entity = new DefaultShenyuEntity(200, "success", null);
+        final MockServerWebExchange exchange = assertSameResponse(exchange1 -> WebFluxResultUtils.result(exchange1, entity),
+            exchange1 -> pipelineResult(exchange1, entity));
+        assertTrue(exchange.getResponse().getBodyAsString().block().startsWith("wrapped:"));
+        final MockServerWebExchange noSelector = assertSameResponse(exchange1 -> WebFluxResultUtils.noSelectorResult("custom", exchange1),
+            exchange1 -> pipelineError(exchange1, "custom", ShenyuResultEnum.SELECTOR_NOT_FOUND));
+        assertTrue(noSelector.getResponse().getBodyAsString().block().startsWith("wrapped:"));
+    }
+
+    private static MockServerWebExchange assertSameResponse(final Function<ServerWebExchange, Mono<Void>> actual,
+                                                            final Function<ServerWebExchange, Mono<Void>> expected) {
+        final MockServerWebExchange actualExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/test").build());
+        final MockServerWebExchange expectedExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/test").build());
+        StepVerifier.create(actual.apply(actualExchange)).expectSubscription().verifyComplete();
+        StepVerifier.create(expected.apply(expectedExchange)).expectSubscription().verifyComplete();
+        final MockServerHttpResponse actualResponse = actualExchange.getResponse();
+        final MockServerHttpResponse expectedResponse = expectedExchange.getResponse();
+        final String body = actualResponse.getBodyAsString().block();
+        assertEquals(expectedResponse.getBodyAsString().block(), body);
+        assertEquals(expectedResponse.getHeaders().getContentType(), actualResponse.getHeaders().getContentType());
+        assertEquals(expectedResponse.getHeaders().getContentLength(), actualResponse.getHeaders().getContentLength());
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, actualResponse.getHeaders().getContentLength());
+        return actualExchange;
+    }
+
+    private static Mono<Void> pipelineError(final ServerWebExchange exchange, final String pluginName, final ShenyuResultEnum resultEnum) {
+        Object error = ShenyuResultWrap.error(exchange, resultEnum.getCode(), pluginName + ":" + resultEnum.getMsg(), null);
+        return pipelineResult(exchange, error);
+    }
+
+    /**
+     * the format/contentType/result pipeline every result went through before the default one was written directly.
+     */
+    private static Mono<Void> pipelineResult(final ServerWebExchange exchange, final Object result) {
+        final ShenyuResult<?> shenyuResult = ShenyuResultWrap.shenyuResult();
+        Object resultData = shenyuResult.format(exchange, result);
+        MediaType mediaType = MediaType.TEXT_PLAIN;
+        if (!ObjectTypeUtils.isBasicType(result)) {
+            mediaType = shenyuResult.contentType(exchange, resultData);
+        }
+        exchange.getResponse().getHeaders().setContentType(mediaType);
+        final Object responseData = shenyuResult.result(exchange, resultData);
+        final byte[] bytes = (responseData instanceof byte[])
+                ? (byte[]) responseData : responseData.toString().getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse()
+                .bufferFactory().wrap(bytes))
+                .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+    }
+
+    static class WrappedShenyuResult extends DefaultShenyuResult {
+
+        @Override
+        public Object result(final ServerWebExchange exchange, final Object formatted) {
+            return "wrapped:" + formatted;
+        }
+    }
+}
@@ -22,51 +22,100 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.rule.impl.CacheRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CacheWritePlugin.
  */
 public class CachePlugin extends AbstractShenyuPlugin {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CachePlugin.class);
+
+    private static final String WEB_HANDLER = "webHandler";
+
+    /**
+     * the attribute of a revalidate request, holding the flight its response is published to.
+     */
+    private static final String REVALIDATE_FLIGHT = CachePlugin.class.getName() + ".revalidateFlight";
+
+    private static final WebSessionManager SESSION_MANAGER = new DefaultWebSessionManager();
+
+    private static final ServerCodecConfigurer CODEC_CONFIGURER = ServerCodecConfigurer.create();
+
+    private static final LocaleContextResolver LOCALE_CONTEXT_RESOLVER = new AcceptHeaderLocaleContextResolver();
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
     @Override
     public Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                 final SelectorData selector, final RuleData rule) {
         ICache cache = CacheUtils.getCache();
-        if (Objects.nonNull(cache)) {
-            return cache.getData(CacheUtils.dataKey(exchange))
-                    .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
-                    .flatMap(data -> Mono.just(Optional.of(data)))
-                    .defaultIfEmpty(Optional.empty())
-                    .flatMap(dataFlg -> {
-                        if (dataFlg.isPresent()) {
-                            byte[] bytes = dataFlg.get().getT1();
-                            byte[] contentTypeBytes = dataFlg.get().getT2();
-                            cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
-                        }
-                        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-                        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
-                    });
-        }
         CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+        if (Objects.isNull(cache)) {
+            return fetch(exchange, chain, cacheRuleHandle, null);
+        }
+        final Sinks.One<CachedResponse> revalidateFlight = exchange.getAttribute(REVALIDATE_FLIGHT);
+        if (Objects.nonNull(revalidateFlight)) {
+            return fetch(exchange, chain, cacheRuleHandle, revalidateFlight);
+        }
+        final String key = CacheUtils.dataKey(exchange);
+        return cache.getData(key)
+                .mapNotNull(CachedResponse::fromBytes)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cachedResponse -> {
+                    if (cachedResponse.isPresent()) {
+                        if (cachedResponse.get().isFresh(System.currentTimeMillis())) {
+                            return writeCachedResponse(exchange, cachedResponse.get());
+                        }
+                        // stale while revalidate, every caller gets the stale response and the one which wins the flight refreshes it.
+                        final Sinks.One<CachedResponse> flight = singleFlight.tryAcquire(key);
+                        if (Objects.nonNull(flight) && !revalidate(exchange, key, flight)) {
+                            return fetch(exchange, chain, cacheRuleHandle, flight).doFinally(signal -> singleFlight.release(key, flight));
+                        }
+                        return writeCachedResponse(exchange, cachedResponse.get());
+                    }
+                    return fetchOnMiss(exchange, chain, cacheRuleHandle, key);
+                });
     }
 
     @Override
@@ -83,17 +132,95 @@ public class CachePlugin extends AbstractShenyuPlugin {
         return CachePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
 
+    private Mono<Void> fetchOnMiss(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                                   final CacheRuleHandle cacheRuleHandle, final String key) {
+        final long waitMillis = Optional.ofNullable(cacheRuleHandle.getSingleFlightTimeoutMillis()).orElse(0L);
+        final Sinks.One<CachedResponse> flight = singleFlight.tryAcquire(key);
+        if (Objects.nonNull(flight)) {
+            return fetch(exchange, chain, cacheRuleHandle, flight).doFinally(signal -> singleFlight.release(key, flight));
+        }
+        if (waitMillis <= 0) {
+            return fetch(exchange, chain, cacheRuleHandle, null);
+        }
+        // share the response of the call in flight, go upstream when it fails or the wait times out.
+        return singleFlight.join(key, Duration.ofMillis(waitMillis))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cachedResponse -> cachedResponse.isPresent()
+                        ? writeCachedResponse(exchange, cachedResponse.get())
+                        : fetch(exchange, chain, cacheRuleHandle, null));
+    }
+
+    private Mono<Void> fetch(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                             final CacheRuleHandle cacheRuleHandle, final Sinks.One<CachedResponse> flight) {
+        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle, flight)).build());
+    }
+
+    /**
+     * Revalidate the stale response in the background with an independent request through the whole plugin pipeline,
+     * so it shares no attributes or chain with the caller and may outlive it.
+     * a request with a body can not be replayed, the caller refreshes it itself.
+     *
+     * @return whether the revalidate request is sent
+     */
+    private boolean revalidate(final ServerWebExchange exchange, final String key, final Sinks.One<CachedResponse> flight) {
+        final ServerHttpRequest request = exchange.getRequest();
+        if (request.getHeaders().getContentLength() > 0 || request.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+            return false;
+        }
+        final WebHandler webHandler = obtainWebHandler();
+        if (Objects.isNull(webHandler)) {
+            return false;
+        }
+        final ServerWebExchange revalidateExchange = new DefaultServerWebExchange(new RevalidateHttpRequest(request),
+                new DetachedHttpResponse(exchange.getResponse().bufferFactory()), SESSION_MANAGER, CODEC_CONFIGURER, LOCALE_CONTEXT_RESOLVER);
+        revalidateExchange.getAttributes().put(REVALIDATE_FLIGHT, flight);
+        Mono.defer(() -> webHandler.handle(revalidateExchange))
+                .doFinally(signal -> singleFlight.release(key, flight))
+                .subscribe(null, error -> LOG.warn("revalidate the stale cache of {} failed", key, error));
+        return true;
+    }
+
+    private WebHandler obtainWebHandler() {
+        try {
+            return SpringBeanUtils.getInstance().getBean(WEB_HANDLER);
+        } catch (BeansException e) {
+            LOG.warn("no web handler to revalidate the stale cache", e);
+            return null;
+        }
+    }
+
+    private Mono<Void> writeCachedResponse(final ServerWebExchange exchange, final CachedResponse cachedResponse) {
+        final ServerHttpResponse response = exchange.getResponse();
+        response.setRawStatusCode(cachedResponse.getStatus());
+        response.getHeaders().putAll(cachedResponse.getHeaders());
+        if (Objects.isNull(response.getHeaders().getContentType())) {
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        }
+        response.getHeaders().setContentLength(cachedResponse.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cachedResponse.getBody())));
+    }
+
     static class CacheHttpResponse extends ServerHttpResponseDecorator {
 
         private final ServerWebExchange exchange;
 
         private final CacheRuleHandle cacheRuleHandle;
 
+        private final Sinks.One<CachedResponse> flight;
+
         CacheHttpResponse(final ServerWebExchange exchange,
                           final CacheRuleHandle cacheRuleHandle) {
+            this(exchange, cacheRuleHandle, null);
+        }
+
+        CacheHttpResponse(final ServerWebExchange exchange,
+                          final CacheRuleHandle cacheRuleHandle,
+                          final Sinks.One<CachedResponse> flight) {
             super(exchange.getResponse());
             this.exchange = exchange;
             this.cacheRuleHandle = cacheRuleHandle;
+            this.flight = flight;
         }
 
         @Override
@@ -105,15 +232,118 @@ public class CachePlugin extends AbstractShenyuPlugin {
         @NonNull
         private Flux<? extends DataBuffer> cacheResponse(final Publisher<? extends DataBuffer> body) {
             final ICache cache = CacheUtils.getCache();
-            if (Objects.nonNull(cache)) {
-                final MediaType contentType = this.getHeaders().getContentType();
-                return Flux.from(body).doOnNext(buffer -> {
-                    cache.cacheData(CacheUtils.dataKey(this.exchange), buffer.asByteBuffer().array(),
-                            this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                    cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
-                });
+            if (Objects.isNull(cache)) {
+                return Flux.from(body);
             }
-            return Flux.from(body);
+            final long maxBodyBytes = Optional.ofNullable(this.cacheRuleHandle.getMaxBodyBytes()).orElse(CacheRuleHandle.DEFAULT_MAX_BODY_BYTES);
+            if (maxBodyBytes > 0 && this.getHeaders().getContentLength() > maxBodyBytes) {
+                return Flux.from(body);
+            }
+            // aggregate all the chunks, the response is cached once the body completes unless it grows over the max body bytes.
+            final AtomicReference<ByteArrayOutputStream> aggregated = new AtomicReference<>(new ByteArrayOutputStream());
+            return Flux.from(body)
+                    .doOnNext(buffer -> {
+                        final ByteArrayOutputStream out = aggregated.get();
+                        if (Objects.isNull(out)) {
+                            return;
+                        }
+                        final int readable = buffer.readableByteCount();
+                        if (maxBodyBytes > 0 && out.size() + readable > maxBodyBytes) {
+                            aggregated.set(null);
+                            return;
+                        }
+                        byte[] bytes = new byte[readable];
+                        buffer.asByteBuffer().get(bytes);
+                        out.write(bytes, 0, bytes.length);
+                    })
+                    .doOnComplete(() -> {
+                        final ByteArrayOutputStream out = aggregated.get();
+                        if (Objects.isNull(out)) {
+                            return;
+                        }
+                        final Integer status = Optional.ofNullable(this.getRawStatusCode()).orElse(HttpStatus.OK.value());
+                        if (!HttpStatus.Series.SUCCESSFUL.equals(HttpStatus.Series.resolve(status))) {
+                            return;
+                        }
+                        final long timeoutSeconds = this.cacheRuleHandle.getTimeoutSeconds();
+                        final long staleSeconds = Math.max(0L, Optional.ofNullable(this.cacheRuleHandle.getStaleSeconds()).orElse(0L));
+                        final CachedResponse cachedResponse = new CachedResponse(status, this.getHeaders(), out.toByteArray(),
+                                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds));
+                        // keep the stale response for a while after it expires.
+                        cache.cacheData(CacheUtils.dataKey(this.exchange), cachedResponse.toBytes(),
+                                timeoutSeconds + staleSeconds).subscribeOn(Schedulers.boundedElastic()).subscribe();
+                        if (Objects.nonNull(this.flight)) {
+                            this.flight.tryEmitValue(cachedResponse);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * The request of a background revalidate, a copy of the stale request without a body.
+     */
+    static class RevalidateHttpRequest extends ServerHttpRequestDecorator {
+
+        private final HttpHeaders headers;
+
+        RevalidateHttpRequest(final ServerHttpRequest delegate) {
+            super(delegate);
+            // copy the headers, the revalidate request outlives the one it copies.
+            final HttpHeaders copied = new HttpHeaders();
+            copied.addAll(delegate.getHeaders());
+            this.headers = HttpHeaders.readOnlyHttpHeaders(copied);
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> getBody() {
+            return Flux.empty();
+        }
+    }
+
+    /**
+     * The response of a background revalidate, its body is only cached and never written to the client.
+     */
+    static class DetachedHttpResponse extends AbstractServerHttpResponse {
+
+        DetachedHttpResponse(final DataBufferFactory dataBufferFactory) {
+            super(dataBufferFactory);
+        }
+
+        @Override
+        @NonNull
+        public <T> T getNativeResponse() {
+            throw new IllegalStateException("the detached response has no native response");
+        }
+
+        @Override
+        @NonNull
+        protected Mono<Void> writeWithInternal(@NonNull final Publisher<? extends DataBuffer> body) {
+            return Flux.from(body).doOnNext(DataBufferUtils::release).then();
+        }
+
+        @Override
+        @NonNull
+        protected Mono<Void> writeAndFlushWithInternal(@NonNull final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return Flux.from(body).concatMap(this::writeWithInternal).then();
+        }
+
+        @Override
+        protected void applyStatusCode() {
+        }
+
+        @Override
+        protected void applyHeaders() {
+        }
+
+        @Override
+        protected void applyCookies() {
         }
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The aggregated response kept in the cache, with its status, headers and the time it stays fresh.
+ */
+public final class CachedResponse {
+
+    /**
+     * "SYCR", marks the bytes written by {@link #toBytes()}.
+     */
+    private static final int MAGIC = 0x53594352;
+
+    private static final int VERSION = 1;
+
+    /**
+     * headers which belong to a single response and must not be replayed.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Stream.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION, HttpHeaders.SET_COOKIE, HttpHeaders.DATE)
+            .map(String::toLowerCase).collect(Collectors.toSet());
+
+    private final int status;
+
+    private final HttpHeaders headers;
+
+    private final byte[] body;
+
+    private final long freshUntil;
+
+    public CachedResponse(final int status, final HttpHeaders headers, final byte[] body) {
+        this(status, headers, body, Long.MAX_VALUE);
+    }
+
+    public CachedResponse(final int status, final HttpHeaders headers, final byte[] body, final long freshUntil) {
+        this.status = status;
+        this.headers = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                this.headers.put(name, new ArrayList<>(values));
+            }
+        });
+        this.body = body;
+        this.freshUntil = freshUntil;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets headers.
+     *
+     * @return the headers
+     */
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets body.
+     *
+     * @return the body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the epoch millis until which the response is fresh.
+     *
+     * @return the fresh until millis
+     */
+    public long getFreshUntil() {
+        return freshUntil;
+    }
+
+    /**
+     * Whether the response is still fresh.
+     *
+     * @param now the current epoch millis
+     * @return true if fresh
+     */
+    public boolean isFresh(final long now) {
+        return now < freshUntil;
+    }
+
+    /**
+     * Encode the response to bytes.
+     *
+     * @return the bytes
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(status);
+            out.writeLong(freshUntil);
+            out.writeInt(headers.size());
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeInt(header.getValue().size());
+                for (String value : header.getValue()) {
+                    out.writeUTF(Objects.toString(value, ""));
+                }
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the response from bytes.
+     *
+     * @param bytes the bytes
+     * @return the response, null if the bytes are not an encoded response
+     */
+    public static CachedResponse fromBytes(final byte[] bytes) {
+        if (Objects.isNull(bytes)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                return null;
+            }
+            final int status = in.readInt();
+            final long freshUntil = in.readLong();
+            HttpHeaders headers = new HttpHeaders();
+            int headerCount = in.readInt();
+            for (int i = 0; i < headerCount; i++) {
+                String name = in.readUTF();
+                int valueCount = in.readInt();
+                for (int j = 0; j < valueCount; j++) {
+                    headers.add(name, in.readUTF());
+                }
+            }
+            int bodyLength = in.readInt();
+            if (bodyLength < 0 || bodyLength > in.available()) {
+                return null;
+            }
+            byte[] body = new byte[bodyLength];
+            in.readFully(body);
+            return new CachedResponse(status, headers, body, freshUntil);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
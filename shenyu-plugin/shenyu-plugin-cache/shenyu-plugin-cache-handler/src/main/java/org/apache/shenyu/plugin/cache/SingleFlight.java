@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tracks the upstream calls in flight per cache key, so that concurrent misses share one upstream call.
+ */
+final class SingleFlight {
+
+    private final ConcurrentMap<String, Sinks.One<CachedResponse>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Try to become the caller which fetches the key.
+     *
+     * @param key the cache key
+     * @return the flight to complete, null if another call is already in flight
+     */
+    Sinks.One<CachedResponse> tryAcquire(final String key) {
+        final Sinks.One<CachedResponse> flight = Sinks.one();
+        return Objects.isNull(flights.putIfAbsent(key, flight)) ? flight : null;
+    }
+
+    /**
+     * Wait for the response of the call in flight.
+     *
+     * @param key     the cache key
+     * @param timeout the max time to wait
+     * @return the response, empty if no call is in flight, it failed or the wait timed out
+     */
+    Mono<CachedResponse> join(final String key, final Duration timeout) {
+        final Sinks.One<CachedResponse> flight = flights.get(key);
+        if (Objects.isNull(flight)) {
+            return Mono.empty();
+        }
+        return flight.asMono().timeout(timeout, Mono.empty());
+    }
+
+    /**
+     * Release the flight, waiting callers get an empty response unless the response was emitted.
+     *
+     * @param key    the cache key
+     * @param flight the flight
+     */
+    void release(final String key, final Sinks.One<CachedResponse> flight) {
+        flights.remove(key, flight);
+        flight.tryEmitEmpty();
+    }
+}
@@ -29,8 +29,6 @@ import java.net.URI;
  */
 public final class CacheUtils {
 
-    private static final String CONTENT_TYPEKEY_SUFFIX = "contentType";
-
     private static final String KEY_JOIN_RULE = "-";
 
     private CacheUtils() {
@@ -48,16 +46,6 @@ public final class CacheUtils {
         return DigestUtils.md5Hex(String.join(KEY_JOIN_RULE, uri.getQuery(), uri.getPath()));
     }
 
-    /**
-     * the cache data content type key.
-     *
-     * @param exchange the exchange
-     * @return the content type key
-     */
-    public static String contentTypeKey(final ServerWebExchange exchange) {
-        return String.join(KEY_JOIN_RULE, dataKey(exchange), CONTENT_TYPEKEY_SUFFIX);
-    }
-
     /**
      * get the cache.
      *
@@ -22,25 +22,34 @@ import org.apache.shenyu.common.dto.convert.rule.impl.CacheRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.memory.MemoryCache;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 
@@ -53,7 +62,6 @@ public class CachePluginTest {
     public void cacheUtilsTest() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
         Assertions.assertDoesNotThrow(() -> CacheUtils.dataKey(exchange));
-        Assertions.assertDoesNotThrow(() -> CacheUtils.contentTypeKey(exchange));
     }
 
     @Test
@@ -95,13 +103,140 @@ public class CachePluginTest {
         final Mono<Void> result2 = cachePlugin.doExecute(exchange, shenyuPluginChain, null, ruleData);
         StepVerifier.create(result2).expectSubscription().verifyComplete();
 
-        memoryCache.cacheData(CacheUtils.dataKey(exchange), MediaType.APPLICATION_JSON_VALUE.getBytes(StandardCharsets.UTF_8),
-                60L).subscribeOn(Schedulers.boundedElastic()).subscribe();
-
-        memoryCache.cacheData(CacheUtils.contentTypeKey(exchange), MediaType.APPLICATION_JSON_VALUE.getBytes(StandardCharsets.UTF_8),
-                60L).subscribeOn(Schedulers.boundedElastic()).subscribe();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        final byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        memoryCache.cacheData(CacheUtils.dataKey(exchange), new CachedResponse(HttpStatus.OK.value(), headers, body).toBytes(),
+                60L).subscribeOn(Schedulers.boundedElastic()).block();
         final Mono<Void> result3 = cachePlugin.doExecute(exchange, shenyuPluginChain, null, ruleData);
         StepVerifier.create(result3).expectSubscription().verifyComplete();
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+        Assertions.assertEquals(body.length, exchange.getResponse().getHeaders().getContentLength());
+    }
+
+    @Test
+    public void cachedResponseTest() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        headers.add("X-Trace", "a");
+        headers.add("X-Trace", "b");
+        headers.setContentLength(4);
+        headers.add(HttpHeaders.SET_COOKIE, "session=1");
+        final byte[] body = "body".getBytes(StandardCharsets.UTF_8);
+        final CachedResponse cachedResponse = CachedResponse.fromBytes(new CachedResponse(HttpStatus.CREATED.value(), headers, body).toBytes());
+        Assertions.assertNotNull(cachedResponse);
+        Assertions.assertEquals(HttpStatus.CREATED.value(), cachedResponse.getStatus());
+        Assertions.assertEquals(MediaType.TEXT_PLAIN, cachedResponse.getHeaders().getContentType());
+        Assertions.assertEquals(Arrays.asList("a", "b"), cachedResponse.getHeaders().get("X-Trace"));
+        Assertions.assertFalse(cachedResponse.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH));
+        Assertions.assertFalse(cachedResponse.getHeaders().containsKey(HttpHeaders.SET_COOKIE));
+        Assertions.assertArrayEquals(body, cachedResponse.getBody());
+        Assertions.assertNull(CachedResponse.fromBytes(body));
+    }
+
+    @Test
+    public void singleFlightTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final RuleData ruleData = new RuleData();
+        ruleData.setId("singleFlight");
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setSingleFlightTimeoutMillis(3000L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final ShenyuPluginChain shenyuPluginChain = mockUpstream("upstream");
+        final CachePlugin cachePlugin = new CachePlugin();
+        final ServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/singleFlight").build());
+        final ServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/singleFlight").build());
+        StepVerifier.create(Mono.when(cachePlugin.doExecute(leader, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(follower, shenyuPluginChain, null, ruleData))).expectSubscription().verifyComplete();
+        Mockito.verify(shenyuPluginChain, Mockito.times(1)).execute(any());
+        Assertions.assertEquals("upstream".length(), follower.getResponse().getHeaders().getContentLength());
+    }
+
+    @Test
+    public void staleWhileRevalidateTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final RuleData ruleData = new RuleData();
+        ruleData.setId("stale");
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setStaleSeconds(60L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        final CachedResponse stale = new CachedResponse(HttpStatus.OK.value(), new HttpHeaders(), "stale".getBytes(StandardCharsets.UTF_8),
+                System.currentTimeMillis() - 1000L);
+        memoryCache.cacheData(CacheUtils.dataKey(exchange), stale.toBytes(), 60L).block();
+        final Sinks.Empty<Void> upstream = Sinks.empty();
+        final ShenyuPluginChain shenyuPluginChain = mockUpstream("fresh", upstream.asMono());
+        final CachePlugin cachePlugin = new CachePlugin();
+        // the revalidate request goes through the whole pipeline again.
+        final ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        final WebHandler webHandler = revalidate -> cachePlugin.doExecute(revalidate, shenyuPluginChain, null, ruleData);
+        Mockito.when(context.getBean("webHandler")).thenReturn(webHandler);
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        final MockServerWebExchange concurrent = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        StepVerifier.create(Mono.when(cachePlugin.doExecute(exchange, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(concurrent, shenyuPluginChain, null, ruleData))).expectSubscription().verifyComplete();
+        StepVerifier.create(exchange.getResponse().getBodyAsString()).expectNext("stale").verifyComplete();
+        StepVerifier.create(concurrent.getResponse().getBodyAsString()).expectNext("stale").verifyComplete();
+        upstream.tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+            final CachedResponse refreshed = CachedResponse.fromBytes(memoryCache.getData(CacheUtils.dataKey(exchange)).block());
+            Assertions.assertNotNull(refreshed);
+            Assertions.assertTrue(refreshed.isFresh(System.currentTimeMillis()));
+            Assertions.assertEquals("fresh", new String(refreshed.getBody(), StandardCharsets.UTF_8));
+        });
+        final ArgumentCaptor<ServerWebExchange> revalidated = ArgumentCaptor.forClass(ServerWebExchange.class);
+        Mockito.verify(shenyuPluginChain, Mockito.times(1)).execute(revalidated.capture());
+        // an independent request, it shares no attributes with the callers.
+        Assertions.assertNotSame(exchange.getAttributes(), revalidated.getValue().getAttributes());
+        Assertions.assertNotSame(concurrent.getAttributes(), revalidated.getValue().getAttributes());
+    }
+
+    @Test
+    public void staleWithBodyTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final RuleData ruleData = new RuleData();
+        ruleData.setId("staleWithBody");
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setStaleSeconds(60L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("localhost/staleWithBody").contentLength(2).body("{}"));
+        final CachedResponse stale = new CachedResponse(HttpStatus.OK.value(), new HttpHeaders(), "stale".getBytes(StandardCharsets.UTF_8),
+                System.currentTimeMillis() - 1000L);
+        memoryCache.cacheData(CacheUtils.dataKey(exchange), stale.toBytes(), 60L).block();
+        // the body can not be replayed, the caller refreshes the response itself.
+        StepVerifier.create(new CachePlugin().doExecute(exchange, mockUpstream("fresh"), null, ruleData)).expectSubscription().verifyComplete();
+        StepVerifier.create(exchange.getResponse().getBodyAsString()).expectNext("fresh").verifyComplete();
     }
 
+    @Test
+    public void maxBodyBytesTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final RuleData ruleData = new RuleData();
+        ruleData.setId("maxBodyBytes");
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setMaxBodyBytes(4L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/maxBodyBytes").build());
+        StepVerifier.create(new CachePlugin().doExecute(exchange, mockUpstream("oversized"), null, ruleData)).expectSubscription().verifyComplete();
+        StepVerifier.create(exchange.getResponse().getBodyAsString()).expectNext("oversized").verifyComplete();
+        StepVerifier.create(memoryCache.isExist(CacheUtils.dataKey(exchange))).expectNext(false).verifyComplete();
+    }
+
+    private ShenyuPluginChain mockUpstream(final String body) {
+        return mockUpstream(body, Mono.delay(Duration.ofMillis(100)).then());
+    }
+
+    private ShenyuPluginChain mockUpstream(final String body, final Mono<Void> latency) {
+        final ShenyuPluginChain shenyuPluginChain = mock(ShenyuPluginChain.class);
+        Mockito.when(shenyuPluginChain.execute(any())).thenAnswer(invocation -> {
+            final ServerWebExchange exchange = invocation.getArgument(0);
+            return latency.then(exchange.getResponse()
+                    .writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8)))));
+        });
+        return shenyuPluginChain;
+    }
 }
@@ -17,26 +17,35 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.apache.shenyu.plugin.cache.ICache;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
  * MemoryCache.
+ * a single caffeine cache bounded by the bytes of the cached data, evicted by W-TinyLFU and expired per entry.
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    private final Cache<String, CacheEntry> mainCache;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(new MemoryConfigProperties());
+    }
+
+    public MemoryCache(final MemoryConfigProperties properties) {
+        final long maximumBytes = Optional.ofNullable(properties.getMaximumBytes()).orElse(MemoryConfigProperties.DEFAULT_MAXIMUM_BYTES);
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, CacheEntry entry) -> key.length() + entry.size())
+                .expireAfter(new CacheEntryExpiry())
+                .build();
     }
 
     /**
@@ -49,10 +58,8 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        this.mainCache.put(key, new CacheEntry(bytes, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +70,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.just(Objects.nonNull(this.mainCache.getIfPresent(key)));
     }
 
     /**
@@ -80,12 +81,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
-            }
-            return null;
-        });
+        return Mono.fromSupplier(() -> Optional.ofNullable(this.mainCache.getIfPresent(key)).map(CacheEntry::getBytes).orElse(null));
     }
 
     /**
@@ -93,6 +89,48 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        this.mainCache.invalidateAll();
+        this.mainCache.cleanUp();
+    }
+
+    /**
+     * The cached data with its time to live.
+     */
+    private static final class CacheEntry {
+
+        private final byte[] bytes;
+
+        private final long ttlNanos;
+
+        CacheEntry(final byte[] bytes, final long ttlNanos) {
+            this.bytes = bytes;
+            this.ttlNanos = ttlNanos;
+        }
+
+        int size() {
+            return bytes.length;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+    }
+
+    private static final class CacheEntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CacheEntry value, final long currentTime) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CacheEntry value, final long currentTime, final long currentDuration) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CacheEntry value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
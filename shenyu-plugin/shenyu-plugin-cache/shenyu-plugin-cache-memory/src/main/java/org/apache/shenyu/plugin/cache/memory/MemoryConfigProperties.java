@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+/**
+ * The configuration for memory cache.
+ */
+public class MemoryConfigProperties {
+
+    /**
+     * the default maximum bytes of the cached data, 256MB.
+     */
+    public static final long DEFAULT_MAXIMUM_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * Maximum bytes of the cached data, the least frequently used data is evicted once it is exceeded.
+     */
+    private Long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+    /**
+     * Gets maximum bytes.
+     *
+     * @return the maximum bytes
+     */
+    public Long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Sets maximum bytes.
+     *
+     * @param maximumBytes the maximum bytes
+     */
+    public void setMaximumBytes(final Long maximumBytes) {
+        this.maximumBytes = maximumBytes;
+    }
+}
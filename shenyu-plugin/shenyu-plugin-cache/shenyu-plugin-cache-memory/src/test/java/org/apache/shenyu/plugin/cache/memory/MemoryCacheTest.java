@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.shenyu.plugin.cache.ICache;
 import org.junit.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 /**
  * MemoryCacheTest.
@@ -42,4 +44,25 @@ public class MemoryCacheTest {
         memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
     }
 
+    @Test
+    public void testCloseMemoryCache() {
+        final MemoryConfigProperties properties = new MemoryConfigProperties();
+        properties.setMaximumBytes(1024L);
+        final MemoryCache memoryCache = new MemoryCache(properties);
+        final String key = "data";
+        memoryCache.cacheData(key, "data".getBytes(StandardCharsets.UTF_8), 10)
+                .subscribe(v -> assertEquals(Boolean.TRUE, v));
+        memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
+        memoryCache.close();
+        memoryCache.isExist(key).subscribe(v -> assertEquals(Boolean.FALSE, v));
+    }
+
+    @Test
+    public void testMemoryCacheBuilder() {
+        final ICache cache = new MemoryCacheBuilder().builderCache("{\"cacheType\":\"memory\",\"maximumBytes\":1024}");
+        assertNotNull(cache);
+        cache.cacheData("data", "data".getBytes(StandardCharsets.UTF_8), 10)
+                .subscribe(v -> assertEquals(Boolean.TRUE, v));
+        cache.isExist("data").subscribe(v -> assertEquals(Boolean.TRUE, v));
+    }
 }
@@ -29,6 +29,7 @@ import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.executor.LocalRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
 import org.apache.shenyu.plugin.ratelimiter.resolver.RateLimiterKeyResolverFactory;
@@ -45,13 +46,26 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
 
     private final RedisRateLimiter redisRateLimiter;
 
+    private final LocalRateLimiter localRateLimiter;
+
     /**
      * Instantiates a new Rate limiter plugin.
      *
      * @param redisRateLimiter  the redis rate limiter
      */
     public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter) {
+        this(redisRateLimiter, new LocalRateLimiter(redisRateLimiter));
+    }
+
+    /**
+     * Instantiates a new Rate limiter plugin.
+     *
+     * @param redisRateLimiter  the redis rate limiter
+     * @param localRateLimiter  the local rate limiter
+     */
+    public RateLimiterPlugin(final RedisRateLimiter redisRateLimiter, final LocalRateLimiter localRateLimiter) {
         this.redisRateLimiter = redisRateLimiter;
+        this.localRateLimiter = localRateLimiter;
     }
 
     @Override
@@ -71,12 +85,20 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
         String resolverKey = Optional.ofNullable(limiterHandle.getKeyResolverName())
                 .flatMap(name -> Optional.of("-" + RateLimiterKeyResolverFactory.newInstance(name).resolve(exchange)))
                 .orElse("");
-        return redisRateLimiter.isAllowed(rule.getId() + resolverKey, limiterHandle)
+        String id = rule.getId() + resolverKey;
+        if (localRateLimiter.supports(limiterHandle)) {
+            return localRateLimiter.isAllowed(id, limiterHandle)
+                    .flatMap(response -> {
+                        if (!response.isAllowed()) {
+                            return tooManyRequests(exchange);
+                        }
+                        return chain.execute(exchange).doFinally(signalType -> localRateLimiter.release(response));
+                    });
+        }
+        return redisRateLimiter.isAllowed(id, limiterHandle)
                 .flatMap(response -> {
                     if (!response.isAllowed()) {
-                        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
-                        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.TOO_MANY_REQUESTS);
-                        return WebFluxResultUtils.result(exchange, error);
+                        return tooManyRequests(exchange);
                     }
                     return chain.execute(exchange).doFinally(signalType -> {
                         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
@@ -84,4 +106,10 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
                     });
                 });
     }
+
+    private Mono<Void> tooManyRequests(final ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.TOO_MANY_REQUESTS);
+        return WebFluxResultUtils.result(exchange, error);
+    }
 }
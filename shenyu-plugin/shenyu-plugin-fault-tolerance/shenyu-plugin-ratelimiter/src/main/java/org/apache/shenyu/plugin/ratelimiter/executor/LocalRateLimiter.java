@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
+import org.apache.shenyu.plugin.ratelimiter.local.LocalConcurrentRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.local.LocalRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.local.LocalSlidingWindowRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.local.LocalTokenBucketRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.local.TokenLease;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocalRateLimiter, judges the requests inside the gateway node in local mode,
+ * and spends the tokens leased from redis in hybrid mode.
+ */
+public class LocalRateLimiter {
+
+    private static final String CONCURRENT = "concurrent";
+
+    private static final String SLIDING_WINDOW = "slidingWindow";
+
+    private static final long MAXIMUM_LIMITERS = 100_000L;
+
+    private final RedisRateLimiter redisRateLimiter;
+
+    private final Cache<String, LimiterHolder> limiters = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_LIMITERS)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    private final Cache<String, TokenLease> leases = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_LIMITERS)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    public LocalRateLimiter(final RedisRateLimiter redisRateLimiter) {
+        this.redisRateLimiter = redisRateLimiter;
+    }
+
+    /**
+     * Whether the handle is judged by this limiter rather than the redis scripts.
+     *
+     * @param limiterHandle the limiter handle
+     * @return true if local or hybrid
+     */
+    public boolean supports(final RateLimiterHandle limiterHandle) {
+        RateLimiterModeEnum mode = limiterHandle.resolveLimitMode();
+        return RateLimiterModeEnum.LOCAL == mode || RateLimiterModeEnum.HYBRID == mode && isTokenBased(limiterHandle);
+    }
+
+    /**
+     * Verify the request with the local algorithms or the leased tokens.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        final long permits = permits(limiterHandle);
+        if (RateLimiterModeEnum.HYBRID == limiterHandle.resolveLimitMode()) {
+            return leaseAllowed(id, limiterHandle, permits);
+        }
+        final LocalRateLimiterAlgorithm limiter = obtainLimiter(id, limiterHandle);
+        final long remaining = limiter.tryAcquire(permits);
+        return Mono.just(new LocalRateLimiterResponse(remaining >= 0, Math.max(0L, remaining), limiter, permits));
+    }
+
+    /**
+     * Release the permits once the request completes, to the limiter they were acquired from.
+     *
+     * @param response the response of {@link #isAllowed(String, RateLimiterHandle)}
+     */
+    public void release(final RateLimiterResponse response) {
+        if (response instanceof LocalRateLimiterResponse) {
+            final LocalRateLimiterResponse localResponse = (LocalRateLimiterResponse) response;
+            localResponse.limiter.release(localResponse.permits);
+        }
+    }
+
+    private Mono<RateLimiterResponse> leaseAllowed(final String id, final RateLimiterHandle limiterHandle, final long permits) {
+        final TokenLease lease = leases.get(id, key -> new TokenLease());
+        final long remaining = lease.tryTake(permits);
+        if (remaining >= 0) {
+            return Mono.just(new RateLimiterResponse(true, remaining, null));
+        }
+        // lease a batch of tokens for the next requests together with the permits of this one.
+        final long leaseSize = leaseSize(limiterHandle);
+        return redisRateLimiter.isAllowed(id, leaseHandle(limiterHandle, leaseSize + permits))
+                .flatMap(response -> {
+                    if (response.isAllowed()) {
+                        lease.refill(leaseSize);
+                        return Mono.just(new RateLimiterResponse(true, leaseSize, response.getKeys()));
+                    }
+                    // not enough tokens for a whole batch, fall back to judge this request alone.
+                    return redisRateLimiter.isAllowed(id, limiterHandle);
+                });
+    }
+
+    private LocalRateLimiterAlgorithm obtainLimiter(final String id, final RateLimiterHandle limiterHandle) {
+        LimiterHolder holder = limiters.getIfPresent(id);
+        if (Objects.isNull(holder) || !holder.matches(limiterHandle)) {
+            // concurrent requests of a new or changed handle must share one limiter
+            holder = limiters.asMap().compute(id, (key, current) -> Objects.nonNull(current) && current.matches(limiterHandle)
+                    ? current : new LimiterHolder(limiterHandle, newLimiter(limiterHandle)));
+        }
+        return holder.limiter;
+    }
+
+    private static LocalRateLimiterAlgorithm newLimiter(final RateLimiterHandle limiterHandle) {
+        final String algorithmName = limiterHandle.getAlgorithmName();
+        if (CONCURRENT.equals(algorithmName)) {
+            return new LocalConcurrentRateLimiter(limiterHandle.getBurstCapacity());
+        }
+        if (SLIDING_WINDOW.equals(algorithmName)) {
+            return new LocalSlidingWindowRateLimiter(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity());
+        }
+        // a leaky bucket used as a meter is equivalent to the token bucket.
+        return new LocalTokenBucketRateLimiter(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity());
+    }
+
+    private static boolean isTokenBased(final RateLimiterHandle limiterHandle) {
+        return !CONCURRENT.equals(limiterHandle.getAlgorithmName()) && !SLIDING_WINDOW.equals(limiterHandle.getAlgorithmName());
+    }
+
+    private static long permits(final RateLimiterHandle limiterHandle) {
+        return Math.max(1L, (long) Math.ceil(limiterHandle.getRequestCount()));
+    }
+
+    /**
+     * lease about a tenth of a second of the global rate, bounded by the burst capacity.
+     */
+    private static long leaseSize(final RateLimiterHandle limiterHandle) {
+        final long leaseSize = (long) (limiterHandle.getReplenishRate() / 10);
+        return Math.max(1L, Math.min(leaseSize, (long) limiterHandle.getBurstCapacity() / 2));
+    }
+
+    private static RateLimiterHandle leaseHandle(final RateLimiterHandle limiterHandle, final long requestCount) {
+        RateLimiterHandle leaseHandle = new RateLimiterHandle();
+        leaseHandle.setAlgorithmName(limiterHandle.getAlgorithmName());
+        leaseHandle.setReplenishRate(limiterHandle.getReplenishRate());
+        leaseHandle.setBurstCapacity(limiterHandle.getBurstCapacity());
+        leaseHandle.setRequestCount(requestCount);
+        leaseHandle.setKeyResolverName(limiterHandle.getKeyResolverName());
+        leaseHandle.setLimitMode(limiterHandle.getLimitMode());
+        return leaseHandle;
+    }
+
+    private static final class LocalRateLimiterResponse extends RateLimiterResponse {
+
+        private static final long serialVersionUID = -3520174871460258364L;
+
+        private final transient LocalRateLimiterAlgorithm limiter;
+
+        private final long permits;
+
+        LocalRateLimiterResponse(final boolean allowed, final long tokensRemaining, final LocalRateLimiterAlgorithm limiter, final long permits) {
+            super(allowed, tokensRemaining, null);
+            this.limiter = limiter;
+            this.permits = permits;
+        }
+    }
+
+    private static final class LimiterHolder {
+
+        private final RateLimiterHandle limiterHandle;
+
+        private final LocalRateLimiterAlgorithm limiter;
+
+        LimiterHolder(final RateLimiterHandle limiterHandle, final LocalRateLimiterAlgorithm limiter) {
+            this.limiterHandle = limiterHandle;
+            this.limiter = limiter;
+        }
+
+        boolean matches(final RateLimiterHandle handle) {
+            return limiterHandle == handle || limiterHandle.equals(handle);
+        }
+    }
+}
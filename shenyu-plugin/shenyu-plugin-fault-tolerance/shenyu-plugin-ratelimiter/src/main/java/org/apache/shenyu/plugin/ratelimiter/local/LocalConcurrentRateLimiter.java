@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local concurrent limiter, counts the requests in flight.
+ */
+public final class LocalConcurrentRateLimiter implements LocalRateLimiterAlgorithm {
+
+    private final long capacity;
+
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public LocalConcurrentRateLimiter(final double burstCapacity) {
+        this.capacity = (long) burstCapacity;
+    }
+
+    @Override
+    public long tryAcquire(final long permits) {
+        final long current = inFlight.addAndGet(permits);
+        if (current > capacity) {
+            inFlight.addAndGet(-permits);
+            return DENIED;
+        }
+        return capacity - current;
+    }
+
+    @Override
+    public void release(final long permits) {
+        inFlight.updateAndGet(current -> Math.max(0L, current - permits));
+    }
+}
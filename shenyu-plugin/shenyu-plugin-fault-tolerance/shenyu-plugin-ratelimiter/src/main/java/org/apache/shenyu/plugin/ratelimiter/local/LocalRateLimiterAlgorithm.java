@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+/**
+ * The interface of the rate limiter algorithms judged inside the gateway node.
+ */
+public interface LocalRateLimiterAlgorithm {
+
+    /**
+     * the result of a denied acquire.
+     */
+    long DENIED = -1L;
+
+    /**
+     * Try to acquire the permits.
+     *
+     * @param permits the permits to acquire
+     * @return the permits remaining, {@link #DENIED} if not allowed
+     */
+    long tryAcquire(long permits);
+
+    /**
+     * Release the permits once the request completes.
+     *
+     * @param permits the permits to release
+     */
+    default void release(final long permits) {
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Local sliding window, the window of burstCapacity / replenishRate seconds is split into buckets of atomic counters.
+ * the count is approximate under contention, a request racing a bucket rotation may be lost.
+ */
+public final class LocalSlidingWindowRateLimiter implements LocalRateLimiterAlgorithm {
+
+    private static final int BUCKETS = 10;
+
+    private final long capacity;
+
+    private final long bucketNanos;
+
+    private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public LocalSlidingWindowRateLimiter(final double replenishRate, final double burstCapacity) {
+        this.capacity = (long) burstCapacity;
+        final double windowSeconds = replenishRate > 0 ? burstCapacity / replenishRate : 0;
+        this.bucketNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) * windowSeconds / BUCKETS));
+        for (int i = 0; i < BUCKETS; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    @Override
+    public long tryAcquire(final long permits) {
+        if (capacity <= 0) {
+            return DENIED;
+        }
+        final long epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+        final int index = (int) Math.floorMod(epoch, (long) BUCKETS);
+        final long bucketEpoch = epochs.get(index);
+        if (bucketEpoch != epoch && epochs.compareAndSet(index, bucketEpoch, epoch)) {
+            counts.set(index, 0);
+        }
+        counts.addAndGet(index, permits);
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (epochs.get(i) > epoch - BUCKETS) {
+                total += counts.get(i);
+            }
+        }
+        if (total > capacity) {
+            counts.addAndGet(index, -permits);
+            return DENIED;
+        }
+        return capacity - total;
+    }
+}
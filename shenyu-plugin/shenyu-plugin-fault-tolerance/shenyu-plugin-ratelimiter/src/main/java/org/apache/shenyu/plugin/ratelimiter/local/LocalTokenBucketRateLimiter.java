@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local token bucket, implemented as the generic cell rate algorithm.
+ * the whole bucket state is one theoretical arrival time, updated by compare and set.
+ */
+public final class LocalTokenBucketRateLimiter implements LocalRateLimiterAlgorithm {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstNanos;
+
+    private final AtomicLong theoreticalArrival;
+
+    public LocalTokenBucketRateLimiter(final double replenishRate, final double burstCapacity) {
+        this.emissionIntervalNanos = replenishRate > 0 ? Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / replenishRate)) : 0L;
+        this.burstNanos = (long) (emissionIntervalNanos * Math.max(0, burstCapacity));
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public long tryAcquire(final long permits) {
+        if (emissionIntervalNanos <= 0 || burstNanos <= 0) {
+            return DENIED;
+        }
+        final long increment = emissionIntervalNanos * permits;
+        for (;;) {
+            final long now = System.nanoTime();
+            final long arrival = theoreticalArrival.get();
+            final long newArrival = Math.max(arrival, now) + increment;
+            final long used = newArrival - now;
+            if (used > burstNanos) {
+                return DENIED;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, newArrival)) {
+                return (burstNanos - used) / emissionIntervalNanos;
+            }
+        }
+    }
+}
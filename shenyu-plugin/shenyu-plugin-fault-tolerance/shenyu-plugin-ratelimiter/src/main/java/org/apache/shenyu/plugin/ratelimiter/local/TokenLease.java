@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tokens leased from the global redis bucket and spent locally, unspent tokens are dropped when the lease expires
+ * so that an idle node cannot burst with old tokens.
+ */
+public final class TokenLease {
+
+    private static final long LEASE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private volatile long expireAt = System.nanoTime();
+
+    /**
+     * Try to take the permits from the lease.
+     *
+     * @param permits the permits
+     * @return the tokens remaining, {@link LocalRateLimiterAlgorithm#DENIED} if the lease cannot serve the permits
+     */
+    public long tryTake(final long permits) {
+        if (System.nanoTime() - expireAt > 0) {
+            tokens.set(0);
+            return LocalRateLimiterAlgorithm.DENIED;
+        }
+        for (;;) {
+            final long current = tokens.get();
+            if (current < permits) {
+                return LocalRateLimiterAlgorithm.DENIED;
+            }
+            if (tokens.compareAndSet(current, current - permits)) {
+                return current - permits;
+            }
+        }
+    }
+
+    /**
+     * Add the tokens leased from redis and renew the lease.
+     *
+     * @param leased the leased tokens
+     */
+    public void refill(final long leased) {
+        expireAt = System.nanoTime() + LEASE_NANOS;
+        tokens.addAndGet(leased);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.enums.RateLimiterModeEnum;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LocalRateLimiter test.
+ */
+public final class LocalRateLimiterTest {
+
+    private static final String DEFAULT_TEST_ID = "testId";
+
+    private RedisRateLimiter redisRateLimiter;
+
+    private LocalRateLimiter localRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @BeforeEach
+    public void setUp() {
+        redisRateLimiter = mock(RedisRateLimiter.class);
+        localRateLimiter = new LocalRateLimiter(redisRateLimiter);
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(100.0);
+        rateLimiterHandle.setBurstCapacity(2.0);
+    }
+
+    @Test
+    public void supportsTest() {
+        assertFalse(localRateLimiter.supports(rateLimiterHandle));
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.LOCAL.getName());
+        assertTrue(localRateLimiter.supports(rateLimiterHandle));
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.HYBRID.getName());
+        assertTrue(localRateLimiter.supports(rateLimiterHandle));
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        assertFalse(localRateLimiter.supports(rateLimiterHandle));
+    }
+
+    @Test
+    public void localTest() {
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.LOCAL.getName());
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+        verify(redisRateLimiter, times(0)).isAllowed(anyString(), any());
+    }
+
+    @Test
+    public void localConcurrentReleaseTest() {
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.LOCAL.getName());
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        rateLimiterHandle.setBurstCapacity(1.0);
+        RateLimiterResponse acquired = localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle).block();
+        assertTrue(acquired.isAllowed());
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+        localRateLimiter.release(acquired);
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+    }
+
+    @Test
+    public void localConcurrentReleaseAfterHandleChangeTest() {
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.LOCAL.getName());
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        rateLimiterHandle.setBurstCapacity(1.0);
+        RateLimiterResponse acquired = localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle).block();
+        assertTrue(acquired.isAllowed());
+        RateLimiterHandle changedHandle = new RateLimiterHandle();
+        changedHandle.setLimitMode(RateLimiterModeEnum.LOCAL.getName());
+        changedHandle.setAlgorithmName("concurrent");
+        changedHandle.setBurstCapacity(2.0);
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, changedHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, changedHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        // the permit goes back to the old limiter, it must not free a slot of the new one
+        localRateLimiter.release(acquired);
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, changedHandle)).assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+    }
+
+    @Test
+    public void hybridTest() {
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.HYBRID.getName());
+        rateLimiterHandle.setBurstCapacity(100.0);
+        when(redisRateLimiter.isAllowed(eq(DEFAULT_TEST_ID), any())).thenReturn(Mono.just(new RateLimiterResponse(true, 0L, null)));
+        // the first request leases 10 tokens plus its own, the next 10 requests spend the lease locally.
+        for (int i = 0; i < 11; i++) {
+            StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        }
+        verify(redisRateLimiter, times(1)).isAllowed(eq(DEFAULT_TEST_ID), argThat(handle -> handle.getRequestCount() == 11.0));
+    }
+
+    @Test
+    public void hybridLeaseDeniedTest() {
+        rateLimiterHandle.setLimitMode(RateLimiterModeEnum.HYBRID.getName());
+        rateLimiterHandle.setBurstCapacity(100.0);
+        when(redisRateLimiter.isAllowed(eq(DEFAULT_TEST_ID), argThat(handle -> handle.getRequestCount() > 1.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(false, 0L, null)));
+        when(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).thenReturn(Mono.just(new RateLimiterResponse(true, 0L, null)));
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        verify(redisRateLimiter, times(1)).isAllowed(DEFAULT_TEST_ID, rateLimiterHandle);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.local;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * test for the local rate limiter algorithms.
+ */
+public final class LocalRateLimiterAlgorithmTest {
+
+    @Test
+    public void tokenBucketTest() {
+        LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(1.0, 3.0);
+        assertThat(limiter.tryAcquire(1), is(2L));
+        assertThat(limiter.tryAcquire(2), is(0L));
+        assertThat(limiter.tryAcquire(1), is(LocalRateLimiterAlgorithm.DENIED));
+    }
+
+    @Test
+    public void tokenBucketRefillTest() throws InterruptedException {
+        LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(100.0, 1.0);
+        assertThat(limiter.tryAcquire(1), is(0L));
+        assertThat(limiter.tryAcquire(1), is(LocalRateLimiterAlgorithm.DENIED));
+        Thread.sleep(50);
+        assertThat(limiter.tryAcquire(1), is(0L));
+    }
+
+    @Test
+    public void tokenBucketZeroRateTest() {
+        assertThat(new LocalTokenBucketRateLimiter(0, 10.0).tryAcquire(1), is(LocalRateLimiterAlgorithm.DENIED));
+    }
+
+    @Test
+    public void slidingWindowTest() {
+        LocalSlidingWindowRateLimiter limiter = new LocalSlidingWindowRateLimiter(1.0, 60.0);
+        for (int i = 0; i < 60; i++) {
+            assertThat(limiter.tryAcquire(1), is(59L - i));
+        }
+        assertThat(limiter.tryAcquire(1), is(LocalRateLimiterAlgorithm.DENIED));
+    }
+
+    @Test
+    public void concurrentTest() {
+        LocalConcurrentRateLimiter limiter = new LocalConcurrentRateLimiter(2.0);
+        assertThat(limiter.tryAcquire(1), is(1L));
+        assertThat(limiter.tryAcquire(1), is(0L));
+        assertThat(limiter.tryAcquire(1), is(LocalRateLimiterAlgorithm.DENIED));
+        limiter.release(1);
+        assertThat(limiter.tryAcquire(1), is(0L));
+    }
+
+    @Test
+    public void tokenLeaseTest() {
+        TokenLease lease = new TokenLease();
+        assertThat(lease.tryTake(1), is(LocalRateLimiterAlgorithm.DENIED));
+        lease.refill(3);
+        assertThat(lease.tryTake(1), is(2L));
+        assertThat(lease.tryTake(3), is(LocalRateLimiterAlgorithm.DENIED));
+        assertThat(lease.tryTake(2), is(0L));
+    }
+}
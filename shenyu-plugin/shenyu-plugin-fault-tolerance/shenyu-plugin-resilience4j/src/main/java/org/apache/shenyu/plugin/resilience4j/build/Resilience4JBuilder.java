@@ -23,7 +23,7 @@ import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.convert.rule.Resilience4JHandle;
-import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.TypedHandleCache;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.resilience4j.conf.Resilience4JConf;
 
@@ -44,8 +44,8 @@ public final class Resilience4JBuilder {
      * @return Resilience4JConf
      */
     public static Resilience4JConf build(final RuleData ruleData) {
-        Resilience4JHandle handle = GsonUtils.getGson().fromJson(ruleData.getHandle(), Resilience4JHandle.class);
-        handle.checkData(handle);
+        // the shared handle is checked once when it is decoded, never per request.
+        Resilience4JHandle handle = TypedHandleCache.getInstance().obtainRuleHandle(ruleData, Resilience4JHandle.class, h -> h.checkData(h));
         CircuitBreakerConfig circuitBreakerConfig = null;
         if (handle.getCircuitEnable() == 1) {
             circuitBreakerConfig = CircuitBreakerConfig.custom()
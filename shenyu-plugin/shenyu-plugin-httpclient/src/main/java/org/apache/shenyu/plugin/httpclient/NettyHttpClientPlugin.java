@@ -22,6 +22,7 @@ import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -42,6 +43,8 @@ import java.util.function.Consumer;
  * The type Netty http client plugin.
  */
 public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientResponse> {
+    
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
 
     private final HttpClient httpClient;
 
@@ -92,8 +95,8 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.httpclient;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -40,6 +41,8 @@ import java.util.Optional;
  */
 public class WebClientPlugin extends AbstractHttpClientPlugin<ClientResponse> {
     
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
+    
     private final WebClient webClient;
     
     /**
@@ -108,7 +111,7 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ClientResponse> {
     }
     
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 }
@@ -17,30 +17,38 @@
 
 package org.apache.shenyu.plugin.logging.common.body;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * bodyWriter is used to read Body.
+ * Only the first {@code maxSize} bytes are captured, the rest of the body is counted but not copied.
  */
 public class BodyWriter {
 
-    private static final Logger LOG = LoggerFactory.getLogger(BodyWriter.class);
+    private static final int INITIAL_CAPACITY = 256;
 
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private static final byte[] EMPTY = new byte[0];
 
-    private final WritableByteChannel channel = Channels.newChannel(stream);
+    private final int maxSize;
 
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
+    private byte[] bytes = EMPTY;
+
+    private int count;
+
+    private long size;
+
+    public BodyWriter() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public BodyWriter(final int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+    }
 
     /**
      * write ByteBuffer.
@@ -48,14 +56,18 @@ public class BodyWriter {
      * @param buffer byte buffer
      */
     public void write(final ByteBuffer buffer) {
-        if (!isClosed.get()) {
-            try {
-                channel.write(buffer);
-            } catch (IOException e) {
-                isClosed.compareAndSet(false, true);
-                LOG.error("write buffer Failed.", e);
-            }
+        if (isClosed.get()) {
+            return;
+        }
+        final int remaining = buffer.remaining();
+        size += remaining;
+        final int capture = Math.min(remaining, maxSize - count);
+        if (capture <= 0) {
+            return;
         }
+        ensureCapacity(count + capture);
+        buffer.get(bytes, count, capture);
+        count += capture;
     }
 
     /**
@@ -64,20 +76,29 @@ public class BodyWriter {
      * @return true: stream is empty
      */
     public boolean isEmpty() {
-        return stream.size() == 0;
+        return size == 0;
     }
 
     /**
-     * get stream size.
+     * get the size of the whole body, including the bytes beyond the capture limit.
      *
      * @return size of stream
      */
     public int size() {
-        return stream.size();
+        return (int) Math.min(size, Integer.MAX_VALUE);
     }
 
     /**
-     * output stream value.
+     * judge whether the body is larger than the capture limit.
+     *
+     * @return true: only a prefix of the body is captured
+     */
+    public boolean isTruncated() {
+        return size > count;
+    }
+
+    /**
+     * output stream value, a truncated body ends with a marker of the bytes dropped.
      *
      * @return string of stream
      */
@@ -85,23 +106,38 @@ public class BodyWriter {
         if (isEmpty()) {
             return "";
         }
-        try {
-            isClosed.compareAndSet(false, true);
-            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            LOG.error("Write failed: ", e);
-            return "Write failed: " + e.getMessage();
-        } finally {
-            try {
-                stream.close();
-            } catch (IOException e) {
-                LOG.error("Close stream error: ", e);
-            }
-            try {
-                channel.close();
-            } catch (IOException e) {
-                LOG.error("Close channel error: ", e);
-            }
+        isClosed.compareAndSet(false, true);
+        if (!isTruncated()) {
+            return new String(bytes, 0, count, StandardCharsets.UTF_8);
+        }
+        final int length = completeLength();
+        return new String(bytes, 0, length, StandardCharsets.UTF_8) + "...[truncated " + (size - length) + " bytes]";
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity <= bytes.length) {
+            return;
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, bytes.length << 1);
+        if (newCapacity < 0 || newCapacity > maxSize) {
+            newCapacity = maxSize;
+        }
+        bytes = Arrays.copyOf(bytes, Math.max(newCapacity, minCapacity));
+    }
+
+    /**
+     * the length of the captured bytes without a utf-8 sequence cut by the capture limit.
+     */
+    private int completeLength() {
+        int lead = count - 1;
+        while (lead >= 0 && count - lead < 4 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return count;
         }
+        final int b = bytes[lead] & 0xFF;
+        final int expected = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+        return lead + expected > count ? lead : count;
     }
 }
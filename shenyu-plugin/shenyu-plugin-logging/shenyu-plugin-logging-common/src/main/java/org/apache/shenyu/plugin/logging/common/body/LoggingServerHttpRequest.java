@@ -46,19 +46,16 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     @Override
     @NonNull
     public Flux<DataBuffer> getBody() {
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getGenericGlobalConfig().getMaxRequestBody());
+        boolean notBinaryType = LogCollectUtils.isNotBinaryType(getHeaders());
         return super.getBody().doOnNext(dataBuffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
+            if (notBinaryType) {
                 writer.write(dataBuffer.asByteBuffer().asReadOnlyBuffer());
             }
         }).doFinally(signal -> {
-            int size = writer.size();
-            String body = writer.output();
-            boolean requestBodyTooLarge = LogCollectConfigUtils.isRequestBodyTooLarge(size);
-            if (size == 0 || requestBodyTooLarge) {
-                return;
+            if (!writer.isEmpty()) {
+                logInfo.setRequestBody(writer.output());
             }
-            logInfo.setRequestBody(body);
         });
     }
 }
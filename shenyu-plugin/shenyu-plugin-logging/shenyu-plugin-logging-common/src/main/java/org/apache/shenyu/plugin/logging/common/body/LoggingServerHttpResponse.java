@@ -46,6 +46,7 @@ import reactor.util.annotation.NonNull;
 
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -129,10 +130,11 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setStatus(getStatusCode().value());
         }
         logInfo.setResponseHeader(LogCollectUtils.getHeaders(getHeaders()));
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getGenericGlobalConfig().getMaxResponseBody());
         logInfo.setTraceId(getTraceId());
+        boolean notBinaryType = LogCollectUtils.isNotBinaryType(getHeaders());
         return Flux.from(body).doOnNext(buffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
+            if (notBinaryType) {
                 writer.write(buffer.asByteBuffer().asReadOnlyBuffer());
             }
         }).doFinally(signal -> logResponse(shenyuContext, writer));
@@ -160,10 +162,8 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         if (StringUtils.isNotBlank(shenyuContext.getRpcType())) {
             logInfo.setUpstreamIp(getUpstreamIp());
         }
-        int size = writer.size();
-        String body = writer.output();
-        if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
-            logInfo.setResponseBody(body);
+        if (!writer.isEmpty()) {
+            logInfo.setResponseBody(writer.output());
         }
         // collect log
         if (Objects.nonNull(logCollector)) {
@@ -246,10 +246,11 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setUpstreamIp(getUpstreamIp());
         }
 
-        int size = bytes.length;
-        String body = new String(bytes, StandardCharsets.UTF_8);
-        if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
-            logInfo.setResponseBody(body);
+        // the same bounded capture as the normal response path
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getGenericGlobalConfig().getMaxResponseBody());
+        writer.write(ByteBuffer.wrap(bytes));
+        if (!writer.isEmpty()) {
+            logInfo.setResponseBody(writer.output());
         }
         // collect log
         if (Objects.nonNull(logCollector)) {
@@ -17,13 +17,6 @@
 
 package org.apache.shenyu.plugin.logging.common.collector;
 
-import org.apache.shenyu.common.concurrent.MemorySafeTaskQueue;
-import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
-import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
-import org.apache.shenyu.common.config.ShenyuConfig;
-import org.apache.shenyu.common.constant.Constants;
-import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
@@ -32,15 +25,9 @@ import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForBody;
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForSingleWord;
@@ -53,37 +40,31 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
-    private int bufferSize;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
 
-    private BlockingQueue<L> bufferQueue;
-
-    private long lastPushTime;
-
-    private final AtomicBoolean started = new AtomicBoolean(true);
+    private volatile LogCollectPipeline<L> pipeline;
 
     @Override
-    public void start() {
-        bufferSize = LogCollectConfigUtils.getGenericGlobalConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
-        ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
-        final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
-        ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
-                sharedPool.getMaximumPoolSize(), sharedPool.getKeepAliveTime(), TimeUnit.MILLISECONDS,
-                new MemorySafeTaskQueue<>(Constants.THE_256_MB),
-                ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
-                new ThreadPoolExecutor.AbortPolicy());
-        started.set(true);
-        threadExecutor.execute(this::consume);
+    public synchronized void start() {
+        final LogCollectPipeline<L> previous = pipeline;
+        LogCollectPipeline<L> current = new LogCollectPipeline<>(getClass().getSimpleName(),
+                LogCollectConfigUtils.getGenericGlobalConfig(), this::consume);
+        current.start();
+        pipeline = current;
+        if (Objects.nonNull(previous)) {
+            previous.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+            // the previous pipeline removed the meters of the collector name
+            current.getMetrics().register();
+        }
     }
 
     @Override
     public void collect(final L log) {
-        if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
+        LogCollectPipeline<L> current = pipeline;
+        if (Objects.isNull(log) || Objects.isNull(current) || Objects.isNull(getLogConsumeClient())) {
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
-        }
+        current.publish(log);
     }
 
     @Override
@@ -93,31 +74,29 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     }
 
     /**
-     * batch and async consume.
+     * get the metrics of the collect pipeline.
+     *
+     * @return metrics, null if the collector is not started
      */
-    private void consume() {
-        while (started.get()) {
-            int diffTimeMSForPush = 100;
-            try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
-                    AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
-                    if (Objects.nonNull(logCollectClient)) {
-                        logCollectClient.consume(logs);
-                    }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-                }
-            } catch (Exception e) {
-                LOG.error("DefaultLogCollector collect log error", e);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-            }
+    public LogCollectMetrics getMetrics() {
+        LogCollectPipeline<L> current = pipeline;
+        return Objects.isNull(current) ? null : current.getMetrics();
+    }
+
+    /**
+     * consume a batch on the pipeline thread.
+     *
+     * @param logs logs
+     */
+    private void consume(final List<L> logs) {
+        AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
+        if (Objects.isNull(logCollectClient)) {
+            return;
+        }
+        try {
+            logCollectClient.consume(logs);
+        } catch (Exception e) {
+            LOG.error("DefaultLogCollector collect log error", e);
         }
     }
 
@@ -169,7 +148,11 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
 
     @Override
     public void close() throws Exception {
-        started.set(false);
+        LogCollectPipeline<L> current = pipeline;
+        pipeline = null;
+        if (Objects.nonNull(current)) {
+            current.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        }
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (logCollectClient != null) {
             logCollectClient.close();
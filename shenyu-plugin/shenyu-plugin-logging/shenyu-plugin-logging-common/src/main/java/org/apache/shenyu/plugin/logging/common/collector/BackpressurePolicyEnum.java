@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import java.util.Arrays;
+
+/**
+ * The policy when the log buffer queue is full.
+ */
+public enum BackpressurePolicyEnum {
+
+    /**
+     * drop the log being collected.
+     */
+    DROP_NEWEST("dropNewest"),
+
+    /**
+     * drop the oldest queued log for each new one, the new logs wait aside and take the place of the oldest ones.
+     * The ring buffer gets half of the queue size and the waiting logs the other half.
+     */
+    DROP_OLDEST("dropOldest"),
+
+    /**
+     * keep a shrinking share of the logs once the queue is three quarters full.
+     */
+    SAMPLE_DOWN("sampleDown");
+
+    private final String name;
+
+    BackpressurePolicyEnum(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * get name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Acquire by name backpressure policy enum.
+     *
+     * @param name backpressure policy name
+     * @return BackpressurePolicyEnum
+     */
+    public static BackpressurePolicyEnum acquireByName(final String name) {
+        return Arrays.stream(BackpressurePolicyEnum.values())
+                .filter(e -> e.getName().equalsIgnoreCase(name)).findFirst()
+                .orElse(BackpressurePolicyEnum.DROP_NEWEST);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The metrics of a log collect pipeline.
+ * While the pipeline runs they are registered as meters of the global micrometer registry, tagged by the collector name,
+ * which spring boot actuator publishes through its own registries.
+ */
+public final class LogCollectMetrics {
+
+    private static final String METER_PREFIX = "shenyu.log.collect.";
+
+    private final Tags tags;
+
+    private final List<Meter> meters = new ArrayList<>();
+
+    private final LongAdder collected = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder flushedLogs = new LongAdder();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    private final LongSupplier queueDepth;
+
+    LogCollectMetrics(final String name, final LongSupplier queueDepth) {
+        this.tags = Tags.of("collector", name);
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * register the meters, again after a pipeline of the same collector removed the shared ones.
+     */
+    synchronized void register() {
+        remove();
+        final MeterRegistry registry = Metrics.globalRegistry;
+        meters.add(gauge(registry, "queue.depth", "the logs waiting in the queue", LogCollectMetrics::getQueueDepth));
+        meters.add(counter(registry, "collected", "the logs accepted by the queue", LogCollectMetrics::getCollected));
+        meters.add(counter(registry, "dropped", "the logs dropped by the backpressure policy", LogCollectMetrics::getDropped));
+        meters.add(counter(registry, "flushed", "the logs handed to the consume client", LogCollectMetrics::getFlushedLogs));
+        meters.add(counter(registry, "flushes", "the batches handed to the consume client", LogCollectMetrics::getFlushes));
+        meters.add(gauge(registry, "flush.last.millis", "the latency of the last flush", LogCollectMetrics::getLastFlushMillis));
+        meters.add(gauge(registry, "flush.max.millis", "the max latency of the flushes", LogCollectMetrics::getMaxFlushMillis));
+    }
+
+    synchronized void remove() {
+        meters.forEach(Metrics.globalRegistry::remove);
+        meters.clear();
+    }
+
+    private Meter gauge(final MeterRegistry registry, final String name, final String description, final ToDoubleFunction<LogCollectMetrics> value) {
+        return Gauge.builder(METER_PREFIX + name, this, value).tags(tags).description(description).register(registry);
+    }
+
+    private Meter counter(final MeterRegistry registry, final String name, final String description, final ToDoubleFunction<LogCollectMetrics> value) {
+        return FunctionCounter.builder(METER_PREFIX + name, this, value).tags(tags).description(description).register(registry);
+    }
+
+    void onCollected() {
+        collected.increment();
+    }
+
+    void onDropped() {
+        dropped.increment();
+    }
+
+    void onFlushed(final int logs, final long nanos) {
+        flushes.increment();
+        flushedLogs.add(logs);
+        lastFlushNanos.set(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * get the logs waiting in the queue.
+     *
+     * @return queue depth
+     */
+    public long getQueueDepth() {
+        return queueDepth.getAsLong();
+    }
+
+    /**
+     * get the logs accepted by the queue.
+     *
+     * @return collected logs
+     */
+    public long getCollected() {
+        return collected.sum();
+    }
+
+    /**
+     * get the logs dropped by the backpressure policy.
+     *
+     * @return dropped logs
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * get the logs handed to the consume client.
+     *
+     * @return flushed logs
+     */
+    public long getFlushedLogs() {
+        return flushedLogs.sum();
+    }
+
+    /**
+     * get the batches handed to the consume client.
+     *
+     * @return flushes
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * get the latency of the last flush in milliseconds.
+     *
+     * @return last flush latency
+     */
+    public long getLastFlushMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastFlushNanos.get());
+    }
+
+    /**
+     * get the max latency of the flushes in milliseconds.
+     *
+     * @return max flush latency
+     */
+    public long getMaxFlushMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "LogCollectMetrics{"
+                + "queueDepth=" + getQueueDepth()
+                + ", collected=" + getCollected()
+                + ", dropped=" + getDropped()
+                + ", flushedLogs=" + getFlushedLogs()
+                + ", flushes=" + getFlushes()
+                + ", lastFlushMillis=" + getLastFlushMillis()
+                + ", maxFlushMillis=" + getMaxFlushMillis()
+                + '}';
+    }
+}
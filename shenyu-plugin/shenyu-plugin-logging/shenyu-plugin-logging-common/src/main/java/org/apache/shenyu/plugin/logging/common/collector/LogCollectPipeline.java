@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.LiteTimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.TimeoutHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The log collect pipeline, the request threads publish logs into a multi-producer ring buffer,
+ * a single consumer thread drains it into batches bounded by count, estimated bytes and linger time.
+ * Publishing never waits for a free slot, as it runs on the event loop of the request.
+ *
+ * @param <L> the log type
+ */
+public final class LogCollectPipeline<L extends ShenyuRequestLog> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogCollectPipeline.class);
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private static final int MAX_BUFFER_SIZE = 1 << 22;
+
+    private static final int LOG_OVERHEAD_BYTES = 256;
+
+    private static final long DROP_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final EventTranslatorOneArg<DataEvent<L>, L> translator = (event, sequence, log) -> event.setData(log);
+
+    private final Disruptor<DataEvent<L>> disruptor;
+
+    private final RingBuffer<DataEvent<L>> ringBuffer;
+
+    private final BackpressurePolicyEnum policy;
+
+    private final LogCollectMetrics metrics;
+
+    /**
+     * the logs waiting to replace the oldest queued ones, only used by {@link BackpressurePolicyEnum#DROP_OLDEST}.
+     */
+    private final Queue<L> replacements = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingReplacements = new AtomicInteger();
+
+    private final int maxReplacements;
+
+    private final BatchHandler handler;
+
+    /**
+     * Instantiates a new log collect pipeline.
+     *
+     * @param name the collector name
+     * @param config the global log config
+     * @param sink consumes the batches on the pipeline thread
+     */
+    public LogCollectPipeline(final String name, final GenericGlobalConfig config, final Consumer<List<L>> sink) {
+        this.policy = BackpressurePolicyEnum.acquireByName(config.getBackpressurePolicy());
+        final long lingerMillis = Math.max(1L, config.getLingerMillis());
+        int bufferSize = bufferSize(config.getBufferQueueSize());
+        if (BackpressurePolicyEnum.DROP_OLDEST == policy) {
+            // the replacements take the other half of the queue size
+            bufferSize = Math.max(MIN_BUFFER_SIZE, bufferSize >> 1);
+        }
+        this.maxReplacements = bufferSize;
+        this.disruptor = new Disruptor<>(new DisruptorEventFactory<>(), bufferSize,
+                DisruptorThreadFactory.create("shenyu_log_collector_" + name, true),
+                ProducerType.MULTI, new LiteTimeoutBlockingWaitStrategy(lingerMillis, TimeUnit.MILLISECONDS));
+        this.ringBuffer = disruptor.getRingBuffer();
+        this.metrics = new LogCollectMetrics(name, () -> ringBuffer.getBufferSize() - ringBuffer.remainingCapacity() + pendingReplacements.get());
+        this.handler = new BatchHandler(sink, Math.max(1, config.getBatchSize()),
+                config.getBatchBytes(), TimeUnit.MILLISECONDS.toNanos(lingerMillis));
+        this.disruptor.handleEventsWith(handler);
+    }
+
+    /**
+     * start the consumer thread.
+     */
+    public void start() {
+        metrics.register();
+        disruptor.start();
+    }
+
+    /**
+     * publish a log, the backpressure policy decides what happens when the queue is full.
+     *
+     * @param log log
+     * @return whether the log is queued
+     */
+    public boolean publish(final L log) {
+        if (BackpressurePolicyEnum.SAMPLE_DOWN == policy && !sampled()) {
+            metrics.onDropped();
+            return false;
+        }
+        if (ringBuffer.tryPublishEvent(translator, log)
+                || BackpressurePolicyEnum.DROP_OLDEST == policy && publishReplacingOldest(log)) {
+            metrics.onCollected();
+            return true;
+        }
+        metrics.onDropped();
+        return false;
+    }
+
+    /**
+     * flush the queued logs and stop the consumer thread.
+     *
+     * @param timeoutMillis the max time to wait for the queued logs
+     */
+    public void shutdown(final long timeoutMillis) {
+        try {
+            // a halt before the consumer thread runs is lost, so wait for it to start first
+            handler.started.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            disruptor.shutdown(timeoutMillis, TimeUnit.MILLISECONDS);
+            // the last batch is flushed when the consumer thread stops
+            handler.stopped.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("log collect pipeline shutdown timeout, {} logs are dropped", metrics.getQueueDepth());
+            disruptor.halt();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            metrics.remove();
+        }
+    }
+
+    /**
+     * get metrics.
+     *
+     * @return metrics
+     */
+    public LogCollectMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * keep every log until the queue is three quarters full, then a share shrinking to none as it fills up.
+     */
+    private boolean sampled() {
+        final long remaining = ringBuffer.remainingCapacity();
+        final long quarter = ringBuffer.getBufferSize() >> 2;
+        return remaining >= quarter || ThreadLocalRandom.current().nextLong(quarter) < remaining;
+    }
+
+    /**
+     * queue the log as the replacement of the oldest queued one, the consumer drops the log of the next slot it reads
+     * and takes the replacement instead, so every accepted replacement drops exactly one log.
+     * Once as many replacements as ring slots are waiting, the oldest replacement is dropped in turn.
+     */
+    private boolean publishReplacingOldest(final L log) {
+        replacements.offer(log);
+        if (pendingReplacements.incrementAndGet() > maxReplacements) {
+            dropOldest(pollReplacement());
+        }
+        return true;
+    }
+
+    private L pollReplacement() {
+        if (pendingReplacements.get() <= 0) {
+            return null;
+        }
+        final L replacement = replacements.poll();
+        if (Objects.nonNull(replacement)) {
+            pendingReplacements.decrementAndGet();
+        }
+        return replacement;
+    }
+
+    private void dropOldest(final L oldest) {
+        if (Objects.nonNull(oldest)) {
+            metrics.onDropped();
+        }
+    }
+
+    private static int bufferSize(final int bufferQueueSize) {
+        final int size = bufferQueueSize <= 1 ? 1 : Integer.highestOneBit(bufferQueueSize - 1) << 1;
+        return Math.min(MAX_BUFFER_SIZE, Math.max(MIN_BUFFER_SIZE, size));
+    }
+
+    private static int estimateSize(final ShenyuRequestLog log) {
+        return LOG_OVERHEAD_BYTES + length(log.getRequestUri()) + length(log.getQueryParams())
+                + length(log.getRequestHeader()) + length(log.getResponseHeader())
+                + length(log.getRequestBody()) + length(log.getResponseBody());
+    }
+
+    private static int length(final String value) {
+        return Objects.isNull(value) ? 0 : value.length();
+    }
+
+    private final class BatchHandler implements EventHandler<DataEvent<L>>, TimeoutHandler, LifecycleAware {
+
+        private final Consumer<List<L>> sink;
+
+        private final int batchSize;
+
+        private final int batchBytes;
+
+        private final long lingerNanos;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private List<L> batch;
+
+        private long bytes;
+
+        private long firstNanos;
+
+        private long reportedDrops;
+
+        private long lastDropWarnNanos;
+
+        BatchHandler(final Consumer<List<L>> sink, final int batchSize, final int batchBytes, final long lingerNanos) {
+            this.sink = sink;
+            this.batchSize = batchSize;
+            this.batchBytes = batchBytes;
+            this.lingerNanos = lingerNanos;
+            this.batch = new ArrayList<>(batchSize);
+            this.lastDropWarnNanos = System.nanoTime() - DROP_WARN_INTERVAL_NANOS;
+        }
+
+        @Override
+        public void onEvent(final DataEvent<L> event, final long sequence, final boolean endOfBatch) {
+            L log = event.getData();
+            // help gc
+            event.setData(null);
+            final L replacement = pollReplacement();
+            if (Objects.nonNull(replacement)) {
+                dropOldest(log);
+                log = replacement;
+            }
+            if (Objects.nonNull(log)) {
+                add(log);
+            }
+            if (endOfBatch) {
+                // the ring is drained, the replacements left have no older log to take the place of
+                drainReplacements();
+            }
+            if (full() || endOfBatch && !batch.isEmpty() && System.nanoTime() - firstNanos >= lingerNanos) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onTimeout(final long sequence) {
+            // no log arrived during the linger time
+            drainReplacements();
+            flush();
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+
+        @Override
+        public void onShutdown() {
+            try {
+                drainReplacements();
+                flush();
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        private void add(final L log) {
+            if (batch.isEmpty()) {
+                firstNanos = System.nanoTime();
+            }
+            batch.add(log);
+            bytes += estimateSize(log);
+        }
+
+        private boolean full() {
+            return batch.size() >= batchSize || batchBytes > 0 && bytes >= batchBytes;
+        }
+
+        private void drainReplacements() {
+            L replacement = pollReplacement();
+            while (Objects.nonNull(replacement)) {
+                add(replacement);
+                if (full()) {
+                    flush();
+                }
+                replacement = pollReplacement();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            final List<L> logs = batch;
+            batch = new ArrayList<>(batchSize);
+            bytes = 0;
+            final long start = System.nanoTime();
+            try {
+                sink.accept(logs);
+            } catch (Exception e) {
+                LOG.error("log collect pipeline flush logs error", e);
+            }
+            final long end = System.nanoTime();
+            metrics.onFlushed(logs.size(), end - start);
+            warnDrops(end);
+        }
+
+        private void warnDrops(final long now) {
+            final long dropped = metrics.getDropped();
+            if (dropped > reportedDrops && now - lastDropWarnNanos >= DROP_WARN_INTERVAL_NANOS) {
+                LOG.warn("log collect pipeline dropped {} logs by the {} policy, {}", dropped - reportedDrops, policy.getName(), metrics);
+                reportedDrops = dropped;
+                lastDropWarnNanos = now;
+            }
+        }
+    }
+}
@@ -39,6 +39,26 @@ public class GenericGlobalConfig {
      */
     private int bufferQueueSize = 50000;
 
+    /**
+     * the max logs of a batch, default 100.
+     */
+    private int batchSize = 100;
+
+    /**
+     * the max time in milliseconds a log waits for its batch, default 100.
+     */
+    private long lingerMillis = 100L;
+
+    /**
+     * the estimated max bytes of a batch, default 1MB, 0 means unbounded.
+     */
+    private int batchBytes = 1048576;
+
+    /**
+     * the policy when the buffer queue is full: dropNewest, dropOldest or sampleDown.
+     */
+    private String backpressurePolicy = "dropNewest";
+
     /**
      * get sample rate.
      *
@@ -110,4 +130,76 @@ public class GenericGlobalConfig {
     public void setBufferQueueSize(final int bufferQueueSize) {
         this.bufferQueueSize = bufferQueueSize;
     }
+
+    /**
+     * get batch size.
+     *
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * set batch size.
+     *
+     * @param batchSize batch size
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * get linger millis.
+     *
+     * @return linger millis
+     */
+    public long getLingerMillis() {
+        return lingerMillis;
+    }
+
+    /**
+     * set linger millis.
+     *
+     * @param lingerMillis linger millis
+     */
+    public void setLingerMillis(final long lingerMillis) {
+        this.lingerMillis = lingerMillis;
+    }
+
+    /**
+     * get batch bytes.
+     *
+     * @return batch bytes
+     */
+    public int getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * set batch bytes.
+     *
+     * @param batchBytes batch bytes
+     */
+    public void setBatchBytes(final int batchBytes) {
+        this.batchBytes = batchBytes;
+    }
+
+    /**
+     * get backpressure policy.
+     *
+     * @return backpressure policy
+     */
+    public String getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * set backpressure policy.
+     *
+     * @param backpressurePolicy backpressure policy
+     */
+    public void setBackpressurePolicy(final String backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy;
+    }
 }
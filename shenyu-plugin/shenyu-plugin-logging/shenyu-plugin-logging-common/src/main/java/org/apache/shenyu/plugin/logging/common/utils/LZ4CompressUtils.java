@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.utils;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.logging.common.entity.LZ4CompressData;
+
+/**
+ * lz4 compress utils for the message queue log collect clients.
+ */
+public final class LZ4CompressUtils {
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+    private LZ4CompressUtils() {
+    }
+
+    /**
+     * serialize the log into utf-8 json bytes and compress them.
+     *
+     * @param log log
+     * @return lz4 compressed data
+     */
+    public static LZ4CompressData compress(final Object log) {
+        return compress(JsonUtils.toJsonBytes(log));
+    }
+
+    /**
+     * compress the bytes.
+     *
+     * @param source source bytes
+     * @return lz4 compressed data
+     */
+    public static LZ4CompressData compress(final byte[] source) {
+        return new LZ4CompressData(source.length, COMPRESSOR.compress(source));
+    }
+}
@@ -69,4 +69,20 @@ public class BodyWriterTest {
         String res = writer.output();
         Assertions.assertEquals(res, "hello, shenyu");
     }
+
+    @Test
+    public void testTruncatedOutput() {
+        BodyWriter limited = new BodyWriter(5);
+        limited.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertEquals(limited.size(), 13);
+        Assertions.assertTrue(limited.isTruncated());
+        Assertions.assertEquals(limited.output(), "hello...[truncated 8 bytes]");
+    }
+
+    @Test
+    public void testTruncatedMultiByteOutput() {
+        BodyWriter limited = new BodyWriter(4);
+        limited.write(ByteBuffer.wrap("神禹".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(limited.output(), "神...[truncated 3 bytes]");
+    }
 }
@@ -24,8 +24,10 @@ import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.utils.HostAddressUtils;
 import org.apache.shenyu.plugin.logging.common.collector.LogCollector;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -181,6 +183,26 @@ public class LoggingServerHttpResponseTest {
         Assertions.assertEquals(shenyuRequestLog.getStatus(), 500);
     }
 
+    @Test
+    public void testLogErrorTruncatesBody() throws NoSuchFieldException, IllegalAccessException {
+        GenericGlobalConfig previous = LogCollectConfigUtils.getGenericGlobalConfig();
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setMaxResponseBody(2);
+        LogCollectConfigUtils.setGenericGlobalConfig(config);
+        try {
+            loggingServerHttpResponse.setExchange(exchange);
+            loggingServerHttpResponse.logError(new Throwable("error"));
+            Field field = loggingServerHttpResponse.getClass().getDeclaredField("logInfo");
+            field.setAccessible(true);
+            ShenyuRequestLog shenyuRequestLog = (ShenyuRequestLog) field.get(loggingServerHttpResponse);
+            // the stub result renders as "null", only its first two bytes are kept
+            Assertions.assertEquals(shenyuRequestLog.getResponseBody(), "nu...[truncated 2 bytes]");
+            Assertions.assertEquals(shenyuRequestLog.getResponseContentLength(), 4);
+        } finally {
+            LogCollectConfigUtils.setGenericGlobalConfig(previous);
+        }
+    }
+
     @Test
     public void testLogResponse() throws Exception {
         logCollector.start();
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Test Case For LogCollectPipeline.
+ */
+public class LogCollectPipelineTest {
+
+    @Test
+    public void testBatchSize() throws InterruptedException {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBatchSize(10);
+        config.setLingerMillis(60000L);
+        List<Integer> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, logs -> {
+            batches.add(logs.size());
+            latch.countDown();
+        });
+        pipeline.start();
+        for (int i = 0; i < 30; i++) {
+            Assertions.assertTrue(pipeline.publish(new ShenyuRequestLog()));
+        }
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        pipeline.shutdown(1000L);
+        Assertions.assertEquals(batches.get(0), 10);
+        Assertions.assertEquals(pipeline.getMetrics().getFlushedLogs(), 30L);
+        Assertions.assertEquals(pipeline.getMetrics().getFlushes(), 3L);
+    }
+
+    @Test
+    public void testLinger() throws InterruptedException {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setLingerMillis(10L);
+        CountDownLatch latch = new CountDownLatch(1);
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, logs -> latch.countDown());
+        pipeline.start();
+        pipeline.publish(new ShenyuRequestLog());
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(pipeline.getMetrics().getCollected(), 1L);
+        pipeline.shutdown(1000L);
+    }
+
+    @Test
+    public void testBatchBytes() throws InterruptedException {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBatchBytes(1000);
+        config.setLingerMillis(60000L);
+        CountDownLatch latch = new CountDownLatch(1);
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, logs -> latch.countDown());
+        pipeline.start();
+        ShenyuRequestLog log = new ShenyuRequestLog();
+        log.setResponseBody(new String(new char[1000]));
+        pipeline.publish(log);
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        pipeline.shutdown(1000L);
+    }
+
+    @Test
+    public void testDropNewest() throws InterruptedException {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBufferQueueSize(64);
+        CountDownLatch blocked = new CountDownLatch(1);
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, logs -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        pipeline.start();
+        for (int i = 0; i < 200; i++) {
+            pipeline.publish(new ShenyuRequestLog());
+        }
+        Assertions.assertTrue(pipeline.getMetrics().getDropped() > 0);
+        Assertions.assertEquals(pipeline.getMetrics().getCollected() + pipeline.getMetrics().getDropped(), 200L);
+        blocked.countDown();
+        pipeline.shutdown(1000L);
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBufferQueueSize(64);
+        config.setBatchSize(1);
+        config.setBackpressurePolicy(BackpressurePolicyEnum.DROP_OLDEST.getName());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<ShenyuRequestLog> flushed = new CopyOnWriteArrayList<>();
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, logs -> {
+            entered.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            flushed.addAll(logs);
+        });
+        pipeline.start();
+        Assertions.assertTrue(pipeline.publish(new ShenyuRequestLog()));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+        List<ShenyuRequestLog> published = new ArrayList<>();
+        for (int i = 1; i < 200; i++) {
+            ShenyuRequestLog log = new ShenyuRequestLog();
+            published.add(log);
+            Assertions.assertTrue(pipeline.publish(log));
+        }
+        LogCollectMetrics metrics = pipeline.getMetrics();
+        Assertions.assertEquals(metrics.getCollected(), 200L);
+        blocked.countDown();
+        pipeline.shutdown(1000L);
+        // every log is either flushed or dropped once, and the newest ones are kept
+        Assertions.assertEquals(flushed.size() + metrics.getDropped(), 200L);
+        Assertions.assertEquals(flushed.size(), 65);
+        Assertions.assertEquals(flushed.subList(1, 65), published.subList(135, 199));
+    }
+
+    @Test
+    public void testShutdownFlush() {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setLingerMillis(60000L);
+        List<ShenyuRequestLog> flushed = new CopyOnWriteArrayList<>();
+        LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("test", config, flushed::addAll);
+        pipeline.start();
+        pipeline.publish(new ShenyuRequestLog());
+        pipeline.shutdown(1000L);
+        Assertions.assertEquals(flushed.size(), 1);
+    }
+
+    @Test
+    public void testMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            GenericGlobalConfig config = new GenericGlobalConfig();
+            LogCollectPipeline<ShenyuRequestLog> pipeline = new LogCollectPipeline<>("meters", config, logs -> {
+            });
+            pipeline.start();
+            pipeline.publish(new ShenyuRequestLog());
+            FunctionCounter collected = registry.find("shenyu.log.collect.collected").tag("collector", "meters").functionCounter();
+            Assertions.assertNotNull(collected);
+            Assertions.assertEquals(collected.count(), 1.0D);
+            Assertions.assertNotNull(registry.find("shenyu.log.collect.queue.depth").tag("collector", "meters").gauge());
+            pipeline.shutdown(1000L);
+            Assertions.assertNull(registry.find("shenyu.log.collect.collected").tag("collector", "meters").functionCounter());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    public void testAcquireByName() {
+        Assertions.assertEquals(BackpressurePolicyEnum.acquireByName("dropOldest"), BackpressurePolicyEnum.DROP_OLDEST);
+        Assertions.assertEquals(BackpressurePolicyEnum.acquireByName("unknown"), BackpressurePolicyEnum.DROP_NEWEST);
+    }
+}
@@ -53,4 +53,17 @@ public class GenericGlobalConfigTest {
         genericGlobalConfig.setBufferQueueSize(5000);
         Assertions.assertEquals(genericGlobalConfig.getBufferQueueSize(), 5000);
     }
+
+    @Test
+    public void testSetGenericGlobalConfigBatch() {
+        GenericGlobalConfig genericGlobalConfig = new GenericGlobalConfig();
+        genericGlobalConfig.setBatchSize(50);
+        genericGlobalConfig.setLingerMillis(20L);
+        genericGlobalConfig.setBatchBytes(1024);
+        genericGlobalConfig.setBackpressurePolicy("sampleDown");
+        Assertions.assertEquals(genericGlobalConfig.getBatchSize(), 50);
+        Assertions.assertEquals(genericGlobalConfig.getLingerMillis(), 20L);
+        Assertions.assertEquals(genericGlobalConfig.getBatchBytes(), 1024);
+        Assertions.assertEquals(genericGlobalConfig.getBackpressurePolicy(), "sampleDown");
+    }
 }
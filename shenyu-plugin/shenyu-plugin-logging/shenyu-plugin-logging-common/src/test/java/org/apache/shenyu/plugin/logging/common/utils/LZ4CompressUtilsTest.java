@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.utils;
+
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.logging.common.entity.LZ4CompressData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Test Case For LZ4CompressUtils.
+ */
+public class LZ4CompressUtilsTest {
+
+    @Test
+    public void testCompress() {
+        ShenyuRequestLog log = new ShenyuRequestLog();
+        log.setPath("/http/order");
+        log.setResponseBody("{\"id\":\"123\",\"name\":\"shenyu\"}");
+        LZ4CompressData data = LZ4CompressUtils.compress(log);
+        byte[] json = JsonUtils.toJsonBytes(log);
+        Assertions.assertEquals(data.getLength(), json.length);
+        byte[] restored = LZ4Factory.fastestInstance().fastDecompressor().decompress(data.getCompressedData(), data.getLength());
+        Assertions.assertArrayEquals(restored, json);
+    }
+}
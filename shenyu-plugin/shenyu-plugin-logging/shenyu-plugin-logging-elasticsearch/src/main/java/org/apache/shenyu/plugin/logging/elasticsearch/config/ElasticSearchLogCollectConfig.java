@@ -189,6 +189,10 @@ public class ElasticSearchLogCollectConfig {
                     && Objects.equals(getPort(), that.getPort())
                     && Objects.equals(getSampleRate(), that.getSampleRate())
                     && Objects.equals(getBufferQueueSize(), that.getBufferQueueSize())
+                    && Objects.equals(getBatchSize(), that.getBatchSize())
+                    && Objects.equals(getLingerMillis(), that.getLingerMillis())
+                    && Objects.equals(getBatchBytes(), that.getBatchBytes())
+                    && Objects.equals(getBackpressurePolicy(), that.getBackpressurePolicy())
                     && Objects.equals(getMaxResponseBody(), that.getMaxRequestBody())
                     && Objects.equals(getMaxRequestBody(), that.getMaxResponseBody());
         }
@@ -17,8 +17,6 @@
 
 package org.apache.shenyu.plugin.logging.kafka.client;
 
-import net.jpountz.lz4.LZ4Compressor;
-import net.jpountz.lz4.LZ4Factory;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -32,13 +30,12 @@ import org.apache.kafka.common.errors.ProducerFencedException;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
-import org.apache.shenyu.plugin.logging.common.entity.LZ4CompressData;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LZ4CompressUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.kafka.config.KafkaLogCollectConfig;
 import org.springframework.lang.NonNull;
 
-import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.List;
@@ -126,23 +123,14 @@ public class KafkaLogCollectClient extends AbstractLogConsumeClient<KafkaLogColl
     }
 
     private ProducerRecord<String, String> toProducerRecord(final String logTopic, final ShenyuRequestLog log) {
-        byte[] bytes = JsonUtils.toJson(log).getBytes(StandardCharsets.UTF_8);
         String compressAlg = StringUtils.defaultIfBlank(KafkaLogCollectConfig.INSTANCE.getKafkaLogConfig().getCompressAlg(), "");
         if ("LZ4".equalsIgnoreCase(compressAlg.trim())) {
-            LZ4CompressData lz4CompressData = new LZ4CompressData(bytes.length, compressedByte(bytes));
-            return new ProducerRecord<>(logTopic, JsonUtils.toJson(lz4CompressData));
-
+            return new ProducerRecord<>(logTopic, JsonUtils.toJson(LZ4CompressUtils.compress(log)));
         } else {
             return new ProducerRecord<>(logTopic, JsonUtils.toJson(log));
         }
     }
 
-    private byte[] compressedByte(final byte[] srcByte) {
-        LZ4Factory factory = LZ4Factory.fastestInstance();
-        LZ4Compressor compressor = factory.fastCompressor();
-        return compressor.compress(srcByte);
-    }
-
     /**
      * set api topic map.
      * @param uriTopicMap api topic map
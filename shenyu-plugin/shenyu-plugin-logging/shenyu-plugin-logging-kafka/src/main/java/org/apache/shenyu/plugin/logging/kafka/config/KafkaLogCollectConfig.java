@@ -234,6 +234,10 @@ public class KafkaLogCollectConfig {
                     && Objects.equals(getProducerGroup(), that.getProducerGroup())
                     && Objects.equals(getSampleRate(), that.getSampleRate())
                     && Objects.equals(getBufferQueueSize(), that.getBufferQueueSize())
+                    && Objects.equals(getBatchSize(), that.getBatchSize())
+                    && Objects.equals(getLingerMillis(), that.getLingerMillis())
+                    && Objects.equals(getBatchBytes(), that.getBatchBytes())
+                    && Objects.equals(getBackpressurePolicy(), that.getBackpressurePolicy())
                     && Objects.equals(getMaxResponseBody(), that.getMaxRequestBody())
                     && Objects.equals(getMaxRequestBody(), that.getMaxResponseBody());
         }
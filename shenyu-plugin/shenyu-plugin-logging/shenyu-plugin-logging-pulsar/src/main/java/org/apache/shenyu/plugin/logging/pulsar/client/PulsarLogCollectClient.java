@@ -17,22 +17,19 @@
 
 package org.apache.shenyu.plugin.logging.pulsar.client;
 
-import net.jpountz.lz4.LZ4Compressor;
-import net.jpountz.lz4.LZ4Factory;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.pulsar.client.api.Producer;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
-import org.apache.shenyu.plugin.logging.common.entity.LZ4CompressData;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LZ4CompressUtils;
 import org.apache.shenyu.plugin.logging.pulsar.config.PulsarLogCollectConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
@@ -76,22 +73,14 @@ public class PulsarLogCollectClient extends AbstractLogConsumeClient<PulsarLogCo
     }
 
     private byte[] toBytes(final ShenyuRequestLog log) {
-        byte[] bytes = JsonUtils.toJson(log).getBytes(StandardCharsets.UTF_8);
         String compressAlg = StringUtils.defaultIfBlank(PulsarLogCollectConfig.INSTANCE.getPulsarLogConfig().getCompressAlg(), "");
         if ("LZ4".equalsIgnoreCase(compressAlg.trim())) {
-            LZ4CompressData lz4CompressData = new LZ4CompressData(bytes.length, compressedByte(bytes));
-            return JsonUtils.toJson(lz4CompressData).getBytes(StandardCharsets.UTF_8);
+            return JsonUtils.toJsonBytes(LZ4CompressUtils.compress(log));
         } else {
-            return bytes;
+            return JsonUtils.toJsonBytes(log);
         }
     }
 
-    private byte[] compressedByte(final byte[] srcByte) {
-        LZ4Factory factory = LZ4Factory.fastestInstance();
-        LZ4Compressor compressor = factory.fastCompressor();
-        return compressor.compress(srcByte);
-    }
-
     @Override
     public void close0() {
         if (Objects.nonNull(producer)) {
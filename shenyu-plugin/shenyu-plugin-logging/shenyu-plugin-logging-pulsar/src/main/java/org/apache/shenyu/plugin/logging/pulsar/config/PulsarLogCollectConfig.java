@@ -123,6 +123,10 @@ public class PulsarLogCollectConfig {
                     && Objects.equals(getServiceUrl(), that.getServiceUrl())
                     && Objects.equals(getSampleRate(), that.getSampleRate())
                     && Objects.equals(getBufferQueueSize(), that.getBufferQueueSize())
+                    && Objects.equals(getBatchSize(), that.getBatchSize())
+                    && Objects.equals(getLingerMillis(), that.getLingerMillis())
+                    && Objects.equals(getBatchBytes(), that.getBatchBytes())
+                    && Objects.equals(getBackpressurePolicy(), that.getBackpressurePolicy())
                     && Objects.equals(getMaxResponseBody(), that.getMaxRequestBody())
                     && Objects.equals(getMaxRequestBody(), that.getMaxResponseBody());
         }
@@ -17,8 +17,6 @@
 
 package org.apache.shenyu.plugin.logging.rocketmq.client;
 
-import net.jpountz.lz4.LZ4Compressor;
-import net.jpountz.lz4.LZ4Factory;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.rocketmq.acl.common.AclClientRPCHook;
 import org.apache.rocketmq.acl.common.SessionCredentials;
@@ -27,15 +25,14 @@ import org.apache.rocketmq.common.message.Message;
 import org.apache.rocketmq.remoting.RPCHook;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
-import org.apache.shenyu.plugin.logging.common.entity.LZ4CompressData;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LZ4CompressUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.rocketmq.config.RocketMQLogCollectConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,22 +113,14 @@ public class RocketMQLogCollectClient extends AbstractLogConsumeClient<RocketMQL
     }
 
     private Message toMessage(final String logTopic, final ShenyuRequestLog log) {
-        byte[] bytes = JsonUtils.toJson(log).getBytes(StandardCharsets.UTF_8);
         String compressAlg = StringUtils.defaultIfBlank(RocketMQLogCollectConfig.INSTANCE.getRocketMQLogConfig().getCompressAlg(), "");
         if ("LZ4".equalsIgnoreCase(compressAlg.trim())) {
-            LZ4CompressData lz4CompressData = new LZ4CompressData(bytes.length, compressedByte(bytes));
-            return new Message(logTopic, JsonUtils.toJson(lz4CompressData).getBytes(StandardCharsets.UTF_8));
+            return new Message(logTopic, JsonUtils.toJsonBytes(LZ4CompressUtils.compress(log)));
         } else {
-            return new Message(logTopic, bytes);
+            return new Message(logTopic, JsonUtils.toJsonBytes(log));
         }
     }
 
-    private byte[] compressedByte(final byte[] srcByte) {
-        LZ4Factory factory = LZ4Factory.fastestInstance();
-        LZ4Compressor compressor = factory.fastCompressor();
-        return compressor.compress(srcByte);
-    }
-
     /**
      * set api topic map.
      * @param uriTopicMap api topic map
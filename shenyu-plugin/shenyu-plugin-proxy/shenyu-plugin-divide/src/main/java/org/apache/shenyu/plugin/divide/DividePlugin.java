@@ -59,6 +59,8 @@ public class DividePlugin extends AbstractShenyuPlugin {
 
     private static final String SHORTEST_RESPONSE = "shortestResponse";
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.HTTP};
+
     private Long beginTime;
 
     @Override
@@ -129,8 +131,8 @@ public class DividePlugin extends AbstractShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.HTTP);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @Override
@@ -45,6 +45,8 @@ import java.util.Optional;
  */
 public class RpcParamTransformPlugin implements ShenyuPlugin {
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.DUBBO, RpcTypeEnum.GRPC, RpcTypeEnum.TARS, RpcTypeEnum.MOTAN, RpcTypeEnum.SOFA, RpcTypeEnum.BRPC};
+
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         ServerHttpRequest request = exchange.getRequest();
@@ -107,21 +109,16 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange,
-                RpcTypeEnum.DUBBO,
-                RpcTypeEnum.GRPC,
-                RpcTypeEnum.TARS,
-                RpcTypeEnum.MOTAN,
-                RpcTypeEnum.SOFA,
-                RpcTypeEnum.BRPC);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @NonNull
     private String resolveBodyFromRequest(final DataBuffer dataBuffer) {
-        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-        dataBuffer.read(bytes);
-        DataBufferUtils.release(dataBuffer);
-        return new String(bytes, StandardCharsets.UTF_8);
+        try {
+            return dataBuffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
     }
 }
@@ -46,6 +46,8 @@ public class BrpcPlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(BrpcPlugin.class);
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.BRPC};
+
     private final BrpcProxyService brpcProxyService;
 
     /**
@@ -90,8 +92,8 @@ public class BrpcPlugin extends AbstractShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.BRPC);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @Override
@@ -21,11 +21,23 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.dubbo.config.ApplicationConfig;
@@ -33,6 +45,7 @@ import org.apache.dubbo.config.ConsumerConfig;
 import org.apache.dubbo.config.ReferenceConfig;
 import org.apache.dubbo.config.RegistryConfig;
 import org.apache.dubbo.rpc.service.GenericService;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.convert.plugin.DubboRegisterConfig;
@@ -49,16 +62,28 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
 
     private static final Logger LOG = LoggerFactory.getLogger(ApacheDubboConfigCache.class);
 
+    private static final int WARM_UP_QUEUE_SIZE = 1024;
+
+    private static final String METER_PREFIX = "shenyu.apache.dubbo.reference.";
+
     private ApplicationConfig applicationConfig;
 
     private RegistryConfig registryConfig;
 
     private ConsumerConfig consumerConfig;
 
+    /**
+     * the ready references in the cache, kept on put and removal so it is not counted by walking the cache.
+     */
+    private final AtomicLong readyCount = new AtomicLong();
+
     private final LoadingCache<String, ReferenceConfig<GenericService>> cache = CacheBuilder.newBuilder()
             .maximumSize(Constants.CACHE_MAX_COUNT)
             .removalListener((RemovalListener<Object, ReferenceConfig<GenericService>>) notification -> {
                 ReferenceConfig<GenericService> config = notification.getValue();
+                if (isReady(config)) {
+                    readyCount.decrementAndGet();
+                }
                 if (Objects.nonNull(config)) {
                     // After the configuration change, Dubbo destroys the instance, but does not empty it. If it is not handled,
                     // it will get NULL when reinitializing and cause a NULL pointer problem.
@@ -73,6 +98,18 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
                 }
             });
 
+    /**
+     * building references, creating a reference subscribes the registry so it is kept off the request and sync threads.
+     * when the queue is full the warm up is rejected, the reference is never built on the caller.
+     */
+    private final ThreadPoolExecutor warmUpExecutor = createWarmUpExecutor();
+
+    private final ConcurrentMap<String, CompletableFuture<ReferenceConfig<GenericService>>> warmingUp = new ConcurrentHashMap<>();
+
+    private final AtomicLong warmUpSuccessCount = new AtomicLong();
+
+    private final AtomicLong warmUpFailureCount = new AtomicLong();
+
     /**
      * Gets instance.
      *
@@ -175,7 +212,7 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
             Object obj = reference.get();
             if (Objects.nonNull(obj)) {
                 LOG.info("buildN init apache dubbo reference success there meteData is :{}", metaData);
-                cache.put(StringUtils.isNotBlank(namespace) ? namespace + ":" + metaData.getPath() : metaData.getPath(), reference);
+                cacheReady(referenceKey(metaData.getPath(), namespace), reference);
             }
         } catch (Exception e) {
             LOG.error("buildN init apache dubbo reference exception", e);
@@ -242,6 +279,149 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
         return reference;
     }
 
+    /**
+     * Warm up the reference in the background, a warm up of the same reference in progress is shared.
+     * the future completes with the ready reference, or null if it can not be created.
+     *
+     * @param metaData  the meta data
+     * @param namespace namespace
+     * @return the future of the reference config
+     */
+    public CompletableFuture<ReferenceConfig<GenericService>> warmUp(final MetaData metaData, final String namespace) {
+        final String key = referenceKey(metaData.getPath(), namespace);
+        final CompletableFuture<ReferenceConfig<GenericService>> future = new CompletableFuture<>();
+        final CompletableFuture<ReferenceConfig<GenericService>> exist = warmingUp.putIfAbsent(key, future);
+        if (Objects.nonNull(exist)) {
+            return exist;
+        }
+        submitWarmUp(key, future, () -> doWarmUp(key, future, metaData, namespace));
+        return future;
+    }
+
+    /**
+     * Rebuild the reference in the background, the current reference keeps serving until the new one is ready.
+     * the rebuild runs after the warm up of the same reference in progress, so the latest meta data wins.
+     *
+     * @param metaData  the meta data
+     * @param namespace namespace
+     * @return the future of the reference config
+     */
+    public CompletableFuture<ReferenceConfig<GenericService>> rebuild(final MetaData metaData, final String namespace) {
+        final String key = referenceKey(metaData.getPath(), namespace);
+        final CompletableFuture<ReferenceConfig<GenericService>> future = new CompletableFuture<>();
+        final CompletableFuture<ReferenceConfig<GenericService>> previous = warmingUp.put(key, future);
+        final Runnable task = () -> doWarmUp(key, future, metaData, namespace);
+        if (Objects.isNull(previous)) {
+            submitWarmUp(key, future, task);
+        } else {
+            previous.whenComplete((reference, throwable) -> submitWarmUp(key, future, task));
+        }
+        return future;
+    }
+
+    private void submitWarmUp(final String key, final CompletableFuture<ReferenceConfig<GenericService>> future, final Runnable task) {
+        try {
+            warmUpExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // never build on the caller, it may be a netty event loop.
+            LOG.warn("the apache dubbo warm up queue is full, reject the warm up of {}", key);
+            warmUpFailureCount.incrementAndGet();
+            warmingUp.remove(key, future);
+            future.complete(null);
+        }
+    }
+
+    private void doWarmUp(final String key, final CompletableFuture<ReferenceConfig<GenericService>> future,
+                          final MetaData metaData, final String namespace) {
+        final long start = System.nanoTime();
+        try {
+            final ReferenceConfig<GenericService> reference = build(metaData, namespace);
+            // build only caches the reference when it is created, a failed rebuild leaves the former one serving.
+            final ReferenceConfig<GenericService> ready = getIfReady(key);
+            if (Objects.nonNull(ready) && ready == reference) {
+                warmUpSuccessCount.incrementAndGet();
+                LOG.info("warm up apache dubbo reference {} cost {} ms", key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } else {
+                warmUpFailureCount.incrementAndGet();
+            }
+            // the warm up is over before the waiters see the reference.
+            warmingUp.remove(key, future);
+            future.complete(ready);
+        } catch (Exception e) {
+            warmUpFailureCount.incrementAndGet();
+            warmingUp.remove(key, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Get the reference config only if it is ready, without creating or waiting for it.
+     *
+     * @param key the reference key, namespace:path or path
+     * @return the ready reference config, or null
+     */
+    public ReferenceConfig<GenericService> getIfReady(final String key) {
+        final ReferenceConfig<GenericService> reference = cache.getIfPresent(key);
+        return isReady(reference) ? reference : null;
+    }
+
+    /**
+     * Register the reference meters, published by spring boot actuator through the global registry.
+     *
+     * @param registry the meter registry
+     */
+    void registerMeters(final MeterRegistry registry) {
+        Gauge.builder(METER_PREFIX + "ready", this, ApacheDubboConfigCache::getReadyCount)
+                .description("the ready references").register(registry);
+        Gauge.builder(METER_PREFIX + "warming.up", this, ApacheDubboConfigCache::getWarmingUpCount)
+                .description("the references warming up").register(registry);
+        FunctionCounter.builder(METER_PREFIX + "warm.up.success", this, ApacheDubboConfigCache::getWarmUpSuccessCount)
+                .description("the succeeded warm ups").register(registry);
+        FunctionCounter.builder(METER_PREFIX + "warm.up.failure", this, ApacheDubboConfigCache::getWarmUpFailureCount)
+                .description("the failed warm ups").register(registry);
+    }
+
+    long getReadyCount() {
+        return readyCount.get();
+    }
+
+    int getWarmingUpCount() {
+        return warmingUp.size();
+    }
+
+    long getWarmUpSuccessCount() {
+        return warmUpSuccessCount.get();
+    }
+
+    long getWarmUpFailureCount() {
+        return warmUpFailureCount.get();
+    }
+
+    /**
+     * the removal listener counts the replaced reference down, so the put only counts the new one up.
+     */
+    private void cacheReady(final String key, final ReferenceConfig<GenericService> reference) {
+        readyCount.incrementAndGet();
+        cache.put(key, reference);
+    }
+
+    private boolean isReady(final ReferenceConfig<GenericService> reference) {
+        return Objects.nonNull(reference) && StringUtils.isNotBlank(reference.getInterface());
+    }
+
+    private static String referenceKey(final String path, final String namespace) {
+        return StringUtils.isNotBlank(namespace) ? namespace + ":" + path : path;
+    }
+
+    private static ThreadPoolExecutor createWarmUpExecutor() {
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(WARM_UP_QUEUE_SIZE), ShenyuThreadFactory.create("shenyu-apache-dubbo-warm-up", true),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Get reference config.
      *
@@ -281,6 +461,10 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
          */
         static final ApacheDubboConfigCache INSTANCE = new ApacheDubboConfigCache();
 
+        static {
+            INSTANCE.registerMeters(Metrics.globalRegistry);
+        }
+
         private ApplicationConfigCacheInstance() {
 
         }
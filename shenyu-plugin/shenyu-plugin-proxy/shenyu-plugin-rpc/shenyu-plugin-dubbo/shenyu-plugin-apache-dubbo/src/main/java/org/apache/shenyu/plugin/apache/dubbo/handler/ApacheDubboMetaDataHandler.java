@@ -25,22 +25,23 @@ import java.util.Objects;
 
 /**
  * The type Apache dubbo meta data subscriber.
+ * The references are created by the warm up executor of {@link ApacheDubboConfigCache}, off the data sync thread.
  */
 public class ApacheDubboMetaDataHandler extends AbstractDubboMetaDataHandler {
 
     @Override
     protected boolean isInitialized(final MetaData metaData) {
-        return Objects.nonNull(ApacheDubboConfigCache.getInstance().get(metaData.getPath()));
+        return Objects.nonNull(ApacheDubboConfigCache.getInstance().getIfReady(metaData.getPath()));
     }
 
     @Override
     protected void initReference(final MetaData metaData) {
-        ApacheDubboConfigCache.getInstance().initRef(metaData);
+        ApacheDubboConfigCache.getInstance().warmUp(metaData, "");
     }
 
     @Override
     protected void updateReference(final MetaData metaData) {
-        ApacheDubboConfigCache.getInstance().build(metaData, "");
+        ApacheDubboConfigCache.getInstance().rebuild(metaData, "");
     }
 
     @Override
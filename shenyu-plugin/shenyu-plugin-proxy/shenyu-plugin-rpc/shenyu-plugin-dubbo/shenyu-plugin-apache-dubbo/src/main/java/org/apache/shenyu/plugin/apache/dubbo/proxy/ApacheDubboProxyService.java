@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.apache.dubbo.proxy;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -29,9 +30,11 @@ import org.apache.dubbo.rpc.service.GenericException;
 import org.apache.dubbo.rpc.service.GenericService;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.convert.plugin.DubboRegisterConfig;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
 import org.springframework.web.server.ServerWebExchange;
@@ -63,17 +66,27 @@ public class ApacheDubboProxyService {
      * @throws ShenyuException the shenyu exception
      */
     public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws ShenyuException {
-        String referenceKey = metaData.getPath();
         String namespace = "";
         if (CollectionUtils.isNotEmpty(exchange.getRequest().getHeaders().get(Constants.NAMESPACE))) {
             namespace = exchange.getRequest().getHeaders().get(Constants.NAMESPACE).get(0);
-            referenceKey = namespace + ":" + referenceKey;
         }
-        ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
-        if (StringUtils.isEmpty(reference.getInterface())) {
-            ApacheDubboConfigCache.getInstance().invalidate(referenceKey);
-            reference = ApacheDubboConfigCache.getInstance().initRefN(metaData, namespace);
+        final String referenceKey = StringUtils.isNotBlank(namespace) ? namespace + ":" + metaData.getPath() : metaData.getPath();
+        ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().getIfReady(referenceKey);
+        if (Objects.nonNull(reference)) {
+            return invoke(reference, body, metaData, exchange);
         }
+        // the reference is not ready yet, e.g. right after a deploy or a meta data change.
+        CompletableFuture<ReferenceConfig<GenericService>> warmUp = ApacheDubboConfigCache.getInstance().warmUp(metaData, namespace);
+        if (isFailFast()) {
+            return Mono.error(new ShenyuException("the apache dubbo reference of " + referenceKey + " is not ready"));
+        }
+        // wait on a dependent future, a cancelled request must not cancel the shared warm up.
+        return Mono.fromFuture(warmUp.thenApply(Function.identity()))
+                .switchIfEmpty(Mono.error(() -> new ShenyuException("the apache dubbo reference of " + referenceKey + " can not be created")))
+                .flatMap(ready -> invoke(ready, body, metaData, exchange));
+    }
+
+    private Mono<Object> invoke(final ReferenceConfig<GenericService> reference, final String body, final MetaData metaData, final ServerWebExchange exchange) {
         GenericService genericService = reference.get();
         Pair<String[], Object[]> pair;
         if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.bodyIsEmpty(body)) {
@@ -90,6 +103,11 @@ public class ApacheDubboProxyService {
             return ret;
         })).onErrorMap(exception -> exception instanceof GenericException ? new ShenyuException(((GenericException) exception).getExceptionMessage()) : new ShenyuException(exception));
     }
+
+    private boolean isFailFast() {
+        DubboRegisterConfig dubboRegisterConfig = Singleton.INST.get(DubboRegisterConfig.class);
+        return Objects.nonNull(dubboRegisterConfig) && Boolean.TRUE.equals(dubboRegisterConfig.getReferenceFailFast());
+    }
     
     @SuppressWarnings("unchecked")
     private CompletableFuture<Object> invokeAsync(final GenericService genericService, final String method, final String[] parameterTypes, final Object[] args) throws GenericException {
@@ -17,7 +17,11 @@
 
 package org.apache.shenyu.plugin.apache.dubbo.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.dubbo.config.ReferenceConfig;
 import org.apache.dubbo.config.RegistryConfig;
+import org.apache.dubbo.rpc.service.GenericService;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.convert.plugin.DubboRegisterConfig;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -30,9 +34,17 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -125,6 +137,69 @@ public final class ApacheDubboConfigCacheTest {
         assertNotNull(apacheDubboConfigCacheMock.build(metaData, ""));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetIfReady() throws ReflectiveOperationException {
+        ApacheDubboConfigCache apacheDubboConfigCache = new ApacheDubboConfigCache();
+        assertNull(apacheDubboConfigCache.getIfReady("/test"));
+        ReferenceConfig<GenericService> referenceConfig = mock(ReferenceConfig.class);
+        when(referenceConfig.getInterface()).thenReturn("org.apache.shenyu.test.dubbo.api.service.DubboTestService");
+        Method method = ApacheDubboConfigCache.class.getDeclaredMethod("cacheReady", String.class, ReferenceConfig.class);
+        method.setAccessible(true);
+        method.invoke(apacheDubboConfigCache, "/test", referenceConfig);
+        assertSame(referenceConfig, apacheDubboConfigCache.getIfReady("/test"));
+        assertEquals(1, apacheDubboConfigCache.getReadyCount());
+        // the replaced reference is counted down.
+        method.invoke(apacheDubboConfigCache, "/test", referenceConfig);
+        assertEquals(1, apacheDubboConfigCache.getReadyCount());
+        apacheDubboConfigCache.invalidate("/test");
+        assertEquals(0, apacheDubboConfigCache.getReadyCount());
+    }
+
+    @Test
+    public void testRegisterMeters() throws ExecutionException, InterruptedException {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/test");
+        ApacheDubboConfigCache apacheDubboConfigCache = new ApacheDubboConfigCache();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        apacheDubboConfigCache.registerMeters(registry);
+        assertNull(apacheDubboConfigCache.warmUp(metaData, "").get());
+        assertEquals(0, registry.get("shenyu.apache.dubbo.reference.ready").gauge().value());
+        assertEquals(0, registry.get("shenyu.apache.dubbo.reference.warming.up").gauge().value());
+        assertEquals(0, registry.get("shenyu.apache.dubbo.reference.warm.up.success").functionCounter().count());
+        assertEquals(1, registry.get("shenyu.apache.dubbo.reference.warm.up.failure").functionCounter().count());
+    }
+
+    @Test
+    public void testWarmUp() throws ExecutionException, InterruptedException {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/test");
+        ApacheDubboConfigCache apacheDubboConfigCache = new ApacheDubboConfigCache();
+        // without the registry config the reference can not be created.
+        assertNull(apacheDubboConfigCache.warmUp(metaData, "").get());
+        assertNull(apacheDubboConfigCache.rebuild(metaData, "").get());
+        assertEquals(0, apacheDubboConfigCache.getWarmingUpCount());
+        assertEquals(0, apacheDubboConfigCache.getWarmUpSuccessCount());
+        assertEquals(2, apacheDubboConfigCache.getWarmUpFailureCount());
+    }
+
+    @Test
+    public void testWarmUpRejected() throws NoSuchFieldException, IllegalAccessException, ExecutionException, InterruptedException {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/test");
+        ApacheDubboConfigCache apacheDubboConfigCache = new ApacheDubboConfigCache();
+        Field field = ApacheDubboConfigCache.class.getDeclaredField("warmUpExecutor");
+        field.setAccessible(true);
+        // a shut down executor rejects every task, like a full queue.
+        ((ThreadPoolExecutor) field.get(apacheDubboConfigCache)).shutdownNow();
+        CompletableFuture<ReferenceConfig<GenericService>> future = apacheDubboConfigCache.warmUp(metaData, "");
+        // the reference is never built on the caller.
+        assertTrue(future.isDone());
+        assertNull(future.get());
+        assertEquals(0, apacheDubboConfigCache.getWarmingUpCount());
+        assertEquals(1, apacheDubboConfigCache.getWarmUpFailureCount());
+    }
+
     @Test
     public void testInvalidate() {
         this.apacheDubboConfigCache.invalidate("/test");
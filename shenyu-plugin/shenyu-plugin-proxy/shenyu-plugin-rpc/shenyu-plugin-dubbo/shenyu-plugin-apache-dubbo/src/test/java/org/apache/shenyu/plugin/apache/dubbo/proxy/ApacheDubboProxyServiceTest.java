@@ -23,7 +23,10 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.dubbo.config.ReferenceConfig;
 import org.apache.dubbo.rpc.service.GenericService;
 import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.convert.plugin.DubboRegisterConfig;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
 import org.junit.jupiter.api.AfterEach;
@@ -41,6 +44,7 @@ import org.springframework.web.server.ServerWebExchange;
 import java.lang.reflect.Field;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +103,19 @@ public final class ApacheDubboProxyServiceTest {
         future.complete("success");
     }
 
+    @Test
+    public void genericInvokerFailFastTest() {
+        DubboRegisterConfig dubboRegisterConfig = new DubboRegisterConfig();
+        dubboRegisterConfig.setReferenceFailFast(true);
+        Singleton.INST.single(DubboRegisterConfig.class, dubboRegisterConfig);
+        try {
+            ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(new BodyParamResolveServiceImpl());
+            assertThrows(ShenyuException.class, () -> apacheDubboProxyService.genericInvoker("", metaData, exchange).block());
+        } finally {
+            Singleton.INST.single(DubboRegisterConfig.class, new DubboRegisterConfig());
+        }
+    }
+
     static class BodyParamResolveServiceImpl implements DubboParamResolveService {
 
         @Override
@@ -47,6 +47,8 @@ public abstract class AbstractDubboPlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractDubboPlugin.class);
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.DUBBO};
+
     /**
      * do dubbo invoker.
      *
@@ -129,15 +131,13 @@ public abstract class AbstractDubboPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
-     * if return true this plugin can not execute.
+     * plugin is executed only for these rpc types.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the accept rpc types.
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.DUBBO);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     private void rpcContext(final ServerWebExchange exchange) {
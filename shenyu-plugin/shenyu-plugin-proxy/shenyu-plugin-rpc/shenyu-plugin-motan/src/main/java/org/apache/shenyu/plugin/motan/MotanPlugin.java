@@ -46,6 +46,8 @@ public class MotanPlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(MotanPlugin.class);
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.MOTAN};
+
     private final MotanProxyService motanProxyService;
 
     /**
@@ -92,14 +94,13 @@ public class MotanPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * plugin is executed only for these rpc types.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the accept rpc types.
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.MOTAN);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
     
     @Override
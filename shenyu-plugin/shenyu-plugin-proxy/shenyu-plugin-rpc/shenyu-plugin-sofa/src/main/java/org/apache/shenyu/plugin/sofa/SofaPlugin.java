@@ -49,6 +49,8 @@ public class SofaPlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(SofaPlugin.class);
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.SOFA};
+
     private final SofaProxyService sofaProxyService;
 
     /**
@@ -95,14 +97,13 @@ public class SofaPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * plugin is executed only for these rpc types.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the accept rpc types.
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.SOFA);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
     
     @Override
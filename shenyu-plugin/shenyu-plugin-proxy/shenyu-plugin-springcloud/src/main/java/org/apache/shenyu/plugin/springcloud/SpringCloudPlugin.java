@@ -46,6 +46,8 @@ import java.util.Objects;
  */
 public class SpringCloudPlugin extends AbstractShenyuPlugin {
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.SPRING_CLOUD};
+
     private final ShenyuSpringCloudServiceChooser serviceChooser;
     
     private final SpringCloudRuleHandle defaultRuleHandle = new SpringCloudRuleHandle();
@@ -98,14 +100,13 @@ public class SpringCloudPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * plugin is executed only for these rpc types.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the accept rpc types.
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.SPRING_CLOUD);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @Override
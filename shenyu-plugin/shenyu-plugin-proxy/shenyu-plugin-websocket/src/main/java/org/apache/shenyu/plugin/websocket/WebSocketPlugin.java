@@ -68,6 +68,8 @@ public class WebSocketPlugin extends AbstractShenyuPlugin {
 
     private static final String SEC_WEB_SOCKET_PROTOCOL = "Sec-WebSocket-Protocol";
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.WEB_SOCKET};
+
     private final WebSocketClient webSocketClient;
 
     private final WebSocketService webSocketService;
@@ -189,13 +191,13 @@ public class WebSocketPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * plugin is executed only for these rpc types.
      *
-     * @return default false.
+     * @return the accept rpc types.
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.WEB_SOCKET);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
 
     @Override
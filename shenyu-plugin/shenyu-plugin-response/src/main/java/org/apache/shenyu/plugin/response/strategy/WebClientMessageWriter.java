@@ -20,13 +20,16 @@ package org.apache.shenyu.plugin.response.strategy;
 import com.google.common.collect.Lists;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.utils.ResponseUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.ClientResponse;
@@ -35,10 +38,12 @@ import reactor.core.publisher.Mono;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -51,6 +56,11 @@ public class WebClientMessageWriter implements MessageWriter {
      */
     private static final String COMMON_BIN_MEDIA_TYPE_REGEX;
 
+    /**
+     * whether the upstream body is streamed as it is, by the shenyu result class.
+     */
+    private static final Map<Class<?>, Boolean> PASS_THROUGH_RESULTS = new ConcurrentHashMap<>();
+
     /**
      * the cross headers.
      */
@@ -81,11 +91,20 @@ public class WebClientMessageWriter implements MessageWriter {
                             .doOnCancel(() -> clean(exchange));
                 }
             }
-            clientResponse = ResponseUtils.buildClientResponse(response, clientResponse.body(BodyExtractors.toDataBuffers()));
-
-            Mono<Void> responseMono = clientResponse.bodyToMono(byte[].class)
-                    .flatMap(originData -> WebFluxResultUtils.result(exchange, originData))
-                    .doOnCancel(() -> clean(exchange));
+            final Mono<Void> responseMono;
+            if (isPassThrough()) {
+                // the result does not touch the upstream body, stream it without aggregating.
+                if (Objects.isNull(response.getHeaders().getContentType())) {
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                }
+                responseMono = response.writeWith(clientResponse.body(BodyExtractors.toDataBuffers()))
+                        .doOnCancel(() -> clean(exchange));
+            } else {
+                clientResponse = ResponseUtils.buildClientResponse(response, clientResponse.body(BodyExtractors.toDataBuffers()));
+                responseMono = clientResponse.bodyToMono(byte[].class)
+                        .flatMap(originData -> WebFluxResultUtils.result(exchange, originData))
+                        .doOnCancel(() -> clean(exchange));
+            }
             exchange.getAttributes().put(Constants.RESPONSE_MONO, responseMono);
             // watcher httpStatus
             final Consumer<HttpStatus> consumer = exchange.getAttribute(Constants.WATCHER_HTTP_STATUS);
@@ -99,6 +118,28 @@ public class WebClientMessageWriter implements MessageWriter {
         return Lists.newArrayList(RpcTypeEnum.HTTP.getName(), RpcTypeEnum.SPRING_CLOUD.getName());
     }
 
+    /**
+     * whether the upstream body can be streamed as it is, the result bean keeps the default
+     * format, result and content type for the upstream bytes.
+     *
+     * @return pass through or not
+     */
+    private boolean isPassThrough() {
+        final ShenyuResult<?> shenyuResult = ShenyuResultWrap.shenyuResult();
+        return Objects.nonNull(shenyuResult)
+                && MapUtils.computeIfAbsent(PASS_THROUGH_RESULTS, shenyuResult.getClass(), WebClientMessageWriter::keepsUpstreamBody);
+    }
+
+    private static boolean keepsUpstreamBody(final Class<?> resultClass) {
+        try {
+            return ShenyuResult.class == resultClass.getMethod("format", ServerWebExchange.class, Object.class).getDeclaringClass()
+                    && ShenyuResult.class == resultClass.getMethod("result", ServerWebExchange.class, Object.class).getDeclaringClass()
+                    && ShenyuResult.class == resultClass.getMethod("contentType", ServerWebExchange.class, Object.class).getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     private void redrawResponseHeaders(final ServerHttpResponse response,
                                        final ClientResponse clientResponse) {
         // cookies are also headers, and adding them will result in duplicate headers
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.response.strategy;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,8 +30,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.codec.support.DefaultServerCodecConfigurer;
@@ -40,9 +43,14 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -106,6 +114,27 @@ public class WebClientMessageWriterTest {
         StepVerifier.create(monoGatewayTimeout).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testWriteWithPassThrough() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        ClientResponse mockResponse = mock(ClientResponse.class);
+        ClientResponse.Headers headers = mock(ClientResponse.Headers.class);
+        when(headers.asHttpHeaders()).thenReturn(new HttpHeaders());
+        when(headers.contentType()).thenReturn(Optional.empty());
+        when(mockResponse.headers()).thenReturn(headers);
+        DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+        when(mockResponse.body(any())).thenReturn(Flux.just(factory.wrap("{\"a\":".getBytes(StandardCharsets.UTF_8)),
+                factory.wrap("1}".getBytes(StandardCharsets.UTF_8))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, mockResponse);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(webClientMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
+        StepVerifier.create(exchange.getResponse().getBodyAsString()).expectNext("{\"a\":1}").verifyComplete();
+        assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+    }
+
     private ServerWebExchange generateServerWebExchange(final boolean haveResponse) {
         ClientResponse mockResponse = mock(ClientResponse.class);
         MultiValueMap<String, ResponseCookie> cookies = new LinkedMultiValueMap<>();
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.oauth2;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.springframework.beans.factory.ObjectProvider;
@@ -40,6 +41,8 @@ public class OAuth2Plugin extends AbstractShenyuPlugin {
 
     private static final String BEARER = "Bearer ";
 
+    private static final RpcTypeEnum[] ACCEPT_RPC_TYPES = {RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
+
     private final ObjectProvider<ReactiveOAuth2AuthorizedClientService> authorizedClientServiceProvider;
     
     /**
@@ -71,8 +74,8 @@ public class OAuth2Plugin extends AbstractShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] acceptRpcTypes() {
+        return ACCEPT_RPC_TYPES;
     }
     
     private Mono<OAuth2AuthorizedClient> buildAuthorizedClient(final OAuth2AuthenticationToken oauth2Authentication) {
@@ -26,6 +26,7 @@ import org.apache.shenyu.plugin.base.cache.CommonMetaDataSubscriber;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.ShenyuSnapshotTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieListener;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -276,10 +277,24 @@ public class ShenyuConfiguration {
      * @return {@linkplain ShenyuTrie}
      */
     @Bean(name = "shenyuSelectorTrie")
+    @ConditionalOnProperty(name = "shenyu.selectorMatchCache.trie.snapshot", havingValue = "false", matchIfMissing = true)
     public ShenyuTrie shenyuSelectorTrie(final ShenyuConfig shenyuConfig) {
         SelectorMatchCache selectorMatchCache = shenyuConfig.getSelectorMatchCache();
         return new ShenyuTrie(selectorMatchCache.getTrie().getCacheSize(), selectorMatchCache.getTrie().getMatchMode());
     }
+    
+    /**
+     * shenyu selector snapshot trie config.
+     *
+     * @param shenyuConfig shenyu config
+     * @return {@linkplain ShenyuSnapshotTrie}
+     */
+    @Bean(name = "shenyuSelectorTrie")
+    @ConditionalOnProperty(name = "shenyu.selectorMatchCache.trie.snapshot", havingValue = "true")
+    public ShenyuTrie shenyuSelectorSnapshotTrie(final ShenyuConfig shenyuConfig) {
+        SelectorMatchCache selectorMatchCache = shenyuConfig.getSelectorMatchCache();
+        return new ShenyuSnapshotTrie(selectorMatchCache.getTrie().getCacheSize(), selectorMatchCache.getTrie().getMatchMode());
+    }
 
     /**
      * shenyu rule trie config.
@@ -288,11 +303,25 @@ public class ShenyuConfiguration {
      * @return {@linkplain ShenyuTrie}
      */
     @Bean(name = "shenyuRuleTrie")
+    @ConditionalOnProperty(name = "shenyu.ruleMatchCache.trie.snapshot", havingValue = "false", matchIfMissing = true)
     public ShenyuTrie shenyuRuleTrie(final ShenyuConfig shenyuConfig) {
         RuleMatchCache ruleMatchCache = shenyuConfig.getRuleMatchCache();
         return new ShenyuTrie(ruleMatchCache.getTrie().getCacheSize(), ruleMatchCache.getTrie().getMatchMode());
     }
     
+    /**
+     * shenyu rule snapshot trie config.
+     *
+     * @param shenyuConfig shenyu trie config
+     * @return {@linkplain ShenyuSnapshotTrie}
+     */
+    @Bean(name = "shenyuRuleTrie")
+    @ConditionalOnProperty(name = "shenyu.ruleMatchCache.trie.snapshot", havingValue = "true")
+    public ShenyuTrie shenyuRuleSnapshotTrie(final ShenyuConfig shenyuConfig) {
+        RuleMatchCache ruleMatchCache = shenyuConfig.getRuleMatchCache();
+        return new ShenyuSnapshotTrie(ruleMatchCache.getTrie().getCacheSize(), ruleMatchCache.getTrie().getMatchMode());
+    }
+    
     /**
      * shenyu trie listener.
      *
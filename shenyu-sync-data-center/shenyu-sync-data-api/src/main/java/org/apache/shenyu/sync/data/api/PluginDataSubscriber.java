@@ -65,6 +65,15 @@ public interface PluginDataSubscriber {
     default void onSelectorSubscribe(SelectorData selectorData) {
     }
     
+    /**
+     * On selector subscribe in bulk, e.g. a full sync.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void onSelectorBatchSubscribe(List<SelectorData> selectorDataList) {
+        selectorDataList.forEach(this::onSelectorSubscribe);
+    }
+    
     /**
      * Un selector subscribe.
      *
@@ -95,6 +104,15 @@ public interface PluginDataSubscriber {
     default void onRuleSubscribe(RuleData ruleData) {
     }
     
+    /**
+     * On rule subscribe in bulk, e.g. a full sync.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void onRuleBatchSubscribe(List<RuleData> ruleDataList) {
+        ruleDataList.forEach(this::onRuleSubscribe);
+    }
+    
     /**
      * On rule subscribe.
      *
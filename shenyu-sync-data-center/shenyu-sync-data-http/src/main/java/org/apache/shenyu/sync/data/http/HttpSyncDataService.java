@@ -45,12 +45,15 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -82,6 +85,11 @@ public class HttpSyncDataService implements SyncDataService {
 
     private final AccessTokenManager accessTokenManager;
 
+    /**
+     * the servers without the config changes api.
+     */
+    private final Set<String> fullFetchServers = ConcurrentHashMap.newKeySet();
+
     public HttpSyncDataService(final HttpConfig httpConfig,
                                final PluginDataSubscriber pluginDataSubscriber,
                                final RestTemplate restTemplate,
@@ -130,6 +138,22 @@ public class HttpSyncDataService implements SyncDataService {
     }
 
     private void doFetchGroupConfig(final String server, final ConfigGroupEnum... groups) {
+        if (this.doFetchGroupSnapshot(server, groups)) {
+            return;
+        }
+        // not updated. it is likely that the current config server has not been updated yet. wait a moment.
+        LOG.info("The config of the server[{}] has not been updated or is out of date. Wait for 30s to listen for changes again.", server);
+        ThreadUtils.sleep(TimeUnit.SECONDS, 30);
+    }
+
+    /**
+     * fetch the whole config of the groups.
+     *
+     * @param server the server
+     * @param groups the groups
+     * @return true: the local cache was updated. false: not updated.
+     */
+    private boolean doFetchGroupSnapshot(final String server, final ConfigGroupEnum... groups) {
         StringBuilder params = new StringBuilder();
         for (ConfigGroupEnum groupKey : groups) {
             params.append("groupKeys").append("=").append(groupKey.name()).append("&");
@@ -151,6 +175,36 @@ public class HttpSyncDataService implements SyncDataService {
         boolean updated = this.updateCacheWithJson(json);
         if (updated) {
             LOG.debug("get latest configs: [{}]", json);
+        }
+        return updated;
+    }
+
+
+    /**
+     * fetch the changes of the groups since the revisions last synced from the server, the admin answers
+     * with a snapshot of a group when its changes are no longer known. The revisions are counted by each
+     * admin, so every server has its own. Admins without the delta api get a full fetch.
+     *
+     * @param server the server
+     * @param groups the groups
+     */
+    private void doFetchGroupDelta(final String server, final ConfigGroupEnum... groups) {
+        if (fullFetchServers.contains(server)) {
+            this.doFetchGroupConfig(server, groups);
+            return;
+        }
+        Boolean updated = this.doFetchGroupChanges(server, groups);
+        if (Objects.isNull(updated)) {
+            return;
+        }
+        ConfigGroupEnum[] outOfSyncGroups = factory.outOfSyncGroups(server, groups);
+        if (outOfSyncGroups.length > 0) {
+            // some changes were missed, catch up with a snapshot right away, the revisions of these groups are dropped.
+            LOG.info("missed some config changes of {} from server[{}], fetch the whole config", Arrays.toString(outOfSyncGroups), server);
+            this.doFetchGroupChanges(server, outOfSyncGroups);
+            return;
+        }
+        if (updated) {
             return;
         }
         // not updated. it is likely that the current config server has not been updated yet. wait a moment.
@@ -158,6 +212,47 @@ public class HttpSyncDataService implements SyncDataService {
         ThreadUtils.sleep(TimeUnit.SECONDS, 30);
     }
 
+    /**
+     * fetch the changes of the groups from the delta api.
+     *
+     * @param server the server
+     * @param groups the groups
+     * @return true: the local cache was updated. false: not updated. null: the server fell back to a full fetch.
+     */
+    private Boolean doFetchGroupChanges(final String server, final ConfigGroupEnum... groups) {
+        StringBuilder params = new StringBuilder();
+        for (ConfigGroupEnum groupKey : groups) {
+            params.append("groupKeys").append("=").append(groupKey.name()).append("&");
+            String revision = factory.revisionOf(server, groupKey);
+            if (Objects.nonNull(revision)) {
+                params.append(groupKey.name()).append("=").append(revision).append("&");
+            }
+        }
+        String url = server + Constants.SHENYU_ADMIN_PATH_CONFIGS_DELTA + "?" + StringUtils.removeEnd(params.toString(), "&");
+        LOG.info("request config changes: [{}]", url);
+        String json;
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(Constants.X_ACCESS_TOKEN, this.accessTokenManager.getAccessToken());
+            HttpEntity<String> httpEntity = new HttpEntity<>(headers);
+            json = this.restTemplate.exchange(url, HttpMethod.GET, httpEntity, String.class).getBody();
+        } catch (HttpClientErrorException.NotFound e) {
+            LOG.info("the server[{}] does not support the config changes, fetch the whole config instead", server);
+            fullFetchServers.add(server);
+            this.doFetchGroupConfig(server, groups);
+            return null;
+        } catch (RestClientException e) {
+            String message = String.format("fetch config changes fail from server[%s], %s", url, e.getMessage());
+            LOG.warn(message);
+            throw new ShenyuException(message, e);
+        }
+        JsonObject jsonObject = GsonUtils.getGson().fromJson(json, JsonObject.class);
+        boolean updated = factory.deltaExecutor(server, jsonObject.getAsJsonObject("data"));
+        if (updated) {
+            LOG.debug("get latest config changes: [{}]", json);
+        }
+        return updated;
+    }
 
     /**
      * update local cache.
@@ -201,7 +296,7 @@ public class HttpSyncDataService implements SyncDataService {
             // fetch group configuration async.
             ConfigGroupEnum[] changedGroups = GsonUtils.getGson().fromJson(groupJson, ConfigGroupEnum[].class);
             LOG.info("Group config changed: {}", Arrays.toString(changedGroups));
-            this.doFetchGroupConfig(server, changedGroups);
+            this.doFetchGroupDelta(server, changedGroups);
         }
     }
 
@@ -19,15 +19,22 @@ package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConfigChangeData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * The type Abstract data refresh.
@@ -46,6 +53,16 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
      */
     private static final Logger LOG = LoggerFactory.getLogger(AbstractDataRefresh.class);
 
+    /**
+     * the revision last synced from each server, the revisions are counted by each admin instance.
+     */
+    private final ConcurrentMap<String, ServerRevision> serverRevisions = new ConcurrentHashMap<>();
+
+    /**
+     * the servers whose changes did not follow their revision, so that the cache needs a snapshot from them.
+     */
+    private final Set<String> outOfSyncServers = ConcurrentHashMap.newKeySet();
+
     /**
      * Convert json object.
      *
@@ -62,6 +79,28 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
      */
     protected abstract ConfigData<T> fromJson(JsonObject data);
 
+    /**
+     * From json delta data.
+     *
+     * @param data the data
+     * @return the delta data
+     */
+    protected abstract ConfigDeltaData<T> fromDeltaJson(JsonObject data);
+
+    /**
+     * Update the created or updated data.
+     *
+     * @param data the data
+     */
+    protected abstract void update(List<T> data);
+
+    /**
+     * Delete the deleted data.
+     *
+     * @param data the data
+     */
+    protected abstract void delete(List<T> data);
+
     /**
      * Refresh.
      *
@@ -86,6 +125,86 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         return updated;
     }
 
+    @Override
+    public Boolean refreshDelta(final String server, final JsonObject data) {
+        JsonObject jsonObject = convert(data);
+        if (Objects.isNull(jsonObject)) {
+            return false;
+        }
+        ConfigDeltaData<T> delta = fromDeltaJson(jsonObject);
+        if (delta.isSnapshot()) {
+            outOfSyncServers.remove(server);
+            if (delta.getRevision() > 0) {
+                serverRevisions.put(server, new ServerRevision(delta.getRevision(), delta.getMd5()));
+            }
+            ConfigData<T> result = new ConfigData<>(delta.getMd5(), delta.getLastModifyTime(), delta.getData());
+            if (this.updateCacheIfNeed(result)) {
+                refresh(result.getData());
+                return true;
+            }
+            return false;
+        }
+        return applyChanges(server, delta);
+    }
+
+    @Override
+    public String revisionOf(final String server) {
+        ServerRevision known = serverRevisions.get(server);
+        return Objects.isNull(known) ? null : known.revision + "," + known.md5;
+    }
+
+    @Override
+    public boolean isOutOfSync(final String server) {
+        return outOfSyncServers.contains(server);
+    }
+
+    /**
+     * Apply the changes after the revision last synced from the server. The revisions are counted
+     * by each admin instance, so a gap is reported when the changes do not follow the revision of
+     * the server and the caller fetches a snapshot from it. The changes are not applied when the
+     * cache already has the same or a later config, e.g. synced from another server.
+     *
+     * @param server the server
+     * @param delta the delta data
+     * @return true if the changes are applied
+     */
+    private synchronized boolean applyChanges(final String server, final ConfigDeltaData<T> delta) {
+        ServerRevision known = serverRevisions.get(server);
+        ConfigData<?> cached = cacheConfigData();
+        if (Objects.isNull(known) || Objects.isNull(cached)) {
+            return markOutOfSync(server, 0L);
+        }
+        final long revision = known.revision;
+        List<ConfigChangeData<T>> changes = Optional.ofNullable(delta.getChanges()).orElse(Collections.emptyList()).stream()
+                .filter(change -> change.getRevision() > revision)
+                .collect(Collectors.toList());
+        if (changes.isEmpty() ? delta.getRevision() != revision : changes.get(0).getRevision() != revision + 1) {
+            return markOutOfSync(server, revision);
+        }
+        serverRevisions.put(server, new ServerRevision(delta.getRevision(), delta.getMd5()));
+        if (StringUtils.equals(cached.getMd5(), delta.getMd5()) || cached.getLastModifyTime() >= delta.getLastModifyTime()) {
+            return false;
+        }
+        for (ConfigChangeData<T> change : changes) {
+            if (DataEventTypeEnum.DELETE == DataEventTypeEnum.acquireByName(change.getEventType())) {
+                delete(change.getData());
+            } else {
+                update(change.getData());
+            }
+        }
+        // only the version of the group is cached after the changes.
+        ConfigData<T> result = new ConfigData<>(delta.getMd5(), delta.getLastModifyTime(), Collections.<T>emptyList());
+        return this.updateCacheIfNeed(result);
+    }
+
+    private boolean markOutOfSync(final String server, final long revision) {
+        LOG.warn("The changes of the server[{}] do not follow the revision {}, the config will be fetched again", server, revision);
+        // the next fetch gets a snapshot.
+        serverRevisions.remove(server);
+        outOfSyncServers.add(server);
+        return false;
+    }
+
     /**
      * Update cache if need boolean.
      *
@@ -125,6 +244,18 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         return holder.result;
     }
 
+    private static final class ServerRevision {
+
+        private final long revision;
+
+        private final String md5;
+
+        ServerRevision(final long revision, final String md5) {
+            this.revision = revision;
+            this.md5 = md5;
+        }
+    }
+
     private static final class ResultHolder {
 
         private boolean result;
@@ -33,6 +33,31 @@ public interface DataRefresh {
      */
     Boolean refresh(JsonObject data);
 
+    /**
+     * Refresh with the changes since the revision last synced from the server, or a snapshot.
+     *
+     * @param server the server
+     * @param data the delta data
+     * @return the boolean
+     */
+    Boolean refreshDelta(String server, JsonObject data);
+
+    /**
+     * The revision last synced from the server with the md5 of the config at it, as {@code revision,md5}.
+     *
+     * @param server the server
+     * @return the revision, null if unknown
+     */
+    String revisionOf(String server);
+
+    /**
+     * Whether the last changes of the server did not follow its revision, so that the cache needs a snapshot from it.
+     *
+     * @param server the server
+     * @return true if a snapshot is needed
+     */
+    boolean isOutOfSync(String server);
+
     /**
      * Cache config data config data.
      *
@@ -26,6 +26,7 @@ import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -72,6 +73,44 @@ public final class DataRefreshFactory {
         return result.stream().anyMatch(Boolean.TRUE::equals);
     }
 
+    /**
+     * Delta executor.
+     *
+     * @param server the server
+     * @param data the delta data
+     * @return the boolean
+     */
+    public boolean deltaExecutor(final String server, final JsonObject data) {
+        List<Boolean> result = ENUM_MAP.values().stream()
+                .map(dataRefresh -> dataRefresh.refreshDelta(server, data))
+                .collect(Collectors.toList());
+        return result.stream().anyMatch(Boolean.TRUE::equals);
+    }
+
+    /**
+     * The groups that missed some changes of the server and need a snapshot from it.
+     *
+     * @param server the server
+     * @param groups the groups
+     * @return the out of sync groups
+     */
+    public ConfigGroupEnum[] outOfSyncGroups(final String server, final ConfigGroupEnum... groups) {
+        return Arrays.stream(groups)
+                .filter(group -> ENUM_MAP.get(group).isOutOfSync(server))
+                .toArray(ConfigGroupEnum[]::new);
+    }
+
+    /**
+     * The revision of the group last synced from the server.
+     *
+     * @param server the server
+     * @param group the group
+     * @return the revision as {@code revision,md5}, null if unknown
+     */
+    public String revisionOf(final String server, final ConfigGroupEnum group) {
+        return ENUM_MAP.get(group).revisionOf(server);
+    }
+
     /**
      * Cache config data.
      *
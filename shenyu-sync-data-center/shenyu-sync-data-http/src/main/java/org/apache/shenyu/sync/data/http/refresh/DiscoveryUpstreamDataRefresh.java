@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.DiscoverySyncData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -51,6 +52,12 @@ public class DiscoveryUpstreamDataRefresh extends AbstractDataRefresh<DiscoveryS
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<DiscoverySyncData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<DiscoverySyncData>>() {
+        }.getType());
+    }
+
     @Override
     protected void refresh(final List<DiscoverySyncData> data) {
         if (CollectionUtils.isEmpty(data)) {
@@ -67,7 +74,16 @@ public class DiscoveryUpstreamDataRefresh extends AbstractDataRefresh<DiscoveryS
 
     @Override
     public ConfigData<?> cacheConfigData() {
-        return GROUP_CACHE.get(ConfigGroupEnum.PROXY_SELECTOR);
+        return GROUP_CACHE.get(ConfigGroupEnum.DISCOVER_UPSTREAM);
+    }
+
+    @Override
+    protected void update(final List<DiscoverySyncData> data) {
+        data.forEach(d -> discoveryUpstreamDataSubscribers.forEach(dus -> dus.onSubscribe(d)));
     }
 
+    @Override
+    protected void delete(final List<DiscoverySyncData> data) {
+        data.forEach(d -> discoveryUpstreamDataSubscribers.forEach(dus -> dus.unSubscribe(d)));
+    }
 }
@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.ProxySelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -51,6 +52,12 @@ public class ProxySelectorRefresh extends AbstractDataRefresh<ProxySelectorData>
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<ProxySelectorData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<ProxySelectorData>>() {
+        }.getType());
+    }
+
     @Override
     protected void refresh(final List<ProxySelectorData> data) {
         if (CollectionUtils.isEmpty(data)) {
@@ -70,4 +77,13 @@ public class ProxySelectorRefresh extends AbstractDataRefresh<ProxySelectorData>
         return GROUP_CACHE.get(ConfigGroupEnum.PROXY_SELECTOR);
     }
 
+    @Override
+    protected void update(final List<ProxySelectorData> data) {
+        data.forEach(d -> proxySelectorDataSubscribers.forEach(pss -> pss.onSubscribe(d)));
+    }
+
+    @Override
+    protected void delete(final List<ProxySelectorData> data) {
+        data.forEach(d -> proxySelectorDataSubscribers.forEach(pss -> pss.unSubscribe(d)));
+    }
 }
@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -57,6 +58,12 @@ public class RuleDataRefresh extends AbstractDataRefresh<RuleData> {
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<RuleData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<RuleData>>() {
+        }.getType());
+    }
+
     @Override
     protected boolean updateCacheIfNeed(final ConfigData<RuleData> result) {
         return updateCacheIfNeed(result, ConfigGroupEnum.RULE);
@@ -76,7 +83,17 @@ public class RuleDataRefresh extends AbstractDataRefresh<RuleData> {
         } else {
             // update cache for UpstreamCacheManager
             pluginDataSubscriber.refreshRuleDataAll();
-            data.forEach(pluginDataSubscriber::onRuleSubscribe);
+            pluginDataSubscriber.onRuleBatchSubscribe(data);
         }
     }
+
+    @Override
+    protected void update(final List<RuleData> data) {
+        pluginDataSubscriber.onRuleBatchSubscribe(data);
+    }
+
+    @Override
+    protected void delete(final List<RuleData> data) {
+        data.forEach(pluginDataSubscriber::unRuleSubscribe);
+    }
 }
@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -57,6 +58,12 @@ public class SelectorDataRefresh extends AbstractDataRefresh<SelectorData> {
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<SelectorData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<SelectorData>>() {
+        }.getType());
+    }
+
     @Override
     protected boolean updateCacheIfNeed(final ConfigData<SelectorData> result) {
         return updateCacheIfNeed(result, ConfigGroupEnum.SELECTOR);
@@ -76,7 +83,17 @@ public class SelectorDataRefresh extends AbstractDataRefresh<SelectorData> {
         } else {
             // update cache for UpstreamCacheManager
             pluginDataSubscriber.refreshSelectorDataAll();
-            data.forEach(pluginDataSubscriber::onSelectorSubscribe);
+            pluginDataSubscriber.onSelectorBatchSubscribe(data);
         }
     }
+
+    @Override
+    protected void update(final List<SelectorData> data) {
+        pluginDataSubscriber.onSelectorBatchSubscribe(data);
+    }
+
+    @Override
+    protected void delete(final List<SelectorData> data) {
+        data.forEach(pluginDataSubscriber::unSelectorSubscribe);
+    }
 }
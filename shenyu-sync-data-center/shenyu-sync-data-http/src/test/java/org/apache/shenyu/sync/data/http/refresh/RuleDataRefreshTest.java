@@ -18,23 +18,32 @@
 package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
+import org.apache.shenyu.common.dto.ConfigChangeData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public final class RuleDataRefreshTest {
 
+    private static final String SERVER = "http://localhost:9095";
+
+    private static final String OTHER_SERVER = "http://localhost:9096";
+
     private final RuleDataRefresh mockRuleDataRefresh = new RuleDataRefresh(new PluginDataSubscriber() {
         @Override
         public void onSubscribe(final PluginData pluginData) {
@@ -78,4 +87,117 @@ public final class RuleDataRefreshTest {
         ruleDataList.add(ruleData);
         ruleDataRefresh.refresh(ruleDataList);
     }
+
+    @Test
+    public void testRefreshDelta() {
+        final List<String> subscribed = new ArrayList<>();
+        final RuleDataRefresh ruleDataRefresh = new RuleDataRefresh(new PluginDataSubscriber() {
+            @Override
+            public void onRuleSubscribe(final RuleData ruleData) {
+                subscribed.add("on-" + ruleData.getId());
+            }
+
+            @Override
+            public void unRuleSubscribe(final RuleData ruleData) {
+                subscribed.add("un-" + ruleData.getId());
+            }
+        });
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+        final long now = System.currentTimeMillis();
+        ConfigDeltaData<RuleData> snapshot = new ConfigDeltaData<>();
+        snapshot.setSnapshot(true);
+        snapshot.setMd5("md5-1").setLastModifyTime(now).setRevision(10L).setData(Collections.singletonList(buildRuleData("1")));
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(snapshot)), is(true));
+        assertThat(ruleDataRefresh.revisionOf(SERVER), is("10,md5-1"));
+
+        ConfigDeltaData<RuleData> delta = new ConfigDeltaData<>();
+        delta.setChanges(Arrays.asList(new ConfigChangeData<>(11L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(buildRuleData("2"))),
+                new ConfigChangeData<>(12L, DataEventTypeEnum.DELETE.name(), Collections.singletonList(buildRuleData("1")))));
+        delta.setMd5("md5-2").setLastModifyTime(now + 1).setRevision(12L);
+        subscribed.clear();
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(delta)), is(true));
+        assertThat(subscribed, is(Arrays.asList("on-2", "un-1")));
+        assertThat(ruleDataRefresh.revisionOf(SERVER), is("12,md5-2"));
+        // the changes are applied only once
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(delta)), is(false));
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+    }
+
+    @Test
+    public void testRefreshDeltaFromTwoServers() {
+        final List<String> subscribed = new ArrayList<>();
+        final RuleDataRefresh ruleDataRefresh = new RuleDataRefresh(new PluginDataSubscriber() {
+            @Override
+            public void onRuleSubscribe(final RuleData ruleData) {
+                subscribed.add("on-" + ruleData.getId());
+            }
+        });
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+        final long now = System.currentTimeMillis();
+        // each admin counts its own revisions
+        ConfigDeltaData<RuleData> snapshot = new ConfigDeltaData<>();
+        snapshot.setSnapshot(true);
+        snapshot.setMd5("md5-1").setLastModifyTime(now).setRevision(10L).setData(Collections.singletonList(buildRuleData("1")));
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(snapshot)), is(true));
+        snapshot.setRevision(500L);
+        assertThat(ruleDataRefresh.refreshDelta(OTHER_SERVER, toJson(snapshot)), is(false));
+        assertThat(ruleDataRefresh.revisionOf(SERVER), is("10,md5-1"));
+        assertThat(ruleDataRefresh.revisionOf(OTHER_SERVER), is("500,md5-1"));
+
+        // the same change reaches both admins, it is applied once and both revisions move on
+        ConfigDeltaData<RuleData> delta = new ConfigDeltaData<>();
+        delta.setChanges(Collections.singletonList(new ConfigChangeData<>(11L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(buildRuleData("2")))));
+        delta.setMd5("md5-2").setLastModifyTime(now + 1).setRevision(11L);
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(delta)), is(true));
+        ConfigDeltaData<RuleData> otherDelta = new ConfigDeltaData<>();
+        otherDelta.setChanges(Collections.singletonList(new ConfigChangeData<>(501L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(buildRuleData("2")))));
+        otherDelta.setMd5("md5-2").setLastModifyTime(now + 1).setRevision(501L);
+        assertThat(ruleDataRefresh.refreshDelta(OTHER_SERVER, toJson(otherDelta)), is(false));
+        assertThat(ruleDataRefresh.isOutOfSync(OTHER_SERVER), is(false));
+        assertThat(ruleDataRefresh.revisionOf(OTHER_SERVER), is("501,md5-2"));
+        assertThat(subscribed, is(Arrays.asList("on-1", "on-2")));
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+    }
+
+    @Test
+    public void testRefreshDeltaGap() {
+        final RuleDataRefresh ruleDataRefresh = mockRuleDataRefresh;
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+        final long now = System.currentTimeMillis();
+        ConfigDeltaData<RuleData> snapshot = new ConfigDeltaData<>();
+        snapshot.setSnapshot(true);
+        snapshot.setMd5("md5-1").setLastModifyTime(now).setRevision(10L).setData(Collections.singletonList(buildRuleData("1")));
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(snapshot)), is(true));
+        assertThat(ruleDataRefresh.isOutOfSync(SERVER), is(false));
+
+        // the change 11 is missed
+        ConfigDeltaData<RuleData> delta = new ConfigDeltaData<>();
+        delta.setChanges(Collections.singletonList(new ConfigChangeData<>(12L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(buildRuleData("2")))));
+        delta.setMd5("md5-3").setLastModifyTime(now + 2).setRevision(12L);
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(delta)), is(false));
+        assertThat(ruleDataRefresh.isOutOfSync(SERVER), is(true));
+        assertThat(ruleDataRefresh.isOutOfSync(OTHER_SERVER), is(false));
+        assertThat(ruleDataRefresh.revisionOf(SERVER), nullValue());
+
+        // a snapshot catches up
+        ConfigDeltaData<RuleData> catchUp = new ConfigDeltaData<>();
+        catchUp.setSnapshot(true);
+        catchUp.setMd5("md5-3").setLastModifyTime(now + 2).setRevision(12L).setData(Collections.singletonList(buildRuleData("2")));
+        assertThat(ruleDataRefresh.refreshDelta(SERVER, toJson(catchUp)), is(true));
+        assertThat(ruleDataRefresh.isOutOfSync(SERVER), is(false));
+        assertThat(ruleDataRefresh.revisionOf(SERVER), is("12,md5-3"));
+        AbstractDataRefresh.GROUP_CACHE.remove(ConfigGroupEnum.RULE);
+    }
+
+    private RuleData buildRuleData(final String id) {
+        RuleData ruleData = new RuleData();
+        ruleData.setId(id);
+        return ruleData;
+    }
+
+    private JsonObject toJson(final ConfigDeltaData<RuleData> delta) {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.add(ConfigGroupEnum.RULE.name(), GsonUtils.getGson().toJsonTree(delta));
+        return jsonObject;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the plugins to execute, rebuilt only when the plugins change.
+ *
+ * <p>Only the enabled plugins are kept, and the {@link ShenyuPlugin#acceptRpcTypes()} of every plugin
+ * is precomputed into a bitset, so a request only touches the plugins that can act on it.
+ * The kept {@link AbstractShenyuPlugin}s are prepared here, so they don't look up their config per request.
+ */
+final class ShenyuPluginPipeline {
+
+    /**
+     * the plugin decides by {@link ShenyuPlugin#skip(org.springframework.web.server.ServerWebExchange)}.
+     */
+    static final long ALL_RPC_TYPES = -1L;
+
+    /**
+     * the rpc type is unknown yet.
+     */
+    static final long UNKNOWN_RPC_TYPE = 0L;
+
+    private static final Map<String, Long> RPC_TYPE_BITS = Collections.unmodifiableMap(Arrays.stream(RpcTypeEnum.values())
+            .collect(Collectors.toMap(RpcTypeEnum::getName, ShenyuPluginPipeline::bitOf)));
+
+    private final ShenyuPlugin[] plugins;
+
+    private final long[] acceptRpcTypeBits;
+
+    /**
+     * Instantiates a new shenyu plugin pipeline.
+     *
+     * @param pluginList the sorted plugins
+     */
+    ShenyuPluginPipeline(final List<ShenyuPlugin> pluginList) {
+        this.plugins = pluginList.stream().filter(this::enabled).toArray(ShenyuPlugin[]::new);
+        this.acceptRpcTypeBits = Arrays.stream(plugins).mapToLong(plugin -> acceptRpcTypeBits(plugin.acceptRpcTypes())).toArray();
+    }
+
+    /**
+     * Gets plugins.
+     *
+     * @return the plugins
+     */
+    ShenyuPlugin[] getPlugins() {
+        return plugins;
+    }
+
+    /**
+     * Gets the accept rpc type bits of every plugin.
+     *
+     * @return the accept rpc type bits
+     */
+    long[] getAcceptRpcTypeBits() {
+        return acceptRpcTypeBits;
+    }
+
+    /**
+     * Bit of the rpc type.
+     *
+     * @param rpcType the rpc type name
+     * @return the bit, {@link #UNKNOWN_RPC_TYPE} if the rpc type is unknown
+     */
+    static long rpcTypeBit(final String rpcType) {
+        if (Objects.isNull(rpcType)) {
+            return UNKNOWN_RPC_TYPE;
+        }
+        return RPC_TYPE_BITS.getOrDefault(rpcType, UNKNOWN_RPC_TYPE);
+    }
+
+    private static long bitOf(final RpcTypeEnum rpcType) {
+        return 1L << rpcType.ordinal();
+    }
+
+    private static long acceptRpcTypeBits(final RpcTypeEnum[] acceptRpcTypes) {
+        if (Objects.isNull(acceptRpcTypes)) {
+            return ALL_RPC_TYPES;
+        }
+        return Arrays.stream(acceptRpcTypes).filter(Objects::nonNull)
+                .map(ShenyuPluginPipeline::bitOf)
+                .reduce(UNKNOWN_RPC_TYPE, (left, right) -> left | right);
+    }
+
+    private boolean enabled(final ShenyuPlugin plugin) {
+        PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(plugin.named());
+        if (plugin instanceof AbstractShenyuPlugin) {
+            // an abstract plugin without plugin data passes the request on, the same as a skipped one.
+            if (Objects.isNull(pluginData) || !Boolean.TRUE.equals(pluginData.getEnabled())) {
+                return false;
+            }
+            ((AbstractShenyuPlugin) plugin).prepare();
+            return true;
+        }
+        return Objects.isNull(pluginData) || !Boolean.FALSE.equals(pluginData.getEnabled());
+    }
+}
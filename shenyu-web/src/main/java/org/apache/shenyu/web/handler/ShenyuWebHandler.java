@@ -20,10 +20,13 @@ package org.apache.shenyu.web.handler;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -57,6 +60,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     private volatile List<ShenyuPlugin> plugins;
 
+    /**
+     * the enabled plugins with precomputed rpc type bits, built by the first request after {@link #plugins} changes.
+     */
+    private volatile ShenyuPluginPipeline pipeline;
+
     /**
      * source plugins, these plugins load from ShenyuPlugin, this filed can't change.
      */
@@ -98,13 +106,29 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
-        Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        Mono<Void> execute = new DefaultShenyuPluginChain(obtainPipeline()).execute(exchange);
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
         return execute;
     }
     
+    /**
+     * the pipeline is built lazily, so the plugins are prepared once the application context is ready.
+     */
+    private ShenyuPluginPipeline obtainPipeline() {
+        ShenyuPluginPipeline current = this.pipeline;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (Objects.isNull(this.pipeline)) {
+                this.pipeline = new ShenyuPluginPipeline(this.plugins);
+            }
+            return this.pipeline;
+        }
+    }
+    
     /**
      * Gets plugins.
      *
@@ -151,7 +175,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 }
             }
         }
-        plugins = sortPlugins(newPluginList);
+        updatePlugins(sortPlugins(newPluginList));
     }
 
     /**
@@ -174,7 +198,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 break;
             case SORTED:
                 // copy a new one, or there will be concurrency problems
-                this.plugins = sortPlugins(new ArrayList<>(this.plugins));
+                updatePlugins(sortPlugins(new ArrayList<>(this.plugins)));
                 break;
             default:
                 throw new IllegalStateException("Unexpected value: " + event.getPluginStateEnums());
@@ -213,7 +237,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.addAll(enabledPlugins);
-        this.plugins = sortPlugins(newPluginList);
+        updatePlugins(sortPlugins(newPluginList));
     }
 
     /**
@@ -225,22 +249,39 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.removeIf(plugin -> plugin.named().equals(pluginData.getName()));
+        updatePlugins(newPluginList);
+    }
+
+    /**
+     * publish the new plugins, the next request rebuilds the pipeline from them.
+     *
+     * @param newPluginList the new plugin list
+     */
+    private synchronized void updatePlugins(final List<ShenyuPlugin> newPluginList) {
         this.plugins = newPluginList;
+        this.pipeline = null;
     }
 
     private static class DefaultShenyuPluginChain implements ShenyuPluginChain {
 
         private int index;
 
-        private final List<ShenyuPlugin> plugins;
+        private final ShenyuPlugin[] plugins;
+
+        private final long[] acceptRpcTypeBits;
+
+        private String rpcType;
+
+        private long rpcTypeBit = ShenyuPluginPipeline.UNKNOWN_RPC_TYPE;
     
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
-         * @param plugins the plugins
+         * @param pipeline the plugin pipeline
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
-            this.plugins = plugins;
+        DefaultShenyuPluginChain(final ShenyuPluginPipeline pipeline) {
+            this.plugins = pipeline.getPlugins();
+            this.acceptRpcTypeBits = pipeline.getAcceptRpcTypeBits();
         }
 
         /**
@@ -252,16 +293,44 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         @Override
         public Mono<Void> execute(final ServerWebExchange exchange) {
             return Mono.defer(() -> {
-                if (this.index < plugins.size()) {
-                    ShenyuPlugin plugin = plugins.get(this.index++);
-                    boolean skip = plugin.skip(exchange);
-                    if (skip) {
-                        return this.execute(exchange);
+                while (this.index < plugins.length) {
+                    int current = this.index++;
+                    ShenyuPlugin plugin = plugins[current];
+                    if (skip(plugin, acceptRpcTypeBits[current], exchange)) {
+                        continue;
+                    }
+                    // the pipeline only holds enabled plugins, and prepared the abstract ones when it was built.
+                    if (plugin instanceof AbstractShenyuPlugin) {
+                        return ((AbstractShenyuPlugin) plugin).executePrepared(exchange, this);
                     }
                     return plugin.execute(exchange, this);
                 }
                 return Mono.empty();
             });
         }
+
+        private boolean skip(final ShenyuPlugin plugin, final long acceptBits, final ServerWebExchange exchange) {
+            if (acceptBits != ShenyuPluginPipeline.ALL_RPC_TYPES) {
+                long currentBit = resolveRpcTypeBit(exchange);
+                if (currentBit != ShenyuPluginPipeline.UNKNOWN_RPC_TYPE && (acceptBits & currentBit) == 0) {
+                    return true;
+                }
+            }
+            return plugin.skip(exchange);
+        }
+
+        private long resolveRpcTypeBit(final ServerWebExchange exchange) {
+            ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
+            if (Objects.isNull(shenyuContext)) {
+                return ShenyuPluginPipeline.UNKNOWN_RPC_TYPE;
+            }
+            String currentRpcType = shenyuContext.getRpcType();
+            // the rpc type is set by the global plugin, resolve it again only if it changes.
+            if (!Objects.equals(currentRpcType, this.rpcType)) {
+                this.rpcType = currentRpcType;
+                this.rpcTypeBit = ShenyuPluginPipeline.rpcTypeBit(currentRpcType);
+            }
+            return this.rpcTypeBit;
+        }
     }
 }
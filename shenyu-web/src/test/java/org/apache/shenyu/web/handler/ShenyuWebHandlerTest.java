@@ -21,6 +21,7 @@ import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
@@ -45,6 +46,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -87,6 +89,28 @@ public final class ShenyuWebHandlerTest {
 
     }
 
+    @Test
+    public void handleSkipByRpcType() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuContext shenyuContext = new ShenyuContext();
+        shenyuContext.setRpcType(RpcTypeEnum.DUBBO.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, shenyuContext);
+        TestHttpPlugin httpPlugin = new TestHttpPlugin();
+        ShenyuWebHandler handler = new ShenyuWebHandler(Collections.singletonList(httpPlugin), shenyuLoaderService, new ShenyuConfig());
+        StepVerifier.create(handler.handle(exchange)).expectSubscription().verifyComplete();
+        assertFalse(httpPlugin.executed);
+        shenyuContext.setRpcType(RpcTypeEnum.HTTP.getName());
+        StepVerifier.create(handler.handle(exchange)).expectSubscription().verifyComplete();
+        assertTrue(httpPlugin.executed);
+        // an accepted rpc type still asks the plugin to skip.
+        httpPlugin.executed = false;
+        httpPlugin.skipped = true;
+        StepVerifier.create(handler.handle(exchange)).expectSubscription().verifyComplete();
+        assertFalse(httpPlugin.executed);
+    }
+
     @Test
     public void putExtPlugins() {
         shenyuWebHandler.putExtPlugins(Collections.emptyList());
@@ -221,4 +245,37 @@ public final class ShenyuWebHandlerTest {
             return ShenyuPlugin.super.skip(exchange);
         }
     }
+
+    static class TestHttpPlugin implements ShenyuPlugin {
+
+        private boolean executed;
+
+        private boolean skipped;
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            executed = true;
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 4;
+        }
+
+        @Override
+        public String named() {
+            return "test-http-plugin";
+        }
+
+        @Override
+        public boolean skip(final ServerWebExchange exchange) {
+            return skipped;
+        }
+
+        @Override
+        public RpcTypeEnum[] acceptRpcTypes() {
+            return new RpcTypeEnum[]{RpcTypeEnum.HTTP};
+        }
+    }
 }